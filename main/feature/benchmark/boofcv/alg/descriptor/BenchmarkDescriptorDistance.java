@@ -20,7 +20,7 @@ package boofcv.alg.descriptor;
 
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
-import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.*;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,10 +38,42 @@ public class BenchmarkDescriptorDistance {
 	static List<TupleDesc_B>  binaryA = new ArrayList<TupleDesc_B>();
 	static List<TupleDesc_B>  binaryB = new ArrayList<TupleDesc_B>();
 
+	// number of features in each set for the all pairs float descriptor benchmarks
+	static int NUM_DENSE = 500;
+	static int DOF = 64;
+
+	static List<TupleDesc_F64> denseA = new ArrayList<TupleDesc_F64>();
+	static List<TupleDesc_F64> denseB = new ArrayList<TupleDesc_F64>();
+	static List<TupleDesc_F32> denseA_F32 = new ArrayList<TupleDesc_F32>();
+	static List<TupleDesc_F32> denseB_F32 = new ArrayList<TupleDesc_F32>();
+	static PackedTupleArray_F64 packedA = new PackedTupleArray_F64(DOF);
+	static PackedTupleArray_F64 packedB = new PackedTupleArray_F64(DOF);
+	static PackedTupleArray_F32 packedA_F32 = new PackedTupleArray_F32(DOF);
+	static PackedTupleArray_F32 packedB_F32 = new PackedTupleArray_F32(DOF);
+
+	static PackedTupleArray_B binaryPackedA = new PackedTupleArray_B(512);
+	static PackedTupleArray_B binaryPackedB = new PackedTupleArray_B(512);
+
+	// number of query descriptors in the one against many benchmarks
+	static int NUM_QUERY = 100;
+
 	static {
 		for (int i = 0; i < NUM_FEATURES; i++) {
 			binaryA.add(randomFeature());
 			binaryB.add(randomFeature());
+			binaryPackedA.addCopy(binaryA.get(i));
+			binaryPackedB.addCopy(binaryB.get(i));
+		}
+
+		for (int i = 0; i < NUM_DENSE; i++) {
+			denseA.add(randomDense());
+			denseB.add(randomDense());
+			denseA_F32.add(convert(denseA.get(i)));
+			denseB_F32.add(convert(denseB.get(i)));
+			packedA.addCopy(denseA.get(i));
+			packedB.addCopy(denseB.get(i));
+			packedA_F32.addCopy(denseA.get(i));
+			packedB_F32.addCopy(denseB.get(i));
 		}
 	}
 
@@ -89,6 +121,110 @@ public class BenchmarkDescriptorDistance {
 		}
 	}
 
+	public static class HammingPacked extends PerformerBase {
+		int total;
+
+		@Override
+		public void process() {
+			int N = binaryPackedA.getNumLongs();
+			for (int i = 0, offset = 0; i < binaryPackedA.size(); i++, offset += N) {
+				total += DescriptorDistance.hamming(binaryPackedA.data,offset,binaryPackedB.data,offset,N);
+			}
+		}
+	}
+
+	public static class HammingOneToManyObject extends PerformerBase {
+		int scores[] = new int[NUM_FEATURES];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < NUM_QUERY; i++) {
+				TupleDesc_B a = binaryA.get(i);
+				for (int j = 0; j < binaryB.size(); j++) {
+					scores[j] = DescriptorDistance.hamming(a,binaryB.get(j));
+				}
+			}
+		}
+	}
+
+	public static class HammingOneToManyPacked extends PerformerBase {
+		int scores[] = new int[NUM_FEATURES];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < NUM_QUERY; i++) {
+				DescriptorDistance.hamming(binaryPackedA,i,binaryPackedB,scores);
+			}
+		}
+	}
+
+	public static class EuclideanSqObject_F64 extends PerformerBase {
+		// sum of all the scores.  Prevents the distance computation from being optimized away
+		double total;
+
+		@Override
+		public void process() {
+			for (int i = 0; i < denseA.size(); i++) {
+				TupleDesc_F64 a = denseA.get(i);
+				for (int j = 0; j < denseB.size(); j++) {
+					total += DescriptorDistance.euclideanSq(a,denseB.get(j));
+				}
+			}
+		}
+	}
+
+	public static class EuclideanSqObject_F32 extends PerformerBase {
+		double total;
+
+		@Override
+		public void process() {
+			for (int i = 0; i < denseA_F32.size(); i++) {
+				TupleDesc_F32 a = denseA_F32.get(i);
+				for (int j = 0; j < denseB_F32.size(); j++) {
+					total += DescriptorDistance.euclideanSq(a,denseB_F32.get(j));
+				}
+			}
+		}
+	}
+
+	public static class EuclideanSqPacked_F64 extends PerformerBase {
+		double scores[] = new double[NUM_DENSE];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < packedA.size(); i++) {
+				DescriptorDistance.euclideanSq(packedA,i,packedB,scores);
+			}
+		}
+	}
+
+	public static class EuclideanSqPacked_F32 extends PerformerBase {
+		double scores[] = new double[NUM_DENSE];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < packedA_F32.size(); i++) {
+				DescriptorDistance.euclideanSq(packedA_F32,i,packedB_F32,scores);
+			}
+		}
+	}
+
+	private static TupleDesc_F64 randomDense() {
+		TupleDesc_F64 feat = new TupleDesc_F64(DOF);
+		for (int j = 0; j < DOF; j++) {
+			feat.value[j] = rand.nextGaussian();
+		}
+		return feat;
+	}
+
+	private static TupleDesc_F32 convert( TupleDesc_F64 input ) {
+		TupleDesc_F32 feat = new TupleDesc_F32(DOF);
+		for (int j = 0; j < DOF; j++) {
+			feat.value[j] = (float)input.value[j];
+		}
+		return feat;
+	}
+
 	private static TupleDesc_B randomFeature() {
 		TupleDesc_B feat = new TupleDesc_B(512);
 		for (int j = 0; j < feat.data.length; j++) {
@@ -103,6 +239,17 @@ public class BenchmarkDescriptorDistance {
 		ProfileOperation.printOpsPerSec(new HammingTable(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HammingEquationOld(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HammingEquation(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HammingPacked(),TEST_TIME);
+
+		System.out.println("One against many Hamming distance");
+		ProfileOperation.printOpsPerSec(new HammingOneToManyObject(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HammingOneToManyPacked(),TEST_TIME);
+
+		System.out.println("All pairs Euclidean distance squared");
+		ProfileOperation.printOpsPerSec(new EuclideanSqObject_F64(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new EuclideanSqPacked_F64(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new EuclideanSqObject_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new EuclideanSqPacked_F32(),TEST_TIME);
 	}
 
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.misc.Performer;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.TupleDesc_F64;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Random;
+
+/**
+ * Compares association algorithms which only consider features within a maximum distance of each other.
+ * Simulates frame to frame tracking where features move a small amount between images.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkAssociationMaxDistance {
+
+	static final long TEST_TIME = 1000;
+	static final Random rand = new Random(234234);
+	static final int DOF = 64;
+	static final int NUM_FEATURES = 3000;
+	static final int WIDTH = 640, HEIGHT = 480;
+	static final double MAX_DISTANCE = 15;
+
+	static final FastQueue<Point2D_F64> locationA = new FastQueue<Point2D_F64>(Point2D_F64.class,true);
+	static final FastQueue<Point2D_F64> locationB = new FastQueue<Point2D_F64>(Point2D_F64.class,true);
+	static final FastQueue<TupleDesc_F64> descA = createDescriptions();
+	static final FastQueue<TupleDesc_F64> descB = createDescriptions();
+
+	static {
+		for( int i = 0; i < NUM_FEATURES; i++ ) {
+			Point2D_F64 a = locationA.grow();
+			a.set(rand.nextDouble()*WIDTH, rand.nextDouble()*HEIGHT);
+			locationB.grow().set(a.x + rand.nextGaussian()*3, a.y + rand.nextGaussian()*3);
+		}
+	}
+
+	public static class General implements Performer {
+
+		BaseAssociateLocation2DFilter<TupleDesc_F64> alg;
+		String name;
+
+		public General(String name, BaseAssociateLocation2DFilter<TupleDesc_F64> alg) {
+			this.alg = alg;
+			this.name = name;
+		}
+
+		@Override
+		public void process() {
+			alg.setSource(locationA,descA);
+			alg.setDestination(locationB,descB);
+			alg.associate();
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static FastQueue<TupleDesc_F64> createDescriptions() {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(DOF);
+			}
+		};
+
+		for( int i = 0; i < NUM_FEATURES; i++ ) {
+			TupleDesc_F64 t = ret.grow();
+			for( int j = 0; j < DOF; j++ ) {
+				t.value[j] = (rand.nextDouble()-0.5)*20;
+			}
+		}
+		return ret;
+	}
+
+	public static void main( String args[] ) {
+		System.out.println("========= Num Features "+NUM_FEATURES+" Max Distance "+MAX_DISTANCE);
+		System.out.println();
+
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+
+		ProfileOperation.printOpsPerSec(new General("Naive",
+				new AssociateMaxDistanceNaive<TupleDesc_F64>(score,true,Double.MAX_VALUE,MAX_DISTANCE)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Grid",
+				new AssociateMaxDistanceGrid<TupleDesc_F64>(score,true,Double.MAX_VALUE,MAX_DISTANCE)),TEST_TIME);
+	}
+}
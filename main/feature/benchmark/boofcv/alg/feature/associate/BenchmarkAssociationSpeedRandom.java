@@ -20,6 +20,8 @@ package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.AssociateDescription;
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.WrapAssociateGreedy;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.misc.Performer;
 import boofcv.misc.ProfileOperation;
@@ -91,6 +93,16 @@ public class BenchmarkAssociationSpeedRandom {
 		ProfileOperation.printOpsPerSec(new General("Greedy", FactoryAssociation.greedy(score, Double.MAX_VALUE, false)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new General("Greedy Backwards", FactoryAssociation.greedy(score, Double.MAX_VALUE, true)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new General("Random Forest", FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565)),TEST_TIME);
-		
+
+		System.out.println();
+		System.out.println("Concurrent, threads = "+BoofConcurrency.getMaxThreads());
+		ProfileOperation.printOpsPerSec(new General("Greedy MT",
+				new WrapAssociateGreedy<TupleDesc_F64>(new AssociateGreedy_MT<TupleDesc_F64>(score, false))),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Greedy Backwards MT",
+				new WrapAssociateGreedy<TupleDesc_F64>(new AssociateGreedy_MT<TupleDesc_F64>(score, true))),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Random Forest MT",
+				FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565,1.0)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Random Forest MT Ratio",
+				FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565,0.8)),TEST_TIME);
 	}
 }
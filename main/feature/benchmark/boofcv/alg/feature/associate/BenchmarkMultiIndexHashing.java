@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Random;
+
+/**
+ * Compares nearest neighbor search with {@link MultiIndexHashing_B} against brute force for different sized
+ * databases of binary descriptors.  Queries are noisy copies of descriptors in the database.  The largest
+ * database requires about 1 GB of memory.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkMultiIndexHashing {
+
+	static final long TEST_TIME = 2000;
+	static final Random rand = new Random(234234);
+	static final int NUM_BITS = 512;
+	static final int NUM_TABLES = 32;
+	static final int NUM_QUERIES = 100;
+	// number of bits which are flipped in a query
+	static final int NOISE_BITS = 30;
+
+	static FastQueue<TupleDesc_B> database = new FastQueue<TupleDesc_B>(TupleDesc_B.class,false);
+	static FastQueue<TupleDesc_B> queries = new FastQueue<TupleDesc_B>(TupleDesc_B.class,false);
+
+	public static class BruteForce extends PerformerBase {
+		PackedTupleArray_B packedDB = new PackedTupleArray_B(NUM_BITS);
+		PackedTupleArray_B packedQueries = new PackedTupleArray_B(NUM_BITS);
+		int scores[] = new int[database.size];
+
+		public BruteForce() {
+			packedDB.reserve(database.size);
+			for (int i = 0; i < database.size; i++) {
+				packedDB.addCopy(database.get(i));
+			}
+			for (int i = 0; i < queries.size; i++) {
+				packedQueries.addCopy(queries.get(i));
+			}
+		}
+
+		@Override
+		public void process() {
+			for (int i = 0; i < packedQueries.size(); i++) {
+				DescriptorDistance.hamming(packedQueries,i,packedDB,scores);
+				int best = 0;
+				for (int j = 1; j < packedDB.size(); j++) {
+					if( scores[j] < scores[best] )
+						best = j;
+				}
+			}
+		}
+	}
+
+	public static class MIH extends PerformerBase {
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(NUM_BITS,NUM_TABLES);
+		GrowQueue_I32 indexes = new GrowQueue_I32();
+		GrowQueue_I32 distances = new GrowQueue_I32();
+
+		public MIH() {
+			alg.setDatabase(database);
+		}
+
+		@Override
+		public void process() {
+			for (int i = 0; i < queries.size; i++) {
+				alg.searchNearest(queries.get(i),1,-1,indexes,distances);
+			}
+		}
+	}
+
+	private static void createData( int databaseSize ) {
+		database.reset();
+		queries.reset();
+		for (int i = 0; i < databaseSize; i++) {
+			TupleDesc_B desc = new TupleDesc_B(NUM_BITS);
+			for (int j = 0; j < desc.data.length; j++) {
+				desc.data[j] = rand.nextInt();
+			}
+			database.add(desc);
+		}
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			TupleDesc_B desc = database.get(rand.nextInt(databaseSize)).copy();
+			for (int j = 0; j < NOISE_BITS; j++) {
+				int bit = rand.nextInt(NUM_BITS);
+				desc.data[bit/32] ^= 1 << (bit%32);
+			}
+			queries.add(desc);
+		}
+	}
+
+	public static void main( String args[] ) {
+		System.out.println("Bits "+NUM_BITS+" Tables "+NUM_TABLES+" Queries "+NUM_QUERIES);
+		for( int size : new int[]{10000,100000,1000000} ) {
+			createData(size);
+			System.out.println();
+			System.out.println("Database size "+size);
+			ProfileOperation.printOpsPerSec(new BruteForce(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new MIH(),TEST_TIME);
+		}
+	}
+}
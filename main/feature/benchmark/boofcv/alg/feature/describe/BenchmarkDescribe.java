@@ -20,11 +20,15 @@ package boofcv.alg.feature.describe;
 
 import boofcv.abst.feature.describe.ConfigSurfDescribe;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
 import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GConvertImage;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
@@ -37,8 +41,13 @@ import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.MultiSpectral;
+import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 
@@ -55,6 +64,8 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 	final static int width = 640;
 	final static int height = 480;
 
+	static int numThreads[] = {1,2,4,8};
+
 	I gray;
 	MultiSpectral<I> colorMS;
 
@@ -62,6 +73,11 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 	double scales[];
 	double yaws[];
 
+	// same points but in the format used by batch processing
+	List<Point2D_F64> batchPts = new ArrayList<Point2D_F64>();
+	GrowQueue_F64 batchScales = new GrowQueue_F64();
+	GrowQueue_F64 batchYaws = new GrowQueue_F64();
+
 	Class<I> imageType;
 	Class<D> derivType;
 	Class<II> integralType;
@@ -88,6 +104,10 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 			pts[i] = new Point2D_I32(x,y);
 			scales[i] = rand.nextDouble()*3+1;
 			yaws[i] = 2.0*(rand.nextDouble()-0.5)*Math.PI;
+
+			batchPts.add(new Point2D_F64(x,y));
+			batchScales.push(scales[i]);
+			batchYaws.push(yaws[i]);
 		}
 
 	}
@@ -156,6 +176,99 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 		}
 	}
 
+	public class DescribeBatch<D extends TupleDesc> implements Performer {
+
+		DescribeRegionPointBatch alg;
+		String name;
+		FastQueue<D> descriptions;
+
+		public DescribeBatch(String name, final DescribeRegionPointBatch alg) {
+			this.alg = alg;
+			this.name = name;
+			descriptions = new FastQueue<D>(10,alg.getDescriptionType(),true) {
+				@Override
+				protected D createInstance() {
+					return (D)alg.createDescription();
+				}
+			};
+		}
+
+		@Override
+		public void process() {
+			alg.setImage(gray);
+			alg.process(batchPts, batchYaws, batchScales, descriptions, null);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	public class DetectDescribe implements Performer {
+
+		DetectDescribePoint alg;
+		String name;
+
+		public DetectDescribe(String name, DetectDescribePoint alg) {
+			this.alg = alg;
+			this.name = name;
+		}
+
+		@Override
+		public void process() {
+			alg.detect(gray);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Compares the concurrent SURF and SIFT implementations against the single threaded versions.  Algorithms are
+	 * created after the concurrency settings have been changed.
+	 */
+	public void evaluateConcurrent() {
+		System.out.println();
+		System.out.println("=========  Concurrent SURF and SIFT ==========");
+		System.out.println();
+
+		double serial[] = profileConcurrent();
+		System.out.printf("Serial      Describe-F %8.2f  Describe-S %8.2f  SURF %8.2f  SIFT %8.2f ops/sec\n",
+				serial[0], serial[1], serial[2], serial[3]);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			double ops[] = profileConcurrent();
+			System.out.printf("Threads %2d  Describe-F %8.2f (%5.2fx)  Describe-S %8.2f (%5.2fx)  " +
+							"SURF %8.2f (%5.2fx)  SIFT %8.2f (%5.2fx)\n", threads,
+					ops[0], ops[0]/serial[0], ops[1], ops[1]/serial[1], ops[2], ops[2]/serial[2],
+					ops[3], ops[3]/serial[3]);
+		}
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	private double[] profileConcurrent() {
+		DescribeRegionPointBatch fast = (DescribeRegionPointBatch)
+				FactoryDescribeRegionPoint.<I,II>surfFast(null, imageType);
+		DescribeRegionPointBatch stable = (DescribeRegionPointBatch)
+				FactoryDescribeRegionPoint.<I,II>surfStable(null, imageType);
+		DetectDescribePoint surf = FactoryDetectDescribe.<I,II>surfStable(null, null, null, imageType);
+		DetectDescribePoint sift = FactoryDetectDescribe.<I>sift(null);
+
+		double ret[] = new double[4];
+		ret[0] = ProfileOperation.profileOpsPerSec(new DescribeBatch("SURF-F", fast), TEST_TIME, false);
+		ret[1] = ProfileOperation.profileOpsPerSec(new DescribeBatch("SURF-S", stable), TEST_TIME, false);
+		ret[2] = ProfileOperation.profileOpsPerSec(new DetectDescribe("SURF-S", surf), TEST_TIME, false);
+		ret[3] = ProfileOperation.profileOpsPerSec(new DetectDescribe("SIFT", sift), TEST_TIME, false);
+		return ret;
+	}
+
 	public void perform() {
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ========== "+imageType.getSimpleName());
 		System.out.println();
@@ -183,5 +296,6 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 //		BenchmarkDescribe<ImageUInt8,?,?> alg = new BenchmarkDescribe(ImageUInt8.class);
 
 		alg.perform();
+		alg.evaluateConcurrent();
 	}
 }
@@ -22,6 +22,7 @@ import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.extract.WrapperNonMaximumBlock;
 import boofcv.abst.feature.detect.extract.WrapperNonMaximumNaive;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.Performer;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.QueueCorner;
@@ -46,6 +47,8 @@ public class BenchmarkExtractors {
 
 	static Random rand = new Random(33456);
 
+	static int numThreads[] = new int[]{1,2,4,8};
+
 
 	public static class NM implements Performer {
 		NonMaxSuppression alg;
@@ -107,5 +110,34 @@ public class BenchmarkExtractors {
 //			ProfileOperation.printOpsPerSec(alg1, TEST_TIME);
 		}
 
+		evaluateConcurrent(3840, 2160);
+	}
+
+	/**
+	 * Compares the concurrent block algorithm against the single threaded one on a large image
+	 */
+	public static void evaluateConcurrent( int width , int height ) {
+		intensity = new ImageFloat32(width, height);
+		corners = new QueueCorner(width * height);
+		ImageMiscOps.fillUniform(intensity, rand, 0, threshold * 20.0f);
+		windowRadius = 2;
+
+		System.out.println();
+		System.out.println("=========  Concurrent " + width + " x " + height + " ==========");
+		System.out.println();
+
+		double serial = ProfileOperation.profileOpsPerSec(
+				new NM("Block Strict",new WrapperNonMaximumBlock(new NonMaxBlockStrict.Max())), TEST_TIME, false);
+		System.out.printf("Serial      %8.2f ops/sec\n", serial);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			NonMaxBlock alg = new NonMaxBlock_MT(new NonMaxBlockStrict.Max());
+			double ops = ProfileOperation.profileOpsPerSec(
+					new NM("Block Strict MT",new WrapperNonMaximumBlock(alg)), TEST_TIME, false);
+			System.out.printf("Threads %2d  %8.2f ops/sec (%5.2fx)\n", threads, ops, ops/serial);
+		}
+		BoofConcurrency.setMaxThreads(originalThreads);
 	}
 }
@@ -22,6 +22,7 @@ import boofcv.alg.feature.detect.intensity.impl.ImplFastHelper_U8;
 import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity12;
 import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity9;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
@@ -39,6 +40,9 @@ public class BenchmarkFastIntensity< T extends ImageSingleBand> {
 	static int imgHeight = 480;
 	static long TEST_TIME = 1000;
 
+	// number of threads the concurrent algorithms are profiled with
+	static int numThreads[] = new int[]{1,2,4,8};
+
 	T input;
 	ImageFloat32 intensity;
 
@@ -87,9 +91,35 @@ public class BenchmarkFastIntensity< T extends ImageSingleBand> {
 
 	}
 
+	/**
+	 * Compares the concurrent implementation against the single threaded implementation
+	 */
+	public void evaluateConcurrent() {
+		System.out.println();
+		System.out.println("=========  Concurrent ==========");
+		System.out.println();
+
+		double serial9 = ProfileOperation.profileOpsPerSec(new FAST9(), TEST_TIME, false);
+		double serial12 = ProfileOperation.profileOpsPerSec(new FAST12(), TEST_TIME, false);
+		System.out.printf("Serial      FAST9 %8.2f ops/sec   FAST12 %8.2f ops/sec\n", serial9, serial12);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			double ops9 = ProfileOperation.profileOpsPerSec(new FAST9(), TEST_TIME, false);
+			double ops12 = ProfileOperation.profileOpsPerSec(new FAST12(), TEST_TIME, false);
+			System.out.printf("Threads %2d  FAST9 %8.2f ops/sec (%5.2fx)  FAST12 %8.2f ops/sec (%5.2fx)\n",
+					threads, ops9, ops9/serial9, ops12, ops12/serial12);
+		}
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
 	public static void main( String args[] ) {
 		BenchmarkFastIntensity benchmark = new BenchmarkFastIntensity(ImageUInt8.class);
 
 		benchmark.evaluate();
+		benchmark.evaluateConcurrent();
 	}
 }
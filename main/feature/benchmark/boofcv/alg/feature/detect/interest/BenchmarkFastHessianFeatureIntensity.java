@@ -22,6 +22,8 @@ import boofcv.alg.feature.detect.intensity.IntegralImageFeatureIntensity;
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
@@ -40,6 +42,8 @@ public class BenchmarkFastHessianFeatureIntensity {
 	static int skip = 1;
 	static int size = 15;
 
+	static int numThreads[] = {1,2,4,8};
+
 	static Random rand = new Random(234);
 
 	static ImageFloat32 original = new ImageFloat32(width,height);
@@ -62,6 +66,38 @@ public class BenchmarkFastHessianFeatureIntensity {
 		}
 	}
 
+	public static class Detector extends PerformerBase {
+
+		FastHessianFeatureDetector<ImageFloat32> alg = FactoryInterestPointAlgs.fastHessian(null);
+
+		@Override
+		public void process() {
+			alg.detect(integral);
+		}
+	}
+
+	/**
+	 * Compares the concurrent detector against the single threaded detector
+	 */
+	public static void evaluateConcurrent() {
+		System.out.println();
+		System.out.println("=========  Concurrent Fast Hessian Detector ==========");
+		System.out.println();
+
+		double serial = ProfileOperation.profileOpsPerSec(new Detector(), TEST_TIME, false);
+		System.out.printf("Serial      %8.2f ops/sec\n", serial);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			double ops = ProfileOperation.profileOpsPerSec(new Detector(), TEST_TIME, false);
+			System.out.printf("Threads %2d  %8.2f ops/sec (%5.2fx)\n", threads, ops, ops/serial);
+		}
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
 	public static void main(String args[]) {
 		ImageMiscOps.fillUniform(original,rand,0,200);
 		IntegralImageOps.transform(original,integral);
@@ -72,5 +108,7 @@ public class BenchmarkFastHessianFeatureIntensity {
 
 		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard(), TEST_TIME);
+
+		evaluateConcurrent();
 	}
 }
@@ -19,11 +19,16 @@
 package boofcv.alg.feature.disparity;
 
 import boofcv.alg.feature.disparity.impl.*;
+import boofcv.alg.feature.disparity.sgm.*;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GConvertImage;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.struct.image.ImageUInt8;
 
 import java.util.Random;
@@ -35,21 +40,26 @@ public class BenchmarkDisparityAlgs {
 	static final long TEST_TIME = 1000;
 	static final Random rand = new Random(234234);
 
-	static final int width=640;
-	static final int height=480;
+	static int width=640;
+	static int height=480;
 	static final int min=0;
-	static final int max=20;
+	static int max=20;
 	static final int radiusX=2;
 	static final int radiusY=2;
 
-	static final ImageUInt8 left = new ImageUInt8(width,height);
-	static final ImageUInt8 right = new ImageUInt8(width,height);
+	static ImageUInt8 left;
+	static ImageUInt8 right;
 
-	static final ImageFloat32 left_F32 = new ImageFloat32(width,height);
-	static final ImageFloat32 right_F32 = new ImageFloat32(width,height);
+	static ImageFloat32 left_F32;
+	static ImageFloat32 right_F32;
 
-	static final ImageUInt8 outU8 = new ImageUInt8(width,height);
-	static final ImageFloat32 out_F32 = new ImageFloat32(width,height);
+	static ImageSInt32 censusLeft_S32;
+	static ImageSInt32 censusRight_S32;
+	static ImageSInt64 censusLeft_S64;
+	static ImageSInt64 censusRight_S64;
+
+	static ImageUInt8 outU8;
+	static ImageFloat32 out_F32;
 
 	public static class Naive extends PerformerBase {
 
@@ -120,21 +130,168 @@ public class BenchmarkDisparityAlgs {
 		}
 	}
 
-	public static void main( String argsp[ ] ) {
-		System.out.println("=========  Image Size "+ width +" "+height+"  disparity "+max);
-		System.out.println();
+	public static class EfficientSad_U8_MT extends PerformerBase {
+
+		DisparitySelect<int[],ImageUInt8> compDisp =
+				new ImplSelectRectStandard_S32_U8(250,2,0.1);
+		DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8> alg = new DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8>(
+				new ImplDisparityScoreSadRect_U8<ImageUInt8>(min,max,radiusX,radiusY,compDisp));
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+	}
+
+	public static class EfficientSadFive_U8_MT extends PerformerBase {
+
+		DisparitySelect<int[],ImageUInt8> compDisp =
+				new ImplSelectRectStandard_S32_U8(250,2,0.1);
+		DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8> alg = new DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8>(
+				new ImplDisparityScoreSadRectFive_U8<ImageUInt8>(min,max,radiusX,radiusY,compDisp));
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+	}
+
+	public static class EfficientSad_F32_MT extends PerformerBase {
+
+		DisparitySelect<float[],ImageUInt8> compDisp =
+				new ImplSelectRectStandard_F32_U8(250,2,0.1);
+		DisparityScoreRowFormat_MT<ImageFloat32,ImageUInt8> alg = new DisparityScoreRowFormat_MT<ImageFloat32,ImageUInt8>(
+				new ImplDisparityScoreSadRect_F32<ImageUInt8>(min,max,radiusX,radiusY,compDisp));
+
+		@Override
+		public void process() {
+			alg.process(left_F32,right_F32, outU8);
+		}
+	}
+
+	public static class EfficientCensus5_U8 extends PerformerBase {
+
+		DisparitySelect<int[],ImageUInt8> compDisp =
+				new ImplSelectRectStandard_S32_U8(250,2,0.1);
+		DisparityScoreRowFormat<ImageSInt32,ImageUInt8> alg =
+				new ImplDisparityScoreHammingRect_S32<ImageUInt8>(min,max,radiusX,radiusY,compDisp);
+
+		@Override
+		public void process() {
+			CensusTransform.region5x5(left, censusLeft_S32);
+			CensusTransform.region5x5(right, censusRight_S32);
+			alg.process(censusLeft_S32,censusRight_S32, outU8);
+		}
+	}
+
+	public static class EfficientCensus7_U8 extends PerformerBase {
+
+		DisparitySelect<int[],ImageUInt8> compDisp =
+				new ImplSelectRectStandard_S32_U8(250,2,0.1);
+		DisparityScoreRowFormat<ImageSInt64,ImageUInt8> alg =
+				new ImplDisparityScoreHammingRect_S64<ImageUInt8>(min,max,radiusX,radiusY,compDisp);
+
+		@Override
+		public void process() {
+			CensusTransform.region7x7(left, censusLeft_S64);
+			CensusTransform.region7x7(right, censusRight_S64);
+			alg.process(censusLeft_S64,censusRight_S64, outU8);
+		}
+	}
+
+	public static class EfficientCensus5_U8_MT extends EfficientCensus5_U8 {
+		public EfficientCensus5_U8_MT() {
+			alg = new DisparityScoreRowFormat_MT<ImageSInt32,ImageUInt8>(alg);
+		}
+	}
+
+	public static class EfficientCensus7_U8_MT extends EfficientCensus7_U8 {
+		public EfficientCensus7_U8_MT() {
+			alg = new DisparityScoreRowFormat_MT<ImageSInt64,ImageUInt8>(alg);
+		}
+	}
+
+	public static class SgmCensus extends PerformerBase {
+
+		SgmStereoDisparity<ImageUInt8> alg = new SgmStereoDisparity<ImageUInt8>(min,max,
+				new SgmCostCensus(), new SgmCostAggregation(200,2000,8), new SgmDisparitySelector(1));
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+	}
+
+	public static class SgmCensus_MT extends PerformerBase {
+
+		SgmStereoDisparity<ImageUInt8> alg = new SgmStereoDisparity<ImageUInt8>(min,max,
+				new SgmCostCensus(), new SgmCostAggregation_MT(200,2000,8), new SgmDisparitySelector(1));
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+	}
+
+	private static void setup( int width , int height , int max ) {
+		BenchmarkDisparityAlgs.width = width;
+		BenchmarkDisparityAlgs.height = height;
+		BenchmarkDisparityAlgs.max = max;
+
+		left = new ImageUInt8(width,height);
+		right = new ImageUInt8(width,height);
+		left_F32 = new ImageFloat32(width,height);
+		right_F32 = new ImageFloat32(width,height);
+		censusLeft_S32 = new ImageSInt32(width,height);
+		censusRight_S32 = new ImageSInt32(width,height);
+		censusLeft_S64 = new ImageSInt64(width,height);
+		censusRight_S64 = new ImageSInt64(width,height);
+		outU8 = new ImageUInt8(width,height);
+		out_F32 = new ImageFloat32(width,height);
 
 		GImageMiscOps.fillUniform(left, rand, 0, 30);
 		GImageMiscOps.fillUniform(right, rand, 0, 30);
 		GConvertImage.convert(left, left_F32);
 		GConvertImage.convert(right,right_F32);
+	}
+
+	public static void main( String argsp[ ] ) {
+		setup(640,480,20);
+		System.out.println("=========  Image Size "+ width +" "+height+"  disparity "+max);
+		System.out.println();
 
 		// the "fastest" seems to always be the first one tested
 		ProfileOperation.printOpsPerSec(new EfficientSad_U8(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new EfficientSadFive_U8(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new EfficientSad_F32(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new EfficientSubpixelSad(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new EfficientCensus5_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new EfficientCensus7_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new SgmCensus(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
 
+		// frames per second for single and multi-threaded with a large disparity range
+		// Naive is skipped since it's too slow
+		int sizes[][] = new int[][]{{640,480},{1280,960}};
+		for( int[] size : sizes ) {
+			setup(size[0],size[1],128);
+			System.out.println();
+			System.out.println("=========  Image Size "+ width +" "+height+"  disparity "+max+
+					"  threads "+BoofConcurrency.getMaxThreads());
+			System.out.println();
+
+			ProfileOperation.printOpsPerSec(new EfficientSad_U8(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientSad_U8_MT(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientSadFive_U8(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientSadFive_U8_MT(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientSad_F32(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientSad_F32_MT(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientCensus5_U8(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientCensus5_U8_MT(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientCensus7_U8(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new EfficientCensus7_U8_MT(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new SgmCensus(),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new SgmCensus_MT(),TEST_TIME);
+		}
 	}
 }
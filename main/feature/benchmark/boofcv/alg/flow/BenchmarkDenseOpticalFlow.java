@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.abst.flow.DenseOpticalFlow;
+import boofcv.abst.flow.FlowBlock_to_DenseOpticalFlow;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.flow.ConfigHornSchunck;
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
+import boofcv.factory.flow.ConfigOpticalFlowBlockPyramid;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Random;
+
+/**
+ * Benchmarks single and multi-threaded dense optical flow algorithms.  For pyramidal algorithms the time spent
+ * on each layer in the pyramid is printed along with the total time.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkDenseOpticalFlow {
+	static final Random rand = new Random(234);
+	static final int TRIALS = 3;
+
+	static int width = 640;
+	static int height = 480;
+
+	static ImageFloat32 image1 = new ImageFloat32(width,height);
+	static ImageFloat32 image2 = new ImageFloat32(width,height);
+	static ImageUInt8 image1_U8 = new ImageUInt8(width,height);
+	static ImageUInt8 image2_U8 = new ImageUInt8(width,height);
+
+	static ImageFlow flow = new ImageFlow(width,height);
+
+	/**
+	 * Time spent processing each layer in the pyramid, summed across all calls
+	 */
+	public static class LayerTimes {
+		GrowQueue_I32 widths = new GrowQueue_I32();
+		GrowQueue_I32 heights = new GrowQueue_I32();
+		GrowQueue_F64 milliseconds = new GrowQueue_F64();
+
+		// index of the layer being processed in the current call
+		int layer;
+
+		public void reset() {
+			widths.reset();
+			heights.reset();
+			milliseconds.reset();
+		}
+
+		public void startCall() {
+			layer = 0;
+		}
+
+		public void add( int width , int height , long elapsedNano ) {
+			if( layer >= milliseconds.size ) {
+				widths.add(width);
+				heights.add(height);
+				milliseconds.add(0);
+			}
+			milliseconds.data[layer++] += elapsedNano/1e6;
+		}
+
+		public void print( int numCalls ) {
+			for( int i = 0; i < milliseconds.size; i++ ) {
+				System.out.printf("%30s  layer %2d %5d x %4d  ms = %9.2f\n","",
+						i,widths.get(i),heights.get(i),milliseconds.get(i)/numCalls);
+			}
+		}
+	}
+
+	public static abstract class FlowPerformer extends PerformerBase {
+		LayerTimes times = new LayerTimes();
+		String name;
+
+		protected FlowPerformer(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void process() {
+			times.startCall();
+			compute();
+		}
+
+		public abstract void compute();
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	public static FlowPerformer hornSchunck( boolean concurrent ) {
+		ConfigHornSchunck config = new ConfigHornSchunck();
+		config.numIterations = 200;
+
+		final HornSchunck_F32 alg = concurrent ?
+				new HornSchunck_F32_MT(config.alpha,config.numIterations) :
+				new HornSchunck_F32(config.alpha,config.numIterations);
+
+		return new FlowPerformer(name("HornSchunck", concurrent)) {
+			@Override
+			public void compute() {
+				alg.process(image1, image2, flow);
+			}
+		};
+	}
+
+	public static FlowPerformer hornSchunckPyramid( boolean concurrent ) {
+		ConfigHornSchunckPyramid config = new ConfigHornSchunckPyramid();
+		final LayerTimes times = new LayerTimes();
+
+		final HornSchunckPyramid<ImageFloat32> alg;
+		if( concurrent ) {
+			alg = new HornSchunckPyramid_MT<ImageFloat32>(config, interpolation()) {
+				@Override
+				protected void processLayer(ImageFloat32 image1, ImageFloat32 image2,
+											ImageFloat32 derivX2, ImageFloat32 derivY2) {
+					long before = System.nanoTime();
+					super.processLayer(image1, image2, derivX2, derivY2);
+					times.add(image1.width, image1.height, System.nanoTime() - before);
+				}
+			};
+		} else {
+			alg = new HornSchunckPyramid<ImageFloat32>(config, interpolation()) {
+				@Override
+				protected void processLayer(ImageFloat32 image1, ImageFloat32 image2,
+											ImageFloat32 derivX2, ImageFloat32 derivY2) {
+					long before = System.nanoTime();
+					super.processLayer(image1, image2, derivX2, derivY2);
+					times.add(image1.width, image1.height, System.nanoTime() - before);
+				}
+			};
+		}
+
+		FlowPerformer performer = new FlowPerformer(name("HornSchunckPyramid", concurrent)) {
+			@Override
+			public void compute() {
+				alg.process(image1, image2);
+			}
+		};
+		performer.times = times;
+		return performer;
+	}
+
+	public static FlowPerformer brox( boolean concurrent ) {
+		ConfigBroxWarping config = new ConfigBroxWarping();
+		final LayerTimes times = new LayerTimes();
+
+		final BroxWarpingSpacial<ImageFloat32> alg;
+		if( concurrent ) {
+			alg = new BroxWarpingSpacial_MT<ImageFloat32>(config, interpolation()) {
+				@Override
+				protected void processLayer(ImageFloat32 image1, ImageFloat32 image2,
+											ImageFloat32 deriv1X, ImageFloat32 deriv1Y,
+											ImageFloat32 deriv2X, ImageFloat32 deriv2Y,
+											ImageFloat32 deriv2XX, ImageFloat32 deriv2YY, ImageFloat32 deriv2XY) {
+					long before = System.nanoTime();
+					super.processLayer(image1, image2, deriv1X, deriv1Y, deriv2X, deriv2Y, deriv2XX, deriv2YY, deriv2XY);
+					times.add(image1.width, image1.height, System.nanoTime() - before);
+				}
+			};
+		} else {
+			alg = new BroxWarpingSpacial<ImageFloat32>(config, interpolation()) {
+				@Override
+				protected void processLayer(ImageFloat32 image1, ImageFloat32 image2,
+											ImageFloat32 deriv1X, ImageFloat32 deriv1Y,
+											ImageFloat32 deriv2X, ImageFloat32 deriv2Y,
+											ImageFloat32 deriv2XX, ImageFloat32 deriv2YY, ImageFloat32 deriv2XY) {
+					long before = System.nanoTime();
+					super.processLayer(image1, image2, deriv1X, deriv1Y, deriv2X, deriv2Y, deriv2XX, deriv2YY, deriv2XY);
+					times.add(image1.width, image1.height, System.nanoTime() - before);
+				}
+			};
+		}
+
+		FlowPerformer performer = new FlowPerformer(name("BroxWarping", concurrent)) {
+			@Override
+			public void compute() {
+				alg.process(image1, image2);
+			}
+		};
+		performer.times = times;
+		return performer;
+	}
+
+	/**
+	 * For the block pyramid only the search is timed for each layer
+	 */
+	public static FlowPerformer blockPyramid( boolean concurrent ) {
+		ConfigOpticalFlowBlockPyramid config = new ConfigOpticalFlowBlockPyramid();
+		final LayerTimes times = new LayerTimes();
+
+		DenseOpticalFlowBlockPyramid<ImageUInt8> alg;
+		if( concurrent ) {
+			alg = new DenseOpticalFlowBlockPyramid_MT<ImageUInt8>(new DenseOpticalFlowBlockPyramid.U8(
+					config.searchRadius,config.regionRadius,config.maxPerPixelError)) {
+				@Override
+				protected void searchLayer(ImageUInt8 prev, ImageUInt8 curr, ImageFlow hint, double scale) {
+					long before = System.nanoTime();
+					super.searchLayer(prev, curr, hint, scale);
+					times.add(prev.width, prev.height, System.nanoTime() - before);
+				}
+			};
+		} else {
+			alg = new DenseOpticalFlowBlockPyramid.U8(config.searchRadius,config.regionRadius,config.maxPerPixelError) {
+				@Override
+				protected void searchLayer(ImageUInt8 prev, ImageUInt8 curr, ImageFlow hint, double scale) {
+					long before = System.nanoTime();
+					super.searchLayer(prev, curr, hint, scale);
+					times.add(prev.width, prev.height, System.nanoTime() - before);
+				}
+			};
+		}
+
+		final DenseOpticalFlow<ImageUInt8> flowAlg = new FlowBlock_to_DenseOpticalFlow<ImageUInt8>(
+				alg,config.pyramidScale,config.maxPyramidLayers,ImageUInt8.class);
+
+		FlowPerformer performer = new FlowPerformer(name("BlockPyramid", concurrent)) {
+			@Override
+			public void compute() {
+				flowAlg.process(image1_U8, image2_U8, flow);
+			}
+		};
+		performer.times = times;
+		return performer;
+	}
+
+	private static InterpolatePixelS<ImageFloat32> interpolation() {
+		return FactoryInterpolation.bilinearPixelS(ImageFloat32.class, BorderType.EXTENDED);
+	}
+
+	private static String name( String name , boolean concurrent ) {
+		return concurrent ? name+"_MT" : name;
+	}
+
+	/**
+	 * Processes the images once to warm up, then reports the average time per call and for each layer
+	 */
+	public static void benchmark( FlowPerformer performer ) {
+		performer.process();
+		performer.times.reset();
+
+		long elapsed = ProfileOperation.measureTime(performer, TRIALS);
+
+		System.out.printf("%30s  total ms = %9.2f\n",performer.getName(),elapsed/(double)TRIALS);
+		performer.times.print(TRIALS);
+	}
+
+	/**
+	 * Creates a smooth textured image and a copy which has been translated
+	 */
+	private static void createImages() {
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				image1.set(x, y, texture(x, y));
+				image2.set(x, y, texture(x - 3, y - 1));
+			}
+		}
+		ConvertImage.convert(image1, image1_U8);
+		ConvertImage.convert(image2, image2_U8);
+	}
+
+	private static float texture( int x , int y ) {
+		return (float)(120 + 60*Math.sin(x*0.11 + Math.cos(y*0.05))*Math.cos(y*0.13) + 10*Math.sin(x*0.37 + y*0.29));
+	}
+
+	public static void main( String args[] ) {
+		createImages();
+
+		System.out.println("=========  Image Size "+width+" "+height+"  threads "+BoofConcurrency.getMaxThreads());
+		System.out.println();
+
+		boolean[] modes = new boolean[]{false,true};
+		for( boolean concurrent : modes )
+			benchmark(blockPyramid(concurrent));
+		for( boolean concurrent : modes )
+			benchmark(hornSchunck(concurrent));
+		for( boolean concurrent : modes )
+			benchmark(hornSchunckPyramid(concurrent));
+		for( boolean concurrent : modes )
+			benchmark(brox(concurrent));
+	}
+}
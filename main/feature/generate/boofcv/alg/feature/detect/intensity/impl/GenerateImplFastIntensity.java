@@ -103,6 +103,10 @@ public class GenerateImplFastIntensity extends CodeGeneratorBase {
 				"\t */\n" +
 				"\tpublic "+className+"(FastHelper<T> helper) {\n" +
 				"\t\tsuper(helper);\n" +
+				"\t}\n\n" +
+				"\t@Override\n" +
+				"\tprotected "+className+"<T> newInstance() {\n" +
+				"\t\treturn new "+className+"<T>(helper.newInstance());\n" +
 				"\t}\n\n");
 	}
 
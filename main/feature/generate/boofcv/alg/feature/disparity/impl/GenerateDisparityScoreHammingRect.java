@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Generates implementations of {@link boofcv.alg.feature.disparity.DisparityScoreHammingRect} for each
+ * type of census transformed image.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateDisparityScoreHammingRect extends CodeGeneratorBase {
+
+	String typeInput;
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		createFile(AutoTypeImage.S32);
+		createFile(AutoTypeImage.S64);
+	}
+
+	public void createFile( AutoTypeImage image ) throws FileNotFoundException {
+		setOutputFile("ImplDisparityScoreHammingRect_"+image.getAbbreviatedType());
+		typeInput = image.getSingleBandName();
+
+		printPreamble();
+		printProcess();
+		printComputeFirstRow();
+		printComputeRemainingRows();
+		printTheRest();
+
+		out.println("}");
+	}
+
+	private void printPreamble() {
+		out.print("import boofcv.alg.feature.disparity.DisparityScoreHammingRect;\n" +
+				"import boofcv.alg.feature.disparity.DisparitySelect;\n" +
+				"import boofcv.struct.image.ImageSingleBand;\n" +
+				"import boofcv.struct.image."+typeInput+";\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Implementation of {@link boofcv.alg.feature.disparity.DisparityScoreHammingRect} for processing\n" +
+				" * census transformed images of type {@link "+typeInput+"}.\n" +
+				" * </p>\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreHammingRect}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+"<Disparity extends ImageSingleBand>\n" +
+				"\textends DisparityScoreHammingRect<"+typeInput+",Disparity>\n" +
+				"{\n" +
+				"\n" +
+				"\t// Computes disparity from scores\n" +
+				"\tDisparitySelect<int[],Disparity> computeDisparity;\n" +
+				"\n" +
+				"\t// stores the local scores for the width of the region\n" +
+				"\tint elementScore[];\n" +
+				"\t// scores along horizontal axis for current block\n" +
+				"\t// To allow right to left validation all disparity scores are stored for the entire row\n" +
+				"\t// size = num columns * maxDisparity\n" +
+				"\t// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity\n" +
+				"\tint horizontalScore[][];\n" +
+				"\t// summed scores along vertical axis\n" +
+				"\t// This is simply the sum of like elements in horizontal score\n" +
+				"\tint verticalScore[];\n" +
+				"\n" +
+				"\tpublic "+className+"( int minDisparity , int maxDisparity,\n" +
+				"\t\t\t\t\t\t\t\t\t\t   int regionRadiusX, int regionRadiusY,\n" +
+				"\t\t\t\t\t\t\t\t\t\t   DisparitySelect<int[],Disparity> computeDisparity) {\n" +
+				"\t\tsuper(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);\n" +
+				"\n" +
+				"\t\tthis.computeDisparity = computeDisparity;\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printProcess() {
+		out.print("\t@Override\n" +
+				"\tpublic void _process( "+typeInput+" left , "+typeInput+" right , Disparity disparity ) {\n" +
+				"\t\tinitialize(left, disparity);\n" +
+				"\t\tprocessRows(left, right, 0, left.height);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tprotected void initialize( "+typeInput+" left , Disparity disparity ) {\n" +
+				"\t\tif( horizontalScore == null || verticalScore.length < lengthHorizontal ) {\n" +
+				"\t\t\thorizontalScore = new int[regionHeight][lengthHorizontal];\n" +
+				"\t\t\tverticalScore = new int[lengthHorizontal];\n" +
+				"\t\t\telementScore = new int[ left.width ];\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tprotected void processRows( "+typeInput+" left , "+typeInput+" right , int row0 , int row1 ) {\n" +
+				"\t\t// initialize computation\n" +
+				"\t\tcomputeFirstRow(left, right, row0);\n" +
+				"\t\t// efficiently compute rest of the rows using previous results to avoid repeat computations\n" +
+				"\t\tcomputeRemainingRows(left, right, row0, row1);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic "+className+"<Disparity> concurrentCopy() {\n" +
+				"\t\treturn new "+className+"<Disparity>(minDisparity,maxDisparity,radiusX,radiusY,\n" +
+				"\t\t\t\tcomputeDisparity.concurrentCopy());\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printComputeFirstRow() {
+		out.print("\t/**\n" +
+				"\t * Initializes disparity calculation by finding the scores for the initial block of horizontal\n" +
+				"\t * rows.\n" +
+				"\t */\n" +
+				"\tprivate void computeFirstRow("+typeInput+" left, "+typeInput+" right, int row0 ) {\n" +
+				"\t\t// compute horizontal scores for first row block\n" +
+				"\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
+				"\n" +
+				"\t\t\tint scores[] = horizontalScore[row];\n" +
+				"\n" +
+				"\t\t\tUtilDisparityScore.computeScoreRowHamming(left, right, row0+row, scores,\n" +
+				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// compute score for the top possible row\n" +
+				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\tint sum = 0;\n" +
+				"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
+				"\t\t\t\tsum += horizontalScore[row][i];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tverticalScore[i] = sum;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// compute disparity\n" +
+				"\t\tcomputeDisparity.process(row0+radiusY, verticalScore);\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printComputeRemainingRows() {
+		out.print("\t/**\n" +
+				"\t * Using previously computed results it efficiently finds the disparity in the remaining rows.\n" +
+				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
+				"\t * added.\n" +
+				"\t */\n" +
+				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right, int row0, int row1 )\n" +
+				"\t{\n" +
+				"\t\tfor( int row = row0+regionHeight; row < row1; row++ ) {\n" +
+				"\t\t\tint oldRow = (row-row0)%regionHeight;\n" +
+				"\n" +
+				"\t\t\t// subtract first row from vertical score\n" +
+				"\t\t\tint scores[] = horizontalScore[oldRow];\n" +
+				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t\tverticalScore[i] -= scores[i];\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\tUtilDisparityScore.computeScoreRowHamming(left, right, row, scores,\n" +
+				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\n" +
+				"\t\t\t// add the new score\n" +
+				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
+				"\t\t\t\tverticalScore[i] += scores[i];\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\t// compute disparity\n" +
+				"\t\t\tcomputeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printTheRest() {
+		out.print("\t@Override\n" +
+				"\tpublic Class<"+typeInput+"> getInputType() {\n" +
+				"\t\treturn "+typeInput+".class;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic Class<Disparity> getDisparityType() {\n" +
+				"\t\treturn computeDisparity.getDisparityType();\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateDisparityScoreHammingRect app = new GenerateDisparityScoreHammingRect();
+		app.generate();
+	}
+}
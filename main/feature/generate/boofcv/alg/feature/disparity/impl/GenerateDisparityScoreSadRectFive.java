@@ -107,6 +107,12 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 	private void printProcess() {
 		out.print("\t@Override\n" +
 				"\tpublic void _process( "+typeInput+" left , "+typeInput+" right , Disparity disparity ) {\n" +
+				"\t\tinitialize(left, disparity);\n" +
+				"\t\tprocessRows(left, right, 0, left.height);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tprotected void initialize( "+typeInput+" left , Disparity disparity ) {\n" +
 				"\t\tif( horizontalScore == null || verticalScore.length < lengthHorizontal ) {\n" +
 				"\t\t\thorizontalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
 				"\t\t\tverticalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
@@ -115,11 +121,20 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t}\n" +
 				"\n" +
 				"\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);\n" +
+				"\t}\n" +
 				"\n" +
+				"\t@Override\n" +
+				"\tprotected void processRows( "+typeInput+" left , "+typeInput+" right , int row0 , int row1 ) {\n" +
 				"\t\t// initialize computation\n" +
-				"\t\tcomputeFirstRow(left, right);\n" +
+				"\t\tcomputeFirstRow(left, right, row0);\n" +
 				"\t\t// efficiently compute rest of the rows using previous results to avoid repeat computations\n" +
-				"\t\tcomputeRemainingRows(left, right);\n" +
+				"\t\tcomputeRemainingRows(left, right, row0, row1);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic "+className+"<Disparity> concurrentCopy() {\n" +
+				"\t\treturn new "+className+"<Disparity>(minDisparity,maxDisparity,radiusX,radiusY,\n" +
+				"\t\t\t\tcomputeDisparity.concurrentCopy());\n" +
 				"\t}\n\n");
 	}
 
@@ -128,7 +143,7 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t * Initializes disparity calculation by finding the scores for the initial block of horizontal\n" +
 				"\t * rows.\n" +
 				"\t */\n" +
-				"\tprivate void computeFirstRow( "+typeInput+" left, "+typeInput+" right ) {\n" +
+				"\tprivate void computeFirstRow( "+typeInput+" left, "+typeInput+" right, int row0 ) {\n" +
 				"\t\t"+sumType+" firstRow[] = verticalScore[0];\n" +
 				"\t\tactiveVerticalScore = 1;\n" +
 				"\n" +
@@ -137,7 +152,7 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\n" +
 				"\t\t\t"+sumType+" scores[] = horizontalScore[row];\n" +
 				"\n" +
-				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
+				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row0+row, scores,\n" +
 				"\t\t\t\t\tminDisparity, maxDisparity, regionWidth, elementScore);\n" +
 				"\t\t}\n" +
 				"\n" +
@@ -158,10 +173,10 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
 				"\t * added.\n" +
 				"\t */\n" +
-				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right )\n" +
+				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right, int row0, int row1 )\n" +
 				"\t{\n" +
-				"\t\tfor( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {\n" +
-				"\t\t\tint oldRow = row%regionHeight;\n" +
+				"\t\tfor( int row = row0+regionHeight; row < row1; row++ , activeVerticalScore++) {\n" +
+				"\t\t\tint oldRow = (row-row0)%regionHeight;\n" +
 				"\t\t\t"+sumType+" previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];\n" +
 				"\t\t\t"+sumType+" active[] = verticalScore[ activeVerticalScore % regionHeight ];\n" +
 				"\n" +
@@ -100,6 +100,11 @@ public class GenerateSelectRectBasicWta extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic "+className+" concurrentCopy() {\n" +
+				"\t\treturn new "+className+"();\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic Class<"+typeDisparity+"> getDisparityType() {\n" +
 				"\t\treturn "+typeDisparity+".class;\n" +
 				"\t}\n" +
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.alg.*;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent association using K-D trees.  Source features are used to construct one or more K-D trees
+ * and destination features are matched against them in parallel.  Each thread has its own search algorithm
+ * and storage, while the trees are shared.  The two nearest neighbors are found for each destination feature
+ * which allows a ratio test to be applied.  Results are independent of the number of threads.
+ * </p>
+ *
+ * <p>
+ * Similar to {@link AssociateNearestNeighbor} but works directly with DDogleg's K-D tree data structures, since
+ * the generic {@link org.ddogleg.nn.NearestNeighbor} interface can't be searched by multiple threads.  Index
+ * objects stored in the tree are cached and only created when the number of source features grows.  Multiple
+ * matches for source features are possible while there will only be a unique match for each destination feature.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateNearestNeighbor_MT<D extends TupleDesc_F64>
+		implements AssociateDescription<D>
+{
+	// number of elements in each descriptor
+	private int featureDimension;
+	// maximum number of nodes searched.  If &le; 0 then an exact search is performed
+	private int maxNodesSearched;
+
+	// creates K-D trees from the source points
+	private KdTreeConstructor<Integer> constructor;
+	private KdTreeMemory memory = new KdTreeMemory();
+	private KdTree forest[];
+
+	// list of features in destination set that are to be searched for in the source list
+	private FastQueue<D> listDst;
+	private int numSource;
+
+	// cached indexes which are passed in as data associated with source points
+	private List<Integer> indexes = new ArrayList<Integer>();
+	// storage for source points
+	private List<double[]> src = new ArrayList<double[]>();
+
+	// search algorithm and storage for each thread
+	private FastQueue<Searcher> searchers;
+
+	// best source feature for each destination feature. -1 if none
+	private GrowQueue_I32 bestSrc = new GrowQueue_I32();
+	private GrowQueue_F64 bestDistance = new GrowQueue_F64();
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<AssociatedIndex>(100,AssociatedIndex.class,true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	// maximum distance away two points can be
+	private double maxDistanceSq = -1;
+	// the distance of the best match must be less than this fraction of the second best
+	private double ratioTest = 1.0;
+
+	/**
+	 * Configures association
+	 *
+	 * @param featureDimension Number of elements in the feature vector
+	 * @param maxNodesSearched Maximum number of nodes searched with a best-bin-first search.  If &le; 0 then
+	 *                         a single tree is used and an exact search is done.
+	 * @param numTrees Number of trees.  Must be 1 for an exact search.
+	 * @param splitter Used to split the points when constructing the trees
+	 */
+	public AssociateNearestNeighbor_MT( int featureDimension , int maxNodesSearched ,
+										int numTrees , AxisSplitter<Integer> splitter ) {
+		if( maxNodesSearched <= 0 && numTrees != 1 )
+			throw new IllegalArgumentException("An exact search can only be used with a single tree");
+
+		this.featureDimension = featureDimension;
+		this.maxNodesSearched = maxNodesSearched;
+		this.forest = new KdTree[numTrees];
+		this.constructor = new KdTreeConstructor<Integer>(memory,featureDimension,splitter);
+
+		searchers = new FastQueue<Searcher>((Class)Searcher.class,true) {
+			@Override
+			protected Searcher createInstance() {
+				return new Searcher();
+			}
+		};
+	}
+
+	@Override
+	public void setSource(FastQueue<D> listSrc) {
+		numSource = listSrc.size;
+
+		// only create new index objects if there are more points than before
+		for( int i = indexes.size(); i < listSrc.size; i++ ) {
+			indexes.add(i);
+		}
+
+		src.clear();
+		for( int i = 0; i < listSrc.size; i++ ) {
+			src.add(listSrc.data[i].value);
+		}
+
+		for( int i = 0; i < forest.length; i++ ) {
+			if( forest[i] != null )
+				memory.recycleGraph(forest[i]);
+			forest[i] = constructor.construct(src,indexes.subList(0,numSource));
+		}
+	}
+
+	@Override
+	public void setDestination(FastQueue<D> listDst) {
+		this.listDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		matches.reset();
+		bestSrc.resize(listDst.size);
+		bestDistance.resize(listDst.size);
+
+		if( numSource == 0 )
+			return;
+
+		BoofConcurrency.loopBlocks(0, listDst.size, searchers, new IntRangeObjectTask<Searcher>() {
+			@Override
+			public void process(Searcher searcher, int idx0, int idx1) {
+				searcher.search(idx0, idx1);
+			}
+		});
+
+		for( int i = 0; i < listDst.size; i++ ) {
+			if( bestSrc.data[i] >= 0 )
+				matches.grow().setAssociation(bestSrc.data[i],i,bestDistance.data[i]);
+		}
+	}
+
+	/**
+	 * Search algorithm and storage used by a single thread
+	 */
+	private class Searcher {
+		KdTreeSearchN search;
+		FastQueue<KdTreeResult> found = new FastQueue<KdTreeResult>(KdTreeResult.class,true);
+
+		public Searcher() {
+			if( maxNodesSearched <= 0 ) {
+				search = new KdTreeSearchNStandard();
+			} else {
+				search = new KdTreeSearchNBbf(maxNodesSearched);
+			}
+		}
+
+		/**
+		 * Finds the two nearest neighbors for destination features in the range and applies the ratio test
+		 */
+		public void search( int idx0 , int idx1 ) {
+			if( search instanceof KdTreeSearchNBbf ) {
+				((KdTreeSearchNBbf)search).setTrees(forest);
+			} else {
+				search.setTree(forest[0]);
+			}
+			search.setMaxDistance(maxDistanceSq < 0 ? Double.MAX_VALUE : maxDistanceSq);
+
+			int numNeighbors = ratioTest < 1.0 ? 2 : 1;
+			double ratioSq = ratioTest*ratioTest;
+
+			for( int i = idx0; i < idx1; i++ ) {
+				found.reset();
+				search.findNeighbor(listDst.data[i].value, numNeighbors, found);
+
+				bestSrc.data[i] = -1;
+				if( found.size == 0 )
+					continue;
+
+				// results are not sorted
+				KdTreeResult best = found.get(0);
+				KdTreeResult second = null;
+				if( found.size > 1 ) {
+					second = found.get(1);
+					if( second.distance < best.distance ) {
+						KdTreeResult tmp = best; best = second; second = tmp;
+					}
+				}
+
+				if( second != null && best.distance > ratioSq*second.distance )
+					continue;
+
+				bestSrc.data[i] = (Integer)best.node.data;
+				bestDistance.data[i] = best.distance;
+			}
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassociated.checkSource(matches,numSource);
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,listDst.size());
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		// NN uses Euclidean distance squared
+		this.maxDistanceSq = score < 0 ? score : score*score;
+	}
+
+	/**
+	 * Specifies the ratio test threshold.  A match is rejected if the Euclidean distance to the best source
+	 * feature is more than this fraction of the distance to the second best.  Set to 1.0 to disable.
+	 *
+	 * @param ratioTest Ratio test threshold. 0 &le; ratio &le; 1
+	 */
+	public void setRatioTest(double ratioTest) {
+		this.ratioTest = ratioTest;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
+	public int getFeatureDimension() {
+		return featureDimension;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.describe;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageBase;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Extension of {@link DescribeRegionPoint} which can describe a batch of features in a single call.  Setup which
+ * is the same for every feature is done once for the entire batch.  If
+ * {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true the batch is split between threads.
+ * </p>
+ *
+ * <p>
+ * The results are identical to calling {@link #process(double, double, double, double, TupleDesc)} on each
+ * feature in order.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface DescribeRegionPointBatch<T extends ImageBase, Desc extends TupleDesc>
+		extends DescribeRegionPoint<T,Desc>
+{
+	/**
+	 * Extracts a description of every feature.  {@link #setImage} must be called first.
+	 *
+	 * @param locations Location of each feature.
+	 * @param orientations Orientation of each feature in radians.
+	 * @param radii Radius of each feature in pixels.
+	 * @param descriptions (output) Resized to the number of features.  Element i is the description of feature i.
+	 *                     Must declare its elements using {@link #createDescription}.
+	 * @param success (output) Element i is true if a description was computed for feature i.  Can be null.
+	 */
+	void process( List<Point2D_F64> locations , GrowQueue_F64 orientations , GrowQueue_F64 radii ,
+				  FastQueue<Desc> descriptions , GrowQueue_B success );
+}
@@ -21,12 +21,20 @@ package boofcv.abst.feature.describe;
 import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.detect.interest.UnrollSiftScaleSpaceGradient;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.core.image.GConvertImage;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.TupleDesc_F64;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 /**
  * Allows you to use SIFT features independent of the SIFT detector.  A SIFT scale-space is computed with all octaves
@@ -36,7 +44,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class DescribeRegionPoint_SIFT <T extends ImageSingleBand>
-	implements DescribeRegionPoint<T,TupleDesc_F64>
+	implements DescribeRegionPointBatch<T,TupleDesc_F64>
 {
 	// expected type of input image.  All image types are converted to floats since that's what
 	// the scale-space requires
@@ -51,6 +59,9 @@ public class DescribeRegionPoint_SIFT <T extends ImageSingleBand>
 	// used as temporary storage for the input image if it needs to be converted
 	ImageFloat32 imageFloat = new ImageFloat32(1,1);
 
+	// copies of the descriptor for each thread
+	FastQueue<DescribePointSift<ImageFloat32>> workers;
+
 	public DescribeRegionPoint_SIFT(SiftScaleSpace scaleSpace,
 									DescribePointSift<ImageFloat32> describe,
 									Class<T> imageType ) {
@@ -58,6 +69,13 @@ public class DescribeRegionPoint_SIFT <T extends ImageSingleBand>
 		this.describe = describe;
 
 		this.imageType = ImageType.single(imageType);
+
+		workers = new FastQueue<DescribePointSift<ImageFloat32>>(1,(Class)DescribePointSift.class,true) {
+			@Override
+			protected DescribePointSift<ImageFloat32> createInstance() {
+				return DescribeRegionPoint_SIFT.this.describe.copy();
+			}
+		};
 	}
 
 	@Override
@@ -91,6 +109,53 @@ public class DescribeRegionPoint_SIFT <T extends ImageSingleBand>
 		return true;
 	}
 
+	@Override
+	public void process(final List<Point2D_F64> locations, final GrowQueue_F64 orientations,
+						final GrowQueue_F64 radii, final FastQueue<TupleDesc_F64> descriptions,
+						GrowQueue_B success)
+	{
+		int N = locations.size();
+		descriptions.resize(N);
+		if( success != null ) {
+			success.resize(N);
+			success.fill(true);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, N, workers, new IntRangeObjectTask<DescribePointSift<ImageFloat32>>() {
+				@Override
+				public void process(DescribePointSift<ImageFloat32> alg, int minInclusive, int maxExclusive) {
+					describe(alg, locations, orientations, radii, descriptions, minInclusive, maxExclusive);
+				}
+			});
+		} else {
+			describe(describe, locations, orientations, radii, descriptions, 0, N);
+		}
+	}
+
+	/**
+	 * Describes a range of features.  The image gradient is only changed when the scale-space image changes.
+	 */
+	private void describe( DescribePointSift<ImageFloat32> alg , List<Point2D_F64> locations ,
+						   GrowQueue_F64 orientations , GrowQueue_F64 radii ,
+						   FastQueue<TupleDesc_F64> descriptions , int start , int end ) {
+		UnrollSiftScaleSpaceGradient.ImageScale previous = null;
+
+		for( int i = start; i < end; i++ ) {
+			Point2D_F64 p = locations.get(i);
+			double sigma = radii.data[i] / BoofDefaults.SIFT_SCALE_TO_RADIUS;
+
+			UnrollSiftScaleSpaceGradient.ImageScale image = scaleSpace.lookup(sigma);
+			if( image != previous ) {
+				alg.setImageGradient(image.derivX,image.derivY);
+				previous = image;
+			}
+
+			alg.process(p.x/image.imageToInput,p.y/image.imageToInput,sigma/image.imageToInput,
+					orientations.data[i],descriptions.data[i]);
+		}
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -19,14 +19,22 @@
 package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointBrief;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 /**
  * @author Peter Abeles
  */
-public class WrapDescribeBrief<T extends ImageSingleBand> implements DescribeRegionPoint<T,TupleDesc_B> {
+public class WrapDescribeBrief<T extends ImageSingleBand> implements DescribeRegionPointBatch<T,TupleDesc_B> {
 
 	int length;
 	DescribePointBrief<T> alg;
@@ -54,6 +62,39 @@ public class WrapDescribeBrief<T extends ImageSingleBand> implements DescribeReg
 		return true;
 	}
 
+	/**
+	 * BRIEF doesn't modify its internal state while describing a feature so all threads share the same instance.
+	 */
+	@Override
+	public void process(final List<Point2D_F64> locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+						final FastQueue<TupleDesc_B> descriptions, GrowQueue_B success)
+	{
+		int N = locations.size();
+		descriptions.resize(N);
+		if( success != null ) {
+			success.resize(N);
+			success.fill(true);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, N, new IntRangeTask() {
+				@Override
+				public void process(int minInclusive, int maxExclusive) {
+					describe(locations, descriptions, minInclusive, maxExclusive);
+				}
+			});
+		} else {
+			describe(locations, descriptions, 0, N);
+		}
+	}
+
+	private void describe( List<Point2D_F64> locations , FastQueue<TupleDesc_B> descriptions , int start , int end ) {
+		for( int i = start; i < end; i++ ) {
+			Point2D_F64 p = locations.get(i);
+			alg.process(p.x, p.y, descriptions.data[i]);
+		}
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return false;
@@ -20,17 +20,25 @@ package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 
 /**
  * @author Peter Abeles
  */
 public class WrapDescribeSurf<T extends ImageSingleBand, II extends ImageSingleBand>
-		implements DescribeRegionPoint<T,BrightFeature> {
+		implements DescribeRegionPointBatch<T,BrightFeature> {
 
 	// computes SURF feature descriptor
 	DescribePointSurf<II> surf;
@@ -39,10 +47,20 @@ public class WrapDescribeSurf<T extends ImageSingleBand, II extends ImageSingleB
 
 	ImageType<T> imageType;
 
+	// copies of the descriptor for each thread
+	FastQueue<DescribePointSurf<II>> workers;
+
 	public WrapDescribeSurf(DescribePointSurf<II> surf , Class<T> imageType)
 	{
 		this.surf = surf;
 		this.imageType = ImageType.single(imageType);
+
+		workers = new FastQueue<DescribePointSurf<II>>(1,(Class)DescribePointSurf.class,true) {
+			@Override
+			protected DescribePointSurf<II> createInstance() {
+				return WrapDescribeSurf.this.surf.copy();
+			}
+		};
 	}
 
 	@Override
@@ -69,6 +87,41 @@ public class WrapDescribeSurf<T extends ImageSingleBand, II extends ImageSingleB
 		return true;
 	}
 
+	@Override
+	public void process(final List<Point2D_F64> locations, final GrowQueue_F64 orientations,
+						final GrowQueue_F64 radii, final FastQueue<BrightFeature> descriptions,
+						GrowQueue_B success)
+	{
+		int N = locations.size();
+		descriptions.resize(N);
+		if( success != null ) {
+			success.resize(N);
+			success.fill(true);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, N, workers, new IntRangeObjectTask<DescribePointSurf<II>>() {
+				@Override
+				public void process(DescribePointSurf<II> alg, int minInclusive, int maxExclusive) {
+					alg.setImage(ii);
+					describe(alg, locations, orientations, radii, descriptions, minInclusive, maxExclusive);
+				}
+			});
+		} else {
+			describe(surf, locations, orientations, radii, descriptions, 0, N);
+		}
+	}
+
+	private static <II extends ImageSingleBand>
+	void describe( DescribePointSurf<II> alg , List<Point2D_F64> locations , GrowQueue_F64 orientations ,
+				   GrowQueue_F64 radii , FastQueue<BrightFeature> descriptions , int start , int end ) {
+		for( int i = start; i < end; i++ ) {
+			Point2D_F64 p = locations.get(i);
+			alg.describe(p.x, p.y, orientations.data[i], radii.data[i]/BoofDefaults.SURF_SCALE_TO_RADIUS,
+					descriptions.data[i]);
+		}
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
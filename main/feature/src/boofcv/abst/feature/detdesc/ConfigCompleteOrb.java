@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.abst.feature.detect.interest.ConfigFast;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.feature.detdesc.CompleteOrb;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link CompleteOrb}.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigCompleteOrb implements Configuration {
+
+	/**
+	 * Configuration for the FAST corner detector
+	 */
+	public ConfigFast fast = new ConfigFast(20,9);
+
+	/**
+	 * Non-maximum suppression and the total number of features across all pyramid layers.  The ignore border
+	 * is replaced by {@link #regionRadius}.
+	 */
+	public ConfigGeneralDetector detector = new ConfigGeneralDetector(500,3,1);
+
+	/**
+	 * Number of layers in the image pyramid.  Default is 8.
+	 */
+	public int numLayers = 8;
+
+	/**
+	 * Change in scale between two adjacent pyramid layers.  Default is 1.2.
+	 */
+	public double scaleFactor = 1.2;
+
+	/**
+	 * Radius of the region used to compute orientation and the BRIEF descriptor.  Default is 15.
+	 */
+	public int regionRadius = 15;
+
+	/**
+	 * Number of bits in the BRIEF descriptor.  Default is 256.
+	 */
+	public int numPoints = 256;
+
+	/**
+	 * Number of discrete orientations that steered BRIEF is precomputed for.  Default is 30.
+	 */
+	public int numAngles = 30;
+
+	/**
+	 * Amount of blur applied to the image before sampling BRIEF.  Default is -1.
+	 */
+	public double blurSigma = -1;
+
+	/**
+	 * Radius of blur applied to the image before sampling BRIEF.  Default is 2.
+	 */
+	public int blurRadius = 2;
+
+	public ConfigCompleteOrb( int maxFeatures ) {
+		detector.maxFeatures = maxFeatures;
+	}
+
+	public ConfigCompleteOrb() {
+	}
+
+	@Override
+	public void checkValidity() {
+		fast.checkValidity();
+		detector.checkValidity();
+
+		if( numLayers < 1 )
+			throw new IllegalArgumentException("There must be at least one layer");
+		if( scaleFactor < 1 )
+			throw new IllegalArgumentException("scaleFactor must be >= 1");
+		if( regionRadius < 1 )
+			throw new IllegalArgumentException("regionRadius must be >= 1");
+		if( numAngles < 1 )
+			throw new IllegalArgumentException("numAngles must be >= 1");
+	}
+}
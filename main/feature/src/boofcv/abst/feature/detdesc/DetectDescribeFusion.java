@@ -19,18 +19,21 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
 import org.ddogleg.struct.GrowQueue_F64;
 
 /**
  * Wrapper class around independent feature detectors, region orientation, and descriptors, that allow
  * them to be used as a single integrated unit. Providing an algorithm for estimating orientation is
- * optional.  If one is provided, any orientation estimate provided by the detector is ignored.
+ * optional.  If one is provided, any orientation estimate provided by the detector is ignored.  If the
+ * descriptor implements {@link DescribeRegionPointBatch} then all the features are described with a single call.
  *
  * @see InterestPointDetector
  * @see OrientationImage
@@ -55,6 +58,8 @@ public class DetectDescribeFusion<T extends ImageSingleBand, TD extends TupleDes
 	private GrowQueue_F64 featureRadiuses = new GrowQueue_F64(10);
 	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 	private FastQueue<Point2D_F64> location = new FastQueue<Point2D_F64>(10,Point2D_F64.class,false);
+	// which features were successfully described by a batch descriptor
+	private GrowQueue_B success = new GrowQueue_B(10);
 
 	/**
 	 * Configures the algorithm.
@@ -111,6 +116,11 @@ public class DetectDescribeFusion<T extends ImageSingleBand, TD extends TupleDes
 
 		int N = detector.getNumberOfFeatures();
 
+		if( describe instanceof DescribeRegionPointBatch ) {
+			describeBatch(N);
+			return;
+		}
+
 		for( int i = 0; i < N; i++ ) {
 			Point2D_F64 p = detector.getLocation(i);
 			double radius = detector.getRadius(i);
@@ -131,6 +141,50 @@ public class DetectDescribeFusion<T extends ImageSingleBand, TD extends TupleDes
 		}
 	}
 
+	/**
+	 * Describes all the features using a single call then removes the ones which could not be described
+	 */
+	private void describeBatch( int N ) {
+		for( int i = 0; i < N; i++ ) {
+			Point2D_F64 p = detector.getLocation(i);
+			double radius = detector.getRadius(i);
+			double yaw = detector.getOrientation(i);
+
+			if( orientation != null ) {
+				orientation.setObjectRadius(radius);
+				yaw = orientation.compute(p.x,p.y);
+			}
+
+			featureRadiuses.push(radius);
+			featureAngles.push(yaw);
+			location.add(p);
+		}
+
+		((DescribeRegionPointBatch<T,TD>)describe).process(location.toList(),featureAngles,featureRadiuses,
+				descs,success);
+
+		// remove features which could not be described while preserving the order
+		int count = 0;
+		for( int i = 0; i < N; i++ ) {
+			if( !success.data[i] )
+				continue;
+			if( count != i ) {
+				// swap so that the descriptor instances are recycled
+				TD tmp = descs.data[count];
+				descs.data[count] = descs.data[i];
+				descs.data[i] = tmp;
+				location.data[count] = location.data[i];
+				featureRadiuses.data[count] = featureRadiuses.data[i];
+				featureAngles.data[count] = featureAngles.data[i];
+			}
+			count++;
+		}
+		descs.size = count;
+		location.size = count;
+		featureRadiuses.size = count;
+		featureAngles.size = count;
+	}
+
 	@Override
 	public int getNumberOfFeatures() {
 		return location.size();
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.feature.detdesc.CompleteOrb;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.point.Point2D_F64;
+
+/**
+ * Wrapper around {@link CompleteOrb} for {@link DetectDescribePoint}.
+ *
+ * @author Peter Abeles
+ */
+public class DetectDescribe_CompleteOrb<T extends ImageSingleBand>
+		implements DetectDescribePoint<T,TupleDesc_B> {
+
+	CompleteOrb<T> alg;
+
+	public DetectDescribe_CompleteOrb(CompleteOrb<T> alg) {
+		this.alg = alg;
+	}
+
+	@Override
+	public TupleDesc_B createDescription() {
+		return alg.getDescribe().createFeature();
+	}
+
+	@Override
+	public TupleDesc_B getDescription(int index) {
+		return alg.getDescriptions().data[index];
+	}
+
+	@Override
+	public Class<TupleDesc_B> getDescriptionType() {
+		return TupleDesc_B.class;
+	}
+
+	@Override
+	public void detect(T input) {
+		alg.process(input);
+	}
+
+	@Override
+	public int getNumberOfFeatures() {
+		return alg.getDescriptions().size;
+	}
+
+	@Override
+	public Point2D_F64 getLocation(int featureIndex) {
+		return alg.getLocations().get(featureIndex);
+	}
+
+	@Override
+	public double getRadius(int featureIndex) {
+		return alg.getLocations().get(featureIndex).scale;
+	}
+
+	@Override
+	public double getOrientation(int featureIndex) {
+		return alg.getOrientations().get(featureIndex);
+	}
+
+	@Override
+	public boolean hasScale() {
+		return true;
+	}
+
+	@Override
+	public boolean hasOrientation() {
+		return true;
+	}
+
+	public CompleteOrb<T> getAlgorithm() {
+		return alg;
+	}
+}
@@ -22,18 +22,23 @@ import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeatureQueue;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
 
 import java.util.List;
 
 /**
- * Wrapper around SURF algorithms for {@link DetectDescribePoint}.
+ * Wrapper around SURF algorithms for {@link DetectDescribePoint}.  If {@link BoofConcurrency#USE_CONCURRENT}
+ * is true then the orientation and description of features is split between threads, with each thread using
+ * its own copy of the algorithms.  Results are identical to the single threaded version.
  *
  * @link FastHessianFeatureDetector
  * @link OrientationIntegral
@@ -63,6 +68,9 @@ public class WrapDetectDescribeSurf
 	// orientation of features
 	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 
+	// copies of orientation and describe algorithms for each thread
+	private FastQueue<Worker> workers;
+
 	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
 								  OrientationIntegral<II> orientation,
 								  DescribePointSurf<II> describe)
@@ -72,6 +80,13 @@ public class WrapDetectDescribeSurf
 		this.describe = describe;
 
 		features = new SurfFeatureQueue(describe.getDescriptionLength());
+
+		workers = new FastQueue<Worker>(1,(Class)Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker();
+			}
+		};
 	}
 
 	@Override
@@ -99,8 +114,6 @@ public class WrapDetectDescribeSurf
 		ii = GIntegralImageOps.transform(input, ii);
 		orientation.setImage(ii);
 		describe.setImage(ii);
-		features.reset();
-		featureAngles.reset();
 
 		// detect features
 		detector.detect(ii);
@@ -108,14 +121,37 @@ public class WrapDetectDescribeSurf
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
 
-		for( int i = 0; i < foundPoints.size(); i++ ) {
+		int N = foundPoints.size();
+		features.resize(N);
+		featureAngles.resize(N);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, N, workers, new IntRangeObjectTask<Worker>() {
+				@Override
+				public void process(Worker worker, int minInclusive, int maxExclusive) {
+					worker.orientation.setImage(ii);
+					worker.describe.setImage(ii);
+					describe(worker.orientation, worker.describe, minInclusive, maxExclusive);
+				}
+			});
+		} else {
+			describe(orientation, describe, 0, N);
+		}
+	}
+
+	/**
+	 * Computes the orientation and description of features inside the specified range
+	 */
+	private void describe( OrientationIntegral<II> orientation , DescribePointSurf<II> describe ,
+						   int start , int end ) {
+		for( int i = start; i < end; i++ ) {
 			ScalePoint p = foundPoints.get(i);
 			double radius = p.scale* BoofDefaults.SURF_SCALE_TO_RADIUS;
 
 			orientation.setObjectRadius(radius);
 			double angle = orientation.compute(p.x,p.y);
-			describe.describe(p.x,p.y, angle, p.scale, features.grow());
-			featureAngles.push(angle);
+			describe.describe(p.x,p.y, angle, p.scale, features.data[i]);
+			featureAngles.data[i] = angle;
 		}
 	}
 
@@ -148,4 +184,12 @@ public class WrapDetectDescribeSurf
 	public boolean hasOrientation() {
 		return true;
 	}
+
+	/**
+	 * Algorithms used by a single thread
+	 */
+	private class Worker {
+		OrientationIntegral<II> orientation = WrapDetectDescribeSurf.this.orientation.copy();
+		DescribePointSurf<II> describe = WrapDetectDescribeSurf.this.describe.copy();
+	}
 }
@@ -33,6 +33,29 @@ public class ConfigGeneralDetector extends ConfigExtract {
 	 */
 	public int maxFeatures = -1;
 
+	/**
+	 * How a subset of the found features is selected.  BEST and ANMS only remove features when more than
+	 * 'maxFeatures' are found.  BUCKET always enforces the quota inside each cell, even if 'maxFeatures' &le; 0,
+	 * and then limits the total to 'maxFeatures'.  Default is BEST.
+	 */
+	public SelectLimitType selectLimit = SelectLimitType.BEST;
+
+	/**
+	 * Width of a grid cell in pixels when BUCKET selection is used.  Default is 32.
+	 */
+	public int bucketCellSize = 32;
+
+	/**
+	 * Maximum number of features inside a single grid cell when BUCKET selection is used.  Default is 4.
+	 */
+	public int bucketQuota = 4;
+
+	/**
+	 * A feature is only suppressed by features which are more intense by this factor when ANMS selection is used.
+	 * Default is 0.9.
+	 */
+	public float anmsRobust = 0.9f;
+
 	public ConfigGeneralDetector(int maxFeatures ,
 								 int radius, float threshold, int ignoreBorder, boolean useStrictRule,
 								 boolean detectMinimums, boolean detectMaximums) {
@@ -59,4 +82,23 @@ public class ConfigGeneralDetector extends ConfigExtract {
 
 	public ConfigGeneralDetector() {
 	}
+
+	/**
+	 * Copies the feature selection settings from 'orig'
+	 */
+	public void setSelectTo( ConfigGeneralDetector orig ) {
+		this.selectLimit = orig.selectLimit;
+		this.bucketCellSize = orig.bucketCellSize;
+		this.bucketQuota = orig.bucketQuota;
+		this.anmsRobust = orig.anmsRobust;
+	}
+
+	@Override
+	public void checkValidity() {
+		super.checkValidity();
+		if( bucketCellSize <= 0 )
+			throw new IllegalArgumentException("Bucket cell size must be >= 1");
+		if( bucketQuota <= 0 )
+			throw new IllegalArgumentException("Bucket quota must be >= 1");
+	}
 }
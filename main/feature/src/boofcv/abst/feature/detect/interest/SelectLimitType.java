@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detect.interest;
+
+/**
+ * Specifies how a subset of the detected features is selected when more than the maximum number are found.
+ *
+ * @author Peter Abeles
+ */
+public enum SelectLimitType {
+	/**
+	 * Selects the most intense features across the entire image
+	 *
+	 * @see boofcv.alg.feature.detect.extract.SelectNBestFeatures
+	 */
+	BEST,
+	/**
+	 * Breaks the image up into a grid and selects the most intense features inside of each cell, spreading
+	 * the features out across the image.
+	 *
+	 * @see boofcv.alg.feature.detect.extract.SelectBucketFeatures
+	 */
+	BUCKET,
+	/**
+	 * Adaptive non-maximal suppression.  Selects the features which are the furthest away from a more
+	 * intense feature.
+	 *
+	 * @see boofcv.alg.feature.detect.extract.SelectAnmsFeatures
+	 */
+	ANMS
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Wrapper around block matching disparity algorithms which operate on census transformed images.  The
+ * left and right images are census transformed internally before being passed to the algorithm, which
+ * then scores regions using the Hamming distance.
+ *
+ * @param <C> Type of census transformed image. {@link ImageSInt32} for 5x5 and {@link ImageSInt64} for 7x7.
+ * @param <D> Type of disparity image
+ *
+ * @author Peter Abeles
+ */
+public class WrapDisparityCensusRect<C extends ImageSingleBand, D extends ImageSingleBand>
+		implements StereoDisparity<ImageUInt8,D>
+{
+	DisparityScoreRowFormat<C,D> alg;
+	D disparity;
+
+	// census transform of the left and right images
+	C censusLeft;
+	C censusRight;
+
+	public WrapDisparityCensusRect(DisparityScoreRowFormat<C,D> alg) {
+		this.alg = alg;
+
+		Class<C> censusType = alg.getInputType();
+		if( censusType != ImageSInt32.class && censusType != ImageSInt64.class )
+			throw new IllegalArgumentException("Unsupported census image type: "+censusType.getSimpleName());
+
+		censusLeft = GeneralizedImageOps.createSingleBand(censusType,1,1);
+		censusRight = GeneralizedImageOps.createSingleBand(censusType,1,1);
+	}
+
+	@Override
+	public void process(ImageUInt8 imageLeft, ImageUInt8 imageRight) {
+		if( disparity == null || disparity.width != imageLeft.width || disparity.height != imageLeft.height )  {
+			// make sure the image borders are marked as invalid
+			disparity = GeneralizedImageOps.createSingleBand(alg.getDisparityType(),imageLeft.width,imageLeft.height);
+			GImageMiscOps.fill(disparity, getMaxDisparity() + 1);
+		}
+
+		censusLeft.reshape(imageLeft.width,imageLeft.height);
+		censusRight.reshape(imageRight.width,imageRight.height);
+
+		if( censusLeft instanceof ImageSInt32 ) {
+			CensusTransform.region5x5(imageLeft, (ImageSInt32) censusLeft);
+			CensusTransform.region5x5(imageRight, (ImageSInt32) censusRight);
+		} else {
+			CensusTransform.region7x7(imageLeft, (ImageSInt64) censusLeft);
+			CensusTransform.region7x7(imageRight, (ImageSInt64) censusRight);
+		}
+
+		alg.process(censusLeft,censusRight,disparity);
+	}
+
+	public D getDisparity() {
+		return disparity;
+	}
+
+	@Override
+	public int getBorderX() {
+		return alg.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return alg.getBorderY();
+	}
+
+	@Override
+	public int getMinDisparity() {
+		return alg.getMinDisparity();
+	}
+
+	@Override
+	public int getMaxDisparity() {
+		return alg.getMaxDisparity();
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+
+	@Override
+	public Class<D> getDisparityType() {
+		return alg.getDisparityType();
+	}
+
+	public DisparityScoreRowFormat<C,D> getAlg() {
+		return alg;
+	}
+}
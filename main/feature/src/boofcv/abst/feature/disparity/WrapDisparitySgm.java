@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Wrapper around {@link SgmStereoDisparity} for {@link StereoDisparity}.  The disparity type determines
+ * if the disparity is found to pixel or sub-pixel accuracy.
+ *
+ * @author Peter Abeles
+ */
+public class WrapDisparitySgm<T extends ImageSingleBand, D extends ImageSingleBand>
+		implements StereoDisparity<T,D>
+{
+	SgmStereoDisparity<T> alg;
+	Class<D> disparityType;
+	D disparity;
+
+	/**
+	 * @param alg The SGM algorithm
+	 * @param disparityType {@link ImageUInt8} for pixel accuracy or {@link ImageFloat32} for sub-pixel accuracy
+	 */
+	public WrapDisparitySgm( SgmStereoDisparity<T> alg , Class<D> disparityType ) {
+		if( disparityType != ImageUInt8.class && disparityType != ImageFloat32.class )
+			throw new IllegalArgumentException("Unsupported disparity type");
+		this.alg = alg;
+		this.disparityType = disparityType;
+	}
+
+	@Override
+	public void process(T imageLeft, T imageRight) {
+		if( disparity == null || disparity.width != imageLeft.width || disparity.height != imageLeft.height )  {
+			disparity = GeneralizedImageOps.createSingleBand(disparityType,imageLeft.width,imageLeft.height);
+		}
+
+		if( disparity instanceof ImageUInt8 )
+			alg.process(imageLeft, imageRight, (ImageUInt8)disparity);
+		else
+			alg.process(imageLeft, imageRight, (ImageFloat32)disparity);
+	}
+
+	@Override
+	public D getDisparity() {
+		return disparity;
+	}
+
+	@Override
+	public int getMinDisparity() {
+		return alg.getMinDisparity();
+	}
+
+	@Override
+	public int getMaxDisparity() {
+		return alg.getMaxDisparity();
+	}
+
+	@Override
+	public int getBorderX() {
+		return 0;
+	}
+
+	@Override
+	public int getBorderY() {
+		return 0;
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return alg.getInputType();
+	}
+
+	@Override
+	public Class<D> getDisparityType() {
+		return disparityType;
+	}
+
+	public SgmStereoDisparity<T> getAlg() {
+		return alg;
+	}
+}
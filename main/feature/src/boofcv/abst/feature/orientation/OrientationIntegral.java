@@ -40,4 +40,12 @@ public interface OrientationIntegral<II extends ImageSingleBand> extends RegionO
 	 * @return Type of image which can be processed
 	 */
 	public Class<II> getImageType();
+
+	/**
+	 * Creates a new instance with the same configuration.  Internal work space is not shared, allowing the
+	 * copy to be used in a different thread.
+	 *
+	 * @return Copy of this algorithm
+	 */
+	public OrientationIntegral<II> copy();
 }
@@ -81,6 +81,112 @@ public class DescriptorDistance {
 		return total;
 	}
 
+	/**
+	 * Euclidean distance squared between two descriptors stored inside of arrays.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in each descriptor
+	 * @return Euclidean distance squared
+	 */
+	public static double euclideanSq( double[] a , int offsetA , double[] b , int offsetB , int length ) {
+		double total = 0;
+		for( int i = 0; i < length; i++ ) {
+			double d = a[offsetA+i]-b[offsetB+i];
+			total += d*d;
+		}
+
+		return total;
+	}
+
+	/**
+	 * Euclidean distance squared between two descriptors stored inside of arrays.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in each descriptor
+	 * @return Euclidean distance squared
+	 */
+	public static double euclideanSq( float[] a , int offsetA , float[] b , int offsetB , int length ) {
+		float total = 0;
+		for( int i = 0; i < length; i++ ) {
+			float d = a[offsetA+i]-b[offsetB+i];
+			total += d*d;
+		}
+
+		return total;
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between a single descriptor and every descriptor in the packed array.
+	 *
+	 * @param a The descriptor
+	 * @param list Packed array of descriptors
+	 * @param scores (Output) Distance to each descriptor in the list.  Must be at least list.size() long.
+	 */
+	public static void euclideanSq( TupleDesc_F64 a , PackedTupleArray_F64 list , double[] scores ) {
+		final int N = list.getDOF();
+		final int size = list.size();
+		for( int i = 0, offset = 0; i < size; i++, offset += N ) {
+			scores[i] = euclideanSq(a.value,0,list.data,offset,N);
+		}
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between a single descriptor and every descriptor in the packed array.
+	 *
+	 * @param a The descriptor
+	 * @param list Packed array of descriptors
+	 * @param scores (Output) Distance to each descriptor in the list.  Must be at least list.size() long.
+	 */
+	public static void euclideanSq( TupleDesc_F32 a , PackedTupleArray_F32 list , double[] scores ) {
+		final int N = list.getDOF();
+		final int size = list.size();
+		for( int i = 0, offset = 0; i < size; i++, offset += N ) {
+			scores[i] = euclideanSq(a.value,0,list.data,offset,N);
+		}
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between descriptor 'indexA' in 'listA' and every descriptor in 'listB'.
+	 *
+	 * @param listA Packed array containing the source descriptor
+	 * @param indexA Index of the source descriptor
+	 * @param listB Packed array of descriptors it's compared against
+	 * @param scores (Output) Distance to each descriptor in listB.  Must be at least listB.size() long.
+	 */
+	public static void euclideanSq( PackedTupleArray_F64 listA , int indexA ,
+									PackedTupleArray_F64 listB , double[] scores ) {
+		final int N = listB.getDOF();
+		final int size = listB.size();
+		final int offsetA = listA.getOffset(indexA);
+		for( int i = 0, offset = 0; i < size; i++, offset += N ) {
+			scores[i] = euclideanSq(listA.data,offsetA,listB.data,offset,N);
+		}
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between descriptor 'indexA' in 'listA' and every descriptor in 'listB'.
+	 *
+	 * @param listA Packed array containing the source descriptor
+	 * @param indexA Index of the source descriptor
+	 * @param listB Packed array of descriptors it's compared against
+	 * @param scores (Output) Distance to each descriptor in listB.  Must be at least listB.size() long.
+	 */
+	public static void euclideanSq( PackedTupleArray_F32 listA , int indexA ,
+									PackedTupleArray_F32 listB , double[] scores ) {
+		final int N = listB.getDOF();
+		final int size = listB.size();
+		final int offsetA = listA.getOffset(indexA);
+		for( int i = 0, offset = 0; i < size; i++, offset += N ) {
+			scores[i] = euclideanSq(listA.data,offsetA,listB.data,offset,N);
+		}
+	}
+
 	/**
 	 * Correlation score
 	 *
@@ -202,6 +308,58 @@ public class DescriptorDistance {
 		return score;
 	}
 
+	/**
+	 * Computes the hamming distance between two binary descriptors stored inside of long arrays.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of longs in each descriptor
+	 * @return The hamming distance
+	 */
+	public static int hamming( long[] a , int offsetA , long[] b , int offsetB , int length ) {
+		int score = 0;
+		for( int i = 0; i < length; i++ ) {
+			score += Long.bitCount(a[offsetA+i] ^ b[offsetB+i]);
+		}
+		return score;
+	}
+
+	/**
+	 * Computes the hamming distance between descriptor 'indexA' in 'listA' and every descriptor in 'listB'.
+	 *
+	 * @param listA Packed array containing the source descriptor
+	 * @param indexA Index of the source descriptor
+	 * @param listB Packed array of descriptors it's compared against
+	 * @param scores (Output) Distance to each descriptor in listB.  Must be at least listB.size() long.
+	 */
+	public static void hamming( PackedTupleArray_B listA , int indexA ,
+								PackedTupleArray_B listB , int[] scores ) {
+		hamming(listA.data,listA.getOffset(indexA),listB,scores);
+	}
+
+	/**
+	 * Computes the hamming distance between a single descriptor and every descriptor in the packed array.
+	 *
+	 * @param a Array containing the descriptor.  Encoded the same as in {@link PackedTupleArray_B}.
+	 * @param offsetA Index of the descriptor's first element
+	 * @param list Packed array of descriptors
+	 * @param scores (Output) Distance to each descriptor in the list.  Must be at least list.size() long.
+	 */
+	public static void hamming( long[] a , int offsetA , PackedTupleArray_B list , int[] scores ) {
+		final int N = list.getNumLongs();
+		final int size = list.size();
+		final long[] data = list.data;
+		for( int i = 0, offset = 0; i < size; i++, offset += N ) {
+			int score = 0;
+			for( int j = 0; j < N; j++ ) {
+				score += Long.bitCount(a[offsetA+j] ^ data[offset+j]);
+			}
+			scores[i] = score;
+		}
+	}
+
 	/**
 	 * Computes the hamming distance.  A bit = 0 is a match and 1 is not match
 	 *
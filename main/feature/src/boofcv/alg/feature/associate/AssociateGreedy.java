@@ -39,6 +39,18 @@ import org.ddogleg.struct.GrowQueue_I32;
  * associated with feature in src.
  * </p>
  *
+ * <p>
+ * Optionally, a ratio test can be used to reject ambiguous associations.  An association is rejected if the
+ * best score is not significantly better than the second best score for the same src feature.  Only valid for
+ * scores where zero is the best possible score.
+ * </p>
+ *
+ * <p>
+ * Instead of saving the score for every possible pair, only the best and second best score for each
+ * src feature and each dst feature are saved.  Memory usage is O(N+M) where N and M are the number of
+ * src and dst features.
+ * </p>
+ *
  * @param <D> Feature description type.
  *
  * @author Peter Abeles
@@ -46,17 +58,22 @@ import org.ddogleg.struct.GrowQueue_I32;
 public class AssociateGreedy<D> {
 
 	// computes association score
-	private ScoreAssociation<D> score;
+	protected ScoreAssociation<D> score;
 	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
+	protected double maxFitError = Double.MAX_VALUE;
+	// the best score must be less than or equal to this fraction of the second best score
+	protected double ratioTest = 1.0;
 	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
 	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
-	// various
-	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
+	// second best score for each src feature
+	protected GrowQueue_F64 secondBest = new GrowQueue_F64(100);
+	// best and second best score for each dst feature.  Used by backwards validation
+	protected GrowQueue_F64 bestScoreDst = new GrowQueue_F64(100);
+	protected GrowQueue_F64 secondScoreDst = new GrowQueue_F64(100);
 	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+	protected boolean backwardsValidation;
 
 	/**
 	 * Configure association
@@ -79,31 +96,28 @@ public class AssociateGreedy<D> {
 	public void associate( FastQueue<D> src ,
 						   FastQueue<D> dst )
 	{
-		fitQuality.reset();
-		pairs.reset();
-		workBuffer.reset();
-
-//		System.out.println("Associate: "+src.size+"*"+dst.size+" = "+(src.size*dst.size)+" or "+(src.size*dst.size*8/1024/1024)+"MB");
-		fitQuality.setMaxSize(src.size);
-		workBuffer.setMaxSize(src.size*dst.size);
-		for( int i = 0; i < src.size; i++ ) {
-			D a = src.data[i];
-			double bestScore = maxFitError;
-			int bestIndex = -1;
+		fitQuality.resize(src.size);
+		pairs.resize(src.size);
+		secondBest.resize(src.size);
 
-			for( int j = 0; j < dst.size; j++ ) {
-				D b = dst.data[j];
+		if( backwardsValidation ) {
+			bestScoreDst.resize(dst.size);
+			secondScoreDst.resize(dst.size);
+			reset(bestScoreDst,secondScoreDst);
+		}
 
-				double fit = score.score(a,b);
-				workBuffer.push(fit);
+		scoreAll(src, dst);
 
-				if( fit <= bestScore ) {
-					bestIndex = j;
-					bestScore = fit;
+		if( ratioTest < 1.0 ) {
+			for( int i = 0; i < src.size; i++ ) {
+				if( pairs.data[i] == -1 )
+					continue;
+
+				if( fitQuality.data[i] > ratioTest*secondBest.data[i] ) {
+					pairs.data[i] = -1;
+					fitQuality.data[i] = Double.MAX_VALUE;
 				}
 			}
-			pairs.push(bestIndex);
-			fitQuality.push(bestScore);
 		}
 
 		if( backwardsValidation ) {
@@ -112,16 +126,91 @@ public class AssociateGreedy<D> {
 				if( match == -1 )
 					continue;
 
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
+				// the src feature must be the only one with the best score for its dst feature
+				double scoreToBeat = fitQuality.data[i];
+				if( bestScoreDst.data[match] < scoreToBeat || secondScoreDst.data[match] <= scoreToBeat ) {
+					pairs.data[i] = -1;
+					fitQuality.data[i] = Double.MAX_VALUE;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the score for every possible pair and saves the best matches.
+	 */
+	protected void scoreAll( FastQueue<D> src , FastQueue<D> dst ) {
+		scoreRows(src, dst, 0, src.size, bestScoreDst.data, secondScoreDst.data);
+	}
+
+	/**
+	 * Finds the best match in dst for each src feature in the specified range.  If backwards validation is
+	 * being used then the best and second best scores for each dst feature are also updated.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 * @param idx0 First src feature.
+	 * @param idx1 One past the last src feature.
+	 * @param bestDst Best score for each dst feature.  Modified.
+	 * @param secondDst Second best score for each dst feature.  Modified.
+	 */
+	protected void scoreRows( FastQueue<D> src , FastQueue<D> dst , int idx0 , int idx1 ,
+							  double[] bestDst , double[] secondDst ) {
+		for( int i = idx0; i < idx1; i++ ) {
+			D a = src.data[i];
+			double bestScore = Double.MAX_VALUE;
+			double secondScore = Double.MAX_VALUE;
+			int bestIndex = -1;
+
+			for( int j = 0; j < dst.size; j++ ) {
+				D b = dst.data[j];
+
+				double fit = score.score(a,b);
+
+				if( fit <= bestScore ) {
+					secondScore = bestScore;
+					bestIndex = j;
+					bestScore = fit;
+				} else if( fit < secondScore ) {
+					secondScore = fit;
+				}
 
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
-					}
+				if( backwardsValidation ) {
+					update(bestDst, secondDst, j, fit);
 				}
 			}
+
+			if( bestScore > maxFitError ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+			} else {
+				pairs.data[i] = bestIndex;
+				fitQuality.data[i] = bestScore;
+			}
+			secondBest.data[i] = secondScore;
+		}
+	}
+
+	/**
+	 * Sets the best and second best scores to their initial values.
+	 */
+	protected static void reset( GrowQueue_F64 best , GrowQueue_F64 second ) {
+		for( int i = 0; i < best.size; i++ ) {
+			best.data[i] = Double.MAX_VALUE;
+			second.data[i] = Double.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Updates the best and second best score at the specified index with a new score.  If the score is equal
+	 * to the best score then the second best score is set to the same value.
+	 */
+	protected static void update( double[] best , double[] second , int index , double fit ) {
+		if( fit < best[index] ) {
+			second[index] = best[index];
+			best[index] = fit;
+		} else if( fit < second[index] ) {
+			second[index] = fit;
 		}
 	}
 
@@ -150,6 +239,22 @@ public class AssociateGreedy<D> {
 		this.maxFitError = maxFitError;
 	}
 
+	/**
+	 * Specifies the ratio test threshold.  An association is rejected if the best score is more than this
+	 * fraction of the second best score.  Set to 1.0 to disable.
+	 *
+	 * @param ratioTest Ratio test threshold. 0 &le; ratio &le; 1
+	 */
+	public void setRatioTest(double ratioTest) {
+		if( ratioTest < 1.0 && !score.getScoreType().isZeroBest() )
+			throw new IllegalArgumentException("The ratio test can only be used with scores where zero is best");
+		this.ratioTest = ratioTest;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
 	public ScoreAssociation<D> getScore() {
 		return score;
 	}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link AssociateGreedy}.  The src features are split into blocks and the scores
+ * for each block are computed in their own thread.  Each thread keeps track of the best and second best score for
+ * each dst feature, which are merged together once all the blocks are finished.  Results are identical to the
+ * single threaded version.  The score function is shared between threads and must not have internal state.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedy_MT<D> extends AssociateGreedy<D> {
+
+	// best and second best scores for each dst feature in each block
+	private FastQueue<DstScores> workspace = new FastQueue<DstScores>(DstScores.class,true);
+
+	/**
+	 * See {@link AssociateGreedy#AssociateGreedy} for a description of each parameter.
+	 */
+	public AssociateGreedy_MT(ScoreAssociation<D> score, boolean backwardsValidation) {
+		super(score, backwardsValidation);
+	}
+
+	@Override
+	protected void scoreAll( final FastQueue<D> src , final FastQueue<D> dst ) {
+		BoofConcurrency.loopBlocks(0, src.size, workspace, new IntRangeObjectTask<DstScores>() {
+			@Override
+			public void process(DstScores scores, int idx0, int idx1) {
+				if( backwardsValidation ) {
+					scores.best.resize(dst.size);
+					scores.second.resize(dst.size);
+					reset(scores.best, scores.second);
+				}
+				scoreRows(src, dst, idx0, idx1, scores.best.data, scores.second.data);
+			}
+		});
+
+		if( backwardsValidation ) {
+			for( int i = 0; i < workspace.size; i++ ) {
+				DstScores scores = workspace.get(i);
+				for( int j = 0; j < dst.size; j++ ) {
+					update(bestScoreDst.data, secondScoreDst.data, j, scores.best.data[j]);
+					update(bestScoreDst.data, secondScoreDst.data, j, scores.second.data[j]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Best and second best scores for each dst feature
+	 */
+	public static class DstScores {
+		public GrowQueue_F64 best = new GrowQueue_F64();
+		public GrowQueue_F64 second = new GrowQueue_F64();
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociation;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Two features are only considered for association if they are within the specified max distance
+ * of each other.  Produces the same results as {@link AssociateMaxDistanceNaive}, but the feature locations are
+ * first placed into a grid with cells that are at least maxDistance wide.  Only features inside of the cell
+ * containing the active feature and its neighbors are scored.  When the max distance is small relative to
+ * the spread of features this greatly reduces the number of times the score function is called.
+ * </p>
+ *
+ * <p>
+ * Any {@link ScoreAssociation} can be used since the search structure only depends on feature location.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateMaxDistanceGrid<D> extends AssociateMaxDistanceNaive<D> {
+
+	// spatial index of source and destination features
+	protected Grid gridSrc = new Grid();
+	protected Grid gridDst = new Grid();
+
+	// location of the active feature
+	private Point2D_F64 active;
+
+	/**
+	 * Specifies score mechanism
+	 *
+	 * @param scoreAssociation How features are scored.
+	 */
+	public AssociateMaxDistanceGrid(ScoreAssociation<D> scoreAssociation,
+									boolean backwardsValidation,
+									double maxError )
+	{
+		super(scoreAssociation,backwardsValidation,maxError);
+	}
+
+	public AssociateMaxDistanceGrid(ScoreAssociation<D> scoreAssociation,
+									boolean backwardsValidation,
+									double maxError ,
+									double maxDistance )
+	{
+		super(scoreAssociation,backwardsValidation,maxError,maxDistance);
+	}
+
+	@Override
+	protected void initializeSearch(FastQueue<Point2D_F64> locationSrc, FastQueue<Point2D_F64> locationDst) {
+		// derived from the squared distance since the max distance is unbounded if it was never specified
+		double cellSize = Math.sqrt(maxDistance);
+		gridDst.build(locationDst,cellSize);
+		gridSrc.build(locationSrc,cellSize);
+	}
+
+	@Override
+	protected void setActiveSource(Point2D_F64 p) {
+		super.setActiveSource(p);
+		this.active = p;
+	}
+
+	@Override
+	protected void findCandidatesDst(GrowQueue_I32 candidates) {
+		gridDst.findNeighbors(active, candidates);
+	}
+
+	@Override
+	protected void findCandidatesSrc(GrowQueue_I32 candidates) {
+		gridSrc.findNeighbors(active, candidates);
+	}
+
+	/**
+	 * Grid of square cells.  The index of each point is stored in the cell which contains it.  Cells are stored
+	 * in a compact format where the points in cell 'i' are stored in 'points' from 'cellStart[i]' to
+	 * 'cellStart[i+1]'.
+	 */
+	protected static class Grid {
+		// origin of the grid
+		double x0, y0;
+		// width of a cell
+		double cellSize;
+		// number of columns and rows of cells
+		int cols, rows;
+
+		// index of the first point in each cell
+		GrowQueue_I32 cellStart = new GrowQueue_I32();
+		// index of points sorted by cell
+		GrowQueue_I32 points = new GrowQueue_I32();
+		// work space used while filling in the cells
+		GrowQueue_I32 cellNext = new GrowQueue_I32();
+
+		/**
+		 * Adds all the points into the grid
+		 *
+		 * @param locations Location of each point
+		 * @param minCellSize Cells will be at least this wide.  If larger than the spread of the points then a
+		 *                    single cell is used which contains all the points.
+		 */
+		public void build( FastQueue<Point2D_F64> locations , double minCellSize ) {
+			int N = locations.size();
+			if( N == 0 ) {
+				cols = rows = 0;
+				return;
+			}
+
+			double x1, y1;
+			x0 = x1 = locations.data[0].x;
+			y0 = y1 = locations.data[0].y;
+			for( int i = 1; i < N; i++ ) {
+				Point2D_F64 p = locations.data[i];
+				if( p.x < x0 ) x0 = p.x; else if( p.x > x1 ) x1 = p.x;
+				if( p.y < y0 ) y0 = p.y; else if( p.y > y1 ) y1 = p.y;
+			}
+
+			if( !(minCellSize < Math.max(x1-x0,y1-y0)) ) {
+				// every point is a neighbor of every other point, e.g. the distance is unbounded
+				cellSize = Double.POSITIVE_INFINITY;
+				cols = rows = 1;
+			} else {
+				// don't let the number of cells be much larger than the number of points
+				double maxCells = Math.max(16,4*N);
+				cellSize = Math.max(minCellSize,1e-8);
+				while( (Math.floor((x1-x0)/cellSize)+1)*(Math.floor((y1-y0)/cellSize)+1) > maxCells ) {
+					cellSize *= 2;
+				}
+				cols = (int)((x1-x0)/cellSize)+1;
+				rows = (int)((y1-y0)/cellSize)+1;
+			}
+			int numCells = cols*rows;
+
+			// count the number of points in each cell
+			cellStart.resize(numCells+1);
+			for( int i = 0; i <= numCells; i++ ) {
+				cellStart.data[i] = 0;
+			}
+			for( int i = 0; i < N; i++ ) {
+				cellStart.data[cellIndex(locations.data[i])+1]++;
+			}
+			for( int i = 0; i < numCells; i++ ) {
+				cellStart.data[i+1] += cellStart.data[i];
+			}
+
+			// place the points into their cells
+			cellNext.resize(numCells);
+			System.arraycopy(cellStart.data,0,cellNext.data,0,numCells);
+			points.resize(N);
+			for( int i = 0; i < N; i++ ) {
+				points.data[cellNext.data[cellIndex(locations.data[i])]++] = i;
+			}
+		}
+
+		private int cellIndex( Point2D_F64 p ) {
+			if( cols == 1 && rows == 1 )
+				return 0;
+			int col = Math.min(cols-1,(int)((p.x-x0)/cellSize));
+			int row = Math.min(rows-1,(int)((p.y-y0)/cellSize));
+			return row*cols + col;
+		}
+
+		/**
+		 * Finds all the points inside the cell containing 'p' and its neighbors.
+		 *
+		 * @param p The point being searched around.  Can be outside the grid.
+		 * @param output (Output) Index of points which might be close to 'p'
+		 */
+		public void findNeighbors( Point2D_F64 p , GrowQueue_I32 output ) {
+			output.reset();
+			if( cols == 0 )
+				return;
+
+			int col = (int)Math.floor((p.x-x0)/cellSize);
+			int row = (int)Math.floor((p.y-y0)/cellSize);
+
+			int col0 = Math.max(0,col-1), col1 = Math.min(cols-1,col+1);
+			int row0 = Math.max(0,row-1), row1 = Math.min(rows-1,row+1);
+
+			for( int y = row0; y <= row1; y++ ) {
+				for( int x = col0; x <= col1; x++ ) {
+					int cell = y*cols + x;
+					int end = cellStart.data[cell+1];
+					for( int i = cellStart.data[cell]; i < end; i++ ) {
+						output.add(points.data[i]);
+					}
+				}
+			}
+		}
+	}
+}
@@ -34,6 +34,10 @@ import org.ddogleg.struct.GrowQueue_I32;
  *
  * By default the max-distance and max error are set to Double.MAX_VALUE.
  *
+ * Sub-classes can reduce the number of features which are considered by overriding
+ * {@link #findCandidatesDst} and {@link #findCandidatesSrc}.  If two features have the same score the one with
+ * the lower index is selected, independent of the order candidates are considered in.
+ *
  * @author Peter Abeles
  */
 public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescription2D<D> {
@@ -64,6 +68,9 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 	// is backwards validation performed during association?
 	private boolean backwardsValidation = true;
 
+	// indexes of features which are being considered for association
+	private GrowQueue_I32 candidates = new GrowQueue_I32();
+
 	/**
 	 * Specifies score mechanism
 	 *
@@ -110,12 +117,51 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 
 	protected abstract double computeDistanceToSource( Point2D_F64 p );
 
+	/**
+	 * Called at the start of association. Sub-classes can use this to build a search structure.
+	 *
+	 * @param locationSrc Location of source features
+	 * @param locationDst Location of destination features
+	 */
+	protected void initializeSearch( FastQueue<Point2D_F64> locationSrc , FastQueue<Point2D_F64> locationDst ) {}
+
+	/**
+	 * Finds all the destination features which could be within maxDistance of the active source.  Features
+	 * which are too far away can be included, but every feature which is close enough must be.  By default
+	 * all features are returned.
+	 *
+	 * @param candidates (Output) indexes of destination features
+	 */
+	protected void findCandidatesDst( GrowQueue_I32 candidates ) {
+		all(locationDst.size(), candidates);
+	}
+
+	/**
+	 * Finds all the source features which could be within maxDistance of the active source.  Used during
+	 * backwards validation, when the active source is a destination feature.  By default all features are
+	 * returned.
+	 *
+	 * @param candidates (Output) indexes of source features
+	 */
+	protected void findCandidatesSrc( GrowQueue_I32 candidates ) {
+		all(locationSrc.size(), candidates);
+	}
+
+	private static void all( int total , GrowQueue_I32 candidates ) {
+		candidates.resize(total);
+		for( int i = 0; i < total; i++ ) {
+			candidates.data[i] = i;
+		}
+	}
+
 	@Override
 	public void associate() {
 
 		unassociatedSrc.reset();
 		matched.reset();
 
+		initializeSearch(locationSrc,locationDst);
+
 		for( int i = 0; i < locationSrc.size(); i++ ) {
 			Point2D_F64 p_s = locationSrc.get(i);
 			D d_s = descSrc.get(i);
@@ -125,7 +171,9 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 			int bestIndex = -1;
 
 			// find the best match in destination list
-			for( int j = 0; j < locationDst.size(); j++ ) {
+			findCandidatesDst(candidates);
+			for( int k = 0; k < candidates.size; k++ ) {
+				int j = candidates.data[k];
 				D d_d = descDst.get(j);
 
 				// compute distance between the two features
@@ -134,7 +182,7 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 					continue;
 
 				double score = scoreAssociation.score(d_s,d_d);
-				if( score < bestScore ) {
+				if( score < bestScore || (score == bestScore && j < bestIndex) ) {
 					bestScore = score;
 					bestIndex = j;
 				}
@@ -171,7 +219,9 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 		D d_forward = descDst.get(bestIndex);
 		setActiveSource(locationDst.get(bestIndex));
 
-		for( int j = 0; j < locationSrc.size(); j++ ) {
+		findCandidatesSrc(candidates);
+		for( int k = 0; k < candidates.size; k++ ) {
+			int j = candidates.data[k];
 
 			// compute distance between the two features
 			double distance = computeDistanceToSource(locationSrc.get(j));
@@ -181,7 +231,7 @@ public abstract class BaseAssociateLocation2DFilter<D> implements AssociateDescr
 			D d_v = descSrc.get(j);
 
 			double score = scoreAssociation.score(d_forward,d_v);
-			if( score < bestScoreV ) {
+			if( score < bestScoreV || (score == bestScoreV && j < bestIndexV) ) {
 				bestScoreV = score;
 				bestIndexV = j;
 			}
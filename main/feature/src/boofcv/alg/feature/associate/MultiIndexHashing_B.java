@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Multi-index hashing (MIH) for exact nearest neighbor search of binary descriptors using the Hamming distance.
+ * Each descriptor is split into m disjoint substrings and a hash table is built for each substring, with the
+ * substring's value being used directly as the table's key.  By the pigeonhole principle, if two descriptors
+ * are within a Hamming distance of r then at least one of their substrings must be within a distance of
+ * floor(r/m).  Candidates are found by looking up all the keys near the query's substrings and are then
+ * verified by computing the full Hamming distance.
+ * </p>
+ *
+ * <p>
+ * The k-nearest neighbor search increases the substring search radius until the k-th best distance found is
+ * no larger than the smallest distance an unseen descriptor could have.  Search results are exact.  Search
+ * speed depends on the number of bits in each substring, which should be close to log2 of the number of
+ * descriptors.  Each substring can have at most 24 bits.
+ * </p>
+ *
+ * <p>
+ * The database is stored in a {@link PackedTupleArray_B} so that candidates can be verified quickly.  This class
+ * is not thread safe.
+ * </p>
+ *
+ * <p>
+ * [1] Norouzi, Mohammad, Ali Punjani, and David J. Fleet. "Fast search in hamming space with multi-index hashing."
+ * CVPR 2012
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultiIndexHashing_B {
+
+	// number of bits in each descriptor
+	private int numBits;
+
+	// the first bit and number of bits in each substring
+	private int tableBit0[];
+	private int tableBits[];
+
+	// For each table, the index of the first descriptor in each bucket.  Length = 2^bits + 1
+	private int bucketStart[][];
+	// For each table, descriptor indexes sorted by bucket
+	private int bucketIds[][];
+
+	// copy of the descriptors in the database
+	private PackedTupleArray_B database;
+	// query descriptor converted into the packed format
+	private PackedTupleArray_B query;
+	// value of the query's substrings
+	private int queryKeys[];
+
+	// used to mark which descriptors have already been examined
+	private int visited[] = new int[0];
+	private int visitMark = 0;
+
+	// storage for the nearest neighbors found so far sorted by distance
+	private int bestIndex[] = new int[0];
+	private int bestDistance[] = new int[0];
+	private int bestCount;
+	private int bestMax;
+
+	// maximum distance of a search and storage for radius search results
+	private int searchMaxDistance;
+	private GrowQueue_I32 radiusIndexes;
+	private GrowQueue_I32 radiusDistances;
+
+	/**
+	 * Configures the data structure
+	 *
+	 * @param numBits Number of bits in each descriptor
+	 * @param numTables Number of hash tables, i.e. number of substrings.  Try numBits/16
+	 */
+	public MultiIndexHashing_B( int numBits , int numTables ) {
+		if( numTables <= 0 || numTables > numBits )
+			throw new IllegalArgumentException("Number of tables must be from 1 to numBits");
+		int bits = numBits/numTables + (numBits%numTables == 0 ? 0 : 1);
+		if( bits > 24 )
+			throw new IllegalArgumentException("Too many bits in each table. Increase the number of tables.");
+
+		this.numBits = numBits;
+		tableBit0 = new int[numTables];
+		tableBits = new int[numTables];
+		bucketStart = new int[numTables][];
+		bucketIds = new int[numTables][];
+		queryKeys = new int[numTables];
+
+		// first tables get an extra bit if it doesn't divide evenly
+		int extra = numBits%numTables;
+		for( int i = 0, bit0 = 0; i < numTables; i++ ) {
+			tableBit0[i] = bit0;
+			tableBits[i] = numBits/numTables + (i < extra ? 1 : 0);
+			bit0 += tableBits[i];
+
+			bucketStart[i] = new int[(1 << tableBits[i]) + 1];
+		}
+
+		database = new PackedTupleArray_B(numBits);
+		query = new PackedTupleArray_B(numBits);
+		query.reserve(1);
+	}
+
+	/**
+	 * Specifies the descriptors which are to be searched and builds the hash tables.  A copy is made of
+	 * the descriptors.
+	 *
+	 * @param descriptors Descriptors in the database
+	 */
+	public void setDatabase( FastQueue<TupleDesc_B> descriptors ) {
+		final int N = descriptors.size;
+
+		database.reset();
+		database.reserve(N);
+		for( int i = 0; i < N; i++ ) {
+			database.addCopy(descriptors.data[i]);
+		}
+
+		for( int table = 0; table < tableBits.length; table++ ) {
+			int start[] = bucketStart[table];
+			int bit0 = tableBit0[table];
+			int bits = tableBits[table];
+
+			if( bucketIds[table] == null || bucketIds[table].length < N )
+				bucketIds[table] = new int[N];
+			int ids[] = bucketIds[table];
+
+			// count the number of descriptors in each bucket
+			for( int i = 0; i < start.length; i++ ) {
+				start[i] = 0;
+			}
+			for( int i = 0; i < N; i++ ) {
+				start[substring(descriptors.data[i].data, bit0, bits)+1]++;
+			}
+			for( int i = 1; i < start.length; i++ ) {
+				start[i] += start[i-1];
+			}
+
+			// fill in the buckets. start[key] is used as the insertion point then restored
+			for( int i = 0; i < N; i++ ) {
+				int key = substring(descriptors.data[i].data, bit0, bits);
+				ids[start[key]++] = i;
+			}
+			for( int i = start.length-1; i > 0; i-- ) {
+				start[i] = start[i-1];
+			}
+			start[0] = 0;
+		}
+
+		if( visited.length < N )
+			visited = new int[N];
+		else
+			Arrays.fill(visited,0,N,0);
+		visitMark = 0;
+	}
+
+	/**
+	 * Finds all descriptors in the database which are within the specified Hamming distance of the query.
+	 * Results are not sorted.
+	 *
+	 * @param desc The query descriptor
+	 * @param maxDistance Maximum allowed Hamming distance, inclusive
+	 * @param indexes (Output) Index of descriptors in the database
+	 * @param distances (Output) Hamming distance to each descriptor
+	 */
+	public void searchRadius( TupleDesc_B desc , int maxDistance ,
+							  GrowQueue_I32 indexes , GrowQueue_I32 distances ) {
+		indexes.reset();
+		distances.reset();
+		if( maxDistance < 0 )
+			return;
+
+		startSearch(desc);
+		searchMaxDistance = maxDistance;
+		radiusIndexes = indexes;
+		radiusDistances = distances;
+
+		int substringRadius = maxDistance/tableBits.length;
+		for( int table = 0; table < tableBits.length; table++ ) {
+			int radius = Math.min(substringRadius, tableBits[table]);
+			for( int r = 0; r <= radius; r++ ) {
+				searchBuckets(table, r, false);
+			}
+		}
+	}
+
+	/**
+	 * Finds the k-nearest neighbors to the query.
+	 *
+	 * @param desc The query descriptor
+	 * @param numNeighbors Number of neighbors it will search for
+	 * @param maxDistance Maximum allowed Hamming distance, inclusive.  If &lt; 0 then there is no limit.
+	 * @param indexes (Output) Index of descriptors in the database, sorted by distance
+	 * @param distances (Output) Hamming distance to each descriptor
+	 */
+	public void searchNearest( TupleDesc_B desc , int numNeighbors , int maxDistance ,
+							   GrowQueue_I32 indexes , GrowQueue_I32 distances ) {
+		indexes.reset();
+		distances.reset();
+
+		if( bestIndex.length < numNeighbors ) {
+			bestIndex = new int[numNeighbors];
+			bestDistance = new int[numNeighbors];
+		}
+		bestCount = 0;
+		bestMax = numNeighbors;
+		searchMaxDistance = maxDistance < 0 ? Integer.MAX_VALUE : maxDistance;
+		if( numNeighbors <= 0 )
+			return;
+
+		startSearch(desc);
+
+		final int m = tableBits.length;
+		int minTableBits = tableBits[m-1];
+
+		for( int r = 0; r <= minTableBits; r++ ) {
+			for( int table = 0; table < m; table++ ) {
+				searchBuckets(table, r, true);
+			}
+
+			// the smallest possible distance of a descriptor which has not been examined yet
+			long unseen = (long)m*(r+1);
+			if( unseen > searchMaxDistance )
+				break;
+			if( bestCount == numNeighbors && bestDistance[bestCount-1] <= unseen )
+				break;
+		}
+
+		for( int i = 0; i < bestCount; i++ ) {
+			indexes.add(bestIndex[i]);
+			distances.add(bestDistance[i]);
+		}
+	}
+
+	/**
+	 * Packs the query and computes its substrings
+	 */
+	private void startSearch( TupleDesc_B desc ) {
+		if( desc.numBits != numBits )
+			throw new IllegalArgumentException("Descriptor has an unexpected number of bits");
+
+		query.reset();
+		query.addCopy(desc);
+		for( int table = 0; table < tableBits.length; table++ ) {
+			queryKeys[table] = substring(desc.data, tableBit0[table], tableBits[table]);
+		}
+
+		// start a new search
+		visitMark++;
+		if( visitMark == Integer.MAX_VALUE ) {
+			Arrays.fill(visited,0);
+			visitMark = 1;
+		}
+	}
+
+	/**
+	 * Examines all the buckets in the table whose key is exactly the specified Hamming distance from the query
+	 *
+	 * @param nearest If true the results are saved as nearest neighbors, otherwise as radius search
+	 */
+	private void searchBuckets( int table , int radius , boolean nearest ) {
+		int bits = tableBits[table];
+		int key = queryKeys[table];
+		int start[] = bucketStart[table];
+		int ids[] = bucketIds[table];
+		int numLongs = database.getNumLongs();
+
+		if( radius == 0 ) {
+			checkBucket(start, ids, key, numLongs, nearest);
+			return;
+		}
+
+		// go through all masks with 'radius' bits set
+		int limit = 1 << bits;
+		int mask = (1 << radius)-1;
+		while( mask < limit ) {
+			checkBucket(start, ids, key ^ mask, numLongs, nearest);
+
+			// next larger number with the same number of bits set
+			int c = mask & -mask;
+			int r = mask + c;
+			mask = (((r ^ mask) >>> 2) / c) | r;
+		}
+	}
+
+	private void checkBucket( int start[] , int ids[] , int key , int numLongs , boolean nearest ) {
+		int end = start[key+1];
+		for( int i = start[key]; i < end; i++ ) {
+			int id = ids[i];
+			if( visited[id] == visitMark )
+				continue;
+			visited[id] = visitMark;
+
+			int distance = DescriptorDistance.hamming(query.data, 0, database.data, database.getOffset(id), numLongs);
+			if( distance > searchMaxDistance )
+				continue;
+
+			if( nearest ) {
+				saveNeighbor(id, distance);
+			} else {
+				radiusIndexes.add(id);
+				radiusDistances.add(distance);
+			}
+		}
+	}
+
+	/**
+	 * Adds the descriptor to the list of nearest neighbors if it's better than the worst one.  Ties are broken
+	 * using the descriptor's index.
+	 */
+	private void saveNeighbor( int id , int distance ) {
+		int k = bestCount;
+		if( k == bestMax ) {
+			int worstD = bestDistance[k-1];
+			if( distance > worstD || (distance == worstD && id > bestIndex[k-1]) )
+				return;
+			k--;
+		} else {
+			bestCount++;
+		}
+
+		// insertion sort
+		while( k > 0 && (bestDistance[k-1] > distance || (bestDistance[k-1] == distance && bestIndex[k-1] > id)) ) {
+			bestDistance[k] = bestDistance[k-1];
+			bestIndex[k] = bestIndex[k-1];
+			k--;
+		}
+		bestDistance[k] = distance;
+		bestIndex[k] = id;
+	}
+
+	/**
+	 * Extracts a sequence of bits from the descriptor.
+	 *
+	 * @param data Descriptor's data
+	 * @param bit0 First bit in the sequence
+	 * @param length Number of bits.  &le; 24
+	 * @return value of the sequence
+	 */
+	protected static int substring( int data[] , int bit0 , int length ) {
+		int index = bit0/32;
+		int offset = bit0%32;
+
+		long value = data[index] & 0xFFFFFFFFL;
+		if( offset + length > 32 )
+			value |= ((long)data[index+1]) << 32;
+
+		return (int)((value >>> offset) & ((1L << length)-1));
+	}
+
+	/**
+	 * Number of descriptors in the database
+	 */
+	public int size() {
+		return database.size();
+	}
+
+	public int getNumBits() {
+		return numBits;
+	}
+
+	public int getNumTables() {
+		return tableBits.length;
+	}
+}
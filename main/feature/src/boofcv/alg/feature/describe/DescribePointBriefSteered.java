@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Extension of {@link DescribePointBrief} which adds invariance to orientation by steering the sample points
+ * to the feature's orientation.  Orientation is discretized into a fixed number of bins and a rotated copy of the
+ * definition is precomputed for each one, see
+ * {@link boofcv.alg.feature.describe.brief.FactoryBriefDefinition#steer}.  Describing a feature then costs the
+ * same as an un-oriented BRIEF descriptor, unlike {@link DescribePointBriefSO} which rotates and interpolates
+ * every sample point.  This is the steered BRIEF used by ORB [1].
+ * </p>
+ *
+ * <p>
+ * [1] Rublee, Ethan, et al. "ORB: an efficient alternative to SIFT or SURF." ICCV 2011
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescribePointBriefSteered<T extends ImageSingleBand> {
+	// definition at an orientation of zero
+	protected BinaryCompareDefinition_I32 definition;
+
+	// computes the descriptor for each discretized orientation
+	protected DescribePointBinaryCompare<T> steered[];
+
+	// blurs the image prior to sampling
+	protected BlurFilter<T> filterBlur;
+	// blurred image
+	protected T blur;
+
+	// largest radius of all the steered definitions
+	protected int radius;
+
+	/**
+	 * Configures the descriptor
+	 *
+	 * @param definition Definition at an orientation of zero
+	 * @param steered Descriptor for each discrete orientation.  Element i has an orientation of 2*&pi;*i/N
+	 * @param filterBlur Blur applied to the image before sampling
+	 */
+	public DescribePointBriefSteered(BinaryCompareDefinition_I32 definition,
+									 DescribePointBinaryCompare<T>[] steered,
+									 BlurFilter<T> filterBlur) {
+		this.definition = definition;
+		this.steered = steered;
+		this.filterBlur = filterBlur;
+
+		Class<T> imageType = filterBlur.getInputType().getImageClass();
+		blur = GeneralizedImageOps.createSingleBand(imageType, 1, 1);
+
+		for( int i = 0; i < steered.length; i++ ) {
+			radius = Math.max(radius, steered[i].getDefinition().radius);
+		}
+	}
+
+	public TupleDesc_B createFeature() {
+		return new TupleDesc_B(definition.getLength());
+	}
+
+	/**
+	 * Specifies the image from which feature descriptions are to be created.
+	 *
+	 * @param image Image being examined.
+	 */
+	public void setImage(T image) {
+		blur.reshape(image.width,image.height);
+		filterBlur.process(image,blur);
+
+		for( int i = 0; i < steered.length; i++ ) {
+			steered[i].setImage(blur);
+		}
+	}
+
+	/**
+	 * Computes the descriptor at the specified point and orientation.
+	 *
+	 * @param c_x Center of region being described.
+	 * @param c_y Center of region being described.
+	 * @param orientation Orientation of the region in radians.
+	 * @param feature Where the descriptor is written to.
+	 */
+	public void process( double c_x , double c_y , double orientation , TupleDesc_B feature ) {
+		int N = steered.length;
+		int bin = (int)Math.round(orientation*N/(2.0*Math.PI)) % N;
+		if( bin < 0 )
+			bin += N;
+
+		steered[bin].process((int)(c_x+0.5),(int)(c_y+0.5),feature);
+	}
+
+	public BinaryCompareDefinition_I32 getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Number of discrete orientations
+	 */
+	public int getNumAngles() {
+		return steered.length;
+	}
+
+	/**
+	 * Largest distance along either axis that a sample point can be from the center
+	 */
+	public int getRadius() {
+		return radius;
+	}
+}
@@ -63,6 +63,9 @@ public class DescribePointSift<Deriv extends ImageSingleBand> extends DescribeSi
 	// reference to user provided descriptor in which results are saved to
 	TupleDesc_F64 descriptor;
 
+	// type of derivative image
+	Class<Deriv> derivType;
+
 	/**
 	 * Configures the descriptor.
 	 *
@@ -78,11 +81,32 @@ public class DescribePointSift<Deriv extends ImageSingleBand> extends DescribeSi
 							 double maxDescriptorElementValue , Class<Deriv> derivType ) {
 		super(widthSubregion,widthGrid,numHistogramBins,weightingSigmaFraction,maxDescriptorElementValue);
 		this.sigmaToPixels = sigmaToPixels;
+		this.derivType = derivType;
+
+		imageDerivX = FactoryGImageSingleBand.create(derivType);
+		imageDerivY = FactoryGImageSingleBand.create(derivType);
+	}
+
+	/**
+	 * Copy constructor.  Read only data structures are shared with 'src' while work space is declared.
+	 */
+	protected DescribePointSift( DescribePointSift<Deriv> src ) {
+		super(src);
+		this.sigmaToPixels = src.sigmaToPixels;
+		this.derivType = src.derivType;
 
 		imageDerivX = FactoryGImageSingleBand.create(derivType);
 		imageDerivY = FactoryGImageSingleBand.create(derivType);
 	}
 
+	/**
+	 * Creates a copy with the same configuration which can be used concurrently with this instance.  The
+	 * image gradient must be set for the copy.
+	 */
+	public DescribePointSift<Deriv> copy() {
+		return new DescribePointSift<Deriv>(this);
+	}
+
 	/**
 	 * Sets the image spacial derivatives.  These should be computed from an image at the appropriate scale
 	 * in scale-space.
@@ -95,6 +95,10 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 	protected IntegralKernel kerXX;
 	protected IntegralKernel kerYY;
 
+	// used to create the gradient when copied
+	protected boolean useHaar;
+	protected Class<II> inputType;
+
 	/**
 	 * Creates a SURF descriptor of arbitrary dimension by changing how the local region is sampled.
 	 *
@@ -125,12 +129,31 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 		featureDOF = widthLargeGrid*widthLargeGrid*4;
 
 		// create the function that the gradient is sampled with=
+		this.useHaar = useHaar;
+		this.inputType = inputType;
 		gradient = SurfDescribeOps.createGradient(useHaar, inputType);
 		gradientSafe = new SparseGradientSafe(this.gradient);
 
 		radiusDescriptor = (widthLargeGrid*widthSubRegion)/2;
 	}
 
+	/**
+	 * Copy constructor.  Read only data structures are shared with 'src' while work space is declared.
+	 */
+	protected DescribePointSurf( DescribePointSurf<II> src ) {
+		this.widthLargeGrid = src.widthLargeGrid;
+		this.widthSubRegion = src.widthSubRegion;
+		this.widthSample = src.widthSample;
+		this.featureDOF = src.featureDOF;
+		this.weight = src.weight;
+		this.radiusDescriptor = src.radiusDescriptor;
+		this.useHaar = src.useHaar;
+		this.inputType = src.inputType;
+
+		gradient = SurfDescribeOps.createGradient(useHaar, inputType);
+		gradientSafe = new SparseGradientSafe(this.gradient);
+	}
+
 	/**
 	 * Create a SURF-64 descriptor.  See [1] for details.
 	 */
@@ -138,6 +161,14 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 		this(4,5,3, 4.5 , false,inputType);
 	}
 
+	/**
+	 * Creates a copy with the same configuration which can be used concurrently with this instance.  The image
+	 * must be set for the copy.
+	 */
+	public DescribePointSurf<II> copy() {
+		return new DescribePointSurf<II>(this);
+	}
+
 	public BrightFeature createDescription() {
 		return new BrightFeature(featureDOF);
 	}
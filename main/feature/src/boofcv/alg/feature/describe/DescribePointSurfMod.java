@@ -98,6 +98,23 @@ public class DescribePointSurfMod<II extends ImageSingleBand> extends DescribePo
 		this(4,5,3,2, 2.5 , 2.5 , false ,imageType);
 	}
 
+	/**
+	 * Copy constructor.  Read only data structures are shared with 'src' while work space is declared.
+	 */
+	protected DescribePointSurfMod( DescribePointSurfMod<II> src ) {
+		super(src);
+		this.overLap = src.overLap;
+		this.weightGrid = src.weightGrid;
+		this.weightSub = src.weightSub;
+		this.samplesX = new double[ src.samplesX.length ];
+		this.samplesY = new double[ src.samplesY.length ];
+	}
+
+	@Override
+	public DescribePointSurfMod<II> copy() {
+		return new DescribePointSurfMod<II>(this);
+	}
+
 	/**
 	 * <p>
 	 * An improved SURF descriptor as presented in CenSurE paper.   The sub-regions now overlap and more
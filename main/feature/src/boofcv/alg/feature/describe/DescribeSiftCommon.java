@@ -73,6 +73,18 @@ public class DescribeSiftCommon {
 		gaussianWeight = createGaussianWeightKernel(weightSigma,descriptorWindow/2);
 	}
 
+	/**
+	 * Copy constructor.  The weight kernel is read only and shared with 'src'.
+	 */
+	protected DescribeSiftCommon( DescribeSiftCommon src ) {
+		this.widthSubregion = src.widthSubregion;
+		this.widthGrid = src.widthGrid;
+		this.numHistogramBins = src.numHistogramBins;
+		this.histogramBinWidth = src.histogramBinWidth;
+		this.maxDescriptorElementValue = src.maxDescriptorElementValue;
+		this.gaussianWeight = src.gaussianWeight;
+	}
+
 	/**
 	 * Adjusts the descriptor.  This adds lighting invariance and reduces the affects of none-affine changes
 	 * in lighting.
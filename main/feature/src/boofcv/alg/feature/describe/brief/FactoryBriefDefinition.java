@@ -67,6 +67,39 @@ public class FactoryBriefDefinition {
 	}
 
 
+	/**
+	 * Creates a copy of the definition where the sample points have been rotated by the specified angle and
+	 * rounded to the nearest pixel.  The list of compared points is unchanged.  The radius is enlarged if
+	 * rounding pushed a sample point outside of the original region.
+	 *
+	 * @param definition The definition being rotated.  Not modified.
+	 * @param angle Angle of rotation in radians.
+	 * @return Rotated definition.
+	 */
+	public static BinaryCompareDefinition_I32 steer( BinaryCompareDefinition_I32 definition , double angle ) {
+		BinaryCompareDefinition_I32 ret = new BinaryCompareDefinition_I32(definition.radius,
+				definition.samplePoints.length,definition.compare.length);
+
+		double c = Math.cos(angle);
+		double s = Math.sin(angle);
+
+		for( int i = 0; i < definition.samplePoints.length; i++ ) {
+			Point2D_I32 a = definition.samplePoints[i];
+			int x = (int)Math.round(c*a.x - s*a.y);
+			int y = (int)Math.round(s*a.x + c*a.y);
+
+			ret.samplePoints[i].set(x,y);
+			ret.radius = Math.max(ret.radius,Math.max(Math.abs(x),Math.abs(y)));
+		}
+
+		for( int i = 0; i < definition.compare.length; i++ ) {
+			Point2D_I32 p = definition.compare[i];
+			ret.compare[i].set(p.x,p.y);
+		}
+
+		return ret;
+	}
+
 	/**
 	 * Randomly selects a point which is inside a square region using a Gaussian distribution.
 	 */
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.orientation.OrientationImage;
+import boofcv.alg.feature.describe.DescribePointBriefSteered;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.misc.BoofMiscOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.pyramid.PyramidFloat;
+import georegression.struct.point.Point2D_I16;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+
+/**
+ * <p>
+ * ORB [1] style feature detector and descriptor.  FAST corners are detected in each layer of an image pyramid,
+ * their orientation is estimated using the intensity centroid, and they are described using steered BRIEF.
+ * The total number of features is split between the pyramid layers in proportion to each layer's inverse scale.
+ * Features whose region extends outside of the layer are discarded.
+ * </p>
+ *
+ * <p>
+ * [1] Rublee, Ethan, et al. "ORB: an efficient alternative to SIFT or SURF." ICCV 2011
+ * </p>
+ *
+ * @see boofcv.alg.feature.detect.intensity.FastCornerIntensity
+ * @see boofcv.alg.feature.orientation.OrientationIntensityCentroid
+ * @see DescribePointBriefSteered
+ *
+ * @author Peter Abeles
+ */
+public class CompleteOrb<T extends ImageSingleBand> {
+
+	// image pyramid that features are detected inside of
+	PyramidFloat<T> pyramid;
+	// detects FAST corners inside of a single layer
+	GeneralFeatureDetector<T,?> detector;
+	// estimates the orientation of each feature
+	OrientationImage<T> orientation;
+	// describes each feature
+	DescribePointBriefSteered<T> describe;
+
+	// radius of the region around a feature which must be inside the layer
+	int regionRadius;
+	// maximum number of features in each layer.  -1 for no limit
+	int layerQuota[];
+
+	// storage for found features
+	FastQueue<TupleDesc_B> descriptions;
+	// feature locations in input image pixels.  Scale is the radius of the described region
+	FastQueue<ScalePoint> locations = new FastQueue<ScalePoint>(ScalePoint.class,true);
+	GrowQueue_F64 orientations = new GrowQueue_F64();
+
+	/**
+	 * Configures ORB
+	 *
+	 * @param pyramid Image pyramid.  The scale of each layer is used to distribute features.
+	 * @param detector Detects FAST corners in a single layer
+	 * @param orientation Estimates orientation of each feature
+	 * @param describe Describes each feature
+	 * @param maxFeatures Total number of features across all layers.  &le; 0 for no limit.
+	 * @param regionRadius Radius of the region around a feature which must be inside the layer.
+	 */
+	public CompleteOrb(PyramidFloat<T> pyramid, GeneralFeatureDetector<T,?> detector,
+					   OrientationImage<T> orientation, final DescribePointBriefSteered<T> describe,
+					   int maxFeatures, int regionRadius ) {
+		this.pyramid = pyramid;
+		this.detector = detector;
+		this.orientation = orientation;
+		this.describe = describe;
+		this.regionRadius = regionRadius;
+
+		orientation.setObjectRadius(regionRadius);
+
+		descriptions = new FastQueue<TupleDesc_B>(TupleDesc_B.class,true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return describe.createFeature();
+			}
+		};
+
+		computeLayerQuota(maxFeatures);
+	}
+
+	/**
+	 * Splits the total number of features between layers in proportion to the inverse of each layer's scale.
+	 * Any remainder is assigned to the last layer.
+	 */
+	private void computeLayerQuota( int maxFeatures ) {
+		int numLayers = pyramid.getNumLayers();
+		layerQuota = new int[ numLayers ];
+
+		if( maxFeatures <= 0 ) {
+			for( int i = 0; i < numLayers; i++ )
+				layerQuota[i] = -1;
+			return;
+		}
+
+		double total = 0;
+		for( int i = 0; i < numLayers; i++ ) {
+			total += 1.0/pyramid.getScale(i);
+		}
+
+		int remaining = maxFeatures;
+		for( int i = 0; i < numLayers-1; i++ ) {
+			layerQuota[i] = (int)Math.round(maxFeatures*(1.0/pyramid.getScale(i))/total);
+			layerQuota[i] = Math.min(remaining,layerQuota[i]);
+			remaining -= layerQuota[i];
+		}
+		layerQuota[numLayers-1] = remaining;
+	}
+
+	/**
+	 * Detects and describes features inside the image
+	 *
+	 * @param input Input image.  Not modified.
+	 */
+	public void process( T input ) {
+		descriptions.reset();
+		locations.reset();
+		orientations.reset();
+
+		pyramid.process(input);
+
+		for( int layer = 0; layer < pyramid.getNumLayers(); layer++ ) {
+			T image = pyramid.getLayer(layer);
+			double scale = pyramid.getScale(layer);
+
+			// skip layers without any features or which are too small
+			if( layerQuota[layer] == 0 )
+				continue;
+			if( image.width <= 2*regionRadius || image.height <= 2*regionRadius )
+				continue;
+
+			detector.setMaxFeatures(layerQuota[layer]);
+			detector.process(image,null,null,null,null,null);
+
+			orientation.setImage(image);
+			describe.setImage(image);
+
+			QueueCorner found = detector.getMaximums();
+			for( int i = 0; i < found.size; i++ ) {
+				Point2D_I16 p = found.get(i);
+
+				if( !BoofMiscOps.checkInside(image,p.x,p.y,regionRadius) )
+					continue;
+
+				double angle = orientation.compute(p.x,p.y);
+				describe.process(p.x,p.y,angle,descriptions.grow());
+
+				locations.grow().set(p.x*scale,p.y*scale,regionRadius*scale);
+				orientations.add(angle);
+			}
+		}
+	}
+
+	/**
+	 * Location of each feature in input image pixels.  The scale is the radius of the described region.
+	 */
+	public FastQueue<ScalePoint> getLocations() {
+		return locations;
+	}
+
+	public FastQueue<TupleDesc_B> getDescriptions() {
+		return descriptions;
+	}
+
+	public GrowQueue_F64 getOrientations() {
+		return orientations;
+	}
+
+	public int[] getLayerQuota() {
+		return layerQuota;
+	}
+
+	public DescribePointBriefSteered<T> getDescribe() {
+		return describe;
+	}
+}
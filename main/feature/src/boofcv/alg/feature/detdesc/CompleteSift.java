@@ -24,6 +24,8 @@ import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
@@ -35,6 +37,11 @@ import org.ddogleg.struct.GrowQueue_F64;
  * SIFT combined together to simultaneously detect and describe the key points it finds.  Memory is conserved by
  * only having one octave of the scale-space in memory at any given time.
  *
+ * <p>If {@link BoofConcurrency#USE_CONCURRENT} is true then after the features in a scale have been detected
+ * their orientations are estimated in parallel, then each oriented feature is described in parallel.  Each
+ * thread has its own copy of the orientation and describe algorithms.  Features are saved in the same order
+ * as the single threaded version.</p>
+ *
  * @see OrientationHistogramSift
  * @see DescribePointSift
  * @see SiftDetector
@@ -60,6 +67,11 @@ public class CompleteSift extends SiftDetector
 	ImageFloat32 derivX = new ImageFloat32(1,1);
 	ImageFloat32 derivY = new ImageFloat32(1,1);
 
+	// copies of the orientation and describe algorithms for each thread
+	FastQueue<Worker> workers;
+	// orientations of each detection in a scale
+	FastQueue<GrowQueue_F64> detectionAngles = new FastQueue<GrowQueue_F64>(GrowQueue_F64.class,true);
+
 	/**
 	 * Configures SIFT
 	 *
@@ -84,6 +96,13 @@ public class CompleteSift extends SiftDetector
 				return new BrightFeature(dof);
 			}
 		};
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(CompleteSift.this.orientation.copy(), CompleteSift.this.describe.copy());
+			}
+		};
 	}
 
 	@Override
@@ -96,18 +115,73 @@ public class CompleteSift extends SiftDetector
 
 	@Override
 	protected void detectFeatures(int scaleIndex) {
+		computeGradient(scaleIndex);
+
+		// set up the orientation and description algorithms
+		orientation.setImageGradient(derivX,derivY);
+		describe.setImageGradient(derivX,derivY);
 
-		// compute image derivative for this scale
+		super.detectFeatures(scaleIndex);
+	}
+
+	/**
+	 * Computes the image derivative for the specified scale
+	 */
+	private void computeGradient(int scaleIndex) {
 		ImageFloat32 input = scaleSpace.getImageScale(scaleIndex);
 		derivX.reshape(input.width,input.height);
 		derivY.reshape(input.width,input.height);
 		gradient.process(input,derivX,derivY);
+	}
 
-		// set up the orientation and description algorithms
-		orientation.setImageGradient(derivX,derivY);
-		describe.setImageGradient(derivX,derivY);
+	@Override
+	protected void handleScaleDetections(int scaleIndex, FastQueue<ScalePoint> found) {
+		computeGradient(scaleIndex);
 
-		super.detectFeatures(scaleIndex);
+		final int detectionStart = detections.size;
+		for (int i = 0; i < found.size; i++) {
+			detections.grow().set(found.get(i));
+		}
+
+		// find potential orientations of each detection
+		detectionAngles.resize(found.size);
+		BoofConcurrency.loopBlocks(0, found.size, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void process(Worker worker, int minInclusive, int maxExclusive) {
+				worker.orientation.setImageGradient(derivX, derivY);
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					ScalePoint p = detections.get(detectionStart + i);
+					worker.orientation.process(p.x/pixelScaleToInput, p.y/pixelScaleToInput,
+							p.scale/pixelScaleToInput);
+					detectionAngles.get(i).setTo(worker.orientation.getOrientations());
+				}
+			}
+		});
+
+		// one feature is created for each orientation, in the same order as the single threaded version
+		final int featureStart = features.size;
+		for (int i = 0; i < found.size; i++) {
+			ScalePoint p = detections.get(detectionStart + i);
+			GrowQueue_F64 angles = detectionAngles.get(i);
+			for (int j = 0; j < angles.size; j++) {
+				features.grow().white = p.white;
+				orientations.add(angles.get(j));
+				locations.add(p);
+			}
+		}
+
+		// describe each feature
+		BoofConcurrency.loopBlocks(featureStart, features.size, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void process(Worker worker, int minInclusive, int maxExclusive) {
+				worker.describe.setImageGradient(derivX, derivY);
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					ScalePoint p = locations.get(i);
+					worker.describe.process(p.x/pixelScaleToInput, p.y/pixelScaleToInput,
+							p.scale/pixelScaleToInput, orientations.get(i), features.get(i));
+				}
+			}
+		});
 	}
 
 	@Override
@@ -148,4 +222,17 @@ public class CompleteSift extends SiftDetector
 	public int getDescriptorLength() {
 		return describe.getDescriptorLength();
 	}
+
+	/**
+	 * Algorithms used by a single thread
+	 */
+	static class Worker {
+		OrientationHistogramSift<ImageFloat32> orientation;
+		DescribePointSift<ImageFloat32> describe;
+
+		public Worker(OrientationHistogramSift<ImageFloat32> orientation, DescribePointSift<ImageFloat32> describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
 }
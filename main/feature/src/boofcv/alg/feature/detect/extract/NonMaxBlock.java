@@ -32,7 +32,7 @@ import boofcv.struct.image.ImageFloat32;
  *
  * <p>
  * Each block check is independent of all the others and no information is exchanged.  This
- * algorithm could be paralyzed easily and has no memory overhead.
+ * algorithm can be easily parallelized and has no memory overhead, see {@link NonMaxBlock_MT}.
  * </p>
  *
  * <p>See {@link boofcv.abst.feature.detect.extract.NonMaxSuppression} for a definition of parameters
@@ -87,9 +87,21 @@ public abstract class NonMaxBlock {
 		endX = intensityImage.width-border;
 		endY = intensityImage.height-border;
 
+		searchBlockRows(intensityImage, border, endY);
+	}
+
+	/**
+	 * Searches every block whose first row is inside the specified range.  The range must start at the
+	 * beginning of a block.
+	 *
+	 * @param intensityImage (Input) Feature intensity image.
+	 * @param rowStart First row in the first block
+	 * @param rowEnd Blocks which start at or after this row are not searched
+	 */
+	protected void searchBlockRows( ImageFloat32 intensityImage , int rowStart , int rowEnd ) {
 		int step = radius+1;
 
-		for( int y = border; y < endY; y += step ) {
+		for( int y = rowStart; y < rowEnd; y += step ) {
 			int y1 = y + step;
 			if( y1 > endY ) y1 = endY;
 
@@ -103,6 +115,21 @@ public abstract class NonMaxBlock {
 
 	protected abstract void searchBlock( int x0 , int y0 , int x1 , int y1 , ImageFloat32 img );
 
+	/**
+	 * Creates a new instance of the same type.  Configuration parameters are not copied.
+	 */
+	public abstract NonMaxBlock newInstance();
+
+	/**
+	 * Copies the configuration parameters from 'src' into this instance
+	 */
+	public void setConfiguration( NonMaxBlock src ) {
+		setSearchRadius(src.radius);
+		this.thresholdMin = src.thresholdMin;
+		this.thresholdMax = src.thresholdMax;
+		this.border = src.border;
+	}
+
 	public void setSearchRadius(int radius) {
 		this.radius = radius;
 	}
@@ -41,6 +41,11 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class Max extends NonMaxBlockRelaxed {
 		public Max() { super(false, true); }
 
+		@Override
+		public Max newInstance() {
+			return new Max();
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , ImageFloat32 img ) {
 
@@ -74,6 +79,11 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class Min extends NonMaxBlockRelaxed {
 		public Min() { super(true, false); }
 
+		@Override
+		public Min newInstance() {
+			return new Min();
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , ImageFloat32 img ) {
 
@@ -107,6 +117,11 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class MinMax extends NonMaxBlockRelaxed {
 		public MinMax() { super(true, true); }
 
+		@Override
+		public MinMax newInstance() {
+			return new MinMax();
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , ImageFloat32 img ) {
 
@@ -212,6 +227,10 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 
 		int w = 2* radius +1;
 
+		// the workspace is already the correct size
+		if( foundMax != null && foundMax.length == w*w )
+			return;
+
 		foundMax = new Point2D_I32[w*w];
 		for( int i = 0; i < foundMax.length; i++ )
 			foundMax[i] = new Point2D_I32();
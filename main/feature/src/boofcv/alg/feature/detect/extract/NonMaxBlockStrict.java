@@ -37,6 +37,11 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class Max extends NonMaxBlockStrict {
 		public Max() { super(false, true); }
 
+		@Override
+		public Max newInstance() {
+			return new Max();
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, ImageFloat32 img) {
 
@@ -67,6 +72,11 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class Min extends NonMaxBlockStrict {
 		public Min() { super(true, false); }
 
+		@Override
+		public Min newInstance() {
+			return new Min();
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, ImageFloat32 img) {
 
@@ -97,6 +107,11 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class MinMax extends NonMaxBlockStrict {
 		public MinMax() { super(true, true); }
 
+		@Override
+		public MinMax newInstance() {
+			return new MinMax();
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, ImageFloat32 img) {
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link NonMaxBlock}.  Rows of blocks are split between threads and each thread
+ * searches its blocks using its own copy of the search algorithm, saving the results into its own lists.  The lists
+ * are then merged in the same order as the rows, producing results identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class NonMaxBlock_MT extends NonMaxBlock {
+
+	// algorithm which is copied to search each band
+	NonMaxBlock search;
+
+	// storage for each band of rows
+	FastQueue<Worker> workers;
+
+	/**
+	 * Specifies the search algorithm.  Its configuration is copied.
+	 *
+	 * @param search The single threaded algorithm which searches each block.
+	 */
+	public NonMaxBlock_MT( NonMaxBlock search ) {
+		super(search.detectsMinimum, search.detectsMaximum);
+		this.search = search;
+		setConfiguration(search);
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(NonMaxBlock_MT.this.search.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void process(final ImageFloat32 intensityImage, QueueCorner localMin, QueueCorner localMax) {
+		this.localMin = localMin;
+		this.localMax = localMax;
+
+		endX = intensityImage.width-border;
+		endY = intensityImage.height-border;
+
+		final int step = radius+1;
+		int numBlockRows = endY > border ? (endY-border+step-1)/step : 0;
+
+		BoofConcurrency.loopBlocks(0, numBlockRows, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void process(Worker worker, int minInclusive, int maxExclusive) {
+				NonMaxBlock alg = worker.alg;
+				alg.setConfiguration(NonMaxBlock_MT.this);
+				alg.endX = endX;
+				alg.endY = endY;
+				alg.localMin = worker.localMin;
+				alg.localMax = worker.localMax;
+				worker.localMin.reset();
+				worker.localMax.reset();
+
+				int rowStart = border + minInclusive*step;
+				int rowEnd = Math.min(endY, border + maxExclusive*step);
+				alg.searchBlockRows(intensityImage, rowStart, rowEnd);
+			}
+		});
+
+		for (int i = 0; i < workers.size; i++) {
+			Worker w = workers.get(i);
+			if( localMin != null ) {
+				for (int j = 0; j < w.localMin.size; j++) {
+					localMin.add(w.localMin.get(j));
+				}
+			}
+			if( localMax != null ) {
+				for (int j = 0; j < w.localMax.size; j++) {
+					localMax.add(w.localMax.get(j));
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void searchBlock(int x0, int y0, int x1, int y1, ImageFloat32 img) {
+		throw new IllegalArgumentException("Blocks are only searched by the worker threads");
+	}
+
+	@Override
+	public NonMaxBlock_MT newInstance() {
+		return new NonMaxBlock_MT(search.newInstance());
+	}
+
+	/**
+	 * Search algorithm and found features for a band of rows
+	 */
+	static class Worker {
+		NonMaxBlock alg;
+		QueueCorner localMin = new QueueCorner();
+		QueueCorner localMax = new QueueCorner();
+
+		Worker(NonMaxBlock alg) {
+			this.alg = alg;
+		}
+	}
+}
@@ -57,11 +57,7 @@ public abstract class NonMaxCandidate {
 						QueueCorner candidatesMin, QueueCorner candidatesMax,
 						QueueCorner foundMin , QueueCorner foundMax ) {
 
-		this.input = intensityImage;
-
-		// pixels indexes larger than these should not be examined
-		endBorderX = intensityImage.width-ignoreBorder;
-		endBorderY = intensityImage.height-ignoreBorder;
+		initialize(intensityImage);
 
 		if( candidatesMin != null )
 			examineMinimum(intensityImage,candidatesMin,foundMin);
@@ -70,11 +66,30 @@ public abstract class NonMaxCandidate {
 
 	}
 
+	/**
+	 * Saves a reference to the image and computes the region which can be examined
+	 */
+	protected void initialize( ImageFloat32 intensityImage ) {
+		this.input = intensityImage;
+
+		// pixels indexes larger than these should not be examined
+		endBorderX = intensityImage.width-ignoreBorder;
+		endBorderY = intensityImage.height-ignoreBorder;
+	}
+
 	protected void examineMinimum( ImageFloat32 intensityImage , QueueCorner candidates , QueueCorner found ) {
+		examineMinimum(intensityImage, candidates, 0, candidates.size, found);
+	}
+
+	/**
+	 * Examines candidates from index 'start' to 'end'-1 to see if they are local minimums
+	 */
+	protected void examineMinimum( ImageFloat32 intensityImage , QueueCorner candidates , int start , int end ,
+								   QueueCorner found ) {
 		final int stride = intensityImage.stride;
 		final float inten[] = intensityImage.data;
 
-		for (int iter = 0; iter < candidates.size; iter++) {
+		for (int iter = start; iter < end; iter++) {
 			Point2D_I16 pt = candidates.data[iter];
 
 			if( pt.x < ignoreBorder || pt.y < ignoreBorder || pt.x >= endBorderX || pt.y >= endBorderY)
@@ -96,10 +111,18 @@ public abstract class NonMaxCandidate {
 	}
 
 	protected void examineMaximum( ImageFloat32 intensityImage , QueueCorner candidates , QueueCorner found ) {
+		examineMaximum(intensityImage, candidates, 0, candidates.size, found);
+	}
+
+	/**
+	 * Examines candidates from index 'start' to 'end'-1 to see if they are local maximums
+	 */
+	protected void examineMaximum( ImageFloat32 intensityImage , QueueCorner candidates , int start , int end ,
+								   QueueCorner found ) {
 		final int stride = intensityImage.stride;
 		final float inten[] = intensityImage.data;
 
-		for (int iter = 0; iter < candidates.size; iter++) {
+		for (int iter = start; iter < end; iter++) {
 			Point2D_I16 pt = candidates.data[iter];
 
 			if( pt.x < ignoreBorder || pt.y < ignoreBorder || pt.x >= endBorderX || pt.y >= endBorderY)
@@ -123,6 +146,21 @@ public abstract class NonMaxCandidate {
 	protected abstract boolean searchMin( int center , float val );
 	protected abstract boolean searchMax( int center , float val );
 
+	/**
+	 * Creates a new instance of the same type.  Configuration parameters are not copied.
+	 */
+	public abstract NonMaxCandidate newInstance();
+
+	/**
+	 * Copies the configuration parameters from 'src' into this instance
+	 */
+	public void setConfiguration( NonMaxCandidate src ) {
+		this.radius = src.radius;
+		this.thresholdMin = src.thresholdMin;
+		this.thresholdMax = src.thresholdMax;
+		this.ignoreBorder = src.ignoreBorder;
+	}
+
 	public void setSearchRadius(int radius) {
 		this.radius = radius;
 	}
@@ -53,4 +53,9 @@ public class NonMaxCandidateRelaxed extends NonMaxCandidate {
 		}
 		return true;
 	}
+
+	@Override
+	public NonMaxCandidateRelaxed newInstance() {
+		return new NonMaxCandidateRelaxed();
+	}
 }
@@ -60,4 +60,9 @@ public class NonMaxCandidateStrict extends NonMaxCandidate {
 		}
 		return true;
 	}
+
+	@Override
+	public NonMaxCandidateStrict newInstance() {
+		return new NonMaxCandidateStrict();
+	}
 }
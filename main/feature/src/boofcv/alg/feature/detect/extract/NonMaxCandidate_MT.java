@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link NonMaxCandidate}.  The list of candidates is split into blocks which are
+ * examined by separate threads, each with its own copy of the search algorithm and its own output list.  The lists
+ * are then merged in the same order as the candidates, producing results identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class NonMaxCandidate_MT extends NonMaxCandidate {
+
+	// algorithm which is copied to examine each block of candidates
+	NonMaxCandidate search;
+
+	// storage for each block of candidates
+	FastQueue<Worker> workers;
+
+	/**
+	 * Specifies the search algorithm.  Its configuration is copied.
+	 *
+	 * @param search The single threaded algorithm which examines each candidate.
+	 */
+	public NonMaxCandidate_MT( NonMaxCandidate search ) {
+		this.search = search;
+		setConfiguration(search);
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(NonMaxCandidate_MT.this.search.newInstance());
+			}
+		};
+	}
+
+	@Override
+	protected void examineMinimum(final ImageFloat32 intensityImage, final QueueCorner candidates, QueueCorner found) {
+		BoofConcurrency.loopBlocks(0, candidates.size, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void process(Worker worker, int minInclusive, int maxExclusive) {
+				worker.prepare(intensityImage);
+				worker.alg.examineMinimum(intensityImage, candidates, minInclusive, maxExclusive, worker.found);
+			}
+		});
+		merge(found);
+	}
+
+	@Override
+	protected void examineMaximum(final ImageFloat32 intensityImage, final QueueCorner candidates, QueueCorner found) {
+		BoofConcurrency.loopBlocks(0, candidates.size, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void process(Worker worker, int minInclusive, int maxExclusive) {
+				worker.prepare(intensityImage);
+				worker.alg.examineMaximum(intensityImage, candidates, minInclusive, maxExclusive, worker.found);
+			}
+		});
+		merge(found);
+	}
+
+	/**
+	 * Adds the features found by each worker in order
+	 */
+	private void merge( QueueCorner found ) {
+		for (int i = 0; i < workers.size; i++) {
+			QueueCorner w = workers.get(i).found;
+			for (int j = 0; j < w.size; j++) {
+				found.add(w.get(j));
+			}
+		}
+	}
+
+	@Override
+	protected boolean searchMin(int center, float val) {
+		throw new IllegalArgumentException("Candidates are only examined by the worker threads");
+	}
+
+	@Override
+	protected boolean searchMax(int center, float val) {
+		throw new IllegalArgumentException("Candidates are only examined by the worker threads");
+	}
+
+	@Override
+	public NonMaxCandidate_MT newInstance() {
+		return new NonMaxCandidate_MT(search.newInstance());
+	}
+
+	/**
+	 * Search algorithm and found features for a block of candidates
+	 */
+	class Worker {
+		NonMaxCandidate alg;
+		QueueCorner found = new QueueCorner();
+
+		Worker(NonMaxCandidate alg) {
+			this.alg = alg;
+		}
+
+		void prepare( ImageFloat32 intensityImage ) {
+			alg.setConfiguration(NonMaxCandidate_MT.this);
+			alg.initialize(intensityImage);
+			found.reset();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.ddogleg.sorting.QuickSelect;
+import org.ddogleg.sorting.QuickSort_F32;
+
+/**
+ * <p>
+ * Adaptive Non-Maximal Suppression (ANMS) [1].  For each feature the suppression radius is computed, which is the
+ * distance to the closest feature which is significantly more intense.  The N features with the largest
+ * suppression radius are selected, which produces features that are both intense and spread out across the image.
+ * A feature 'i' is suppressed by feature 'j' if intensity(i) &lt; robust*intensity(j).
+ * </p>
+ *
+ * <p>
+ * Features are sorted by intensity first so that only more intense features are examined when computing
+ * the radius.  The worst case computational cost is O(N<sup>2</sup>) in the number of features.
+ * </p>
+ *
+ * <p>
+ * [1] Brown, Matthew, Richard Szeliski, and Simon Winder. "Multi-image matching using multi-scale oriented
+ * patches." CVPR 2005
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SelectAnmsFeatures implements SelectLimitFeatures {
+
+	// list of the selected corners
+	QueueCorner bestCorners = new QueueCorner(10);
+
+	// number of features it should return
+	int target;
+
+	// a feature is only suppressed by features which are more intense by this factor
+	float robust;
+
+	// feature intensity.  larger is better.  Negative so that it's sorted from best to worst
+	float negScore[] = new float[1];
+	// indexes of features sorted by intensity
+	int sorted[] = new int[1];
+	// negative of the squared suppression radius for each feature in sorted order
+	float negRadius[] = new float[1];
+	int indexes[] = new int[1];
+
+	QuickSort_F32 sorter = new QuickSort_F32();
+
+	/**
+	 * Configures the selector
+	 *
+	 * @param N Maximum number of features it will return
+	 * @param robust A feature is only suppressed by features which are more intense by this factor.  Try 0.9
+	 */
+	public SelectAnmsFeatures(int N, float robust) {
+		this.robust = robust;
+		setN(N);
+	}
+
+	@Override
+	public void setN(int N) {
+		target = N;
+	}
+
+	@Override
+	public void process(ImageFloat32 intensityImage, QueueCorner origCorners, boolean positive) {
+		bestCorners.reset();
+		int N = origCorners.size;
+
+		if( target <= 0 || N <= target ) {
+			for (int i = 0; i < N; i++) {
+				bestCorners.add(origCorners.data[i]);
+			}
+			return;
+		}
+
+		if( negScore.length < N ) {
+			negScore = new float[N];
+			sorted = new int[N];
+			negRadius = new float[N];
+			indexes = new int[N];
+		}
+
+		for (int i = 0; i < N; i++) {
+			Point2D_I16 p = origCorners.data[i];
+			float value = intensityImage.unsafe_get(p.x, p.y);
+			negScore[i] = positive ? -value : value;
+		}
+		sorter.sort(negScore, N, sorted);
+
+		// the number of features, in sorted order, which can suppress the current feature
+		int numStronger = 0;
+		for (int i = 0; i < N; i++) {
+			Point2D_I16 a = origCorners.data[sorted[i]];
+			float score = -negScore[sorted[i]];
+
+			// features are sorted so the set which can suppress this feature only grows
+			while( numStronger < i && score < robust*(-negScore[sorted[numStronger]]) ) {
+				numStronger++;
+			}
+
+			float bestDistance = Float.MAX_VALUE;
+			for (int j = 0; j < numStronger; j++) {
+				Point2D_I16 b = origCorners.data[sorted[j]];
+				int dx = a.x - b.x;
+				int dy = a.y - b.y;
+				float d = dx*dx + dy*dy;
+				if( d < bestDistance )
+					bestDistance = d;
+			}
+			negRadius[i] = -bestDistance;
+		}
+
+		QuickSelect.selectIndex(negRadius, target, N, indexes);
+		for (int i = 0; i < target; i++) {
+			bestCorners.add(origCorners.data[sorted[indexes[i]]]);
+		}
+	}
+
+	@Override
+	public boolean isSelectWithoutLimit() {
+		return false;
+	}
+
+	@Override
+	public QueueCorner getBestCorners() {
+		return bestCorners;
+	}
+
+	public float getRobust() {
+		return robust;
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.ddogleg.sorting.QuickSelect;
+
+/**
+ * <p>
+ * Selects features so that they are spread out across the image.  The image is broken up into a grid of square
+ * cells and at most 'cellQuota' features, the most intense ones, are kept inside of each cell.  If more than N
+ * features remain then features are selected by their rank inside their cell, i.e. the best feature in every cell
+ * is selected before the second best feature in any cell.  Features in the last rank which is considered are
+ * selected by their intensity.
+ * </p>
+ *
+ * <p>
+ * Features are assigned to cells using a counting sort and the cell quota is typically small, making the
+ * computational cost linear in the number of features.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SelectBucketFeatures implements SelectLimitFeatures {
+
+	// list of the selected corners
+	QueueCorner bestCorners = new QueueCorner(10);
+
+	// number of features it should return
+	int target;
+
+	// width of a cell in pixels
+	int cellSize;
+	// maximum number of features inside a cell
+	int cellQuota;
+
+	// number of features inside of each cell
+	int cellCount[] = new int[1];
+	// index of the first feature in each cell inside of 'ordered'
+	int cellStart[] = new int[1];
+	// feature indexes sorted by cell
+	int ordered[] = new int[1];
+	// the selected features in each cell, sorted by intensity
+	int selected[] = new int[1];
+	// number of features selected in each cell
+	int selectedCount[] = new int[1];
+	// feature intensity.  larger is better
+	float score[] = new float[1];
+
+	// work space for selecting features in the last rank
+	int rankIndex[] = new int[1];
+	float rankScore[] = new float[1];
+	int indexes[] = new int[1];
+
+	/**
+	 * Configures the selector
+	 *
+	 * @param N Maximum number of features it will return.  If &le; 0 then only the cell quota is enforced.
+	 * @param cellSize Width of a square cell in pixels
+	 * @param cellQuota Maximum number of features inside a single cell
+	 */
+	public SelectBucketFeatures(int N, int cellSize, int cellQuota) {
+		if( cellSize <= 0 )
+			throw new IllegalArgumentException("Cell size must be greater than zero");
+		if( cellQuota <= 0 )
+			throw new IllegalArgumentException("Cell quota must be greater than zero");
+		this.cellSize = cellSize;
+		this.cellQuota = cellQuota;
+		setN(N);
+	}
+
+	@Override
+	public void setN(int N) {
+		target = N;
+	}
+
+	@Override
+	public void process(ImageFloat32 intensityImage, QueueCorner origCorners, boolean positive) {
+		bestCorners.reset();
+		int N = origCorners.size;
+		if( N == 0 )
+			return;
+
+		int cellCols = (intensityImage.width+cellSize-1)/cellSize;
+		int cellRows = (intensityImage.height+cellSize-1)/cellSize;
+		int numCells = cellCols*cellRows;
+
+		declareStorage(N, numCells);
+
+		// assign each feature to a cell using a counting sort
+		for (int i = 0; i < numCells; i++) {
+			cellCount[i] = 0;
+		}
+		for (int i = 0; i < N; i++) {
+			Point2D_I16 p = origCorners.data[i];
+			cellCount[(p.y/cellSize)*cellCols + p.x/cellSize]++;
+			float value = intensityImage.unsafe_get(p.x, p.y);
+			score[i] = positive ? value : -value;
+		}
+		int total = 0;
+		for (int i = 0; i < numCells; i++) {
+			cellStart[i] = total;
+			total += cellCount[i];
+		}
+		for (int i = 0; i < N; i++) {
+			Point2D_I16 p = origCorners.data[i];
+			int cell = (p.y/cellSize)*cellCols + p.x/cellSize;
+			ordered[cellStart[cell]++] = i;
+		}
+
+		// select the best features inside each cell.  A partial selection sort is used since the quota is small
+		int largestCount = 0;
+		int offset = 0;
+		for (int cell = 0; cell < numCells; cell++) {
+			int count = cellCount[cell];
+			int start = offset;
+			offset += count;
+
+			int numSelect = Math.min(count, cellQuota);
+			selectedCount[cell] = numSelect;
+			largestCount = Math.max(largestCount, numSelect);
+
+			for (int k = 0; k < numSelect; k++) {
+				int best = start + k;
+				for (int i = best + 1; i < start + count; i++) {
+					if( score[ordered[i]] > score[ordered[best]] )
+						best = i;
+				}
+				int tmp = ordered[start+k];
+				ordered[start+k] = ordered[best];
+				ordered[best] = tmp;
+				selected[cell*cellQuota + k] = ordered[start+k];
+			}
+		}
+
+		// add features one rank at a time until the target has been reached
+		for (int rank = 0; rank < largestCount; rank++) {
+			int numRank = 0;
+			for (int cell = 0; cell < numCells; cell++) {
+				if( selectedCount[cell] > rank ) {
+					int index = selected[cell*cellQuota + rank];
+					rankIndex[numRank] = index;
+					rankScore[numRank++] = -score[index];
+				}
+			}
+
+			int remaining = target - bestCorners.size;
+			if( target > 0 && numRank > remaining ) {
+				// only some of the features in this rank can be added.  select the most intense
+				QuickSelect.selectIndex(rankScore, remaining, numRank, indexes);
+				for (int i = 0; i < remaining; i++) {
+					bestCorners.add(origCorners.data[rankIndex[indexes[i]]]);
+				}
+				break;
+			} else {
+				for (int i = 0; i < numRank; i++) {
+					bestCorners.add(origCorners.data[rankIndex[i]]);
+				}
+			}
+		}
+	}
+
+	private void declareStorage( int numFeatures , int numCells ) {
+		if( cellCount.length < numCells ) {
+			cellCount = new int[numCells];
+			cellStart = new int[numCells];
+			selectedCount = new int[numCells];
+			selected = new int[numCells*cellQuota];
+			rankIndex = new int[numCells];
+			rankScore = new float[numCells];
+			indexes = new int[numCells];
+		}
+		if( ordered.length < numFeatures ) {
+			ordered = new int[numFeatures];
+			score = new float[numFeatures];
+		}
+	}
+
+	@Override
+	public boolean isSelectWithoutLimit() {
+		return true;
+	}
+
+	@Override
+	public QueueCorner getBestCorners() {
+		return bestCorners;
+	}
+
+	public int getCellSize() {
+		return cellSize;
+	}
+
+	public int getCellQuota() {
+		return cellQuota;
+	}
+}
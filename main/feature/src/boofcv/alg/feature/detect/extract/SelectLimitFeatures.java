@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * Selects a subset of the features when more than the desired number have been found.  How the subset is
+ * selected is implementation dependent.
+ *
+ * @author Peter Abeles
+ */
+public interface SelectLimitFeatures {
+
+	/**
+	 * Specifies the maximum number of features which will be selected
+	 *
+	 * @param N Maximum number of features.  If &le; 0 then there is no limit.
+	 */
+	void setN( int N );
+
+	/**
+	 * If true then the selector can remove features even when there is no limit on the number of features,
+	 * e.g. by enforcing a quota inside of a region.  If false then all the features are selected when N &le; 0
+	 * and the selector does not need to be called.
+	 */
+	boolean isSelectWithoutLimit();
+
+	/**
+	 * Selects features from the list of found features.
+	 *
+	 * @param intensityImage Feature intensity image
+	 * @param origCorners Features which are being selected from.  Not modified.
+	 * @param positive true if the features are maximums and false if they are minimums
+	 */
+	void process(ImageFloat32 intensityImage, QueueCorner origCorners, boolean positive );
+
+	/**
+	 * Features which were selected by the most recent call to process
+	 */
+	QueueCorner getBestCorners();
+}
@@ -29,7 +29,7 @@ import org.ddogleg.sorting.QuickSelect;
  *
  * @author Peter Abeles
  */
-public class SelectNBestFeatures {
+public class SelectNBestFeatures implements SelectLimitFeatures {
 
 	// list of the found best corners
 	QueueCorner bestCorners;
@@ -40,18 +40,20 @@ public class SelectNBestFeatures {
 	int target;
 
 	public SelectNBestFeatures(int N) {
-		bestCorners = new QueueCorner(N);
+		bestCorners = new QueueCorner(Math.max(1,N));
 		setN(N);
 	}
 
+	@Override
 	public void setN( int N ) {
 		target = N;
 	}
 
+	@Override
 	public void process(ImageFloat32 intensityImage, QueueCorner origCorners, boolean positive ) {
 		bestCorners.reset();
 
-		if (origCorners.size <= target) {
+		if (target <= 0 || origCorners.size <= target) {
 			// make a copy of the results with no pruning since it already
 			// has the desired number, or less
 			for (int i = 0; i < origCorners.size; i++) {
@@ -92,6 +94,12 @@ public class SelectNBestFeatures {
 		}
 	}
 
+	@Override
+	public boolean isSelectWithoutLimit() {
+		return false;
+	}
+
+	@Override
 	public QueueCorner getBestCorners() {
 		return bestCorners;
 	}
@@ -19,10 +19,13 @@
 package boofcv.alg.feature.detect.intensity;
 
 import boofcv.alg.feature.detect.intensity.impl.FastHelper;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.misc.DiscretizedCircle;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -44,6 +47,12 @@ import boofcv.struct.image.ImageSingleBand;
  * </p>
  *
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the image is split into bands of rows which are processed
+ * concurrently.  Each band is processed by its own copy of the detector and has its own list of candidates.  The
+ * lists are merged in the same order as the rows, producing results identical to the single threaded version.
+ * </p>
+ *
+ * <p>
  * Circle of radius 2 pixels is searched around the center point 'x':
  * <table border="1">
  * <tr> <td></td> <td></td> <td>12</td><td>13</td><td>14</td> <td></td><td></td> </tr>
@@ -83,6 +92,9 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 	// Used to sample the image and compute the score
 	protected FastHelper<T> helper;
 
+	// detectors for each block of rows when processing concurrently.  Lazily declared
+	private FastQueue<FastCornerIntensity<T>> workers;
+
 	/**
 	 * Constructor
 	 *
@@ -107,6 +119,17 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 	}
 
 	public void process( T image , ImageFloat32 intensity ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			processConcurrent(image, intensity);
+		} else {
+			process(image, intensity, radius, image.height - radius);
+		}
+	}
+
+	/**
+	 * Computes the intensity for rows y0 to y1-1 and saves the candidates found inside of them.
+	 */
+	protected void process( T image , ImageFloat32 intensity , int y0 , int y1 ) {
 		candidates.reset();
 		this.image = image;
 
@@ -116,7 +139,7 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 		}
 		helper.setImage(image,offsets);
 
-		for (int y = radius; y < image.height-radius; y++) {
+		for (int y = y0; y < y1; y++) {
 			int indexIntensity = intensity.startIndex + y*intensity.stride + radius;
 			int index = image.startIndex + y*image.stride + radius;
 			for (int x = radius; x < image.width-radius; x++, index++,indexIntensity++) {
@@ -136,6 +159,43 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 		}
 	}
 
+	/**
+	 * Splits the image into bands of rows which are processed by their own detector, then merges the candidates
+	 * from each band in order.
+	 */
+	private void processConcurrent( final T image , final ImageFloat32 intensity ) {
+		if( workers == null ) {
+			workers = new FastQueue<FastCornerIntensity<T>>(1,(Class)FastCornerIntensity.class,true) {
+				@Override
+				protected FastCornerIntensity<T> createInstance() {
+					return newInstance();
+				}
+			};
+		}
+
+		this.image = image;
+		BoofConcurrency.loopBlocks(radius, image.height - radius, workers,
+				new IntRangeObjectTask<FastCornerIntensity<T>>() {
+			@Override
+			public void process(FastCornerIntensity<T> worker, int minInclusive, int maxExclusive) {
+				worker.process(image, intensity, minInclusive, maxExclusive);
+			}
+		});
+
+		candidates.reset();
+		for (int i = 0; i < workers.size; i++) {
+			QueueCorner found = workers.get(i).candidates;
+			for (int j = 0; j < found.size; j++) {
+				candidates.add(found.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Creates a new detector with the same configuration but which does not share any internal state.
+	 */
+	protected abstract FastCornerIntensity<T> newInstance();
+
 	/**
 	 * Checks to see if the specified pixel qualifies as a corner with lower values
 	 */
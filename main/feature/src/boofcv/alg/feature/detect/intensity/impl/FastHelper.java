@@ -51,4 +51,9 @@ public interface FastHelper<T extends ImageSingleBand> {
 	 * Checks to see if the specified pixel is above the upper threshold
 	 */
 	boolean checkPixelUpper( int index );
+
+	/**
+	 * Creates a new helper with the same configuration but which does not share any internal state
+	 */
+	FastHelper<T> newInstance();
 }
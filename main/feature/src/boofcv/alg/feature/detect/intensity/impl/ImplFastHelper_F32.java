@@ -101,4 +101,9 @@ public class ImplFastHelper_F32 implements FastHelper<ImageFloat32> {
 	{
 		return (image.data[index] ) > upper;
 	}
+
+	@Override
+	public FastHelper<ImageFloat32> newInstance() {
+		return new ImplFastHelper_F32((int)pixelTol);
+	}
 }
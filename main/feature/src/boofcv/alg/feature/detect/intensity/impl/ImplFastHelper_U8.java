@@ -101,4 +101,9 @@ public class ImplFastHelper_U8 implements FastHelper<ImageUInt8> {
 	{
 		return (image.data[index] & 0xFF) > upper;
 	}
+
+	@Override
+	public FastHelper<ImageUInt8> newInstance() {
+		return new ImplFastHelper_U8(pixelTol);
+	}
 }
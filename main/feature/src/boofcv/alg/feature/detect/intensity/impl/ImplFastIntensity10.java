@@ -43,6 +43,11 @@ public class ImplFastIntensity10<T extends ImageSingleBand> extends FastCornerIn
 		super(helper);
 	}
 
+	@Override
+	protected ImplFastIntensity10<T> newInstance() {
+		return new ImplFastIntensity10<T>(helper.newInstance());
+	}
+
 	@Override
 	protected boolean checkLower( int index )
 	{
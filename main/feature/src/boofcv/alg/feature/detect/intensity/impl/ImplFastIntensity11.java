@@ -43,6 +43,11 @@ public class ImplFastIntensity11<T extends ImageSingleBand> extends FastCornerIn
 		super(helper);
 	}
 
+	@Override
+	protected ImplFastIntensity11<T> newInstance() {
+		return new ImplFastIntensity11<T>(helper.newInstance());
+	}
+
 	@Override
 	protected boolean checkLower( int index )
 	{
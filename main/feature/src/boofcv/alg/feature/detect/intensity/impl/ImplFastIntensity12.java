@@ -43,6 +43,11 @@ public class ImplFastIntensity12<T extends ImageSingleBand> extends FastCornerIn
 		super(helper);
 	}
 
+	@Override
+	protected ImplFastIntensity12<T> newInstance() {
+		return new ImplFastIntensity12<T>(helper.newInstance());
+	}
+
 	@Override
 	protected boolean checkLower( int index )
 	{
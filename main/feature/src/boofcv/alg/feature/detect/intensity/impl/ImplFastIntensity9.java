@@ -43,6 +43,11 @@ public class ImplFastIntensity9<T extends ImageSingleBand> extends FastCornerInt
 		super(helper);
 	}
 
+	@Override
+	protected ImplFastIntensity9<T> newInstance() {
+		return new ImplFastIntensity9<T>(helper.newInstance());
+	}
+
 	@Override
 	protected boolean checkLower( int index )
 	{
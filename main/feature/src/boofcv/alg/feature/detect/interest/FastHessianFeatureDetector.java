@@ -154,12 +154,6 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	 * @param integral Image transformed into an integral image.
 	 */
 	public void detect( II integral ) {
-		if( intensity == null ) {
-			intensity = new ImageFloat32[3];
-			for( int i = 0; i < intensity.length; i++ ) {
-				intensity[i] = new ImageFloat32(integral.width,integral.height);
-			}
-		}
 		foundPoints.reset();
 
 		// computes feature intensity every 'skip' pixels
@@ -200,6 +194,13 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 		int w = integral.width/skip;
 		int h = integral.height/skip;
 
+		if( intensity == null ) {
+			intensity = new ImageFloat32[3];
+			for( int i = 0; i < intensity.length; i++ ) {
+				intensity[i] = new ImageFloat32(integral.width,integral.height);
+			}
+		}
+
 		// resize the output intensity image taking in account subsampling
 		for( int i = 0; i < intensity.length; i++ ) {
 			intensity[i].reshape(w,h);
@@ -215,7 +216,8 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 
 			// find maximum in scale space
 			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+				findLocalScaleSpaceMax(intensity[spaceIndex],intensity[(spaceIndex + 1) % 3],
+						intensity[(spaceIndex + 2) % 3],featureSize,i-1,skip);
 			}
 		}
 	}
@@ -223,31 +225,31 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	/**
 	 * Looks for features which are local maximums in the image and scale-space.
 	 *
+	 * @param intensity0 Feature intensity in the scale below.
+	 * @param intensity1 Feature intensity in the scale being searched.
+	 * @param intensity2 Feature intensity in the scale above.
 	 * @param size Size of features in different scale-spaces.
 	 * @param level Which level in the scale-space
 	 * @param skip How many pixels are skipped over.
 	 */
-	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
-
-		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
-		ImageFloat32 inten1 = intensity[index1];
-		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index2], 0);
+	protected void findLocalScaleSpaceMax(ImageFloat32 intensity0, ImageFloat32 intensity1, ImageFloat32 intensity2,
+										  int []size, int level, int skip) {
+		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity0, 0);
+		ImageFloat32 inten1 = intensity1;
+		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity2, 0);
 
 		// find local maximums in image 2D space.  Borders need to be ignored since
 		// false positives are found around them as an artifact of pixels outside being
 		// treated as being zero.
 		foundFeatures.reset();
 		extractor.setIgnoreBorder(size[level] / (2 * skip));
-		extractor.process(intensity[index1],null,null,null,foundFeatures);
+		extractor.process(inten1,null,null,null,foundFeatures);
 
 		// Can't consider feature which are right up against the border since they might not be a true local
 		// maximum when you consider the features on the other side of the ignore border
 		int ignoreRadius = extractor.getIgnoreBorder() + extractor.getSearchRadius();
-		int ignoreWidth = intensity[index1].width-ignoreRadius;
-		int ignoreHeight = intensity[index1].height-ignoreRadius;
+		int ignoreWidth = inten1.width-ignoreRadius;
+		int ignoreHeight = inten1.height-ignoreRadius;
 
 		// number of features which can be added
 		int numberRemaining;
@@ -255,7 +257,7 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 		// if configured to do so, only select the features with the highest intensity
 		QueueCorner features;
 		if( sortBest != null ) {
-			sortBest.process(intensity[index1],foundFeatures,true);
+			sortBest.process(inten1,foundFeatures,true);
 			features = sortBest.getBestCorners();
 			numberRemaining = maxFeaturesPerScale;
 		} else {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastHessianFeatureDetector}.  Inside each octave the Hessian intensity
+ * image for every feature size is computed in its own thread.  Once all the intensity images are available the
+ * search for local maximums in scale-space is done in the same order as the single threaded version, producing
+ * identical results.  Memory usage is higher since an intensity image is kept for every scale in the octave
+ * instead of only three.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageSingleBand> extends FastHessianFeatureDetector<II> {
+
+	// intensity image for each scale inside the octave
+	private ImageFloat32 intensityMT[] = new ImageFloat32[0];
+
+	/**
+	 * See {@link FastHessianFeatureDetector#FastHessianFeatureDetector} for a description of each parameter.
+	 */
+	public FastHessianFeatureDetector_MT(NonMaxSuppression extractor, int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves, int scaleStepSize) {
+		super(extractor, maxFeaturesPerScale, initialSampleRate, initialSize,
+				numberScalesPerOctave, numberOfOctaves, scaleStepSize);
+	}
+
+	@Override
+	protected void detectOctave( final II integral , final int skip , final int ...featureSize ) {
+
+		int w = integral.width/skip;
+		int h = integral.height/skip;
+
+		if( intensityMT.length != featureSize.length ) {
+			intensityMT = new ImageFloat32[ featureSize.length ];
+			for( int i = 0; i < intensityMT.length; i++ ) {
+				intensityMT[i] = new ImageFloat32(integral.width,integral.height);
+			}
+		}
+
+		// resize the output intensity image taking in account subsampling
+		for( int i = 0; i < intensityMT.length; i++ ) {
+			intensityMT[i].reshape(w,h);
+		}
+
+		// compute feature intensity in each level
+		BoofConcurrency.loopFor(0, featureSize.length, new IntTask() {
+			@Override
+			public void process(int index) {
+				GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[index],intensityMT[index]);
+			}
+		});
+
+		// find maximum in scale space
+		for( int i = 1; i < featureSize.length-1; i++ ) {
+			findLocalScaleSpaceMax(intensityMT[i-1],intensityMT[i],intensityMT[i+1],featureSize,i,skip);
+		}
+	}
+}
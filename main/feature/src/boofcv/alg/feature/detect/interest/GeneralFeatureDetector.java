@@ -20,6 +20,7 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.alg.feature.detect.extract.SelectLimitFeatures;
 import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
@@ -36,7 +37,10 @@ import georegression.struct.point.Point2D_I16;
  *
  * <p>
  * If a maximum number of features is specified then the N most intense features are returned.  By default all
- * found features are returned.  Set to a value &le; 0 to detect all features.
+ * found features are returned.  Set to a value &le; 0 to detect all features.  How the features are selected
+ * can be changed with {@link #setSelector(SelectLimitFeatures)}, e.g. to spread them out across the image.
+ * Selectors which enforce additional constraints, see {@link SelectLimitFeatures#isSelectWithoutLimit()}, are
+ * run even when there is no maximum.
  * </p>
  *
  * @param <I> Input image type.
@@ -54,8 +58,8 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 	protected QueueCorner excludeMaximum;
 	protected QueueCorner excludeMinimum;
 
-	// selects the features with the largest intensity
-	protected SelectNBestFeatures selectBest = new SelectNBestFeatures(10);
+	// selects which features are returned when more than the maximum are found
+	protected SelectLimitFeatures selectBest = new SelectNBestFeatures(10);
 	// maximum number of features it will detect across the image
 	protected int maxFeatures;
 
@@ -108,13 +112,17 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 		intensity.process(image, derivX, derivY, derivXX, derivYY, derivXY);
 		ImageFloat32 intensityImage = intensity.getIntensity();
 
+		foundMinimum.reset();
+		foundMaximum.reset();
+
+		// a value of -1 indicates that there is no limit on the number of features
 		int numSelectMin = -1;
 		int numSelectMax = -1;
 		if( maxFeatures > 0 ) {
 			if( intensity.localMinimums() )
-				numSelectMin = excludeMinimum == null ? maxFeatures : maxFeatures - excludeMinimum.size;
+				numSelectMin = excludeMinimum == null ? maxFeatures : Math.max(0,maxFeatures - excludeMinimum.size);
 			if( intensity.localMaximums() )
-				numSelectMax = excludeMaximum == null ? maxFeatures : maxFeatures - excludeMaximum.size;
+				numSelectMax = excludeMaximum == null ? maxFeatures : Math.max(0,maxFeatures - excludeMaximum.size);
 
 			// return without processing if there is no room to detect any more features
 			if( numSelectMin <= 0 && numSelectMax <= 0 )
@@ -135,28 +143,32 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 			}
 		}
 
-		foundMinimum.reset();
-		foundMaximum.reset();
 		if (intensity.hasCandidates()) {
 			extractor.process(intensityImage, intensity.getCandidatesMin(), intensity.getCandidatesMax(),foundMinimum, foundMaximum);
 		} else {
 			extractor.process(intensityImage, null, null,foundMinimum, foundMaximum);
 		}
 
-		// optionally select the most intense features only
+		// optionally select a subset of the features
 		selectBest(intensityImage, foundMinimum, numSelectMin, false);
 		selectBest(intensityImage, foundMaximum, numSelectMax, true);
 	}
 
 	private void selectBest(ImageFloat32 intensityImage, QueueCorner found , int numSelect, boolean positive) {
-		if (numSelect > 0) {
-			selectBest.setN(numSelect);
-			selectBest.process(intensityImage, found,positive);
-			QueueCorner best = selectBest.getBestCorners();
+		if( numSelect == 0 ) {
 			found.reset();
-			for( int i = 0; i < best.size; i++ ) {
-				found.grow().set(best.get(i));
-			}
+			return;
+		}
+		// with no limit only selectors which enforce other constraints need to be run
+		if( numSelect < 0 && !selectBest.isSelectWithoutLimit() )
+			return;
+
+		selectBest.setN(numSelect);
+		selectBest.process(intensityImage, found,positive);
+		QueueCorner best = selectBest.getBestCorners();
+		found.reset();
+		for( int i = 0; i < best.size; i++ ) {
+			found.grow().set(best.get(i));
 		}
 	}
 
@@ -171,6 +183,20 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 		this.maxFeatures = numFeatures;
 	}
 
+	/**
+	 * Changes the algorithm used to select a subset of the found features.  By default {@link SelectNBestFeatures}
+	 * is used.
+	 *
+	 * @param selector The feature selector
+	 */
+	public void setSelector( SelectLimitFeatures selector ) {
+		this.selectBest = selector;
+	}
+
+	public SelectLimitFeatures getSelector() {
+		return selectBest;
+	}
+
 	/**
 	 * If the image gradient is required for calculations.
 	 *
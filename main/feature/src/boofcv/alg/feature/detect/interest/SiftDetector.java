@@ -21,14 +21,18 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.NonMaxLimiter;
 import boofcv.abst.filter.convolve.ImageConvolveSparse;
 import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.factory.filter.convolve.FactoryConvolveSparse;
+import boofcv.struct.QueueCorner;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel2D_F32;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
 import org.ddogleg.struct.FastQueue;
 
 import static boofcv.alg.feature.detect.interest.FastHessianFeatureDetector.polyPeak;
@@ -57,6 +61,13 @@ import static boofcv.alg.feature.detect.interest.FastHessianFeatureDetector.poly
  * </ol>
  * <p>Where N is the number of scale parameters.  There are N+3 scale images and N+2 DoG images in an octave.
  *
+ * <h2>Concurrency</h2>
+ * <p>If {@link BoofConcurrency#USE_CONCURRENT} is true then the spatial extremes in each DoG image are found
+ * using the (concurrent) non-maximum suppression algorithm, then the scale-space, edge, and interpolation
+ * steps are run for all the scales in an octave in parallel.  Each scale is processed by its own copy of the
+ * detector and its detections are handed to {@link #handleScaleDetections} in order of increasing scale,
+ * which produces the same results in the same order as the single threaded version.</p>
+ *
  * <h2>Edge Detection</h2>
  * <p>Edges can also cause local extremes (false positives) in the DoG image.  To remove those false positives an
  * edge detector is proposed by Lowe.  The edge detector is turned with the parameter 'r' and a point is considered
@@ -109,6 +120,12 @@ public class SiftDetector {
 	// finds features from 2D intensity image
 	private NonMaxLimiter extractor;
 
+	// Copies of the detector used to process each scale in the octave concurrently.  Null inside of a copy.
+	private FastQueue<SiftDetector> scaleDetectors;
+	// spatial extremes found in the DoG image of a scale.  Only used inside a copy.
+	private FastQueue<NonMaxLimiter.LocalExtreme> scaleExtremes;
+	private QueueCorner scaleExtremeLocations;
+
 	/**
 	 * Configures SIFT detector
 	 *
@@ -135,6 +152,27 @@ public class SiftDetector {
 		this.edgeThreshold = (edgeR+1)*(edgeR+1)/edgeR;
 
 		createSparseDerivatives();
+
+		scaleDetectors = new FastQueue<SiftDetector>(1,SiftDetector.class,true) {
+			@Override
+			protected SiftDetector createInstance() {
+				return new SiftDetector(SiftDetector.this);
+			}
+		};
+	}
+
+	/**
+	 * Creates a copy which is used to process a single scale concurrently.  The scale-space is shared and
+	 * the copy does not have an extractor.
+	 */
+	private SiftDetector( SiftDetector original ) {
+		this.scaleSpace = original.scaleSpace;
+		this.edgeThreshold = original.edgeThreshold;
+
+		scaleExtremes = new FastQueue<NonMaxLimiter.LocalExtreme>(NonMaxLimiter.LocalExtreme.class,true);
+		scaleExtremeLocations = new QueueCorner();
+
+		createSparseDerivatives();
 	}
 
 	/**
@@ -172,22 +210,90 @@ public class SiftDetector {
 			pixelScaleToInput = scaleSpace.pixelScaleCurrentToInput();
 
 			// detect features in the image
-			for (int j = 1; j < scaleSpace.getNumScales()+1; j++) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				detectOctaveConcurrent();
+			} else {
+				for (int j = 1; j < scaleSpace.getNumScales()+1; j++) {
+					selectScale(j);
+					detectFeatures(j);
+				}
+			}
+		} while( scaleSpace.computeNextOctave() );
+	}
 
-				// not really sure how to compute the scale for features found at a particular DoG image
-				// using the average resulted in less visually appealing circles in a test image
-				sigmaLower  = scaleSpace.computeSigmaScale( j - 1);
-				sigmaTarget = scaleSpace.computeSigmaScale( j    );
-				sigmaUpper  = scaleSpace.computeSigmaScale( j + 1);
+	/**
+	 * Sets up the local scale-space around the specified scale in the current octave
+	 */
+	private void selectScale( int scaleIndex ) {
+		// not really sure how to compute the scale for features found at a particular DoG image
+		// using the average resulted in less visually appealing circles in a test image
+		sigmaLower  = scaleSpace.computeSigmaScale( scaleIndex - 1);
+		sigmaTarget = scaleSpace.computeSigmaScale( scaleIndex    );
+		sigmaUpper  = scaleSpace.computeSigmaScale( scaleIndex + 1);
+
+		// grab the local DoG scale space images
+		dogLower  = scaleSpace.getDifferenceOfGaussian(scaleIndex-1);
+		dogTarget = scaleSpace.getDifferenceOfGaussian(scaleIndex  );
+		dogUpper  = scaleSpace.getDifferenceOfGaussian(scaleIndex+1);
+	}
 
-				// grab the local DoG scale space images
-				dogLower  = scaleSpace.getDifferenceOfGaussian(j-1);
-				dogTarget = scaleSpace.getDifferenceOfGaussian(j  );
-				dogUpper  = scaleSpace.getDifferenceOfGaussian(j+1);
+	/**
+	 * Detects features in all the scales of the current octave concurrently.  Spatial extremes are found one
+	 * scale at a time, then each scale is processed in its own thread by a copy of the detector.
+	 */
+	private void detectOctaveConcurrent() {
+		int numScales = scaleSpace.getNumScales();
+		scaleDetectors.resize(numScales);
+
+		for (int j = 1; j < numScales+1; j++) {
+			extractor.process(scaleSpace.getDifferenceOfGaussian(j));
+			scaleDetectors.get(j-1).saveExtremes(extractor.getLocalExtreme());
+		}
 
-				detectFeatures(j);
+		BoofConcurrency.loopFor(0, numScales, new IntTask() {
+			@Override
+			public void process(int index) {
+				SiftDetector alg = scaleDetectors.get(index);
+				alg.pixelScaleToInput = pixelScaleToInput;
+				alg.detections.reset();
+				alg.selectScale(index+1);
+				alg.processExtremes(alg.scaleExtremes);
 			}
-		} while( scaleSpace.computeNextOctave() );
+		});
+
+		for (int j = 1; j < numScales+1; j++) {
+			handleScaleDetections(j, scaleDetectors.get(j-1).detections);
+		}
+	}
+
+	/**
+	 * Saves a copy of the extremes since the extractor recycles its storage
+	 */
+	private void saveExtremes( FastQueue<NonMaxLimiter.LocalExtreme> found ) {
+		scaleExtremes.reset();
+		scaleExtremeLocations.reset();
+		for (int i = 0; i < found.size; i++) {
+			NonMaxLimiter.LocalExtreme e = found.get(i);
+			Point2D_I16 location = scaleExtremeLocations.grow();
+			location.set(e.location);
+			scaleExtremes.grow().set(e.intensity, e.max, location);
+		}
+	}
+
+	/**
+	 * Called when features in an octave are detected concurrently.  Adds the detections from a single scale to the
+	 * list of detections and invokes {@link #handleDetection} on each one.  Scales are passed in with
+	 * increasing order.
+	 *
+	 * @param scaleIndex Which scale in the octave the features were detected in.
+	 * @param found Detections in the scale.  Storage is recycled.
+	 */
+	protected void handleScaleDetections( int scaleIndex , FastQueue<ScalePoint> found ) {
+		for (int i = 0; i < found.size; i++) {
+			ScalePoint p = detections.grow();
+			p.set(found.get(i));
+			handleDetection(p);
+		}
 	}
 
 	/**
@@ -198,8 +304,16 @@ public class SiftDetector {
 	 */
 	protected void detectFeatures( int scaleIndex ) {
 		extractor.process(dogTarget);
-		FastQueue<NonMaxLimiter.LocalExtreme> found = extractor.getLocalExtreme();
+		processExtremes(extractor.getLocalExtreme());
+	}
 
+	/**
+	 * Examines spatial extremes in the DoG image at the current scale and processes the ones which are also
+	 * extremes in scale-space.
+	 *
+	 * @param found Local extremes found spatially in the target DoG image
+	 */
+	private void processExtremes( FastQueue<NonMaxLimiter.LocalExtreme> found ) {
 		derivXX.setImage(dogTarget);
 		derivXY.setImage(dogTarget);
 		derivYY.setImage(dogTarget);
@@ -22,6 +22,9 @@ import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.IntTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
@@ -42,6 +45,12 @@ import boofcv.struct.image.ImageFloat32;
  * </ul>
  *
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then each Gaussian blur is split into bands of rows for the
+ * horizontal pass and bands of columns for the vertical pass, and the Difference-of-Gaussian images in an octave
+ * are computed in parallel.  The output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
  * [1] Lowe, D. "Distinctive image features from scale-invariant keypoints".  International Journal of
  * Computer Vision, 60, 2 (2004), pp.91--110.
  * </p>
@@ -49,6 +58,9 @@ import boofcv.struct.image.ImageFloat32;
  * @author Peter Abeles
  */
 public class SiftScaleSpace {
+	// minimum number of rows or columns processed by a thread when blurring
+	private static final int MIN_BLOCK = 16;
+
 	// all the scale images across an octave
 	ImageFloat32 octaveImages[];
 	// images which are the difference between the scales
@@ -223,7 +235,19 @@ public class SiftScaleSpace {
 
 		for (int i = 1; i < numScales+3; i++) {
 			differenceOfGaussian[i-1].reshape(tempImage0.width, tempImage0.height);
-			PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(1, numScales + 3, new IntTask() {
+				@Override
+				public void process(int i) {
+					PixelMath.subtract(octaveImages[i], octaveImages[i - 1], differenceOfGaussian[i - 1]);
+				}
+			});
+		} else {
+			for (int i = 1; i < numScales+3; i++) {
+				PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+			}
 		}
 	}
 
@@ -238,10 +262,32 @@ public class SiftScaleSpace {
 	/**
 	 * Applies the separable kernel to the input image and stores the results in the output image.
 	 */
-	void applyGaussian(ImageFloat32 input, ImageFloat32 output, Kernel1D kernel) {
+	void applyGaussian(final ImageFloat32 input, final ImageFloat32 output, final Kernel1D kernel) {
 		tempBlur.reshape(input.width, input.height);
-		GConvolveImageOps.horizontalNormalized(kernel, input, tempBlur);
-		GConvolveImageOps.verticalNormalized(kernel, tempBlur,output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			// horizontal convolution only depends on pixels in the same row and vertical convolution
+			// only on pixels in the same column, so sub-images produce identical results
+			BoofConcurrency.loopBlocks(0, input.height, MIN_BLOCK, new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					GConvolveImageOps.horizontalNormalized(kernel,
+							input.subimage(0, y0, input.width, y1, null),
+							tempBlur.subimage(0, y0, input.width, y1, null));
+				}
+			});
+			BoofConcurrency.loopBlocks(0, input.width, MIN_BLOCK, new IntRangeTask() {
+				@Override
+				public void process(int x0, int x1) {
+					GConvolveImageOps.verticalNormalized(kernel,
+							tempBlur.subimage(x0, 0, x1, input.height, null),
+							output.subimage(x0, 0, x1, input.height, null));
+				}
+			});
+		} else {
+			GConvolveImageOps.horizontalNormalized(kernel, input, tempBlur);
+			GConvolveImageOps.verticalNormalized(kernel, tempBlur,output);
+		}
 	}
 
 	public int getNumScales() {
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Computes the disparity score for a rectangular region using the Hamming distance between census transformed
+ * images.  Each pixel in the input images encodes the census bit string of its local neighborhood, see
+ * {@link boofcv.alg.transform.census.CensusTransform}, and the score is the number of bits which differ summed
+ * across the region.  Since the census transform only encodes the relative ordering of pixels the score is
+ * robust to changes in gain and bias between the two cameras.
+ * </p>
+ *
+ * <p>
+ * Scores are computed and stored using the same row format and box filter strategy as
+ * {@link DisparityScoreSadRect}, which allows it to be used with any of the same {@link DisparitySelect}
+ * implementations.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * ECCV 1994
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class DisparityScoreHammingRect
+		<Input extends ImageSingleBand, Disparity extends ImageSingleBand>
+	extends DisparityScoreRowFormat<Input,Disparity>
+{
+	public DisparityScoreHammingRect(int minDisparity, int maxDisparity,
+									 int regionRadiusX, int regionRadiusY) {
+		super(minDisparity, maxDisparity, regionRadiusX, regionRadiusY);
+	}
+}
@@ -107,6 +107,35 @@ public abstract class DisparityScoreRowFormat
 	 */
 	public abstract void _process( Input left , Input right , Disparity disparity );
 
+	/**
+	 * Declares internal memory and configures the disparity selection for the specified images.  Must be called
+	 * before {@link #processRows}.
+	 *
+	 * @param left Left rectified stereo image.
+	 * @param disparity Disparity image which the output is written to
+	 */
+	protected abstract void initialize( Input left , Disparity disparity );
+
+	/**
+	 * Computes the disparity for a horizontal band of the input image.  The rolling window is initialized using
+	 * the rows at the top of the band.  Disparity is computed for rows row0 + {@link #getBorderY()} to
+	 * row1 - {@link #getBorderY()}, exclusive.
+	 *
+	 * @param left Left rectified stereo image.
+	 * @param right Right rectified stereo image.
+	 * @param row0 First input row in the band, inclusive.
+	 * @param row1 Last input row in the band, exclusive.
+	 */
+	protected abstract void processRows( Input left , Input right , int row0 , int row1 );
+
+	/**
+	 * Creates a new instance with the same configuration.  Used to process different bands of the image
+	 * inside of different threads.
+	 *
+	 * @return New instance with the same configuration
+	 */
+	public abstract DisparityScoreRowFormat<Input,Disparity> concurrentCopy();
+
 	public abstract Class<Input> getInputType();
 
 	public abstract Class<Disparity> getDisparityType();
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DisparityScoreRowFormat}.  The image is split into horizontal bands which are
+ * processed by different threads.  Each thread uses its own copy of the algorithm, which initializes its rolling
+ * window using the {@link #getBorderY() border} rows above its band, then computes the scores and selects the
+ * disparity for each row in its band.  Since the bands don't overlap in the output they can be written directly into
+ * the disparity image.
+ * </p>
+ *
+ * <p>
+ * The output is identical to the single threaded version for integer images.  For floating point images each
+ * band starts its rolling sums at a different row, so the scores can differ by round off error and the sub-pixel
+ * disparity can differ slightly from the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreRowFormat_MT
+		<Input extends ImageSingleBand, Disparity extends ImageSingleBand>
+		extends DisparityScoreRowFormat<Input,Disparity>
+{
+	// algorithm which is copied to process each band
+	DisparityScoreRowFormat<Input,Disparity> alg;
+
+	// copy of the algorithm for each band
+	FastQueue<DisparityScoreRowFormat<Input,Disparity>> workers;
+
+	/**
+	 * Specifies the algorithm which processes each band.  Its configuration is copied.
+	 *
+	 * @param alg The single threaded algorithm.
+	 */
+	public DisparityScoreRowFormat_MT( DisparityScoreRowFormat<Input,Disparity> alg ) {
+		super(alg.minDisparity, alg.maxDisparity, alg.radiusX, alg.radiusY);
+		this.alg = alg;
+
+		workers = new FastQueue<DisparityScoreRowFormat<Input,Disparity>>(1,(Class)DisparityScoreRowFormat.class,true) {
+			@Override
+			protected DisparityScoreRowFormat<Input,Disparity> createInstance() {
+				return DisparityScoreRowFormat_MT.this.alg.concurrentCopy();
+			}
+		};
+	}
+
+	@Override
+	public void _process( final Input left , final Input right , final Disparity disparity ) {
+		final int borderY = alg.getBorderY();
+
+		// Each band recomputes 2*borderY rows to initialize its window.  Make sure that's small relative to the band
+		int minBlock = Math.max(1,4*borderY);
+
+		BoofConcurrency.loopBlocks(borderY, left.height - borderY, minBlock, workers,
+				new IntRangeObjectTask<DisparityScoreRowFormat<Input,Disparity>>() {
+			@Override
+			public void process(DisparityScoreRowFormat<Input,Disparity> worker, int minInclusive, int maxExclusive) {
+				worker.lengthHorizontal = lengthHorizontal;
+				worker.initialize(left, disparity);
+				worker.processRows(left, right, minInclusive - borderY, maxExclusive + borderY);
+			}
+		});
+	}
+
+	@Override
+	protected void initialize( Input left , Disparity disparity ) {
+		alg.lengthHorizontal = lengthHorizontal;
+		alg.initialize(left, disparity);
+	}
+
+	@Override
+	protected void processRows( Input left , Input right , int row0 , int row1 ) {
+		alg.processRows(left, right, row0, row1);
+	}
+
+	@Override
+	public DisparityScoreRowFormat_MT<Input,Disparity> concurrentCopy() {
+		return new DisparityScoreRowFormat_MT<Input,Disparity>(alg.concurrentCopy());
+	}
+
+	@Override
+	public Class<Input> getInputType() {
+		return alg.getInputType();
+	}
+
+	@Override
+	public Class<Disparity> getDisparityType() {
+		return alg.getDisparityType();
+	}
+
+	@Override
+	public int getBorderX() {
+		return alg.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return alg.getBorderY();
+	}
+}
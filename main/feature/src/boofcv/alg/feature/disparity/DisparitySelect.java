@@ -58,6 +58,13 @@ public interface DisparitySelect<Array , T extends ImageSingleBand> {
 	 */
 	public void process(int row, Array scoresArray);
 
+	/**
+	 * Creates a new instance with the same configuration.  Used to select disparities inside of a different thread.
+	 *
+	 * @return New instance with the same configuration
+	 */
+	public DisparitySelect<Array,T> concurrentCopy();
+
 	/**
 	 * Type of image the disparity is
 	 *
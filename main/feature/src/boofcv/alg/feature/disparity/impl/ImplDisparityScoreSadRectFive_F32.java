@@ -63,6 +63,12 @@ public class ImplDisparityScoreSadRectFive_F32<Disparity extends ImageSingleBand
 
 	@Override
 	public void _process( ImageFloat32 left , ImageFloat32 right , Disparity disparity ) {
+		initialize(left, disparity);
+		processRows(left, right, 0, left.height);
+	}
+
+	@Override
+	protected void initialize( ImageFloat32 left , Disparity disparity ) {
 		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
 			horizontalScore = new float[regionHeight][lengthHorizontal];
 			verticalScore = new float[regionHeight][lengthHorizontal];
@@ -71,18 +77,27 @@ public class ImplDisparityScoreSadRectFive_F32<Disparity extends ImageSingleBand
 		}
 
 		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+	}
 
+	@Override
+	protected void processRows( ImageFloat32 left , ImageFloat32 right , int row0 , int row1 ) {
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(left, right, row0, row1);
+	}
+
+	@Override
+	public ImplDisparityScoreSadRectFive_F32<Disparity> concurrentCopy() {
+		return new ImplDisparityScoreSadRectFive_F32<Disparity>(minDisparity,maxDisparity,radiusX,radiusY,
+				computeDisparity.concurrentCopy());
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow( ImageFloat32 left, ImageFloat32 right ) {
+	private void computeFirstRow( ImageFloat32 left, ImageFloat32 right, int row0 ) {
 		float firstRow[] = verticalScore[0];
 		activeVerticalScore = 1;
 
@@ -91,7 +106,7 @@ public class ImplDisparityScoreSadRectFive_F32<Disparity extends ImageSingleBand
 
 			float scores[] = horizontalScore[row];
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
+			UtilDisparityScore.computeScoreRow(left, right, row0+row, scores,
 					minDisparity, maxDisparity, regionWidth, elementScore);
 		}
 
@@ -110,10 +125,10 @@ public class ImplDisparityScoreSadRectFive_F32<Disparity extends ImageSingleBand
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows( ImageFloat32 left, ImageFloat32 right )
+	private void computeRemainingRows( ImageFloat32 left, ImageFloat32 right, int row0, int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {
-			int oldRow = row%regionHeight;
+		for( int row = row0+regionHeight; row < row1; row++ , activeVerticalScore++) {
+			int oldRow = (row-row0)%regionHeight;
 			float previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];
 			float active[] = verticalScore[ activeVerticalScore % regionHeight ];
 
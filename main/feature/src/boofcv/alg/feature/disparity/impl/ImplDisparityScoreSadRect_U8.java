@@ -62,6 +62,12 @@ public class ImplDisparityScoreSadRect_U8<Disparity extends ImageSingleBand>
 
 	@Override
 	public void _process( ImageUInt8 left , ImageUInt8 right , Disparity disparity ) {
+		initialize(left, disparity);
+		processRows(left, right, 0, left.height);
+	}
+
+	@Override
+	protected void initialize( ImageUInt8 left , Disparity disparity ) {
 		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
 			horizontalScore = new int[regionHeight][lengthHorizontal];
 			verticalScore = new int[lengthHorizontal];
@@ -69,24 +75,33 @@ public class ImplDisparityScoreSadRect_U8<Disparity extends ImageSingleBand>
 		}
 
 		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+	}
 
+	@Override
+	protected void processRows( ImageUInt8 left , ImageUInt8 right , int row0 , int row1 ) {
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(left, right, row0, row1);
+	}
+
+	@Override
+	public ImplDisparityScoreSadRect_U8<Disparity> concurrentCopy() {
+		return new ImplDisparityScoreSadRect_U8<Disparity>(minDisparity,maxDisparity,radiusX,radiusY,
+				computeDisparity.concurrentCopy());
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(ImageUInt8 left, ImageUInt8 right ) {
+	private void computeFirstRow(ImageUInt8 left, ImageUInt8 right, int row0 ) {
 		// compute horizontal scores for first row block
 		for( int row = 0; row < regionHeight; row++ ) {
 
 			int scores[] = horizontalScore[row];
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
+			UtilDisparityScore.computeScoreRow(left, right, row0+row, scores,
 					minDisparity,maxDisparity,regionWidth,elementScore);
 		}
 
@@ -100,7 +115,7 @@ public class ImplDisparityScoreSadRect_U8<Disparity extends ImageSingleBand>
 		}
 
 		// compute disparity
-		computeDisparity.process(radiusY, verticalScore);
+		computeDisparity.process(row0+radiusY, verticalScore);
 	}
 
 	/**
@@ -108,10 +123,10 @@ public class ImplDisparityScoreSadRect_U8<Disparity extends ImageSingleBand>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows( ImageUInt8 left, ImageUInt8 right )
+	private void computeRemainingRows( ImageUInt8 left, ImageUInt8 right, int row0, int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ ) {
-			int oldRow = row%regionHeight;
+		for( int row = row0+regionHeight; row < row1; row++ ) {
+			int oldRow = (row-row0)%regionHeight;
 
 			// subtract first row from vertical score
 			int scores[] = horizontalScore[oldRow];
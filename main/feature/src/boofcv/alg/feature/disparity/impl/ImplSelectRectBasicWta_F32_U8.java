@@ -61,6 +61,11 @@ public class ImplSelectRectBasicWta_F32_U8 extends SelectRectBasicWta<float[],Im
 		}
 	}
 
+	@Override
+	public ImplSelectRectBasicWta_F32_U8 concurrentCopy() {
+		return new ImplSelectRectBasicWta_F32_U8();
+	}
+
 	@Override
 	public Class<ImageUInt8> getDisparityType() {
 		return ImageUInt8.class;
@@ -61,6 +61,11 @@ public class ImplSelectRectBasicWta_S32_U8 extends SelectRectBasicWta<int[],Imag
 		}
 	}
 
+	@Override
+	public ImplSelectRectBasicWta_S32_U8 concurrentCopy() {
+		return new ImplSelectRectBasicWta_S32_U8();
+	}
+
 	@Override
 	public Class<ImageUInt8> getDisparityType() {
 		return ImageUInt8.class;
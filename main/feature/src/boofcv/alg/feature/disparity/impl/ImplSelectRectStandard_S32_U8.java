@@ -45,6 +45,13 @@ public class ImplSelectRectStandard_S32_U8 extends ImplSelectRectStandardBase_S3
 		imageDisparity.data[index] = (byte)value;
 	}
 
+	@Override
+	public ImplSelectRectStandard_S32_U8 concurrentCopy() {
+		ImplSelectRectStandard_S32_U8 ret = new ImplSelectRectStandard_S32_U8(maxError, rightToLeftTolerance, 0);
+		ret.textureThreshold = textureThreshold;
+		return ret;
+	}
+
 	@Override
 	public Class<ImageUInt8> getDisparityType() {
 		return ImageUInt8.class;
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Matching cost computed from the absolute difference in pixel intensity.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAbsoluteDifference implements SgmDisparityCost<ImageUInt8> {
+
+	// converts the difference in intensity into a cost
+	private static final int SCALE = MAX_COST/255;
+
+	ImageUInt8 left;
+	ImageUInt8 right;
+
+	@Override
+	public void setImages( ImageUInt8 left , ImageUInt8 right ) {
+		this.left = left;
+		this.right = right;
+	}
+
+	@Override
+	public void compute( int x , int y , int minDisparity , int rangeDisparity , int cost[] ) {
+		int valueLeft = left.data[left.startIndex + y*left.stride + x] & 0xFF;
+
+		// number of disparities which don't go outside the image
+		int localRange = Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+
+		int indexRight = right.startIndex + y*right.stride + x - minDisparity;
+		for( int d = 0; d < localRange; d++ , indexRight-- ) {
+			cost[d] = SCALE*Math.abs(valueLeft - (right.data[indexRight] & 0xFF));
+		}
+		for( int d = localRange; d < rangeDisparity; d++ ) {
+			cost[d] = MAX_COST;
+		}
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+}
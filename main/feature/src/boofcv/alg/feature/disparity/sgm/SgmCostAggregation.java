@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Aggregates the matching cost along 4 or 8 paths which pass through each pixel, as is done in Semi-Global
+ * Matching (SGM) [1].  Along a path in direction r the cost is recursively defined as:<br>
+ * L(p,d) = C(p,d) + min( L(p-r,d) , L(p-r,d&plusmn;1) + P1 , min<sub>i</sub> L(p-r,i) + P2 ) - min<sub>k</sub> L(p-r,k)<br>
+ * where C is the matching cost, P1 is the penalty for a small change in disparity, and P2 the penalty for
+ * a large change in disparity.  The aggregated cost is the sum of L across all the paths.
+ * </p>
+ *
+ * <p>
+ * Memory: The matching cost is computed on demand by {@link SgmDisparityCost}, so only the aggregated cost is
+ * stored.  Since C &le; {@link SgmDisparityCost#MAX_COST} and P2 &le; MAX_COST, L along a single path is at most
+ * 2*MAX_COST and the sum across 8 paths always fits inside a short.  Only a single line of working memory is
+ * needed for each path.
+ * </p>
+ *
+ * <p>
+ * The aggregated cost is not bounded and requires 2*width*height*rangeDisparity bytes, e.g. 315 MB for a
+ * 1280x960 image with 128 disparities.  Every path, including the vertical ones, passes through the entire image
+ * before the disparity can be selected, so the aggregated cost for every pixel is kept in memory.  If the number
+ * of elements can't be stored inside a single array an {@link IllegalArgumentException} is thrown.
+ * </p>
+ *
+ * <p>
+ * The pixels along each path are referred to as a line.  Lines in the same direction never share pixels,
+ * which allows them to be processed independently.  See {@link SgmCostAggregation_MT}.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation {
+
+	// direction of each path. The first 4 are used with 4 paths
+	protected static final int DIRECTIONS[][] = new int[][]{
+			{1,0},{-1,0},{0,1},{0,-1},{1,1},{-1,-1},{1,-1},{-1,1}};
+
+	// penalty for a change in disparity of one
+	protected int penalty1;
+	// penalty for a change in disparity larger than one
+	protected int penalty2;
+	// number of paths which are considered. 4 or 8
+	protected int pathsConsidered;
+
+	// the matching cost
+	protected SgmDisparityCost cost;
+
+	// shape of the cost volume
+	protected int width,height;
+	protected int minDisparity,rangeDisparity;
+
+	/**
+	 * The aggregated cost.  The cost for pixel (x,y) at disparity minDisparity+d is at
+	 * index (y*width + x)*rangeDisparity + d
+	 */
+	protected short aggregated[] = new short[0];
+
+	// working memory used when processing lines in the calling thread
+	protected Workspace workspace = new Workspace();
+
+	/**
+	 * Configures the aggregation
+	 *
+	 * @param penalty1 Penalty for a change in disparity of one.  Try 200
+	 * @param penalty2 Penalty for a change in disparity larger than one.  Must be &le; MAX_COST. Try 2000
+	 * @param pathsConsidered Number of paths which are considered.  4 or 8
+	 */
+	public SgmCostAggregation( int penalty1 , int penalty2 , int pathsConsidered ) {
+		if( penalty1 < 0 || penalty1 > penalty2 )
+			throw new IllegalArgumentException("Penalties must be 0 <= penalty1 <= penalty2");
+		if( penalty2 > SgmDisparityCost.MAX_COST )
+			throw new IllegalArgumentException("penalty2 must be <= "+SgmDisparityCost.MAX_COST);
+		if( pathsConsidered != 4 && pathsConsidered != 8 )
+			throw new IllegalArgumentException("Number of paths must be 4 or 8");
+
+		this.penalty1 = penalty1;
+		this.penalty2 = penalty2;
+		this.pathsConsidered = pathsConsidered;
+	}
+
+	/**
+	 * Computes the aggregated cost.  {@link SgmDisparityCost#setImages} must have already been called.
+	 *
+	 * @param cost Computes the matching cost
+	 * @param width Image width
+	 * @param height Image height
+	 * @param minDisparity Minimum disparity
+	 * @param rangeDisparity Number of disparities
+	 * @throws IllegalArgumentException If the aggregated cost is too large to be stored inside an array
+	 */
+	public void process( SgmDisparityCost cost , int width , int height , int minDisparity , int rangeDisparity ) {
+		long lengthL = (long)width*(long)height*(long)rangeDisparity;
+		if( lengthL > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Aggregated cost is too large. "+width+"x"+height+
+					" with "+rangeDisparity+" disparities requires "+lengthL+" elements");
+
+		this.cost = cost;
+		this.width = width;
+		this.height = height;
+		this.minDisparity = minDisparity;
+		this.rangeDisparity = rangeDisparity;
+
+		int length = (int)lengthL;
+		if( aggregated.length < length )
+			aggregated = new short[length];
+		else
+			Arrays.fill(aggregated, 0, length, (short)0);
+
+		for( int i = 0; i < pathsConsidered; i++ ) {
+			aggregateDirection(DIRECTIONS[i][0], DIRECTIONS[i][1]);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along all the lines in the specified direction
+	 */
+	protected void aggregateDirection( int dx , int dy ) {
+		workspace.reshape(rangeDisparity);
+		aggregateLines(dx, dy, 0, numberOfLines(dx, dy), workspace);
+	}
+
+	/**
+	 * Number of lines needed to cover the image in the specified direction
+	 */
+	protected int numberOfLines( int dx , int dy ) {
+		int total = 0;
+		if( dy != 0 )
+			total += width;
+		if( dx != 0 )
+			total += dy != 0 ? height-1 : height;
+		return total;
+	}
+
+	/**
+	 * Aggregates the cost along lines with an index from line0 to line1, exclusive.  Lines start at the top or
+	 * bottom row, then the left or right column.
+	 */
+	protected void aggregateLines( int dx , int dy , int line0 , int line1 , Workspace work ) {
+		int rowLines = dy != 0 ? width : 0;
+
+		for( int line = line0; line < line1; line++ ) {
+			int x,y;
+			if( line < rowLines ) {
+				x = line;
+				y = dy > 0 ? 0 : height-1;
+			} else {
+				int j = line - rowLines;
+				x = dx > 0 ? 0 : width-1;
+				y = dy > 0 ? j+1 : j;
+			}
+			aggregateLine(x, y, dx, dy, work);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along a single path, starting at (x0,y0)
+	 */
+	protected void aggregateLine( int x0 , int y0 , int dx , int dy , Workspace work ) {
+		int previous[] = work.previous;
+		int current[] = work.current;
+		int costs[] = work.cost;
+		final int range = rangeDisparity;
+
+		// the first pixel has no previous pixel along the path
+		cost.compute(x0, y0, minDisparity, range, costs);
+		int index = (y0*width + x0)*range;
+		int minPrevious = Integer.MAX_VALUE;
+		for( int d = 0; d < range; d++ ) {
+			int l = costs[d];
+			previous[d] = l;
+			aggregated[index+d] += l;
+			if( l < minPrevious )
+				minPrevious = l;
+		}
+
+		int x = x0+dx, y = y0+dy;
+		while( x >= 0 && x < width && y >= 0 && y < height ) {
+			cost.compute(x, y, minDisparity, range, costs);
+			index = (y*width + x)*range;
+
+			int largeChange = minPrevious + penalty2;
+			int minCurrent = Integer.MAX_VALUE;
+			for( int d = 0; d < range; d++ ) {
+				int best = previous[d];
+				if( d > 0 && previous[d-1] + penalty1 < best )
+					best = previous[d-1] + penalty1;
+				if( d < range-1 && previous[d+1] + penalty1 < best )
+					best = previous[d+1] + penalty1;
+				if( largeChange < best )
+					best = largeChange;
+
+				int l = costs[d] + best - minPrevious;
+				current[d] = l;
+				aggregated[index+d] += l;
+				if( l < minCurrent )
+					minCurrent = l;
+			}
+
+			int tmp[] = previous;
+			previous = current;
+			current = tmp;
+			minPrevious = minCurrent;
+
+			x += dx;
+			y += dy;
+		}
+	}
+
+	/**
+	 * Returns the aggregated cost.  See {@link #aggregated} for the format.
+	 */
+	public short[] getAggregated() {
+		return aggregated;
+	}
+
+	public int getPenalty1() {
+		return penalty1;
+	}
+
+	public int getPenalty2() {
+		return penalty2;
+	}
+
+	public int getPathsConsidered() {
+		return pathsConsidered;
+	}
+
+	/**
+	 * Working memory for processing a line
+	 */
+	protected static class Workspace {
+		int previous[] = new int[0];
+		int current[] = new int[0];
+		int cost[] = new int[0];
+
+		public void reshape( int rangeDisparity ) {
+			if( previous.length < rangeDisparity ) {
+				previous = new int[rangeDisparity];
+				current = new int[rangeDisparity];
+				cost = new int[rangeDisparity];
+			}
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SgmCostAggregation}.  Directions are processed one at a time, and the
+ * lines in each direction are split between the threads.  Lines in the same direction never share a pixel
+ * so each thread writes to a different part of the aggregated cost.  The results are identical to the single
+ * threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation_MT extends SgmCostAggregation {
+
+	// working memory for each block of lines
+	FastQueue<Workspace> workspaces = new FastQueue<Workspace>(1,Workspace.class,true) {
+		@Override
+		protected Workspace createInstance() {
+			return new Workspace();
+		}
+	};
+
+	/**
+	 * @see SgmCostAggregation#SgmCostAggregation(int, int, int)
+	 */
+	public SgmCostAggregation_MT( int penalty1 , int penalty2 , int pathsConsidered ) {
+		super(penalty1, penalty2, pathsConsidered);
+	}
+
+	@Override
+	protected void aggregateDirection( final int dx , final int dy ) {
+		// lines can be very short in the corners of diagonal directions, so make sure blocks have several lines
+		BoofConcurrency.loopBlocks(0, numberOfLines(dx, dy), 16, workspaces, new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace work, int minInclusive, int maxExclusive) {
+				work.reshape(rangeDisparity);
+				aggregateLines(dx, dy, minInclusive, maxExclusive, work);
+			}
+		});
+	}
+}
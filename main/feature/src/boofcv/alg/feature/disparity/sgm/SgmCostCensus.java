@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Matching cost computed from the Hamming distance between 5x5 {@link CensusTransform census} transforms of the
+ * two images.  Robust to differences in exposure between the two cameras.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostCensus implements SgmDisparityCost<ImageUInt8> {
+
+	// converts the number of different bits into a cost
+	private static final int SCALE = MAX_COST/24;
+
+	ImageSInt32 censusLeft = new ImageSInt32(1,1);
+	ImageSInt32 censusRight = new ImageSInt32(1,1);
+
+	@Override
+	public void setImages( ImageUInt8 left , ImageUInt8 right ) {
+		censusLeft.reshape(left.width, left.height);
+		censusRight.reshape(right.width, right.height);
+		CensusTransform.region5x5(left, censusLeft);
+		CensusTransform.region5x5(right, censusRight);
+	}
+
+	@Override
+	public void compute( int x , int y , int minDisparity , int rangeDisparity , int cost[] ) {
+		int indexRow = y*censusLeft.width;
+		int valueLeft = censusLeft.data[indexRow + x];
+
+		// number of disparities which don't go outside the image
+		int localRange = Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+
+		int indexRight = indexRow + x - minDisparity;
+		for( int d = 0; d < localRange; d++ , indexRight-- ) {
+			cost[d] = SCALE*Integer.bitCount(valueLeft ^ censusRight.data[indexRight]);
+		}
+		for( int d = localRange; d < rangeDisparity; d++ ) {
+			cost[d] = MAX_COST;
+		}
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Computes the cost of matching a pixel in the left image to pixels in the right image along the same row.
+ * Costs are computed on demand from the two images, so the full cost volume is never stored in memory.
+ * All costs are scaled to be between 0 and {@link #MAX_COST}, inclusive, which bounds the aggregated costs
+ * in {@link SgmCostAggregation} so that they can be stored as 16-bit integers.
+ * </p>
+ *
+ * <p>
+ * Implementations must be thread safe after {@link #setImages} has been called.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface SgmDisparityCost<T extends ImageSingleBand> {
+	/**
+	 * The largest possible cost.  Disparities which would go outside the image are assigned this value.
+	 */
+	int MAX_COST = 2047;
+
+	/**
+	 * Specifies the rectified stereo images.  Any preprocessing, such as a census transform, is done here.
+	 *
+	 * @param left Left image
+	 * @param right Right image
+	 */
+	void setImages( T left , T right );
+
+	/**
+	 * Computes the cost of pixel (x,y) in the left image for disparities minDisparity to
+	 * minDisparity+rangeDisparity-1.
+	 *
+	 * @param x Pixel x-coordinate in the left image
+	 * @param y Pixel y-coordinate in the left image
+	 * @param minDisparity Minimum disparity
+	 * @param rangeDisparity Number of disparities
+	 * @param cost (Output) The cost for each disparity.  Must have at least rangeDisparity elements
+	 */
+	void compute( int x , int y , int minDisparity , int rangeDisparity , int cost[] );
+
+	/**
+	 * Type of input image
+	 */
+	Class<T> getInputType();
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Selects the disparity with the lowest aggregated cost from {@link SgmCostAggregation}.  Optionally, the
+ * disparity is validated by selecting the disparity in the right to left direction and seeing if it's the same,
+ * within tolerance.  With a floating point output image sub-pixel accuracy is found by fitting a parabola
+ * to the cost around the best disparity.
+ * </p>
+ *
+ * <p>
+ * The output format is the same as {@link boofcv.alg.feature.disparity.DisparitySelect}.  The selected disparity
+ * minus the minDisparity is written to the output and invalid pixels are assigned a value of rangeDisparity+1.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmDisparitySelector {
+
+	// tolerance for right to left validation. if < 0 then it's disabled
+	protected int rightToLeftTolerance;
+
+	// shape of the cost volume
+	protected int width,height;
+	protected int minDisparity,rangeDisparity;
+	protected short aggregated[];
+
+	// best disparity for each pixel in the left image along the current row
+	protected int leftToRight[] = new int[0];
+	// best disparity for each pixel in the right image along the current row
+	protected int rightToLeft[] = new int[0];
+
+	/**
+	 * @param rightToLeftTolerance Tolerance for how different the left to right and right to left disparities can be.
+	 *                             Disable with a value &lt; 0. Try 1
+	 */
+	public SgmDisparitySelector( int rightToLeftTolerance ) {
+		this.rightToLeftTolerance = rightToLeftTolerance;
+	}
+
+	/**
+	 * Selects the disparity for each pixel to pixel accuracy
+	 *
+	 * @param aggregation Aggregated cost
+	 * @param disparity (Output) Disparity image
+	 */
+	public void select( SgmCostAggregation aggregation , ImageUInt8 disparity ) {
+		if( aggregation.rangeDisparity > 254 )
+			throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+		setup(aggregation);
+
+		for( int y = 0; y < height; y++ ) {
+			selectRow(y);
+
+			int indexOut = disparity.startIndex + y*disparity.stride;
+			for( int x = 0; x < width; x++ ) {
+				disparity.data[indexOut++] = (byte)leftToRight[x];
+			}
+		}
+	}
+
+	/**
+	 * Selects the disparity for each pixel to sub-pixel accuracy
+	 *
+	 * @param aggregation Aggregated cost
+	 * @param disparity (Output) Disparity image
+	 */
+	public void select( SgmCostAggregation aggregation , ImageFloat32 disparity ) {
+		setup(aggregation);
+		int invalid = rangeDisparity+1;
+
+		for( int y = 0; y < height; y++ ) {
+			selectRow(y);
+
+			int indexOut = disparity.startIndex + y*disparity.stride;
+			for( int x = 0; x < width; x++ ) {
+				int d = leftToRight[x];
+				int localRange = localRange(x);
+
+				if( d == invalid || d <= 0 || d >= localRange-1 ) {
+					disparity.data[indexOut++] = d;
+				} else {
+					int index = (y*width + x)*rangeDisparity + d;
+					int c0 = aggregated[index-1];
+					int c1 = aggregated[index];
+					int c2 = aggregated[index+1];
+
+					int denominator = 2*(c0-2*c1+c2);
+					float offset = denominator == 0 ? 0 : (float)(c0-c2)/denominator;
+
+					disparity.data[indexOut++] = d + offset;
+				}
+			}
+		}
+	}
+
+	private void setup( SgmCostAggregation aggregation ) {
+		this.width = aggregation.width;
+		this.height = aggregation.height;
+		this.minDisparity = aggregation.minDisparity;
+		this.rangeDisparity = aggregation.rangeDisparity;
+		this.aggregated = aggregation.aggregated;
+
+		if( leftToRight.length < width ) {
+			leftToRight = new int[width];
+			rightToLeft = new int[width];
+		}
+	}
+
+	/**
+	 * Number of disparities at column x in the left image which don't go outside the image
+	 */
+	private int localRange( int x ) {
+		return Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+	}
+
+	/**
+	 * Selects the disparity for every pixel in the row and saves the results in {@link #leftToRight}
+	 */
+	protected void selectRow( int y ) {
+		int invalid = rangeDisparity+1;
+		int indexRow = y*width*rangeDisparity;
+
+		for( int x = 0; x < width; x++ ) {
+			int localRange = localRange(x);
+			if( localRange == 0 ) {
+				leftToRight[x] = invalid;
+				continue;
+			}
+
+			int index = indexRow + x*rangeDisparity;
+			int best = 0;
+			int scoreBest = aggregated[index];
+			for( int d = 1; d < localRange; d++ ) {
+				int s = aggregated[index+d];
+				if( s < scoreBest ) {
+					scoreBest = s;
+					best = d;
+				}
+			}
+			leftToRight[x] = best;
+		}
+
+		if( rightToLeftTolerance < 0 )
+			return;
+
+		// best disparity for each pixel in the right image.  Pixel xr in the right image at disparity d
+		// matches pixel xr + minDisparity + d in the left image
+		for( int xr = 0; xr < width; xr++ ) {
+			int localRange = Math.min(rangeDisparity, width - xr - minDisparity);
+			int best = 0;
+			int scoreBest = Integer.MAX_VALUE;
+			int index = indexRow + (xr + minDisparity)*rangeDisparity;
+			for( int d = 0; d < localRange; d++ , index += rangeDisparity+1 ) {
+				int s = aggregated[index];
+				if( s < scoreBest ) {
+					scoreBest = s;
+					best = d;
+				}
+			}
+			rightToLeft[xr] = best;
+		}
+
+		for( int x = 0; x < width; x++ ) {
+			int d = leftToRight[x];
+			if( d == invalid )
+				continue;
+			int xr = x - minDisparity - d;
+			if( Math.abs(rightToLeft[xr] - d) > rightToLeftTolerance )
+				leftToRight[x] = invalid;
+		}
+	}
+
+	public int getRightToLeftTolerance() {
+		return rightToLeftTolerance;
+	}
+
+	public void setRightToLeftTolerance( int rightToLeftTolerance ) {
+		this.rightToLeftTolerance = rightToLeftTolerance;
+	}
+}
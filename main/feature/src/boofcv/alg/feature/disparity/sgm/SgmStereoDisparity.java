@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Computes dense disparity using Semi-Global Matching (SGM) [1].  Instead of selecting the best disparity for
+ * each pixel independently, like the block matching algorithms, the matching cost is aggregated along several
+ * paths across the image with a penalty for changes in disparity.  This fills in regions with little texture
+ * which block matching leaves as holes.
+ * </p>
+ *
+ * <p>
+ * Processing steps: 1) {@link SgmDisparityCost matching cost}, 2) {@link SgmCostAggregation cost aggregation},
+ * and 3) {@link SgmDisparitySelector disparity selection}.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity<T extends ImageSingleBand> {
+
+	// the minimum disparity that it will check
+	protected int minDisparity;
+	// maximum allowed image disparity, exclusive
+	protected int maxDisparity;
+
+	protected SgmDisparityCost<T> cost;
+	protected SgmCostAggregation aggregation;
+	protected SgmDisparitySelector selector;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param cost Computes the matching cost
+	 * @param aggregation Aggregates the cost along paths
+	 * @param selector Selects the best disparity
+	 */
+	public SgmStereoDisparity( int minDisparity , int maxDisparity ,
+							   SgmDisparityCost<T> cost ,
+							   SgmCostAggregation aggregation ,
+							   SgmDisparitySelector selector ) {
+		if( maxDisparity <= 0 )
+			throw new IllegalArgumentException("Max disparity must be greater than zero");
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Min disparity must be >= 0 and < maxDisparity");
+
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.cost = cost;
+		this.aggregation = aggregation;
+		this.selector = selector;
+	}
+
+	/**
+	 * Computes the disparity to pixel accuracy
+	 *
+	 * @param left Left rectified stereo image. Input
+	 * @param right Right rectified stereo image. Input
+	 * @param disparity Disparity between the two images. Output
+	 */
+	public void process( T left , T right , ImageUInt8 disparity ) {
+		aggregate(left, right, disparity);
+		selector.select(aggregation, disparity);
+	}
+
+	/**
+	 * Computes the disparity to sub-pixel accuracy
+	 *
+	 * @param left Left rectified stereo image. Input
+	 * @param right Right rectified stereo image. Input
+	 * @param disparity Disparity between the two images. Output
+	 */
+	public void process( T left , T right , ImageFloat32 disparity ) {
+		aggregate(left, right, disparity);
+		selector.select(aggregation, disparity);
+	}
+
+	private void aggregate( T left , T right , ImageSingleBand disparity ) {
+		InputSanityCheck.checkSameShape(left, right, disparity);
+
+		cost.setImages(left, right);
+		aggregation.process(cost, left.width, left.height, minDisparity, maxDisparity-minDisparity);
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getMaxDisparity() {
+		return maxDisparity;
+	}
+
+	public Class<T> getInputType() {
+		return cost.getInputType();
+	}
+
+	public SgmDisparityCost<T> getCost() {
+		return cost;
+	}
+
+	public SgmCostAggregation getAggregation() {
+		return aggregation;
+	}
+
+	public SgmDisparitySelector getSelector() {
+		return selector;
+	}
+}
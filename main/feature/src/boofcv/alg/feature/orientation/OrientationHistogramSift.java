@@ -87,6 +87,9 @@ public class OrientationHistogramSift<Deriv extends ImageSingleBand>
 	InterpolateArray approximateGauss;
 	double approximateStep = 0.1;
 
+	// type of derivative image
+	Class<Deriv> derivType;
+
 	/**
 	 * Configures orientation estimation
 	 *
@@ -113,10 +116,37 @@ public class OrientationHistogramSift<Deriv extends ImageSingleBand>
 		}
 		approximateGauss = new InterpolateArray(samples);
 
+		this.derivType = derivType;
 		this.derivX = FactoryGImageSingleBand.create(derivType);
 		this.derivY = FactoryGImageSingleBand.create(derivType);
 	}
 
+	/**
+	 * Copy constructor.  The Gaussian look up table is shared with 'src' while work space is declared.
+	 */
+	protected OrientationHistogramSift( OrientationHistogramSift<Deriv> src ) {
+		this.histogramMag = new double[ src.histogramMag.length ];
+		this.histogramX = new double[ src.histogramX.length ];
+		this.histogramY = new double[ src.histogramY.length ];
+
+		this.sigmaEnlarge = src.sigmaEnlarge;
+		this.histAngleBin = src.histAngleBin;
+		this.approximateStep = src.approximateStep;
+		this.approximateGauss = new InterpolateArray(src.approximateGauss.data);
+
+		this.derivType = src.derivType;
+		this.derivX = FactoryGImageSingleBand.create(derivType);
+		this.derivY = FactoryGImageSingleBand.create(derivType);
+	}
+
+	/**
+	 * Creates a copy with the same configuration which can be used concurrently with this instance.  The
+	 * image gradient must be set for the copy.
+	 */
+	public OrientationHistogramSift<Deriv> copy() {
+		return new OrientationHistogramSift<Deriv>(this);
+	}
+
 	/**
 	 * Specify the input image
 	 */
@@ -49,6 +49,8 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 
 	// optional weights
 	protected Kernel2D_F64 weights;
+	// sigma used to compute the weights
+	protected double weightSigma;
 
 	// size of sample kernels
 	protected int kernelWidth;
@@ -61,7 +63,7 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 	// used to sample the image when it's on the image's border
 	protected SparseScaleGradient<II,G> g;
 
-	Class<II> integralType;
+	protected Class<II> integralType;
 	/**
 	 * Configure orientation estimation.
 	 *  @param sampleRadius The radius of samples that it will do.  Typically 6.
@@ -80,6 +82,7 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 		this.kernelWidth = kernelWidth;
 		this.sampleWidth = sampleRadius *2+1;
 		this.integralType = integralType;
+		this.weightSigma = weightSigma;
 		if( weightSigma > 0 )
 			this.weights = FactoryKernelGaussian.gaussian(2,true, 64, weightSigma, sampleRadius);
 
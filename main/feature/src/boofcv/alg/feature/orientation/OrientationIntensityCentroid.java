@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.OrientationImage;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Estimates the orientation of a region using the intensity centroid [1].  The first order image moments
+ * m<sub>10</sub> and m<sub>01</sub> are computed inside a circular region centered on the feature and the
+ * orientation is the angle of the vector pointing from the center to the intensity centroid,
+ * atan2(m<sub>01</sub>,m<sub>10</sub>).  Pixels outside the image are ignored.
+ * </p>
+ *
+ * <p>
+ * [1] Paul L. Rosin, "Measuring Corner Properties" Computer Vision and Image Understanding 73(2) 1999
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class OrientationIntensityCentroid<T extends ImageSingleBand> implements OrientationImage<T> {
+
+	// input image
+	protected T image;
+
+	// converts from object radius to sample region radius
+	protected double objectToSample;
+
+	// Radius of the region it will sample
+	protected int sampleRadius;
+
+	// half width of the circular region for each row, from -sampleRadius to sampleRadius
+	protected int rowHalfWidth[] = new int[0];
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param objectToSample Converts the object's radius into the radius of the sampled region.
+	 * @param defaultRadius Object radius used until {@link #setObjectRadius(double)} is called.
+	 */
+	public OrientationIntensityCentroid(double objectToSample, int defaultRadius) {
+		this.objectToSample = objectToSample;
+		setObjectRadius(defaultRadius);
+	}
+
+	@Override
+	public void setImage( T image ) {
+		this.image = image;
+	}
+
+	@Override
+	public void setObjectRadius(double objectRadius) {
+		sampleRadius = (int)Math.ceil(objectRadius*objectToSample);
+
+		if( rowHalfWidth.length != sampleRadius*2+1 )
+			rowHalfWidth = new int[ sampleRadius*2+1 ];
+
+		for( int y = -sampleRadius; y <= sampleRadius; y++ ) {
+			rowHalfWidth[y+sampleRadius] = (int)Math.sqrt(sampleRadius*sampleRadius - y*y);
+		}
+	}
+
+	@Override
+	public double compute(double X, double Y) {
+		int c_x = (int)(X+0.5);
+		int c_y = (int)(Y+0.5);
+
+		return computeAngle(c_x, c_y);
+	}
+
+	/**
+	 * Computes the angle of the intensity centroid around the specified pixel
+	 */
+	protected abstract double computeAngle( int c_x , int c_y );
+
+	public int getSampleRadius() {
+		return sampleRadius;
+	}
+}
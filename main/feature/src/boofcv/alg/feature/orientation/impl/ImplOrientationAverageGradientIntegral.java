@@ -49,6 +49,12 @@ public class ImplOrientationAverageGradientIntegral<T extends ImageSingleBand,G
 		super(radiusToScale,sampleRadius,period,sampleWidth,weightSigma, true, imageType);
 	}
 
+	@Override
+	public ImplOrientationAverageGradientIntegral<T,G> copy() {
+		return new ImplOrientationAverageGradientIntegral<T,G>(objectRadiusToScale,
+				sampleRadius,period,kernelWidth,weightSigma,integralType);
+	}
+
 	@Override
 	public double compute(double c_x, double c_y) {
 
@@ -87,6 +87,12 @@ public class ImplOrientationImageAverageIntegral<T extends ImageSingleBand,G ext
 		sampler.setWidth(kernelWidth * scale);
 	}
 
+	@Override
+	public ImplOrientationImageAverageIntegral<T,G> copy() {
+		return new ImplOrientationImageAverageIntegral<T,G>(objectRadiusToScale,
+				sampleRadius,period,kernelWidth,weightSigma,integralType);
+	}
+
 	@Override
 	public double compute(double c_x, double c_y) {
 
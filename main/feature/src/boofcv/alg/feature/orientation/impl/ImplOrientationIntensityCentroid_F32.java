@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.orientation.impl;
+
+import boofcv.alg.feature.orientation.OrientationIntensityCentroid;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * <p>
+ * Implementation of {@link OrientationIntensityCentroid} for a specific image type.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplOrientationIntensityCentroid_F32 extends OrientationIntensityCentroid<ImageFloat32> {
+
+	public ImplOrientationIntensityCentroid_F32(double objectToSample, int defaultRadius) {
+		super(objectToSample, defaultRadius);
+	}
+
+	@Override
+	protected double computeAngle( int c_x , int c_y ) {
+		float m10 = 0, m01 = 0;
+
+		int y0 = Math.max(-sampleRadius, -c_y);
+		int y1 = Math.min(sampleRadius, image.height - 1 - c_y);
+
+		for( int y = y0; y <= y1; y++ ) {
+			int w = rowHalfWidth[y+sampleRadius];
+			int x0 = Math.max(-w, -c_x);
+			int x1 = Math.min(w, image.width - 1 - c_x);
+
+			int index = image.startIndex + (c_y+y)*image.stride + c_x + x0;
+			float rowSum = 0;
+			for( int x = x0; x <= x1; x++ ) {
+				float v = image.data[index++];
+				m10 += x*v;
+				rowSum += v;
+			}
+			m01 += y*rowSum;
+		}
+
+		return Math.atan2(m01, m10);
+	}
+
+	@Override
+	public Class<ImageFloat32> getImageType() {
+		return ImageFloat32.class;
+	}
+}
@@ -71,7 +71,10 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 	// flow in the current layer
 	protected ImageFlow flowCurrLayer = new ImageFlow(1,1);
 
-	protected ImageFlow.D tmp = new ImageFlow.D();
+	// flow found by the search centered at each pixel, before the neighboring pixels are checked
+	protected ImageFlow flowSearch = new ImageFlow(1,1);
+	// score for the search centered at each pixel.  NaN if the search failed and infinity if it was skipped
+	protected float searchScores[] = new float[0];
 
 	// fit score for each pixel
 	protected float scores[] = new float[0];
@@ -112,62 +115,42 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 			T curr = pyramidCurr.getLayer(i);
 
 			flowCurrLayer.reshape(prev.width, prev.height);
+			flowSearch.reshape(prev.width, prev.height);
 
 			int N = prev.width*prev.height;
-			if( scores.length < N )
+			if( scores.length < N ) {
 				scores = new float[N];
+				searchScores = new float[N];
+			}
 			// mark all the scores as being very large so that if it has not been processed its score
 			// will be set inside of checkNeighbors.
 			Arrays.fill(scores,0,N,Float.MAX_VALUE);
 
-			int x1 = prev.width-regionRadius;
-			int y1 = prev.height-regionRadius;
-
 			if( i == numLayers-1 ) {
 				// the top most layer in the pyramid has no hint
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						extractTemplate(x,y,prev);
-						float score = findFlow(x,y,curr,tmp);
-
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x, y).markInvalid();
-					}
-				}
+				searchLayer(prev, curr, null, 0);
 			} else {
 				// for all the other layers use the hint of the previous layer to start its search
 				double scale = pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						// grab the flow in higher level pyramid
-						ImageFlow.D p = flowPrevLayer.get((int)(x/scale),(int)(y/scale));
-						if( !p.isValid() )
-							continue;
-
-						// get the template around the current point in this layer
-						extractTemplate(x,y,prev);
-
-						// add the flow from the higher layer (adjusting for scale and rounding) as the start of
-						// this search
-						int deltaX = (int)(p.x*scale+0.5);
-						int deltaY = (int)(p.y*scale+0.5);
-
-						int startX = x + deltaX;
-						int startY = y + deltaY;
-
-						float score = findFlow(startX,startY,curr,tmp);
-
-						// find flow only does it relative to the starting point
-						tmp.x += deltaX;
-						tmp.y += deltaY;
-
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x,y).markInvalid();
-					}
+				searchLayer(prev, curr, flowPrevLayer, scale);
+			}
+
+			// update the flow of pixels using the search results.  Must be done in order since the results
+			// depend on which pixels were examined first
+			int x1 = prev.width-regionRadius;
+			int y1 = prev.height-regionRadius;
+			for( int y = regionRadius; y < y1; y++ ) {
+				int index = prev.width*y + regionRadius;
+				for( int x = regionRadius; x < x1; x++ , index++ ) {
+					float score = searchScores[index];
+					if( Float.isInfinite(score) )
+						continue;
+
+					ImageFlow.D flow = flowSearch.data[index];
+					if( flow.isValid() )
+						checkNeighbors(x,y,flow, flowCurrLayer,score);
+					else
+						flowCurrLayer.data[index].markInvalid();
 				}
 			}
 
@@ -178,6 +161,69 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 		}
 	}
 
+	/**
+	 * Searches for the flow of every pixel in the layer which is far enough away from the image border.
+	 * Results are written into {@link #flowSearch} and {@link #searchScores}.
+	 *
+	 * @param hint Flow from the previous layer.  null if this is the top layer.
+	 * @param scale Change in scale from the previous layer
+	 */
+	protected void searchLayer( T prev , T curr , ImageFlow hint , double scale ) {
+		searchRows(prev, curr, hint, scale, regionRadius, prev.height-regionRadius, flowSearch, searchScores);
+	}
+
+	/**
+	 * Searches for the flow of each pixel inside the specified rows.  Only reads from the input images and
+	 * 'hint', making it safe to call concurrently with different instances as long as the rows don't overlap.
+	 *
+	 * @param hint Flow from the previous layer.  null if this is the top layer.
+	 * @param scale Change in scale from the previous layer
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 * @param found (Output) Flow found for the search centered at each pixel
+	 * @param foundScores (Output) Score for the search centered at each pixel
+	 */
+	protected void searchRows( T prev , T curr , ImageFlow hint , double scale , int y0 , int y1 ,
+							   ImageFlow found , float foundScores[] ) {
+		int x1 = prev.width-regionRadius;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = found.width*y + regionRadius;
+			for( int x = regionRadius; x < x1; x++ , index++ ) {
+				ImageFlow.D flow = found.data[index];
+
+				if( hint == null ) {
+					extractTemplate(x,y,prev);
+					foundScores[index] = findFlow(x,y,curr,flow);
+				} else {
+					// grab the flow in higher level pyramid
+					ImageFlow.D p = hint.get((int)(x/scale),(int)(y/scale));
+					if( !p.isValid() ) {
+						foundScores[index] = Float.POSITIVE_INFINITY;
+						continue;
+					}
+
+					// get the template around the current point in this layer
+					extractTemplate(x,y,prev);
+
+					// add the flow from the higher layer (adjusting for scale and rounding) as the start of
+					// this search
+					int deltaX = (int)(p.x*scale+0.5);
+					int deltaY = (int)(p.y*scale+0.5);
+
+					int startX = x + deltaX;
+					int startY = y + deltaY;
+
+					foundScores[index] = findFlow(startX,startY,curr,flow);
+
+					// find flow only does it relative to the starting point
+					flow.x += deltaX;
+					flow.y += deltaY;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Performs an exhaustive search centered around (cx,cy) for the region in 'curr' which is the best
 	 * match for the template.  Results are written into 'flow'
@@ -260,6 +306,12 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 	 */
 	protected abstract float computeError( int cx , int cy , T curr );
 
+	/**
+	 * Creates a new instance with the same configuration which can be used to search a different set of rows
+	 * concurrently.
+	 */
+	public abstract DenseOpticalFlowBlockPyramid<T> concurrentCopy();
+
 	/**
 	 * Returns the found optical flow
 	 */
@@ -276,6 +328,13 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 			super(searchRadius, regionRadius, maxPerPixelError,ImageUInt8.class);
 		}
 
+		@Override
+		public U8 concurrentCopy() {
+			U8 ret = new U8(searchRadius,regionRadius,0);
+			ret.maxError = maxError;
+			return ret;
+		}
+
 		@Override
 		protected void extractTemplate( int cx , int cy , ImageUInt8 prev ) {
 			int index = 0;
@@ -312,6 +371,13 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 			super(searchRadius, regionRadius, maxPerPixelError,ImageFloat32.class);
 		}
 
+		@Override
+		public F32 concurrentCopy() {
+			F32 ret = new F32(searchRadius,regionRadius,0);
+			ret.maxError = maxError;
+			return ret;
+		}
+
 		@Override
 		protected void extractTemplate( int cx , int cy , ImageFloat32 prev ) {
 			int index = 0;
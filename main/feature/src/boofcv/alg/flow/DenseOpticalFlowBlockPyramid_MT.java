@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DenseOpticalFlowBlockPyramid}.  The exhaustive search, which dominates
+ * the computational cost, is performed for horizontal bands of rows by different threads.  Each thread uses its
+ * own copy of the algorithm so that it has its own template.  Neighboring pixels are then checked in the same order
+ * as the single threaded version, producing identical results.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DenseOpticalFlowBlockPyramid_MT<T extends ImageSingleBand> extends DenseOpticalFlowBlockPyramid<T> {
+
+	// minimum number of rows in a band.  Prevents thread overhead from dominating small images
+	private static final int MIN_BAND = 4;
+
+	// algorithm which is copied to process each band
+	DenseOpticalFlowBlockPyramid<T> alg;
+
+	// copy of the algorithm for each band
+	FastQueue<DenseOpticalFlowBlockPyramid<T>> workers;
+
+	/**
+	 * Specifies the algorithm which processes each band.  Its configuration is copied.
+	 *
+	 * @param alg The single threaded algorithm.
+	 */
+	public DenseOpticalFlowBlockPyramid_MT( DenseOpticalFlowBlockPyramid<T> alg ) {
+		super(alg.searchRadius, alg.regionRadius, 0, (Class)alg.template.getClass());
+		this.alg = alg;
+		this.maxError = alg.maxError;
+
+		workers = new FastQueue<DenseOpticalFlowBlockPyramid<T>>(1,(Class)DenseOpticalFlowBlockPyramid.class,true) {
+			@Override
+			protected DenseOpticalFlowBlockPyramid<T> createInstance() {
+				return DenseOpticalFlowBlockPyramid_MT.this.alg.concurrentCopy();
+			}
+		};
+	}
+
+	@Override
+	protected void searchLayer( final T prev , final T curr , final ImageFlow hint , final double scale ) {
+		BoofConcurrency.loopBlocks(regionRadius, prev.height-regionRadius, MIN_BAND, workers,
+				new IntRangeObjectTask<DenseOpticalFlowBlockPyramid<T>>() {
+			@Override
+			public void process(DenseOpticalFlowBlockPyramid<T> worker, int minInclusive, int maxExclusive) {
+				worker.searchRows(prev, curr, hint, scale, minInclusive, maxExclusive, flowSearch, searchScores);
+			}
+		});
+	}
+
+	@Override
+	protected void extractTemplate( int cx , int cy , T prev ) {
+		alg.extractTemplate(cx, cy, prev);
+	}
+
+	@Override
+	protected float computeError( int cx , int cy , T curr ) {
+		return alg.computeError(cx, cy, curr);
+	}
+
+	@Override
+	public DenseOpticalFlowBlockPyramid_MT<T> concurrentCopy() {
+		return new DenseOpticalFlowBlockPyramid_MT<T>(alg.concurrentCopy());
+	}
+}
@@ -220,9 +220,6 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 	 */
 	protected void processLayer( ImageFloat32 image1 , ImageFloat32 image2 , ImageFloat32 derivX2 , ImageFloat32 derivY2) {
 
-		float w = SOR_RELAXATION;
-		float uf,vf;
-
 		// outer Taylor expansion iterations
 		for( int warp = 0; warp < numWarps; warp++ ) {
 
@@ -238,55 +235,89 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 
 			do {
 				// inner SOR iteration.
-				error = 0;
+				error = iterationSor(image1);
+			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+		}
+	}
 
-				// inner portion
-				for( int y = 1; y < image1.height-1; y++ ) {
-					int pixelIndex = y*image1.width+1;
-					for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
-						// could speed this up a bit more by precomputing the constant portion before the do-while loop
-						float ui = initFlowX.data[pixelIndex];
-						float vi = initFlowY.data[pixelIndex];
+	/**
+	 * Performs a single SOR iteration across the entire image
+	 *
+	 * @return Sum of the squared change in flow
+	 */
+	protected float iterationSor( ImageFloat32 image1 ) {
+		float error = 0;
 
-						float u = flowX.data[pixelIndex];
-						float v = flowY.data[pixelIndex];
+		// inner portion
+		for( int y = 1; y < image1.height-1; y++ ) {
+			error += iterationSorRow(image1, y);
+		}
 
-						float I1 = image1.data[pixelIndex];
-						float I2 = warpImage2.data[pixelIndex];
+		// border regions require special treatment
+		return error + iterationSorBorder(image1);
+	}
 
-						float I2x = warpDeriv2X.data[pixelIndex];
-						float I2y = warpDeriv2Y.data[pixelIndex];
+	/**
+	 * SOR iteration for the inner pixels in a single row
+	 *
+	 * @return Sum of the squared change in flow
+	 */
+	protected float iterationSorRow( ImageFloat32 image1 , int y ) {
+		float w = SOR_RELAXATION;
+		float uf,vf;
+		float error = 0;
 
-						float AU = A(x,y,flowX);
-						float AV = A(x,y,flowY);
+		int pixelIndex = y*image1.width+1;
+		for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
+			// could speed this up a bit more by precomputing the constant portion before the do-while loop
+			float ui = initFlowX.data[pixelIndex];
+			float vi = initFlowY.data[pixelIndex];
 
-						flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
-						flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
+			float u = flowX.data[pixelIndex];
+			float v = flowY.data[pixelIndex];
 
-						error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
-					}
-				}
+			float I1 = image1.data[pixelIndex];
+			float I2 = warpImage2.data[pixelIndex];
 
-				// border regions require special treatment
-				int pixelIndex0 = 0;
-				int pixelIndex1 = (image1.height-1)*image1.width;
-				for (int x = 0; x < image1.width; x++ ) {
-					error += iterationSorSafe(image1,x,0,pixelIndex0++);
-					error += iterationSorSafe(image1,x,image1.height-1,pixelIndex1++);
-				}
+			float I2x = warpDeriv2X.data[pixelIndex];
+			float I2y = warpDeriv2Y.data[pixelIndex];
 
-				pixelIndex0 = image1.width;
-				 pixelIndex1 = image1.width + image1.width-1;
-				for( int y = 1; y < image1.height-1; y++ ) {
-					error += iterationSorSafe(image1,0,y,pixelIndex0);
-					error += iterationSorSafe(image1,image1.width-1,y,pixelIndex1);
+			float AU = A(x,y,flowX);
+			float AV = A(x,y,flowY);
 
-					pixelIndex0 += image1.width;
-					pixelIndex1 += image1.width;
-				}
+			flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
+			flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
 
-			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+			error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
+		}
+		return error;
+	}
+
+	/**
+	 * SOR iteration for pixels along the image border
+	 *
+	 * @return Sum of the squared change in flow
+	 */
+	protected float iterationSorBorder( ImageFloat32 image1 ) {
+		float error = 0;
+
+		int pixelIndex0 = 0;
+		int pixelIndex1 = (image1.height-1)*image1.width;
+		for (int x = 0; x < image1.width; x++ ) {
+			error += iterationSorSafe(image1,x,0,pixelIndex0++);
+			error += iterationSorSafe(image1,x,image1.height-1,pixelIndex1++);
+		}
+
+		pixelIndex0 = image1.width;
+		pixelIndex1 = image1.width + image1.width-1;
+		for( int y = 1; y < image1.height-1; y++ ) {
+			error += iterationSorSafe(image1,0,y,pixelIndex0);
+			error += iterationSorSafe(image1,image1.width-1,y,pixelIndex1);
+
+			pixelIndex0 += image1.width;
+			pixelIndex1 += image1.width;
 		}
+		return error;
 	}
 
 	/**
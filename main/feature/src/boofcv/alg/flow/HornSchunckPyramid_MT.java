@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HornSchunckPyramid}.  Inner pixels are updated with a zebra (line red-black)
+ * ordering instead of a raster ordering.  The SOR update for a pixel only depends on the pixels in the row above and
+ * below, so all the odd rows are updated concurrently followed by all the even rows.  Inside a row pixels are
+ * still updated sequentially.  The output is independent of the number of threads, but will be slightly different
+ * from the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HornSchunckPyramid_MT<T extends ImageSingleBand> extends HornSchunckPyramid<T> {
+
+	// minimum number of rows in a band.  Prevents thread overhead from dominating small images
+	private static final int MIN_BAND = 4;
+
+	// change in flow for each row
+	private float rowError[] = new float[0];
+
+	private RowTask task = new RowTask();
+
+	public HornSchunckPyramid_MT(ConfigHornSchunckPyramid config, InterpolatePixelS<ImageFloat32> interp) {
+		super(config, interp);
+	}
+
+	@Override
+	protected float iterationSor( ImageFloat32 image1 ) {
+		if( rowError.length < image1.height )
+			rowError = new float[ image1.height ];
+
+		task.image1 = image1;
+
+		// odd rows first then even rows.  Rows in each pass are independent of each other
+		for( int pass = 0; pass < 2; pass++ ) {
+			task.firstRow = 1 + pass;
+			BoofConcurrency.loopBlocks(0, (image1.height - task.firstRow)/2, MIN_BAND, task);
+		}
+
+		// sum up in a fixed order so that the results don't depend on the number of threads
+		float error = 0;
+		for( int y = 1; y < image1.height-1; y++ ) {
+			error += rowError[y];
+		}
+
+		// border regions require special treatment
+		return error + iterationSorBorder(image1);
+	}
+
+	/**
+	 * Performs an SOR iteration along every other row
+	 */
+	private class RowTask implements IntRangeTask {
+		ImageFloat32 image1;
+		int firstRow;
+
+		@Override
+		public void process(int minInclusive, int maxExclusive) {
+			for( int i = minInclusive; i < maxExclusive; i++ ) {
+				int y = firstRow + 2*i;
+				rowError[y] = iterationSorRow(image1, y);
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageSInt16;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HornSchunck_U8}.  Each iteration only depends on the flow from the
+ * previous iteration, so the average flow and the flow update are each computed in horizontal bands of rows
+ * using multiple threads.  Produces the same output as the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HornSchunck_U8_MT extends HornSchunck_U8 {
+
+	// minimum number of rows in a band.  Prevents thread overhead from dominating small images
+	private static final int MIN_BAND = 8;
+
+	public HornSchunck_U8_MT(float alpha, int numIterations) {
+		super(alpha, numIterations);
+	}
+
+	@Override
+	protected void findFlow( final ImageSInt16 derivX , final ImageSInt16 derivY ,
+							 final ImageSInt16 derivT , final ImageFlow output) {
+
+		final int width = output.width;
+
+		for( int iter = 0; iter < numIterations; iter++ ) {
+
+			borderAverageFlow(output,averageFlow);
+			BoofConcurrency.loopBlocks(1, output.height-1, MIN_BAND, new IntRangeTask() {
+				@Override
+				public void process(int minInclusive, int maxExclusive) {
+					innerAverageFlow(output, averageFlow, minInclusive, maxExclusive);
+				}
+			});
+
+			BoofConcurrency.loopBlocks(0, output.height, MIN_BAND, new IntRangeTask() {
+				@Override
+				public void process(int minInclusive, int maxExclusive) {
+					int end = maxExclusive*width;
+					for( int i = minInclusive*width; i < end; i++ ) {
+						float dx = derivX.data[i];
+						float dy = derivY.data[i];
+						float dt = derivT.data[i];
+
+						ImageFlow.D aveFlow = averageFlow.data[i];
+
+						float u = aveFlow.x;
+						float v = aveFlow.y;
+
+						ImageFlow.D flow = output.data[i];
+						float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
+						flow.x = u - dx*r;
+						flow.y = v - dy*r;
+					}
+				}
+			});
+		}
+	}
+}
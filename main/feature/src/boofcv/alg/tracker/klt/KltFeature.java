@@ -39,7 +39,8 @@ public class KltFeature {
 	public int radius;
 
 	/**
-	 * Pixel intensity around the feature
+	 * Pixel intensity around the feature.  The pixels in this image and the derivatives must be contiguous in memory,
+	 * but they can start at any index.
 	 */
 	public ImageFloat32 desc;
 	/**
@@ -65,6 +66,23 @@ public class KltFeature {
 		derivY = new ImageFloat32(sideLength,sideLength);
 	}
 
+	/**
+	 * Creates a feature which stores its description inside the provided images.  The images can be sub-images
+	 * of a larger image, e.g. views into the storage of {@link PyramidKltFeatureStore}, but their pixels must be
+	 * contiguous, i.e. their stride must be equal to their width.
+	 *
+	 * @param radius The feature's radius
+	 * @param desc Storage for pixel intensity around the feature
+	 * @param derivX Storage for image derivative around the feature in the x-direction
+	 * @param derivY Storage for image derivative around the feature in the y-direction
+	 */
+	public KltFeature(int radius, ImageFloat32 desc, ImageFloat32 derivX, ImageFloat32 derivY) {
+		this.radius = radius;
+		this.desc = desc;
+		this.derivX = derivX;
+		this.derivY = derivY;
+	}
+
 	public void setPosition(float x, float y) {
 		this.x = x;
 		this.y = y;
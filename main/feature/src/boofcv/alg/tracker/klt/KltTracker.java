@@ -171,10 +171,15 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 		interpDeriv.setImage(derivY);
 		interpDeriv.region(tl_x, tl_y, feature.derivY);
 
+		final float[] dataX = feature.derivX.data;
+		final float[] dataY = feature.derivY.data;
+		final int startX = feature.derivX.startIndex;
+		final int startY = feature.derivY.startIndex;
+
 		float Gxx = 0, Gyy = 0, Gxy = 0;
 		for (int i = 0; i < size; i++) {
-			float dX = feature.derivX.data[i];
-			float dY = feature.derivY.data[i];
+			float dX = dataX[startX + i];
+			float dY = dataY[startY + i];
 
 			Gxx += dX * dX;
 			Gyy += dY * dY;
@@ -212,17 +217,24 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 		interpDeriv.setImage(derivY);
 		interpDeriv.region(srcX0, srcY0, subimage);
 
+		final float[] dataDesc = feature.desc.data;
+		final float[] dataX = feature.derivX.data;
+		final float[] dataY = feature.derivY.data;
+		final int startDesc = feature.desc.startIndex;
+		final int startX = feature.derivX.startIndex;
+		final int startY = feature.derivY.startIndex;
+
 		int total= 0;
 
 		Gxx = Gyy = Gxy = 0;
 		for( int i = 0; i < lengthFeature; i++ ) {
-			if( Float.isNaN(feature.desc.data[i]))
+			if( Float.isNaN(dataDesc[startDesc + i]))
 				continue;
 
 			total++;
 
-			float dX = feature.derivX.data[i];
-			float dY = feature.derivY.data[i];
+			float dX = dataX[startX + i];
+			float dY = dataY[startY + i];
 
 			Gxx += dX * dX;
 			Gyy += dY * dY;
@@ -344,15 +356,19 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 	}
 
 	private float computeError(KltFeature feature) {
+		final float[] dataDesc = feature.desc.data;
+		final int startDesc = feature.desc.startIndex;
+
 		float error = 0;
 		int total = 0;
 		for (int i = 0; i < lengthFeature; i++) {
+			float template = dataDesc[startDesc + i];
 
-			if( Float.isNaN(feature.desc.data[i]) || Float.isNaN(currDesc.data[i]))
+			if( Float.isNaN(template) || Float.isNaN(currDesc.data[i]))
 				continue;
 
 			// compute the difference between the previous and the current image
-			error += Math.abs(feature.desc.data[i] - currDesc.data[i]);
+			error += Math.abs(template - currDesc.data[i]);
 			total++;
 		}
 		return error / total;
@@ -362,14 +378,21 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 		// extract the region in the current image
 		interpInput.region(x - feature.radius, y - feature.radius, currDesc);
 
+		final float[] dataDesc = feature.desc.data;
+		final float[] dataX = feature.derivX.data;
+		final float[] dataY = feature.derivY.data;
+		final int startDesc = feature.desc.startIndex;
+		final int startX = feature.derivX.startIndex;
+		final int startY = feature.derivY.startIndex;
+
 		Ex = 0;
 		Ey = 0;
 		for (int i = 0; i < lengthFeature; i++) {
 			// compute the difference between the previous and the current image
-			float d = feature.desc.data[i] - currDesc.data[i];
+			float d = dataDesc[startDesc + i] - currDesc.data[i];
 
-			Ex += d * feature.derivX.data[i];
-			Ey += d * feature.derivY.data[i];
+			Ex += d * dataX[startX + i];
+			Ey += d * dataY[startY + i];
 		}
 	}
 
@@ -385,13 +408,20 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 		interpInput.setImage(image);
 		interpInput.region(srcX0, srcY0, subimage);
 
+		final float[] dataDesc = feature.desc.data;
+		final float[] dataX = feature.derivX.data;
+		final float[] dataY = feature.derivY.data;
+		final int startDesc = feature.desc.startIndex;
+		final int startX = feature.derivX.startIndex;
+		final int startY = feature.derivY.startIndex;
+
 		int total = 0;
 
 		Gxx = 0; Gyy = 0; Gxy = 0;
 		Ex = 0; Ey = 0;
 
 		for( int i = 0; i < lengthFeature; i++ ) {
-			float template = feature.desc.data[i];
+			float template = dataDesc[startDesc + i];
 			float current = currDesc.data[i];
 
 			// if the description was outside of the image here skip it
@@ -401,8 +431,8 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 			// count total number of points inbounds
 			total++;
 
-			float dX = feature.derivX.data[i];
-			float dY = feature.derivY.data[i];
+			float dX = dataX[startX + i];
+			float dY = dataY[startY + i];
 
 			// compute the difference between the previous and the current image
 			float d = template - current;
@@ -461,8 +491,11 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 	 * outside the image
 	 */
 	public boolean isDescriptionComplete( KltFeature feature ) {
+		final float[] dataDesc = feature.desc.data;
+		final int startDesc = feature.desc.startIndex;
+
 		for( int i = 0; i < lengthFeature; i++ ) {
-			if( Float.isNaN(feature.desc.data[i]) )
+			if( Float.isNaN(dataDesc[startDesc + i]) )
 				return false;
 		}
 		return true;
@@ -505,4 +538,14 @@ public class KltTracker<InputImage extends ImageSingleBand, DerivativeImage exte
 	public KltConfig getConfig() {
 		return config;
 	}
+
+	/**
+	 * Creates a new tracker with the same configuration and its own copy of the interpolation algorithms and
+	 * internal work space.  The image must be set again.  Intended for use by different threads.
+	 *
+	 * @return New instance of the tracker
+	 */
+	public KltTracker<InputImage, DerivativeImage> copy() {
+		return new KltTracker<InputImage, DerivativeImage>(interpInput.copy(),interpDeriv.copy(),config);
+	}
 }
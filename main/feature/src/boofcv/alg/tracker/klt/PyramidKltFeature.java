@@ -46,6 +46,15 @@ public class PyramidKltFeature {
 		}
 	}
 
+	/**
+	 * Uses the provided description for each layer in the pyramid
+	 *
+	 * @param desc Description for each layer in the pyramid.  Reference is saved.
+	 */
+	public PyramidKltFeature(KltFeature desc[]) {
+		this.desc = desc;
+	}
+
 	public void setPosition(float x, float y) {
 		this.x = x;
 		this.y = y;
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.struct.image.ImageFloat32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Storage for {@link PyramidKltFeature} where the templates of all the features are packed into a few
+ * large arrays.  The pixel intensity, x-derivative and y-derivative templates are each stored in their own
+ * float[] array.  Each {@link KltFeature} references its template through images which are views into those
+ * arrays.  This keeps template data contiguous in memory across features and avoids creating three images per
+ * layer per feature.
+ * </p>
+ *
+ * <p>
+ * Features are recycled with a free list.  New features are only created and the arrays only grow when more
+ * features are requested than have been released, so once the number of tracks stabilizes no memory is allocated.
+ * The templates of feature slot i and layer j start at element (i*numLayers + j)*width*width, where width is
+ * radius*2+1.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PyramidKltFeatureStore {
+
+	// number of layers in the image pyramid
+	protected int numLayers;
+	// radius of each template
+	protected int radius;
+	// width of each template
+	protected int width;
+	// number of elements in one layer of a template
+	protected int lengthLayer;
+	// number of elements used by all the layers of a feature
+	protected int lengthFeature;
+
+	/**
+	 * Pixel intensity templates for every feature and layer
+	 */
+	public float desc[] = new float[0];
+	/**
+	 * Image derivative along the x-axis templates for every feature and layer
+	 */
+	public float derivX[] = new float[0];
+	/**
+	 * Image derivative along the y-axis templates for every feature and layer
+	 */
+	public float derivY[] = new float[0];
+
+	// every feature which has been created.  The index of a feature is its slot in the arrays
+	protected List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+	// marks which features have been released
+	protected boolean released[] = new boolean[0];
+	// slots which are not in use
+	protected GrowQueue_I32 free = new GrowQueue_I32();
+
+	/**
+	 * Specifies the shape of each feature
+	 *
+	 * @param numLayers Number of layers inside the image pyramid
+	 * @param radius Radius of the feature description in each layer
+	 */
+	public PyramidKltFeatureStore(int numLayers, int radius) {
+		this.numLayers = numLayers;
+		this.radius = radius;
+		this.width = radius*2 + 1;
+		this.lengthLayer = width*width;
+		this.lengthFeature = lengthLayer*numLayers;
+	}
+
+	/**
+	 * Returns an unused feature.  A previously released feature is returned if one is available, otherwise
+	 * a new feature is created.  The feature's location, description, and cookie are left as is.
+	 *
+	 * @return A feature which is not in use
+	 */
+	public PyramidKltFeature grab() {
+		if( free.size == 0 ) {
+			reserve(features.size()+1);
+		}
+
+		int index = free.removeTail();
+		released[index] = false;
+		return features.get(index);
+	}
+
+	/**
+	 * Returns the feature to the store so that it can be used again.  The feature must have been
+	 * created by this store and must not already have been released.
+	 *
+	 * @param feature The feature being released.
+	 */
+	public void release( PyramidKltFeature feature ) {
+		int index = indexOf(feature);
+		if( released[index] )
+			throw new IllegalArgumentException("Feature has already been released");
+
+		released[index] = true;
+		free.add(index);
+	}
+
+	/**
+	 * Releases all the features.
+	 */
+	public void releaseAll() {
+		free.reset();
+		// add them in reverse order so that the features at the start of the arrays are handed out first
+		for( int i = features.size()-1; i >= 0; i-- ) {
+			released[i] = true;
+			free.add(i);
+		}
+	}
+
+	/**
+	 * Ensures that there is storage for at least the specified number of features.  New features are
+	 * created and added to the free list if needed.  Storage grows by at least a factor of two so that
+	 * the template data is only copied a few times as the number of features increases.
+	 *
+	 * @param total Total number of features
+	 */
+	public void reserve( int total ) {
+		int numFeatures = features.size();
+		if( total <= numFeatures )
+			return;
+		total = Math.max(total, Math.max(10, numFeatures*2));
+
+		int length = total*lengthFeature;
+		desc = grow(desc, length, numFeatures*lengthFeature);
+		derivX = grow(derivX, length, numFeatures*lengthFeature);
+		derivY = grow(derivY, length, numFeatures*lengthFeature);
+
+		boolean tmp[] = new boolean[total];
+		System.arraycopy(released,0,tmp,0,numFeatures);
+		released = tmp;
+
+		// existing features need to reference the new arrays
+		for( int i = 0; i < numFeatures; i++ ) {
+			PyramidKltFeature f = features.get(i);
+			for( int layer = 0; layer < numLayers; layer++ ) {
+				KltFeature k = f.desc[layer];
+				k.desc.data = desc;
+				k.derivX.data = derivX;
+				k.derivY.data = derivY;
+			}
+		}
+
+		for( int i = numFeatures; i < total; i++ ) {
+			KltFeature layers[] = new KltFeature[numLayers];
+			for( int layer = 0; layer < numLayers; layer++ ) {
+				int offset = i*lengthFeature + layer*lengthLayer;
+				layers[layer] = new KltFeature(radius,
+						createView(desc,offset),createView(derivX,offset),createView(derivY,offset));
+			}
+			features.add(new PyramidKltFeature(layers));
+		}
+
+		// new features go to the bottom of the free list so that released features are reused first
+		int numNew = total - numFeatures;
+		int numFree = free.size;
+		for( int i = 0; i < numNew; i++ ) {
+			free.add(0);
+		}
+		System.arraycopy(free.data,0,free.data,numNew,numFree);
+		for( int i = 0; i < numNew; i++ ) {
+			int index = total - 1 - i;
+			released[index] = true;
+			free.data[i] = index;
+		}
+	}
+
+	/**
+	 * Returns the slot of the feature inside the arrays
+	 *
+	 * @param feature A feature which was created by this store
+	 * @return Slot index
+	 */
+	public int indexOf( PyramidKltFeature feature ) {
+		int index = feature.desc[0].desc.startIndex/lengthFeature;
+		if( index >= features.size() || features.get(index) != feature )
+			throw new IllegalArgumentException("Feature does not belong to this store");
+		return index;
+	}
+
+	/**
+	 * Index of the first element in the arrays which belongs to the specified slot and layer
+	 */
+	public int getOffset( int index , int layer ) {
+		return index*lengthFeature + layer*lengthLayer;
+	}
+
+	/**
+	 * Number of features which have been grabbed and not released
+	 */
+	public int getNumUsed() {
+		return features.size() - free.size;
+	}
+
+	/**
+	 * Total number of features which have been created
+	 */
+	public int size() {
+		return features.size();
+	}
+
+	public int getNumLayers() {
+		return numLayers;
+	}
+
+	public int getRadius() {
+		return radius;
+	}
+
+	private ImageFloat32 createView( float data[] , int offset ) {
+		ImageFloat32 view = new ImageFloat32();
+		view.data = data;
+		view.startIndex = offset;
+		view.stride = width;
+		view.width = width;
+		view.height = width;
+		view.subImage = true;
+		return view;
+	}
+
+	private static float[] grow( float data[] , int length , int used ) {
+		float tmp[] = new float[length];
+		System.arraycopy(data,0,tmp,0,used);
+		return tmp;
+	}
+}
@@ -21,6 +21,8 @@ package boofcv.alg.tracker.klt;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import java.util.List;
+
 /**
  * <p>
  * A pyramid Kanade-Lucas-Tomasi (KLT) tracker that allows features to be tracker over a larger region than the basic
@@ -150,6 +152,58 @@ public class PyramidKltTracker<InputImage extends ImageSingleBand, DerivativeIma
 		return KltTrackFault.SUCCESS;
 	}
 
+	/**
+	 * <p>
+	 * Tracks every feature in the list and updates the description of each feature which was successfully tracked.
+	 * A feature is only successfully tracked if its new location is inside the input image and a new
+	 * description could be computed.  {@link #setImage(ImagePyramid, ImageSingleBand[], ImageSingleBand[])}
+	 * must have been called first.
+	 * </p>
+	 *
+	 * <p>
+	 * The result for each feature is independent of all the other features.
+	 * </p>
+	 *
+	 * @param features (Input) Features which are to be tracked.  Their location and description are modified.
+	 * @param results (Output) Outcome for each feature.  {@link KltTrackFault#OUT_OF_BOUNDS} if the feature's
+	 *                center left the image and {@link KltTrackFault#FAILED} if its description couldn't be updated.
+	 *                Must be at least as long as the list of features.
+	 */
+	public void trackUpdate( List<PyramidKltFeature> features , KltTrackFault[] results ) {
+		if( results.length < features.size() )
+			throw new IllegalArgumentException("Results array is too small");
+
+		trackUpdate(features, 0, features.size(), results);
+	}
+
+	/**
+	 * Tracks and updates the description of features in the specified range of the list.
+	 *
+	 * @see #trackUpdate(List, KltTrackFault[])
+	 */
+	protected void trackUpdate( List<PyramidKltFeature> features , int idx0 , int idx1 , KltTrackFault[] results ) {
+		int width = image.getInputWidth();
+		int height = image.getInputHeight();
+
+		for( int i = idx0; i < idx1; i++ ) {
+			PyramidKltFeature f = features.get(i);
+			KltTrackFault ret = track(f);
+
+			if( ret == KltTrackFault.SUCCESS ) {
+				int x = (int)f.x;
+				int y = (int)f.y;
+
+				// discard a track if its center drifts outside the image.
+				if( x < 0 || y < 0 || x >= width || y >= height )
+					ret = KltTrackFault.OUT_OF_BOUNDS;
+				else if( !setDescription(f) )
+					ret = KltTrackFault.FAILED;
+			}
+
+			results[i] = ret;
+		}
+	}
+
 	/**
 	 * Average error between track template and the image.
 	 *
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link PyramidKltTracker}.  When a list of features is tracked it is split into
+ * contiguous blocks and each block is processed by a different thread.  Each thread has its own {@link KltTracker}
+ * with its own interpolation algorithms and internal work space.  Features are independent of each other, so the
+ * results are identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Single features are tracked and described in the calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PyramidKltTracker_MT<InputImage extends ImageSingleBand, DerivativeImage extends ImageSingleBand>
+		extends PyramidKltTracker<InputImage,DerivativeImage>
+{
+	// minimum number of features in a block.  Prevents thread overhead from dominating when there are few features
+	private static final int MIN_BLOCK = 20;
+
+	// tracker for each block of features
+	FastQueue<PyramidKltTracker<InputImage,DerivativeImage>> workers;
+
+	public PyramidKltTracker_MT(KltTracker<InputImage, DerivativeImage> tracker) {
+		super(tracker);
+
+		workers = new FastQueue<PyramidKltTracker<InputImage,DerivativeImage>>(1,(Class)PyramidKltTracker.class,true) {
+			@Override
+			protected PyramidKltTracker<InputImage,DerivativeImage> createInstance() {
+				return new PyramidKltTracker<InputImage,DerivativeImage>(PyramidKltTracker_MT.this.tracker.copy());
+			}
+		};
+	}
+
+	@Override
+	public void trackUpdate( final List<PyramidKltFeature> features , final KltTrackFault[] results ) {
+		if( results.length < features.size() )
+			throw new IllegalArgumentException("Results array is too small");
+
+		BoofConcurrency.loopBlocks(0, features.size(), MIN_BLOCK, workers,
+				new IntRangeObjectTask<PyramidKltTracker<InputImage,DerivativeImage>>() {
+			@Override
+			public void process(PyramidKltTracker<InputImage,DerivativeImage> worker,
+								int minInclusive, int maxExclusive) {
+				worker.image = image;
+				worker.derivX = derivX;
+				worker.derivY = derivY;
+				worker.trackUpdate(features, minInclusive, maxExclusive, results);
+			}
+		});
+	}
+}
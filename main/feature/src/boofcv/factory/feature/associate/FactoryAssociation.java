@@ -20,9 +20,17 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedy_MT;
+import boofcv.alg.feature.associate.MultiIndexHashing_B;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.alg.AxisSplitRuleRandomK;
+import org.ddogleg.nn.alg.AxisSplitter;
+import org.ddogleg.nn.alg.AxisSplitterMedian;
+
+import java.util.Random;
 
 
 /**
@@ -49,18 +57,66 @@ public class FactoryAssociation {
 			double maxError ,
 			boolean backwardsValidation )
 	{
-		AssociateGreedy<D> alg = new AssociateGreedy<D>(score,backwardsValidation);
+		return greedy(score, maxError, backwardsValidation, 1.0);
+	}
+
+	/**
+	 * Returns an algorithm for associating features together which uses a brute force greedy algorithm.
+	 * See {@link AssociateGreedy} for details.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * a concurrent implementation is returned.
+	 *
+	 * @param score Computes the fit score between two features.
+	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the
+	 *                  forward and reverse matches fit an association is excepted.
+	 * @param ratioTest Rejects an association if the best score is more than this fraction of the second best.
+	 *                  Only for scores where zero is best.  To disable set to 1.0
+	 * @param <D> Data structure being associated
+	 * @return AssociateDescription
+	 */
+	public static <D> AssociateDescription<D>
+	greedy( ScoreAssociation<D> score ,
+			double maxError ,
+			boolean backwardsValidation ,
+			double ratioTest )
+	{
+		AssociateGreedy<D> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new AssociateGreedy_MT<D>(score,backwardsValidation);
+		else
+			alg = new AssociateGreedy<D>(score,backwardsValidation);
 		alg.setMaxFitError(maxError);
+		alg.setRatioTest(ratioTest);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<D>(alg);
 		return ret;
 	}
 
 
+	/**
+	 * Exact association of binary descriptors using multi-index hashing.  Much faster than brute force when
+	 * the source set is large and matches are close in Hamming distance.
+	 *
+	 * @see AssociateMultiIndexHashing_B
+	 * @see MultiIndexHashing_B
+	 *
+	 * @param numBits Number of bits in each descriptor
+	 * @param numTables Number of hash tables.  Each table can have at most 24 bits.  Try numBits/16.
+	 * @param maxDistance Maximum Hamming distance between two associated features.  To disable set to -1
+	 * @return Association using multi-index hashing
+	 */
+	public static AssociateDescription<TupleDesc_B> multiIndexHashing( int numBits , int numTables ,
+																	   int maxDistance ) {
+		AssociateMultiIndexHashing_B ret = new AssociateMultiIndexHashing_B(new MultiIndexHashing_B(numBits,numTables));
+		ret.setThreshold(maxDistance);
+		return ret;
+	}
+
 	/**
 	 * Approximate association using a K-D tree degree of moderate size (10-15) that uses a best-bin-first search
-	 * order.
+	 * order.  If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent implementation is returned.
 	 *
 	 * @see AssociateNearestNeighbor
+	 * @see AssociateNearestNeighbor_MT
 	 * @see org.ddogleg.nn.alg.KdTreeSearch1Bbf
 	 *
 	 * @param dimension Number of elements in the feature vector
@@ -68,6 +124,9 @@ public class FactoryAssociation {
 	 * @return Association using approximate nearest neighbor
 	 */
 	public static AssociateDescription<TupleDesc_F64> kdtree( int dimension, int maxNodesSearched ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return kdtree(dimension, maxNodesSearched, 1.0);
+
 		NearestNeighbor nn = FactoryNearestNeighbor.kdtree(maxNodesSearched);
 
 		return new AssociateNearestNeighbor<TupleDesc_F64>(nn,dimension);
@@ -75,9 +134,11 @@ public class FactoryAssociation {
 
 	/**
 	 * Approximate association using multiple random K-D trees (random forest) for descriptors with a high degree of
-	 * freedom, e.g. &gt; 20
+	 * freedom, e.g. &gt; 20.  If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent implementation is
+	 * returned.
 	 *
 	 * @see AssociateNearestNeighbor
+	 * @see AssociateNearestNeighbor_MT
 	 * @see org.ddogleg.nn.wrap.KdForestBbfSearch
 	 *
 	 * @param dimension Number of elements in the feature vector
@@ -93,12 +154,66 @@ public class FactoryAssociation {
 																	  int numTrees ,
 																	  int numConsiderSplit ,
 																	  long randomSeed) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return kdRandomForest(dimension, maxNodesSearched, numTrees, numConsiderSplit, randomSeed, 1.0);
+
 		NearestNeighbor nn = FactoryNearestNeighbor.kdRandomForest(
 				maxNodesSearched,numTrees,numConsiderSplit,randomSeed);
 
 		return new AssociateNearestNeighbor<TupleDesc_F64>(nn,dimension);
 	}
 
+	/**
+	 * Concurrent association using a K-D tree that uses a best-bin-first search order.  The two nearest
+	 * neighbors are found, which allows ambiguous matches to be removed with a ratio test.
+	 *
+	 * @see AssociateNearestNeighbor_MT
+	 *
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxNodesSearched  Maximum number of nodes it will search.  Controls speed and accuracy.  If &le; 0
+	 *                          then an exact search is performed.
+	 * @param ratioTest Rejects a match if its distance is more than this fraction of the distance to the second
+	 *                  best match.  To disable set to 1.0
+	 * @return Association using nearest neighbor
+	 */
+	public static AssociateNearestNeighbor_MT<TupleDesc_F64> kdtree( int dimension, int maxNodesSearched ,
+																	 double ratioTest ) {
+		AssociateNearestNeighbor_MT<TupleDesc_F64> ret = new AssociateNearestNeighbor_MT<TupleDesc_F64>(
+				dimension,maxNodesSearched,1,new AxisSplitterMedian<Integer>());
+		ret.setRatioTest(ratioTest);
+		return ret;
+	}
+
+	/**
+	 * Concurrent association using multiple random K-D trees (random forest).  The two nearest
+	 * neighbors are found, which allows ambiguous matches to be removed with a ratio test.
+	 *
+	 * @see AssociateNearestNeighbor_MT
+	 *
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxNodesSearched  Maximum number of nodes it will search.  Controls speed and accuracy.
+	 * @param numTrees Number of trees that are considered.  Try 10 and tune.
+	 * @param numConsiderSplit Number of nodes that are considered when generating a tree.  Must be less than the
+	 *                         point's dimension.  Try 5
+	 * @param randomSeed Seed used by random number generator
+	 * @param ratioTest Rejects a match if its distance is more than this fraction of the distance to the second
+	 *                  best match.  To disable set to 1.0
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateNearestNeighbor_MT<TupleDesc_F64> kdRandomForest( int dimension,
+																			 int maxNodesSearched ,
+																			 int numTrees ,
+																			 int numConsiderSplit ,
+																			 long randomSeed ,
+																			 double ratioTest ) {
+		AxisSplitter<Integer> splitter = new AxisSplitterMedian<Integer>(
+				new AxisSplitRuleRandomK(new Random(randomSeed),numConsiderSplit));
+		AssociateNearestNeighbor_MT<TupleDesc_F64> ret = new AssociateNearestNeighbor_MT<TupleDesc_F64>(
+				dimension,maxNodesSearched,numTrees,splitter);
+		ret.setRatioTest(ratioTest);
+		return ret;
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
@@ -23,6 +23,7 @@ import boofcv.abst.feature.describe.ConfigSurfDescribe;
 import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.feature.describe.*;
 import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
+import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
 import boofcv.alg.feature.describe.impl.*;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.core.image.border.BorderType;
@@ -72,17 +73,45 @@ public class FactoryDescribePointAlgs {
 	DescribePointBrief<T> brief(BinaryCompareDefinition_I32 definition, BlurFilter<T> filterBlur ) {
 		Class<T> imageType = filterBlur.getInputType().getImageClass();
 
-		DescribePointBinaryCompare<T> compare;
+		DescribePointBinaryCompare<T> compare = binaryCompare(definition,imageType);
 
+		return new DescribePointBrief<T>(compare,filterBlur);
+	}
+
+	/**
+	 * Creates a BRIEF descriptor which is steered to the feature's orientation.  The orientation is discretized
+	 * into 'numAngles' bins and a rotated copy of the definition is precomputed for each bin.
+	 *
+	 * @see DescribePointBriefSteered
+	 *
+	 * @param definition BRIEF definition at an orientation of zero.
+	 * @param numAngles Number of discrete orientations.  Try 30.
+	 * @param filterBlur Blur applied to the image before sampling.
+	 * @return Steered BRIEF
+	 */
+	public static <T extends ImageSingleBand>
+	DescribePointBriefSteered<T> briefSteered(BinaryCompareDefinition_I32 definition, int numAngles,
+											  BlurFilter<T> filterBlur ) {
+		Class<T> imageType = filterBlur.getInputType().getImageClass();
+
+		DescribePointBinaryCompare<T> steered[] = new DescribePointBinaryCompare[numAngles];
+		for( int i = 0; i < numAngles; i++ ) {
+			double angle = 2.0*Math.PI*i/numAngles;
+			steered[i] = binaryCompare(FactoryBriefDefinition.steer(definition,angle),imageType);
+		}
+
+		return new DescribePointBriefSteered<T>(definition,steered,filterBlur);
+	}
+
+	public static <T extends ImageSingleBand>
+	DescribePointBinaryCompare<T> binaryCompare(BinaryCompareDefinition_I32 definition, Class<T> imageType ) {
 		if( imageType == ImageFloat32.class ) {
-			compare = (DescribePointBinaryCompare<T> )new ImplDescribeBinaryCompare_F32(definition);
+			return (DescribePointBinaryCompare<T> )new ImplDescribeBinaryCompare_F32(definition);
 		} else if( imageType == ImageUInt8.class ) {
-			compare = (DescribePointBinaryCompare<T> )new ImplDescribeBinaryCompare_U8(definition);
+			return (DescribePointBinaryCompare<T> )new ImplDescribeBinaryCompare_U8(definition);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+imageType.getSimpleName());
 		}
-
-		return new DescribePointBrief<T>(compare,filterBlur);
 	}
 
 	// todo remove filterBlur for all BRIEF change to radius,sigma,type
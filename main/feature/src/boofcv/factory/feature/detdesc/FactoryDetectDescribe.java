@@ -25,30 +25,52 @@ import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.abst.feature.detdesc.*;
 import boofcv.abst.feature.detect.extract.NonMaxLimiter;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.abst.feature.detect.intensity.WrapperFastCornerIntensity;
 import boofcv.abst.feature.detect.interest.ConfigFastHessian;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
 import boofcv.abst.feature.detect.interest.ConfigSiftDetector;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.*;
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.alg.feature.describe.DescribePointBriefSteered;
 import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.describe.DescribePointSurfMod;
 import boofcv.alg.feature.describe.DescribePointSurfMultiSpectral;
+import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
+import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
+import boofcv.alg.feature.detdesc.CompleteOrb;
 import boofcv.alg.feature.detdesc.CompleteSift;
 import boofcv.alg.feature.detdesc.DetectDescribeSurfMultiSpectral;
+import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.alg.feature.orientation.OrientationIntensityCentroid;
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.alg.transform.pyramid.PyramidFloatScale;
+import boofcv.core.image.border.BorderType;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageMultiBand;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.PyramidFloat;
+
+import java.util.Random;
 
 /**
  * Creates instances of {@link DetectDescribePoint} for different feature detectors/describers.
@@ -91,6 +113,55 @@ public class FactoryDetectDescribe {
 		return new DetectDescribe_CompleteSift<T>(dds);
 	}
 
+	/**
+	 * Creates an ORB style detector and describer.  FAST corners are detected inside an image pyramid, oriented
+	 * using the intensity centroid, and described using steered BRIEF.  Invariant to orientation and scale.
+	 *
+	 * @see CompleteOrb
+	 *
+	 * @param config Configuration for ORB.  Null for default.
+	 * @param imageType Type of input image.  ImageUInt8 or ImageFloat32.
+	 * @return ORB
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	DetectDescribePoint<T,TupleDesc_B> orb( ConfigCompleteOrb config , Class<T> imageType )
+	{
+		if( config == null )
+			config = new ConfigCompleteOrb();
+		config.checkValidity();
+
+		double scales[] = new double[ config.numLayers ];
+		scales[0] = 1;
+		for( int i = 1; i < scales.length; i++ ) {
+			scales[i] = scales[i-1]*config.scaleFactor;
+		}
+		InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+		PyramidFloat<T> pyramid = new PyramidFloatScale<T>(interp,scales,imageType);
+
+		// features are only found where the entire region is inside the image
+		ConfigGeneralDetector d = config.detector;
+		FastCornerIntensity<T> fast = FactoryIntensityPointAlg.fast(
+				config.fast.pixelTol, config.fast.minContinuous, imageType);
+		GeneralFeatureIntensity<T, D> intensity = new WrapperFastCornerIntensity<T, D>(fast);
+		ConfigGeneralDetector configExtract =
+				new ConfigGeneralDetector(-1,d.radius,d.threshold,config.regionRadius,true,false,true);
+		configExtract.setSelectTo(d);
+		GeneralFeatureDetector<T,D> detector = FactoryDetectPoint.createGeneral(intensity, configExtract);
+
+		OrientationIntensityCentroid<T> orientation =
+				FactoryOrientationAlgs.intensityCentroid(1.0,config.regionRadius,imageType);
+
+		BlurFilter<T> filter = FactoryBlurFilter.gaussian(imageType,config.blurSigma,config.blurRadius);
+		BinaryCompareDefinition_I32 definition =
+				FactoryBriefDefinition.gaussian2(new Random(123), config.regionRadius, config.numPoints);
+		DescribePointBriefSteered<T> describe =
+				FactoryDescribePointAlgs.briefSteered(definition,config.numAngles,filter);
+
+		CompleteOrb<T> alg = new CompleteOrb<T>(pyramid,detector,orientation,describe,
+				d.maxFeatures,config.regionRadius);
+		return new DetectDescribe_CompleteOrb<T>(alg);
+	}
+
 	/**
 	 * <p>
 	 * Creates a SURF descriptor.  SURF descriptors are invariant to illumination, orientation, and scale.
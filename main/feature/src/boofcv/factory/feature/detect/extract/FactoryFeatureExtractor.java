@@ -20,8 +20,10 @@ package boofcv.factory.feature.detect.extract;
 
 import boofcv.abst.feature.detect.extract.*;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
 import boofcv.alg.feature.detect.extract.*;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageSingleBand;
 
 /**
@@ -52,7 +54,35 @@ public class FactoryFeatureExtractor {
 	}
 
 	/**
-	 * Standard non-max feature extractor.
+	 * Creates the algorithm which selects a subset of the features when more than the maximum number are found.
+	 *
+	 * @see boofcv.abst.feature.detect.interest.SelectLimitType
+	 *
+	 * @param config Specifies the type of selector and its configuration
+	 * @return The feature selector
+	 */
+	public static SelectLimitFeatures selectLimit( ConfigGeneralDetector config ) {
+		if( config == null )
+			config = new ConfigGeneralDetector();
+
+		switch( config.selectLimit ) {
+			case BEST:
+				return new SelectNBestFeatures(config.maxFeatures);
+
+			case BUCKET:
+				return new SelectBucketFeatures(config.maxFeatures,config.bucketCellSize,config.bucketQuota);
+
+			case ANMS:
+				return new SelectAnmsFeatures(config.maxFeatures,config.anmsRobust);
+
+			default:
+				throw new IllegalArgumentException("Unknown selector type "+config.selectLimit);
+		}
+	}
+
+	/**
+	 * Standard non-max feature extractor.  If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent
+	 * implementation is returned.
 	 *
 	 * @param config Configuration for extractor
 	 * @return A feature extractor.
@@ -82,6 +112,9 @@ public class FactoryFeatureExtractor {
 				ret = new NonMaxBlockRelaxed.Min();
 		}
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			ret = new NonMaxBlock_MT(ret);
+
 		ret.setSearchRadius(config.radius);
 		ret.setThresholdMax(config.threshold);
 		ret.setThresholdMin(-config.threshold);
@@ -91,7 +124,8 @@ public class FactoryFeatureExtractor {
 	}
 
 	/**
-	 * Non-max feature extractor which saves a candidate list of all the found local maximums..
+	 * Non-max feature extractor which saves a candidate list of all the found local maximums..  If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent implementation is returned.
 	 *
 	 * @param config Configuration for extractor
 	 * @return A feature extractor.
@@ -111,6 +145,9 @@ public class FactoryFeatureExtractor {
 			alg = new NonMaxCandidateRelaxed();
 		}
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new NonMaxCandidate_MT(alg);
+
 		WrapperNonMaxCandidate ret = new WrapperNonMaxCandidate(alg,false,true);
 
 		ret.setSearchRadius(config.radius);
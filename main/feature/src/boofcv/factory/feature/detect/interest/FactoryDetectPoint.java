@@ -126,6 +126,7 @@ public class FactoryDetectPoint {
 		GeneralFeatureIntensity<T, D> intensity = new WrapperFastCornerIntensity<T, D>(alg);
 		ConfigGeneralDetector configExtract =
 				new ConfigGeneralDetector(d.maxFeatures,d.radius,d.threshold,0,true,false,true);
+		configExtract.setSelectTo(d);
 		return createGeneral(intensity, configExtract);
 	}
 
@@ -179,6 +180,7 @@ public class FactoryDetectPoint {
 		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(config);
 		GeneralFeatureDetector<T, D> det = new GeneralFeatureDetector<T, D>(intensity, extractor);
 		det.setMaxFeatures(config.maxFeatures);
+		det.setSelector(FactoryFeatureExtractor.selectLimit(config));
 
 		return det;
 	}
@@ -33,6 +33,7 @@ import boofcv.alg.feature.detect.intensity.GradientCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.interest.*;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
 import boofcv.factory.filter.derivative.FactoryDerivativeSparse;
@@ -159,7 +160,8 @@ public class FactoryInterestPointAlgs {
 	}
 
 	/**
-	 * Creates a Fast Hessian blob detector used by SURF.
+	 * Creates a Fast Hessian blob detector used by SURF.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * a concurrent implementation is returned.
 	 *
 	 * @param config Configuration for detector. Pass in null for default options.
 	 * @param <II> Integral Image
@@ -175,9 +177,14 @@ public class FactoryInterestPointAlgs {
 		// ignore border is overwritten by Fast Hessian at detection time
 		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
 				new ConfigExtract(config.extractRadius, config.detectThreshold, 0, true));
-		return new FastHessianFeatureDetector<II>(extractor, config.maxFeaturesPerScale,
-				config.initialSampleSize, config.initialSize, config.numberScalesPerOctave,
-				config.numberOfOctaves, config.scaleStepSize);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new FastHessianFeatureDetector_MT<II>(extractor, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave,
+					config.numberOfOctaves, config.scaleStepSize);
+		else
+			return new FastHessianFeatureDetector<II>(extractor, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave,
+					config.numberOfOctaves, config.scaleStepSize);
 	}
 
 	/**
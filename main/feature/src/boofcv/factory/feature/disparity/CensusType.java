@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.factory.feature.disparity;
+
+/**
+ * Neighborhood used by the census transform when computing disparity using the Hamming distance.
+ *
+ * @author Peter Abeles
+ */
+public enum CensusType {
+	/**
+	 * 5x5 region packed into 24-bits
+	 *
+	 * @see boofcv.alg.transform.census.CensusTransform#region5x5
+	 */
+	REGION_5x5,
+	/**
+	 * 7x7 region packed into 48-bits
+	 *
+	 * @see boofcv.alg.transform.census.CensusTransform#region7x7
+	 */
+	REGION_7x7
+}
@@ -20,12 +20,17 @@ package boofcv.factory.feature.disparity;
 
 import boofcv.abst.feature.disparity.StereoDisparity;
 import boofcv.abst.feature.disparity.StereoDisparitySparse;
+import boofcv.abst.feature.disparity.WrapDisparityCensusRect;
 import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.abst.feature.disparity.WrapDisparitySgm;
 import boofcv.abst.feature.disparity.WrapDisparitySparseSadRect;
 import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat_MT;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.DisparitySparseScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySparseSelect;
+import boofcv.alg.feature.disparity.sgm.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
@@ -137,6 +142,9 @@ public class FactoryStereoDisparity {
 		if( alg == null)
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new DisparityScoreRowFormat_MT<T,ImageUInt8>(alg);
+
 		return new WrapDisparitySadRect<T,ImageUInt8>(alg);
 	}
 
@@ -220,9 +228,170 @@ public class FactoryStereoDisparity {
 		if( alg == null)
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new DisparityScoreRowFormat_MT<T,ImageFloat32>(alg);
+
 		return new WrapDisparitySadRect<T,ImageFloat32>(alg);
 	}
 
+	/**
+	 * <p>
+	 * Crates algorithms for computing dense disparity images up to pixel level accuracy using the Hamming
+	 * distance between census transformed images.  The census transform only encodes the relative
+	 * ordering of pixels, making it robust to differences in gain and bias between the left and right cameras.
+	 * </p>
+	 *
+	 * @param censusType Size of the census transform's region.
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param maxPerPixelError Maximum allowed number of bits which differ in a region per pixel.
+	 *                         Set to &lt; 0 to disable.
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be.  Try 6
+	 * @param texture Tolerance for how similar optimal region is to other region.  Closer to zero is more tolerant.
+	 *                Try 0.1
+	 * @return Rectangular region based WTA disparity.algorithm.
+	 */
+	public static StereoDisparity<ImageUInt8,ImageUInt8>
+	regionCensusWta( CensusType censusType ,
+					 int minDisparity , int maxDisparity,
+					 int regionRadiusX, int regionRadiusY ,
+					 double maxPerPixelError ,
+					 int validateRtoL ,
+					 double texture ) {
+
+		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
+
+		DisparitySelect select = selectDisparity_S32((int) maxError, validateRtoL, texture);
+
+		return createCensusRect(censusType, minDisparity, maxDisparity, regionRadiusX, regionRadiusY, select);
+	}
+
+	/**
+	 * <p>
+	 * Returns an algorithm for computing a dense disparity images with sub-pixel disparity accuracy using
+	 * the Hamming distance between census transformed images.
+	 * </p>
+	 *
+	 * @see #regionCensusWta
+	 */
+	public static StereoDisparity<ImageUInt8,ImageFloat32>
+	regionCensusSubpixelWta( CensusType censusType ,
+							 int minDisparity , int maxDisparity,
+							 int regionRadiusX, int regionRadiusY ,
+							 double maxPerPixelError ,
+							 int validateRtoL ,
+							 double texture ) {
+
+		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
+
+		DisparitySelect select = selectDisparitySubpixel_S32((int) maxError, validateRtoL, texture);
+
+		return createCensusRect(censusType, minDisparity, maxDisparity, regionRadiusX, regionRadiusY, select);
+	}
+
+	private static <D extends ImageSingleBand> StereoDisparity<ImageUInt8,D>
+	createCensusRect( CensusType censusType ,
+					  int minDisparity , int maxDisparity,
+					  int regionRadiusX, int regionRadiusY ,
+					  DisparitySelect<int[],D> select ) {
+		DisparityScoreRowFormat alg;
+		switch( censusType ) {
+			case REGION_5x5:
+				alg = FactoryStereoDisparityAlgs.scoreDisparityHammingRect_S32(minDisparity,
+						maxDisparity, regionRadiusX, regionRadiusY, select);
+				break;
+
+			case REGION_7x7:
+				alg = FactoryStereoDisparityAlgs.scoreDisparityHammingRect_S64(minDisparity,
+						maxDisparity, regionRadiusX, regionRadiusY, select);
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown census type "+censusType);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new DisparityScoreRowFormat_MT(alg);
+
+		return new WrapDisparityCensusRect(alg);
+	}
+
+	/**
+	 * <p>
+	 * Creates Semi-Global Matching (SGM) for computing dense disparity images up to pixel level accuracy.  SGM
+	 * aggregates the matching cost along several paths across the image, which fills in regions with little
+	 * texture.  If {@link BoofConcurrency#USE_CONCURRENT} is true the paths are aggregated using multiple threads.
+	 * </p>
+	 *
+	 * @param costType Which matching cost is used
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param penalty1 Penalty for a change in disparity of one.  Try 200
+	 * @param penalty2 Penalty for a change in disparity larger than one.  Must be &le;
+	 *                 {@link SgmDisparityCost#MAX_COST}.  Try 2000
+	 * @param pathsConsidered Number of paths the cost is aggregated along. 4 or 8
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be.  Try 1.
+	 *                     Disable with a value &lt; 0.
+	 * @param imageType Type of input image. Only {@link ImageUInt8} is supported.
+	 * @return SGM disparity algorithm
+	 */
+	public static <T extends ImageSingleBand> StereoDisparity<T,ImageUInt8>
+	sgm( SgmCostType costType ,
+		 int minDisparity , int maxDisparity ,
+		 int penalty1 , int penalty2 , int pathsConsidered ,
+		 int validateRtoL ,
+		 Class<T> imageType ) {
+		SgmStereoDisparity<T> alg = createSgm(costType, minDisparity, maxDisparity,
+				penalty1, penalty2, pathsConsidered, validateRtoL, imageType);
+		return new WrapDisparitySgm<T,ImageUInt8>(alg,ImageUInt8.class);
+	}
+
+	/**
+	 * <p>
+	 * Creates Semi-Global Matching (SGM) for computing dense disparity images with sub-pixel accuracy.
+	 * </p>
+	 *
+	 * @see #sgm
+	 */
+	public static <T extends ImageSingleBand> StereoDisparity<T,ImageFloat32>
+	sgmSubpixel( SgmCostType costType ,
+				 int minDisparity , int maxDisparity ,
+				 int penalty1 , int penalty2 , int pathsConsidered ,
+				 int validateRtoL ,
+				 Class<T> imageType ) {
+		SgmStereoDisparity<T> alg = createSgm(costType, minDisparity, maxDisparity,
+				penalty1, penalty2, pathsConsidered, validateRtoL, imageType);
+		return new WrapDisparitySgm<T,ImageFloat32>(alg,ImageFloat32.class);
+	}
+
+	private static <T extends ImageSingleBand> SgmStereoDisparity<T>
+	createSgm( SgmCostType costType ,
+			   int minDisparity , int maxDisparity ,
+			   int penalty1 , int penalty2 , int pathsConsidered ,
+			   int validateRtoL ,
+			   Class<T> imageType ) {
+		if( imageType != ImageUInt8.class )
+			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
+
+		SgmDisparityCost cost;
+		switch( costType ) {
+			case CENSUS: cost = new SgmCostCensus(); break;
+			case ABSOLUTE_DIFFERENCE: cost = new SgmCostAbsoluteDifference(); break;
+			default: throw new IllegalArgumentException("Unknown cost "+costType);
+		}
+
+		SgmCostAggregation aggregation;
+		if( BoofConcurrency.USE_CONCURRENT )
+			aggregation = new SgmCostAggregation_MT(penalty1, penalty2, pathsConsidered);
+		else
+			aggregation = new SgmCostAggregation(penalty1, penalty2, pathsConsidered);
+
+		return new SgmStereoDisparity<T>(minDisparity, maxDisparity, cost, aggregation,
+				new SgmDisparitySelector(validateRtoL));
+	}
+
 	/**
 	 * WTA algorithms that computes disparity on a sparse per-pixel basis as requested..
 	 *
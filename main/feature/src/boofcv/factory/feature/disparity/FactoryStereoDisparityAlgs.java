@@ -22,6 +22,8 @@ import boofcv.alg.feature.disparity.*;
 import boofcv.alg.feature.disparity.impl.*;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
 
@@ -91,6 +93,24 @@ public class FactoryStereoDisparityAlgs {
 				maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
 	}
 
+	public static <T extends ImageSingleBand> DisparityScoreHammingRect<ImageSInt32,T>
+	scoreDisparityHammingRect_S32( int minDisparity , int maxDisparity,
+								   int regionRadiusX, int regionRadiusY,
+								   DisparitySelect<int[],T> computeDisparity)
+	{
+		return new ImplDisparityScoreHammingRect_S32<T>(minDisparity,
+				maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
+	public static <T extends ImageSingleBand> DisparityScoreHammingRect<ImageSInt64,T>
+	scoreDisparityHammingRect_S64( int minDisparity , int maxDisparity,
+								   int regionRadiusX, int regionRadiusY,
+								   DisparitySelect<int[],T> computeDisparity)
+	{
+		return new ImplDisparityScoreHammingRect_S64<T>(minDisparity,
+				maxDisparity,regionRadiusX,regionRadiusY,computeDisparity);
+	}
+
 	public static <T extends ImageSingleBand> DisparityScoreSadRect<ImageSInt16,T>
 	scoreDisparitySadRect_S16( int minDisparity , int maxDisparity,
 							  int regionRadiusX, int regionRadiusY,
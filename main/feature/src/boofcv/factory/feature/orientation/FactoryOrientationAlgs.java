@@ -72,6 +72,28 @@ public class FactoryOrientationAlgs {
 		return ret;
 	}
 
+	/**
+	 * Estimates the orientation of a region using the intensity centroid inside a circular region.
+	 *
+	 * @see OrientationIntensityCentroid
+	 *
+	 * @param objectToSample Converts the object's radius into the radius of the sampled region.
+	 * @param radius Default object radius.
+	 * @param imageType Type of input image.
+	 * @return OrientationIntensityCentroid
+	 */
+	public static <T extends ImageSingleBand>
+	OrientationIntensityCentroid<T> intensityCentroid( double objectToSample , int radius , Class<T> imageType )
+	{
+		if( imageType == ImageFloat32.class ) {
+			return (OrientationIntensityCentroid<T>)new ImplOrientationIntensityCentroid_F32(objectToSample,radius);
+		} else if( imageType == ImageUInt8.class ) {
+			return (OrientationIntensityCentroid<T>)new ImplOrientationIntensityCentroid_U8(objectToSample,radius);
+		} else {
+			throw new IllegalArgumentException("Unknown image type.");
+		}
+	}
+
 	public static <T extends ImageSingleBand>
 	OrientationAverage<T> average( double objectToSample, int radius , boolean weighted , Class<T> derivType )
 	{
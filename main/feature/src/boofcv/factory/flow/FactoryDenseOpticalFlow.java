@@ -25,6 +25,7 @@ import boofcv.alg.flow.*;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.interpolate.FactoryInterpolation;
@@ -37,7 +38,8 @@ import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.pyramid.PyramidDiscrete;
 
 /**
- * Creates implementations of {@link DenseOpticalFlow}.
+ * Creates implementations of {@link DenseOpticalFlow}.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+ * concurrent implementations are returned for Horn-Schunck, Horn-Schunck pyramid, Brox, and region based flow.
  *
  * @author Peter Abeles
  */
@@ -104,6 +106,9 @@ public class FactoryDenseOpticalFlow {
 		else
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new DenseOpticalFlowBlockPyramid_MT<T>(alg);
+
 		return new FlowBlock_to_DenseOpticalFlow<T>(alg,config.pyramidScale,config.maxPyramidLayers,imageType);
 	}
 
@@ -123,12 +128,17 @@ public class FactoryDenseOpticalFlow {
 			config = new ConfigHornSchunck();
 
 		HornSchunck<T,D> alg;
-		if( imageType == ImageUInt8.class )
-			alg = (HornSchunck)new HornSchunck_U8(config.alpha,config.numIterations);
-		else
-		if( imageType == ImageFloat32.class )
-			alg = (HornSchunck)new HornSchunck_F32(config.alpha,config.numIterations);
-		else
+		if( imageType == ImageUInt8.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				alg = (HornSchunck)new HornSchunck_U8_MT(config.alpha,config.numIterations);
+			else
+				alg = (HornSchunck)new HornSchunck_U8(config.alpha,config.numIterations);
+		} else if( imageType == ImageFloat32.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				alg = (HornSchunck)new HornSchunck_F32_MT(config.alpha,config.numIterations);
+			else
+				alg = (HornSchunck)new HornSchunck_F32(config.alpha,config.numIterations);
+		} else
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 
 		return new HornSchunck_to_DenseOpticalFlow<T,D>(alg, ImageType.single(imageType));
@@ -151,7 +161,11 @@ public class FactoryDenseOpticalFlow {
 		InterpolatePixelS<ImageFloat32> interpolate =
 				FactoryInterpolation.createPixelS(0,255,config.interpolation, BorderType.EXTENDED, ImageFloat32.class);
 
-		HornSchunckPyramid<T> alg = new HornSchunckPyramid<T>(config,interpolate);
+		HornSchunckPyramid<T> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new HornSchunckPyramid_MT<T>(config,interpolate);
+		else
+			alg = new HornSchunckPyramid<T>(config,interpolate);
 
 		return new HornSchunckPyramid_to_DenseOpticalFlow<T>(alg,imageType);
 	}
@@ -165,7 +179,11 @@ public class FactoryDenseOpticalFlow {
 		InterpolatePixelS<ImageFloat32> interpolate =
 				FactoryInterpolation.createPixelS(0,255,config.interpolation, BorderType.EXTENDED, ImageFloat32.class);
 
-		BroxWarpingSpacial<T> alg = new BroxWarpingSpacial<T>(config,interpolate);
+		BroxWarpingSpacial<T> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new BroxWarpingSpacial_MT<T>(config,interpolate);
+		else
+			alg = new BroxWarpingSpacial<T>(config,interpolate);
 
 		return new BroxWarpingSpacial_to_DenseOpticalFlow<T>(alg,imageType);
 	}
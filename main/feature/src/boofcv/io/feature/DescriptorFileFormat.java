@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.feature;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+
+/**
+ * <p>
+ * Binary file format for storing a large set of feature descriptors and the location of their keypoints.  The
+ * file is designed to be memory mapped, see {@link DescriptorFileReader}, so that descriptors can be accessed
+ * without being deserialized or copied onto the heap.  All values are little endian.
+ * </p>
+ *
+ * <p>
+ * The file starts with a {@link #HEADER_BYTES} byte header:
+ * </p>
+ * <pre>
+ * offset  type      description
+ * 0       byte[8]   "BOOFDESC"
+ * 8       int32     version
+ * 12      int32     descriptor type. {@link #TYPE_F64}, {@link #TYPE_F32}, or {@link #TYPE_B}
+ * 16      int32     degrees of freedom.  Number of elements or number of bits for binary descriptors
+ * 20      int32     number of bytes in each record
+ * 24      int64     number of records
+ * </pre>
+ *
+ * <p>
+ * After the header is a list of records, which all have the same size.  Each record contains the keypoint
+ * (x, y, scale, orientation) as float32 followed by the descriptor.  F64 descriptors are stored as float64, F32
+ * as float32, and binary descriptors as int32 using the same bit order as {@link TupleDesc_B}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescriptorFileFormat {
+	/**
+	 * Identifies the file type
+	 */
+	public static final byte[] MAGIC = new byte[]{'B','O','O','F','D','E','S','C'};
+	/**
+	 * Current version of the file format
+	 */
+	public static final int VERSION = 1;
+	/**
+	 * Size of the file's header in bytes
+	 */
+	public static final int HEADER_BYTES = 32;
+	/**
+	 * Number of bytes used to store the keypoint in each record
+	 */
+	public static final int KEYPOINT_BYTES = 16;
+
+	public static final int TYPE_F64 = 0;
+	public static final int TYPE_F32 = 1;
+	public static final int TYPE_B = 2;
+
+	/**
+	 * Returns the file's code for the descriptor type
+	 *
+	 * @param type Type of descriptor
+	 * @return Type code
+	 */
+	public static int typeCode( Class<? extends TupleDesc> type ) {
+		if( type == TupleDesc_F64.class )
+			return TYPE_F64;
+		else if( type == TupleDesc_F32.class )
+			return TYPE_F32;
+		else if( type == TupleDesc_B.class )
+			return TYPE_B;
+		else
+			throw new IllegalArgumentException("Unsupported descriptor type "+type.getSimpleName());
+	}
+
+	/**
+	 * Number of bytes needed to store a descriptor
+	 *
+	 * @param typeCode Type of descriptor
+	 * @param dof Degrees of freedom in the descriptor
+	 * @return Number of bytes
+	 */
+	public static int descriptorBytes( int typeCode , int dof ) {
+		switch( typeCode ) {
+			case TYPE_F64: return dof*8;
+			case TYPE_F32: return dof*4;
+			case TYPE_B: return 4*(dof/32 + (dof%32 == 0 ? 0 : 1));
+			default: throw new IllegalArgumentException("Unknown type code "+typeCode);
+		}
+	}
+}
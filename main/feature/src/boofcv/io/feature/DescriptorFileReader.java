@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.feature;
+
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static boofcv.io.feature.DescriptorFileFormat.*;
+
+/**
+ * <p>
+ * Provides read only access to a file in the {@link DescriptorFileFormat} by memory mapping it.  Descriptors
+ * are never deserialized in bulk.  Individual descriptors can be copied into a tuple or distances can be computed
+ * directly against the mapped memory.  Since the operating system pages in the file on demand, databases which
+ * are much larger than the heap can be searched, and several processes can share the same pages.
+ * </p>
+ *
+ * <p>
+ * A single mapping is limited to 2 GB, so large files are mapped as several segments which each contain an
+ * integer number of records.  All accessors use absolute reads and it is safe to use the same reader
+ * from multiple threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescriptorFileReader {
+
+	private RandomAccessFile file;
+	private MappedByteBuffer segments[];
+	private int recordsPerSegment;
+
+	private int typeCode;
+	private int dof;
+	private int recordBytes;
+	private int numInts;
+	private int size;
+
+	/**
+	 * Opens and maps the file
+	 *
+	 * @param location The file
+	 * @throws IOException If the file can't be read or isn't a descriptor file
+	 */
+	public DescriptorFileReader( File location ) throws IOException {
+		this(location,Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Opens and maps the file with a custom limit on the size of each mapped segment
+	 *
+	 * @param location The file
+	 * @param maxSegmentBytes Maximum number of bytes in a mapped segment.
+	 * @throws IOException If the file can't be read or isn't a descriptor file
+	 */
+	protected DescriptorFileReader( File location , int maxSegmentBytes ) throws IOException {
+		file = new RandomAccessFile(location,"r");
+		try {
+			FileChannel channel = file.getChannel();
+			readHeader(channel);
+
+			recordsPerSegment = Math.max(1,maxSegmentBytes/recordBytes);
+			int numSegments = size/recordsPerSegment + (size%recordsPerSegment == 0 ? 0 : 1);
+			segments = new MappedByteBuffer[numSegments];
+			for( int i = 0; i < numSegments; i++ ) {
+				long offset = HEADER_BYTES + (long)i*recordsPerSegment*recordBytes;
+				int records = Math.min(recordsPerSegment,size-i*recordsPerSegment);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,offset,(long)records*recordBytes);
+				segments[i].order(ByteOrder.LITTLE_ENDIAN);
+			}
+		} catch( IOException e ) {
+			file.close();
+			throw e;
+		}
+	}
+
+	private void readHeader( FileChannel channel ) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		while( header.hasRemaining() ) {
+			if( channel.read(header) < 0 )
+				throw new IOException("File is too small to be a descriptor file");
+		}
+		header.flip();
+
+		for( int i = 0; i < MAGIC.length; i++ ) {
+			if( header.get() != MAGIC[i] )
+				throw new IOException("Not a descriptor file");
+		}
+		int version = header.getInt();
+		if( version != VERSION )
+			throw new IOException("Unsupported version "+version);
+		typeCode = header.getInt();
+		dof = header.getInt();
+		recordBytes = header.getInt();
+		long count = header.getLong();
+
+		if( typeCode < TYPE_F64 || typeCode > TYPE_B || dof <= 0 )
+			throw new IOException("Corrupted header");
+		if( recordBytes != KEYPOINT_BYTES + descriptorBytes(typeCode,dof) )
+			throw new IOException("Unexpected record size");
+		if( count > Integer.MAX_VALUE || HEADER_BYTES + count*recordBytes > channel.size() )
+			throw new IOException("File is truncated or corrupted");
+		size = (int)count;
+		numInts = (recordBytes-KEYPOINT_BYTES)/4;
+	}
+
+	/**
+	 * Returns the mapped segment which contains the record
+	 */
+	private ByteBuffer segment( int index ) {
+		if( index < 0 || index >= size )
+			throw new IllegalArgumentException("Index out of bounds. "+index);
+		return segments[index/recordsPerSegment];
+	}
+
+	private int offset( int index ) {
+		return (index%recordsPerSegment)*recordBytes;
+	}
+
+	private int descOffset( int index ) {
+		return offset(index) + KEYPOINT_BYTES;
+	}
+
+	private void checkType( int expected ) {
+		if( typeCode != expected )
+			throw new IllegalArgumentException("The file contains a different descriptor type");
+	}
+
+	public double getX( int index ) {
+		return segment(index).getFloat(offset(index));
+	}
+
+	public double getY( int index ) {
+		return segment(index).getFloat(offset(index)+4);
+	}
+
+	public double getScale( int index ) {
+		return segment(index).getFloat(offset(index)+8);
+	}
+
+	public double getOrientation( int index ) {
+		return segment(index).getFloat(offset(index)+12);
+	}
+
+	/**
+	 * Copies the descriptor into the provided tuple
+	 *
+	 * @param index Index of the record
+	 * @param output (Output) Storage for the descriptor
+	 */
+	public void getDescriptor( int index , TupleDesc_F64 output ) {
+		checkType(TYPE_F64);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		for( int i = 0; i < dof; i++ , offset += 8 ) {
+			output.value[i] = b.getDouble(offset);
+		}
+	}
+
+	/**
+	 * Copies the descriptor into the provided tuple
+	 *
+	 * @param index Index of the record
+	 * @param output (Output) Storage for the descriptor
+	 */
+	public void getDescriptor( int index , TupleDesc_F32 output ) {
+		checkType(TYPE_F32);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		for( int i = 0; i < dof; i++ , offset += 4 ) {
+			output.value[i] = b.getFloat(offset);
+		}
+	}
+
+	/**
+	 * Copies the descriptor into the provided tuple
+	 *
+	 * @param index Index of the record
+	 * @param output (Output) Storage for the descriptor
+	 */
+	public void getDescriptor( int index , TupleDesc_B output ) {
+		checkType(TYPE_B);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		for( int i = 0; i < numInts; i++ , offset += 4 ) {
+			output.data[i] = b.getInt(offset);
+		}
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between the query and a stored descriptor without copying it.
+	 *
+	 * @param index Index of the record
+	 * @param query The query descriptor
+	 * @return Euclidean distance squared
+	 */
+	public double euclideanSq( int index , TupleDesc_F64 query ) {
+		checkType(TYPE_F64);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		double total = 0;
+		for( int i = 0; i < dof; i++ , offset += 8 ) {
+			double d = query.value[i] - b.getDouble(offset);
+			total += d*d;
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the Euclidean distance squared between the query and a stored descriptor without copying it.
+	 *
+	 * @param index Index of the record
+	 * @param query The query descriptor
+	 * @return Euclidean distance squared
+	 */
+	public double euclideanSq( int index , TupleDesc_F32 query ) {
+		checkType(TYPE_F32);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		float total = 0;
+		for( int i = 0; i < dof; i++ , offset += 4 ) {
+			float d = query.value[i] - b.getFloat(offset);
+			total += d*d;
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the Hamming distance between the query and a stored descriptor without copying it.
+	 *
+	 * @param index Index of the record
+	 * @param query The query descriptor
+	 * @return Hamming distance
+	 */
+	public int hamming( int index , TupleDesc_B query ) {
+		checkType(TYPE_B);
+		ByteBuffer b = segment(index);
+		int offset = descOffset(index);
+		int total = 0;
+		for( int i = 0; i < numInts; i++ , offset += 4 ) {
+			total += Integer.bitCount(query.data[i] ^ b.getInt(offset));
+		}
+		return total;
+	}
+
+	/**
+	 * Closes the file.  The mapped memory is released once the reader has been garbage collected.
+	 *
+	 * @throws IOException If closing fails
+	 */
+	public void close() throws IOException {
+		segments = null;
+		file.close();
+	}
+
+	/**
+	 * Number of records in the file
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Degrees of freedom in each descriptor.  Number of bits for binary descriptors.
+	 */
+	public int getDOF() {
+		return dof;
+	}
+
+	/**
+	 * Type of descriptor in the file. See {@link DescriptorFileFormat}.
+	 */
+	public int getTypeCode() {
+		return typeCode;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.feature;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import static boofcv.io.feature.DescriptorFileFormat.*;
+
+/**
+ * Writes descriptors and their keypoints into a file using the {@link DescriptorFileFormat}.  Records are
+ * streamed to disk as they are added, so the whole set never needs to be in memory.  The number of records
+ * is written into the header when {@link #close()} is called.
+ *
+ * @author Peter Abeles
+ */
+public class DescriptorFileWriter<TD extends TupleDesc> {
+
+	private RandomAccessFile file;
+	private FileChannel channel;
+	// records are written to this buffer before being saved
+	private ByteBuffer buffer;
+
+	private int typeCode;
+	private int dof;
+	private int recordBytes;
+	// number of records written so far
+	private long count;
+
+	/**
+	 * Creates a new file.  If the file already exists it is overwritten.
+	 *
+	 * @param location Where the file is to be written
+	 * @param type Type of descriptor
+	 * @param dof Degrees of freedom in the descriptor.  Number of bits for binary descriptors.
+	 * @throws IOException If the file can't be created
+	 */
+	public DescriptorFileWriter( File location , Class<TD> type , int dof ) throws IOException {
+		this.typeCode = typeCode(type);
+		this.dof = dof;
+		this.recordBytes = KEYPOINT_BYTES + descriptorBytes(typeCode,dof);
+
+		file = new RandomAccessFile(location,"rw");
+		file.setLength(0);
+		channel = file.getChannel();
+
+		buffer = ByteBuffer.allocate(Math.max(recordBytes,64*1024));
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		// reserve space for the header
+		writeHeader();
+	}
+
+	/**
+	 * Adds a record to the end of the file
+	 *
+	 * @param x Keypoint x-coordinate
+	 * @param y Keypoint y-coordinate
+	 * @param scale Keypoint scale
+	 * @param orientation Keypoint orientation
+	 * @param desc The descriptor
+	 * @throws IOException If writing fails
+	 */
+	public void add( double x , double y , double scale , double orientation , TD desc ) throws IOException {
+		if( desc.size() != dof )
+			throw new IllegalArgumentException("Descriptor has an unexpected size. "+desc.size()+" vs "+dof);
+
+		if( buffer.remaining() < recordBytes )
+			flush();
+
+		buffer.putFloat((float)x);
+		buffer.putFloat((float)y);
+		buffer.putFloat((float)scale);
+		buffer.putFloat((float)orientation);
+
+		switch( typeCode ) {
+			case TYPE_F64: {
+				double value[] = ((TupleDesc_F64)desc).value;
+				for( int i = 0; i < dof; i++ ) {
+					buffer.putDouble(value[i]);
+				}
+			} break;
+
+			case TYPE_F32: {
+				float value[] = ((TupleDesc_F32)desc).value;
+				for( int i = 0; i < dof; i++ ) {
+					buffer.putFloat(value[i]);
+				}
+			} break;
+
+			case TYPE_B: {
+				int data[] = ((TupleDesc_B)desc).data;
+				int numInts = (recordBytes - KEYPOINT_BYTES)/4;
+				for( int i = 0; i < numInts; i++ ) {
+					buffer.putInt(data[i]);
+				}
+			} break;
+		}
+		count++;
+	}
+
+	/**
+	 * Saves all the records, writes the final header, and closes the file.
+	 *
+	 * @throws IOException If writing fails
+	 */
+	public void close() throws IOException {
+		flush();
+		channel.position(0);
+		writeHeader();
+		channel.force(false);
+		file.close();
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		header.put(MAGIC);
+		header.putInt(VERSION);
+		header.putInt(typeCode);
+		header.putInt(dof);
+		header.putInt(recordBytes);
+		header.putLong(count);
+		header.flip();
+		while( header.hasRemaining() )
+			channel.write(header);
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while( buffer.hasRemaining() )
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * Number of records written so far
+	 */
+	public long size() {
+		return count;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Stores a set of tuple descriptors inside a single contiguous array, as compared to a list of individual
+ * objects which each own their own array.  Each descriptor occupies a fixed stride of {@link #getDOF()} elements
+ * inside the array.  This reduces memory overhead and allows distance functions to stream through the data.
+ * Descriptors are added and extracted using the regular {@link TupleDesc} API.
+ *
+ * @author Peter Abeles
+ */
+public interface PackedTupleArray<T extends TupleDesc> {
+
+	/**
+	 * Discards all the descriptors.  Memory is not released.
+	 */
+	void reset();
+
+	/**
+	 * Ensures that the internal array can store the specified number of descriptors without declaring more memory.
+	 *
+	 * @param numTuples Number of descriptors
+	 */
+	void reserve( int numTuples );
+
+	/**
+	 * Copies the descriptor into the end of the array
+	 *
+	 * @param tuple The descriptor which is to be added.  Not modified.
+	 */
+	void addCopy( T tuple );
+
+	/**
+	 * Copies the descriptor into the specified location inside the array
+	 *
+	 * @param index Index of the descriptor
+	 * @param tuple The descriptor. Not modified.
+	 */
+	void setTo( int index , T tuple );
+
+	/**
+	 * Copies the specified descriptor into the output.
+	 *
+	 * @param index Index of the descriptor
+	 * @param output Storage for the descriptor. Modified.
+	 */
+	void getCopy( int index , T output );
+
+	/**
+	 * Returns a descriptor which contains a copy of the specified descriptor. The returned object is owned by
+	 * this class and is modified on the next call.
+	 *
+	 * @param index Index of the descriptor
+	 * @return Temporary copy of the descriptor
+	 */
+	T getTemp( int index );
+
+	/**
+	 * Number of descriptors stored in the array
+	 */
+	int size();
+
+	/**
+	 * Number of elements in each descriptor
+	 */
+	int getDOF();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Packed array of {@link TupleDesc_B}.  The bits in each descriptor are stored inside of a single long[] array,
+ * which lets the hamming distance be computed 64-bits at a time using {@link Long#bitCount(long)}.  Bit 'i' in
+ * the descriptor is stored in bit (i%64) of long (i/64).  Unused bits in the last long are always zero.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B implements PackedTupleArray<TupleDesc_B> {
+	// number of bits in each descriptor
+	protected final int numBits;
+	// number of longs used to store each descriptor
+	protected final int numLongs;
+
+	/**
+	 * Storage for all the descriptors. Only the first size*numLongs elements are used.
+	 */
+	public long data[] = new long[0];
+
+	// number of descriptors stored
+	protected int numTuples;
+
+	// used as temporary storage in getTemp()
+	protected TupleDesc_B temp;
+
+	public PackedTupleArray_B( int numBits ) {
+		this.numBits = numBits;
+		this.numLongs = numBits/64 + (numBits%64 == 0 ? 0 : 1);
+		this.temp = new TupleDesc_B(numBits);
+	}
+
+	@Override
+	public void reset() {
+		numTuples = 0;
+	}
+
+	@Override
+	public void reserve( int numTuples ) {
+		int length = numTuples*numLongs;
+		if( data.length < length ) {
+			long tmp[] = new long[length];
+			System.arraycopy(data,0,tmp,0,this.numTuples*numLongs);
+			data = tmp;
+		}
+	}
+
+	@Override
+	public void addCopy( TupleDesc_B tuple ) {
+		if( numTuples*numLongs >= data.length )
+			reserve(Math.max(10,numTuples*2));
+		setTo(numTuples++,tuple);
+	}
+
+	@Override
+	public void setTo( int index, TupleDesc_B tuple ) {
+		int offset = index*numLongs;
+		int[] src = tuple.data;
+		for (int i = 0, j = 0; i < numLongs; i++, j += 2 ) {
+			long lower = src[j] & 0xFFFFFFFFL;
+			long upper = j+1 < src.length ? ((long)src[j+1]) << 32 : 0;
+			data[offset+i] = lower | upper;
+		}
+	}
+
+	@Override
+	public void getCopy( int index, TupleDesc_B output ) {
+		int offset = index*numLongs;
+		int[] dst = output.data;
+		for (int i = 0, j = 0; i < numLongs; i++, j += 2 ) {
+			long v = data[offset+i];
+			dst[j] = (int)v;
+			if( j+1 < dst.length )
+				dst[j+1] = (int)(v >>> 32);
+		}
+		output.numBits = numBits;
+	}
+
+	@Override
+	public TupleDesc_B getTemp( int index ) {
+		getCopy(index,temp);
+		return temp;
+	}
+
+	/**
+	 * Index of the first element in {@link #data} belonging to the specified descriptor
+	 */
+	public int getOffset( int index ) {
+		return index*numLongs;
+	}
+
+	/**
+	 * Number of longs used to store each descriptor
+	 */
+	public int getNumLongs() {
+		return numLongs;
+	}
+
+	@Override
+	public int size() {
+		return numTuples;
+	}
+
+	/**
+	 * Number of bits in each descriptor
+	 */
+	@Override
+	public int getDOF() {
+		return numBits;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Packed array of {@link TupleDesc_F32}.  All the descriptors are stored in a single float[] array.  The
+ * descriptor at index i starts at element i*dof.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_F32 implements PackedTupleArray<TupleDesc_F32> {
+	// number of elements in each descriptor
+	protected final int dof;
+
+	/**
+	 * Storage for all the descriptors. Only the first size*dof elements are used.
+	 */
+	public float data[] = new float[0];
+
+	// number of descriptors stored
+	protected int numTuples;
+
+	// used as temporary storage in getTemp()
+	protected TupleDesc_F32 temp;
+
+	public PackedTupleArray_F32( int dof ) {
+		this.dof = dof;
+		this.temp = new TupleDesc_F32(dof);
+	}
+
+	@Override
+	public void reset() {
+		numTuples = 0;
+	}
+
+	@Override
+	public void reserve( int numTuples ) {
+		int length = numTuples*dof;
+		if( data.length < length ) {
+			float tmp[] = new float[length];
+			System.arraycopy(data,0,tmp,0,this.numTuples*dof);
+			data = tmp;
+		}
+	}
+
+	@Override
+	public void addCopy( TupleDesc_F32 tuple ) {
+		if( numTuples*dof >= data.length )
+			reserve(Math.max(10,numTuples*2));
+		System.arraycopy(tuple.value,0,data,numTuples*dof,dof);
+		numTuples++;
+	}
+
+	/**
+	 * Converts the double descriptor into float and adds it to the end of the array.  Used to reduce the
+	 * memory footprint of descriptors, such as SURF and SIFT, which are computed as doubles.
+	 *
+	 * @param tuple The descriptor which is to be added.  Not modified.
+	 */
+	public void addCopy( TupleDesc_F64 tuple ) {
+		if( numTuples*dof >= data.length )
+			reserve(Math.max(10,numTuples*2));
+		int offset = numTuples*dof;
+		for (int i = 0; i < dof; i++) {
+			data[offset+i] = (float)tuple.value[i];
+		}
+		numTuples++;
+	}
+
+	@Override
+	public void setTo( int index, TupleDesc_F32 tuple ) {
+		System.arraycopy(tuple.value,0,data,index*dof,dof);
+	}
+
+	@Override
+	public void getCopy( int index, TupleDesc_F32 output ) {
+		System.arraycopy(data,index*dof,output.value,0,dof);
+	}
+
+	@Override
+	public TupleDesc_F32 getTemp( int index ) {
+		getCopy(index,temp);
+		return temp;
+	}
+
+	/**
+	 * Index of the first element in {@link #data} belonging to the specified descriptor
+	 */
+	public int getOffset( int index ) {
+		return index*dof;
+	}
+
+	@Override
+	public int size() {
+		return numTuples;
+	}
+
+	@Override
+	public int getDOF() {
+		return dof;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.alg.feature.associate.MultiIndexHashing_B;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateMultiIndexHashing_B {
+
+	Random rand = new Random(234);
+
+	int numBits = 128;
+
+	/**
+	 * Compare against brute force association using the Hamming distance
+	 */
+	@Test
+	public void compareToBruteForce() {
+		FastQueue<TupleDesc_B> src = create(200);
+		FastQueue<TupleDesc_B> dst = create(0);
+		// add noisy copies of features in src and random features
+		for (int i = 0; i < 60; i++) {
+			TupleDesc_B d = src.get(rand.nextInt(src.size)).copy();
+			for (int j = 0; j < 6; j++) {
+				int bit = rand.nextInt(numBits);
+				d.data[bit/32] ^= 1 << (bit%32);
+			}
+			dst.add(d);
+		}
+		dst.addAll(create(20));
+
+		for( double threshold : new double[]{-1,10,40} ) {
+			AssociateMultiIndexHashing_B alg = new AssociateMultiIndexHashing_B(new MultiIndexHashing_B(numBits,8));
+			alg.setThreshold(threshold);
+			alg.setSource(src);
+			alg.setDestination(dst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> matches = alg.getMatches();
+			int total = 0;
+			for (int i = 0; i < dst.size; i++) {
+				int best = Integer.MAX_VALUE;
+				for (int j = 0; j < src.size; j++) {
+					best = Math.min(best,DescriptorDistance.hamming(src.get(j),dst.get(i)));
+				}
+				if( threshold >= 0 && best > threshold )
+					continue;
+
+				AssociatedIndex a = matches.get(total++);
+				assertEquals(i,a.dst);
+				assertEquals(best,a.fitScore,1e-8);
+				assertEquals(best,DescriptorDistance.hamming(src.get(a.src),dst.get(i)));
+			}
+			assertEquals(total,matches.size);
+			assertEquals(dst.size-total,alg.getUnassociatedDestination().size);
+		}
+	}
+
+	private FastQueue<TupleDesc_B> create( int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(TupleDesc_B.class,false);
+		for (int i = 0; i < total; i++) {
+			TupleDesc_B desc = new TupleDesc_B(numBits);
+			for (int j = 0; j < desc.data.length; j++) {
+				desc.data[j] = rand.nextInt();
+			}
+			ret.add(desc);
+		}
+		return ret;
+	}
+}
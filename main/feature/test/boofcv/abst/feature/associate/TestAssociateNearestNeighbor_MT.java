@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.alg.AxisSplitterMedian;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateNearestNeighbor_MT extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	Random rand = new Random(234);
+
+	public TestAssociateNearestNeighbor_MT() {
+		super(TupleDesc_F64.class);
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		// exact search will produce perfect results
+		return new AssociateNearestNeighbor_MT<TupleDesc_F64>(1,-1,1,new AxisSplitterMedian<Integer>());
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	/**
+	 * An exact search should produce the same results as brute force
+	 */
+	@Test
+	public void compareToBruteForce() {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			FastQueue<TupleDesc_F64> src = createSet(200,5);
+			FastQueue<TupleDesc_F64> dst = createSet(150,5);
+
+			AssociateNearestNeighbor_MT<TupleDesc_F64> alg =
+					new AssociateNearestNeighbor_MT<TupleDesc_F64>(5,-1,1,new AxisSplitterMedian<Integer>());
+			alg.setSource(src);
+			alg.setDestination(dst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> matches = alg.getMatches();
+			assertEquals(dst.size,matches.size);
+			for (int i = 0; i < dst.size; i++) {
+				AssociatedIndex a = matches.get(i);
+				assertEquals(i,a.dst);
+				double best = Double.MAX_VALUE;
+				for (int j = 0; j < src.size; j++) {
+					best = Math.min(best,DescriptorDistance.euclideanSq(src.get(j),dst.get(i)));
+				}
+				assertEquals(best,a.fitScore,1e-8);
+				assertEquals(best,DescriptorDistance.euclideanSq(src.get(a.src),dst.get(i)),1e-8);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	/**
+	 * Results should not depend on the number of threads
+	 */
+	@Test
+	public void compareNumberOfThreads() {
+		FastQueue<TupleDesc_F64> src = createSet(300,10);
+		FastQueue<TupleDesc_F64> dst = createSet(200,10);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(1);
+			AssociateNearestNeighbor_MT<TupleDesc_F64> alg =
+					FactoryAssociation.kdRandomForest(10,30,5,5,234,0.8);
+			alg.setSource(src);
+			alg.setDestination(dst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> expected = new FastQueue<AssociatedIndex>(AssociatedIndex.class,true);
+			for (int i = 0; i < alg.getMatches().size; i++) {
+				expected.grow().set(alg.getMatches().get(i));
+			}
+			assertTrue(expected.size > 0);
+
+			BoofConcurrency.setMaxThreads(4);
+			// process twice to make sure internal storage is reused correctly
+			for (int trial = 0; trial < 2; trial++) {
+				alg.setSource(src);
+				alg.associate();
+
+				FastQueue<AssociatedIndex> found = alg.getMatches();
+				assertEquals(expected.size,found.size);
+				for (int i = 0; i < expected.size; i++) {
+					assertEquals(expected.get(i).src,found.get(i).src);
+					assertEquals(expected.get(i).dst,found.get(i).dst);
+					assertEquals(expected.get(i).fitScore,found.get(i).fitScore,0);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_F64> src = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,false);
+		FastQueue<TupleDesc_F64> dst = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,false);
+
+		src.add(c(1));
+		src.add(c(2));
+		src.add(c(10));
+		// distance to best = 0.4 and second best = 0.6
+		dst.add(c(1.4));
+		// distance to best = 0.1 and second best = 7.9
+		dst.add(c(9.9));
+
+		AssociateNearestNeighbor_MT<TupleDesc_F64> alg =
+				new AssociateNearestNeighbor_MT<TupleDesc_F64>(1,-1,1,new AxisSplitterMedian<Integer>());
+		alg.setSource(src);
+		alg.setDestination(dst);
+
+		alg.associate();
+		assertEquals(2,alg.getMatches().size);
+
+		alg.setRatioTest(0.6);
+		alg.associate();
+		assertEquals(1,alg.getMatches().size);
+		assertEquals(2,alg.getMatches().get(0).src);
+		assertEquals(1,alg.getMatches().get(0).dst);
+
+		alg.setRatioTest(0.01);
+		alg.associate();
+		assertEquals(0,alg.getMatches().size);
+		assertEquals(2,alg.getUnassociatedDestination().size);
+	}
+
+	private FastQueue<TupleDesc_F64> createSet( int total , int dof ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,false);
+		for (int i = 0; i < total; i++) {
+			TupleDesc_F64 t = new TupleDesc_F64(dof);
+			for (int j = 0; j < dof; j++) {
+				t.value[j] = rand.nextGaussian();
+			}
+			ret.add(t);
+		}
+		return ret;
+	}
+}
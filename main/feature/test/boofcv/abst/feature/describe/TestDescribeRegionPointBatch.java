@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.describe;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the batch descriptors against describing one feature at a time
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class TestDescribeRegionPointBatch {
+
+	Random rand = new Random(234);
+
+	int width = 160;
+	int height = 140;
+
+	List<Point2D_F64> locations = new ArrayList<Point2D_F64>();
+	GrowQueue_F64 orientations = new GrowQueue_F64();
+	GrowQueue_F64 radii = new GrowQueue_F64();
+
+	public TestDescribeRegionPointBatch() {
+		// include features along the image border
+		for( int i = 0; i < 60; i++ ) {
+			locations.add(new Point2D_F64(rand.nextDouble()*width, rand.nextDouble()*height));
+			orientations.add((rand.nextDouble()-0.5)*2*Math.PI);
+			radii.add(2+rand.nextDouble()*20);
+		}
+	}
+
+	@Test
+	public void surfFast() {
+		check(FactoryDescribeRegionPoint.surfFast(null, ImageFloat32.class), ImageFloat32.class);
+		check(FactoryDescribeRegionPoint.surfFast(null, ImageUInt8.class), ImageUInt8.class);
+	}
+
+	@Test
+	public void surfStable() {
+		check(FactoryDescribeRegionPoint.surfStable(null, ImageFloat32.class), ImageFloat32.class);
+	}
+
+	@Test
+	public void sift() {
+		check(FactoryDescribeRegionPoint.sift(null, null, ImageFloat32.class), ImageFloat32.class);
+	}
+
+	@Test
+	public void brief() {
+		check(FactoryDescribeRegionPoint.brief(new ConfigBrief(true), ImageUInt8.class), ImageUInt8.class);
+	}
+
+	private void check( DescribeRegionPoint alg , Class imageType ) {
+		assertTrue(alg instanceof DescribeRegionPointBatch);
+		DescribeRegionPointBatch batch = (DescribeRegionPointBatch)alg;
+
+		batch.setImage(createImage(imageType));
+
+		// describe each feature individually
+		FastQueue<TupleDesc> expected = createQueue(batch);
+		for( int i = 0; i < locations.size(); i++ ) {
+			Point2D_F64 p = locations.get(i);
+			batch.process(p.x,p.y,orientations.get(i),radii.get(i),expected.grow());
+		}
+
+		// process it twice to make sure workspace is correctly reused
+		for( int trial = 0; trial < 2; trial++ ) {
+			FastQueue<TupleDesc> found = createQueue(batch);
+			GrowQueue_B success = new GrowQueue_B();
+			batch.process(locations, orientations, radii, found, success);
+			compare(expected, found, success);
+		}
+
+		// now do it concurrently
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			for( int trial = 0; trial < 2; trial++ ) {
+				FastQueue<TupleDesc> found = createQueue(batch);
+				GrowQueue_B success = new GrowQueue_B();
+				batch.process(locations, orientations, radii, found, success);
+				compare(expected, found, success);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private ImageSingleBand createImage( Class imageType ) {
+		ImageSingleBand image = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		return image;
+	}
+
+	private void compare( FastQueue<TupleDesc> expected , FastQueue<TupleDesc> found , GrowQueue_B success ) {
+		assertEquals(expected.size, found.size);
+		assertEquals(expected.size, success.size);
+		for( int i = 0; i < expected.size; i++ ) {
+			assertTrue(success.get(i));
+			TupleDesc e = expected.get(i);
+			TupleDesc f = found.get(i);
+			assertEquals(e.size(), f.size());
+			for( int j = 0; j < e.size(); j++ ) {
+				assertEquals(e.getDouble(j), f.getDouble(j), 0);
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc> createQueue( final DescribeRegionPoint alg ) {
+		return new FastQueue<TupleDesc>(10,alg.getDescriptionType(),true) {
+			@Override
+			protected TupleDesc createInstance() {
+				return alg.createDescription();
+			}
+		};
+	}
+}
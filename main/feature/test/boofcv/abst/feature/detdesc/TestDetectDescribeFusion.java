@@ -19,6 +19,7 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
@@ -30,8 +31,13 @@ import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageType;
 import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -64,6 +70,33 @@ public class TestDetectDescribeFusion {
 		}
 	}
 
+	/**
+	 * Same as {@link #checkFeatureNotInBounds()} but with a batch descriptor.  Order should be preserved.
+	 */
+	@Test
+	public void checkFeatureNotInBounds_batch() {
+
+		InterestPointDetector detector = new DummyDetector();
+		DescribeRegionPoint describe = new DummyRegionPointBatch();
+
+		DetectDescribeFusion alg = new DetectDescribeFusion(detector,null,describe);
+
+		alg.detect(new ImageFloat32(2,2));
+
+		// one feature should not be inside the image
+		assertEquals(9, alg.getNumberOfFeatures());
+
+		for( int i = 0; i < 9; i++ ) {
+			assertEquals(2,alg.getRadius(i),1e-8);
+			assertEquals(1,alg.getOrientation(i),1e-8);
+			assertTrue(alg.getLocation(i) != null);
+
+			// the description encodes the index of the feature it was computed from
+			BrightFeature desc = (BrightFeature)alg.getDescription(i);
+			assertEquals(i < 5 ? i : i+1, desc.value[0], 1e-8);
+		}
+	}
+
 	@Test
 	public void checkWithOrientation() {
 		final InterestPointDetector<ImageFloat32> detector = FactoryInterestPoint.fastHessian(null);
@@ -171,4 +204,17 @@ public class TestDetectDescribeFusion {
 			throw new RuntimeException("Foo");
 		}
 	}
+
+	public static class DummyRegionPointBatch extends DummyRegionPoint implements DescribeRegionPointBatch {
+		@Override
+		public void process(List locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+							FastQueue descriptions, GrowQueue_B success) {
+			descriptions.resize(locations.size());
+			success.resize(locations.size());
+			for( int i = 0; i < locations.size(); i++ ) {
+				((BrightFeature)descriptions.get(i)).value[0] = i;
+				success.data[i] = i != 5;
+			}
+		}
+	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings("ALL")
+public class TestDetectDescribe_CompleteOrb
+{
+	Class types[] = new Class[]{ImageFloat32.class,ImageUInt8.class};
+
+	@Test
+	public void allTypes() {
+		for( final Class type : types ) {
+			new GenericTestsDetectDescribePoint(true,true,ImageType.single(type),TupleDesc_B.class) {
+
+				@Override
+				public DetectDescribePoint createDetDesc() {
+					return FactoryDetectDescribe.orb(null, type);
+				}
+			}.allTests();
+		}
+	}
+}
@@ -18,10 +18,16 @@
 
 package boofcv.abst.feature.detdesc;
 
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -37,4 +43,64 @@ public class TestWrapDetectDescribeSurf extends GenericTestsDetectDescribePoint<
 	public DetectDescribePoint<ImageFloat32, BrightFeature> createDetDesc() {
 		return FactoryDetectDescribe.surfStable(null,null,null, ImageFloat32.class);
 	}
+
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 input = new ImageFloat32(200,180);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		DetectDescribePoint<ImageFloat32,BrightFeature> serialFast =
+				FactoryDetectDescribe.surfFast(null, null, null, ImageFloat32.class);
+		DetectDescribePoint<ImageFloat32,BrightFeature> serialStable =
+				FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+
+			DetectDescribePoint<ImageFloat32,BrightFeature> concurrentFast =
+					FactoryDetectDescribe.surfFast(null, null, null, ImageFloat32.class);
+			DetectDescribePoint<ImageFloat32,BrightFeature> concurrentStable =
+					FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class);
+
+			// process the image twice to make sure internal storage is correctly reused
+			for( int trial = 0; trial < 2; trial++ ) {
+				BoofConcurrency.USE_CONCURRENT = false;
+				serialFast.detect(input);
+				serialStable.detect(input);
+				BoofConcurrency.USE_CONCURRENT = true;
+				concurrentFast.detect(input);
+				concurrentStable.detect(input);
+
+				checkIdentical(serialFast, concurrentFast);
+				checkIdentical(serialStable, concurrentStable);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private static void checkIdentical( DetectDescribePoint<ImageFloat32,BrightFeature> expected ,
+										DetectDescribePoint<ImageFloat32,BrightFeature> found ) {
+		assertTrue(expected.getNumberOfFeatures() > 0);
+		assertEquals(expected.getNumberOfFeatures(), found.getNumberOfFeatures());
+
+		for( int i = 0; i < expected.getNumberOfFeatures(); i++ ) {
+			assertEquals(0, expected.getLocation(i).distance(found.getLocation(i)), 0);
+			assertEquals(expected.getRadius(i), found.getRadius(i), 0);
+			assertEquals(expected.getOrientation(i), found.getOrientation(i), 0);
+
+			BrightFeature a = expected.getDescription(i);
+			BrightFeature b = found.getDescription(i);
+			assertEquals(a.white, b.white);
+			for( int j = 0; j < a.size(); j++ ) {
+				assertEquals(a.value[j], b.value[j], 0);
+			}
+		}
+	}
 }
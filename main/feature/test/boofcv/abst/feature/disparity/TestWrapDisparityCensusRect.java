@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.disparity.CensusType;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWrapDisparityCensusRect {
+
+	Random rand = new Random(234);
+
+	int width = 60, height = 50;
+	int minDisparity = 2, maxDisparity = 20;
+	int trueDisparity = 8;
+	int radius = 3;
+
+	ImageUInt8 left = new ImageUInt8(width,height);
+	ImageUInt8 right = new ImageUInt8(width,height);
+
+	public TestWrapDisparityCensusRect() {
+		ImageMiscOps.fillUniform(right, rand, 0, 100);
+
+		// left image is the right image shifted by the true disparity with a different gain and bias
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				left.set(x, y, (int)(1.5*right.get(Math.max(0, x - trueDisparity), y)) + 20);
+			}
+		}
+	}
+
+	/**
+	 * The census transform is invariant to gain and bias, so the correct disparity should be found.  Pixels
+	 * near the image border are skipped since the census transform is different there.
+	 */
+	@Test
+	public void gainAndBias() {
+		for( CensusType type : CensusType.values() ) {
+			StereoDisparity<ImageUInt8,ImageUInt8> alg = FactoryStereoDisparity.regionCensusWta(type,
+					minDisparity, maxDisparity, radius, radius, -1, -1, -1);
+			alg.process(left, right);
+			ImageUInt8 found = alg.getDisparity();
+
+			for( int y = radius+3; y < height-radius-3; y++ ) {
+				for( int x = trueDisparity+radius+3; x < width-radius-3; x++ ) {
+					assertEquals(type+" "+x+" "+y,trueDisparity - minDisparity, found.get(x, y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void gainAndBias_subpixel() {
+		StereoDisparity<ImageUInt8,ImageFloat32> alg = FactoryStereoDisparity.regionCensusSubpixelWta(
+				CensusType.REGION_5x5, minDisparity, maxDisparity, radius, radius, -1, -1, -1);
+		alg.process(left, right);
+		ImageFloat32 found = alg.getDisparity();
+
+		for( int y = radius+3; y < height-radius-3; y++ ) {
+			for( int x = trueDisparity+radius+3; x < width-radius-3; x++ ) {
+				assertEquals(trueDisparity - minDisparity, found.get(x, y), 0.5);
+			}
+		}
+	}
+
+	/**
+	 * The image border should be marked as invalid
+	 */
+	@Test
+	public void borderSetToInvalid() {
+		StereoDisparity<ImageUInt8,ImageUInt8> alg = FactoryStereoDisparity.regionCensusWta(
+				CensusType.REGION_7x7, minDisparity, maxDisparity, radius, radius, -1, -1, -1);
+		alg.process(left, right);
+		ImageUInt8 found = alg.getDisparity();
+
+		int range = maxDisparity - minDisparity;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < minDisparity+radius; x++ ) {
+				assertTrue(found.get(x, y) > range);
+			}
+		}
+		for( int x = 0; x < width; x++ ) {
+			for( int y = 0; y < radius; y++ ) {
+				assertTrue(found.get(x, y) > range);
+				assertTrue(found.get(x, height-y-1) > range);
+			}
+		}
+	}
+}
@@ -59,6 +59,19 @@ public class TestWrapDisparitySadRect {
 		public void _process(ImageFloat32 left, ImageFloat32 right, ImageFloat32 imageFloat32) {
 		}
 
+		@Override
+		protected void initialize(ImageFloat32 left, ImageFloat32 disparity) {
+		}
+
+		@Override
+		protected void processRows(ImageFloat32 left, ImageFloat32 right, int row0, int row1) {
+		}
+
+		@Override
+		public Foo concurrentCopy() {
+			return null;
+		}
+
 		@Override
 		public Class<ImageFloat32> getInputType() {
 			return ImageFloat32.class;
@@ -67,6 +67,90 @@ public class TestDescriptorDistance {
 		assertEquals(195, DescriptorDistance.euclideanSq(a, b), 1e-4);
 	}
 
+	@Test
+	public void euclideanSq_array_F64() {
+		double a[] = new double[]{0,0,1,2,3,4,5};
+		double b[] = new double[]{0,2,-1,7,-8,10};
+
+		assertEquals(195, DescriptorDistance.euclideanSq(a,2,b,1,5), 1e-4);
+	}
+
+	@Test
+	public void euclideanSq_array_F32() {
+		float a[] = new float[]{0,0,1,2,3,4,5};
+		float b[] = new float[]{0,2,-1,7,-8,10};
+
+		assertEquals(195, DescriptorDistance.euclideanSq(a,2,b,1,5), 1e-4);
+	}
+
+	/**
+	 * Compares the one against many packed functions to the individual descriptor function
+	 */
+	@Test
+	public void euclideanSq_packed_F64() {
+		int DOF = 7;
+		TupleDesc_F64 a = new TupleDesc_F64(DOF);
+		PackedTupleArray_F64 listA = new PackedTupleArray_F64(DOF);
+		PackedTupleArray_F64 listB = new PackedTupleArray_F64(DOF);
+		for (int i = 0; i < DOF; i++) {
+			a.value[i] = rand.nextGaussian();
+		}
+		listA.addCopy(new TupleDesc_F64(DOF));
+		listA.addCopy(a);
+		for (int i = 0; i < 12; i++) {
+			TupleDesc_F64 b = new TupleDesc_F64(DOF);
+			for (int j = 0; j < DOF; j++) {
+				b.value[j] = rand.nextGaussian();
+			}
+			listB.addCopy(b);
+		}
+
+		double found0[] = new double[listB.size()];
+		double found1[] = new double[listB.size()];
+		DescriptorDistance.euclideanSq(a,listB,found0);
+		DescriptorDistance.euclideanSq(listA,1,listB,found1);
+
+		for (int i = 0; i < listB.size(); i++) {
+			double expected = DescriptorDistance.euclideanSq(a,listB.getTemp(i));
+			assertEquals(expected,found0[i],1e-8);
+			assertEquals(expected,found1[i],1e-8);
+		}
+	}
+
+	/**
+	 * Compares the one against many packed functions to the individual descriptor function
+	 */
+	@Test
+	public void euclideanSq_packed_F32() {
+		int DOF = 7;
+		TupleDesc_F32 a = new TupleDesc_F32(DOF);
+		PackedTupleArray_F32 listA = new PackedTupleArray_F32(DOF);
+		PackedTupleArray_F32 listB = new PackedTupleArray_F32(DOF);
+		for (int i = 0; i < DOF; i++) {
+			a.value[i] = (float)rand.nextGaussian();
+		}
+		listA.addCopy(new TupleDesc_F32(DOF));
+		listA.addCopy(a);
+		for (int i = 0; i < 12; i++) {
+			TupleDesc_F32 b = new TupleDesc_F32(DOF);
+			for (int j = 0; j < DOF; j++) {
+				b.value[j] = (float)rand.nextGaussian();
+			}
+			listB.addCopy(b);
+		}
+
+		double found0[] = new double[listB.size()];
+		double found1[] = new double[listB.size()];
+		DescriptorDistance.euclideanSq(a,listB,found0);
+		DescriptorDistance.euclideanSq(listA,1,listB,found1);
+
+		for (int i = 0; i < listB.size(); i++) {
+			double expected = DescriptorDistance.euclideanSq(a,listB.getTemp(i));
+			assertEquals(expected,found0[i],1e-4);
+			assertEquals(expected,found1[i],1e-4);
+		}
+	}
+
 	@Test
 	public void correlation() {
 		TupleDesc_F64 a = new TupleDesc_F64(5);
@@ -177,6 +261,60 @@ public class TestDescriptorDistance {
 		}
 	}
 
+	@Test
+	public void hamming_long_array() {
+		TupleDesc_B a = new TupleDesc_B(512);
+		TupleDesc_B b = new TupleDesc_B(512);
+
+		for( int i = 0; i < a.data.length; i++ ) {
+			a.data[i] = rand.nextInt();
+			b.data[i] = rand.nextInt();
+		}
+
+		PackedTupleArray_B packed = new PackedTupleArray_B(512);
+		packed.addCopy(b);
+		packed.addCopy(a);
+
+		int found = DescriptorDistance.hamming(packed.data,packed.getOffset(1),packed.data,0,packed.getNumLongs());
+		assertEquals(hamming(a,b),found);
+	}
+
+	/**
+	 * Compares the one against many packed functions to the individual descriptor function
+	 */
+	@Test
+	public void hamming_packed() {
+		int numBits = 96;
+		PackedTupleArray_B listA = new PackedTupleArray_B(numBits);
+		PackedTupleArray_B listB = new PackedTupleArray_B(numBits);
+
+		TupleDesc_B a = new TupleDesc_B(numBits);
+		for( int i = 0; i < a.data.length; i++ ) {
+			a.data[i] = rand.nextInt();
+		}
+		listA.addCopy(new TupleDesc_B(numBits));
+		listA.addCopy(a);
+
+		for (int i = 0; i < 12; i++) {
+			TupleDesc_B b = new TupleDesc_B(numBits);
+			for( int j = 0; j < b.data.length; j++ ) {
+				b.data[j] = rand.nextInt();
+			}
+			listB.addCopy(b);
+		}
+
+		int found0[] = new int[listB.size()];
+		int found1[] = new int[listB.size()];
+		DescriptorDistance.hamming(listA,1,listB,found0);
+		DescriptorDistance.hamming(listA.data,listA.getOffset(1),listB,found1);
+
+		for (int i = 0; i < listB.size(); i++) {
+			int expected = DescriptorDistance.hamming(a,listB.getTemp(i));
+			assertEquals(expected,found0[i]);
+			assertEquals(expected,found1[i]);
+		}
+	}
+
 	@Test
 	public void hamming_int() {
 		assertEquals(0,DescriptorDistance.hamming(0));
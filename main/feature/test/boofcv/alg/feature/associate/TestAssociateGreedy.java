@@ -18,12 +18,15 @@
 
 package boofcv.alg.feature.associate;
 
+import boofcv.abst.feature.associate.ScoreAssociateCorrelation;
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
 import boofcv.abst.feature.associate.ScoreAssociation;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 
@@ -101,6 +104,107 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_F64> a = createData(1,2,3,8);
+		FastQueue<TupleDesc_F64> b = createData(3,4,1.1,10,2.2);
+
+		AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<TupleDesc_F64>(score,false);
+		alg.setMaxFitError(10);
+
+		// no ratio test
+		alg.associate(a,b);
+		int pairs[] = alg.getPairs();
+		assertEquals(2,pairs[0]);
+		assertEquals(4,pairs[1]);
+		assertEquals(0,pairs[2]);
+		assertEquals(3,pairs[3]);
+
+		// 1 has best = 0.2 and second = 0.9
+		// 3 has best = 2 and second = 4
+		alg.setRatioTest(0.2);
+		alg.associate(a,b);
+		pairs = alg.getPairs();
+		assertEquals(2,pairs[0]);
+		assertEquals(-1,pairs[1]);
+		assertEquals(0,pairs[2]);
+		assertEquals(-1,pairs[3]);
+		assertEquals(Double.MAX_VALUE,alg.getFitQuality()[1],1e-8);
+	}
+
+	/**
+	 * The ratio test is only valid for scores with zero being the best
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void ratioTest_badScoreType() {
+		AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<TupleDesc_F64>(new ScoreAssociateCorrelation(),false);
+		alg.setRatioTest(0.5);
+	}
+
+	/**
+	 * Compare against a brute force implementation which saves the score for every pair.  Data is discretized
+	 * so that ties happen.
+	 */
+	@Test
+	public void compareToBruteForce() {
+		Random rand = new Random(234);
+
+		for (int trial = 0; trial < 20; trial++) {
+			FastQueue<TupleDesc_F64> a = createData(0);
+			FastQueue<TupleDesc_F64> b = createData(0);
+			a.reset();b.reset();
+			for (int i = 0; i < 30; i++) {
+				a.grow().set(rand.nextInt(20));
+			}
+			for (int i = 0; i < 25; i++) {
+				b.grow().set(rand.nextInt(20));
+			}
+
+			for( boolean backwards : new boolean[]{false,true}) {
+				AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<TupleDesc_F64>(score,backwards);
+				alg.setMaxFitError(4);
+				alg.associate(a,b);
+
+				int expected[] = new int[a.size];
+				bruteForce(a,b,4,backwards,expected);
+				for (int i = 0; i < a.size; i++) {
+					assertEquals(expected[i],alg.getPairs()[i]);
+				}
+			}
+		}
+	}
+
+	private void bruteForce( FastQueue<TupleDesc_F64> src , FastQueue<TupleDesc_F64> dst ,
+							 double maxFitError , boolean backwards , int pairs[] ) {
+		double scores[][] = new double[src.size][dst.size];
+		for (int i = 0; i < src.size; i++) {
+			double bestScore = maxFitError;
+			pairs[i] = -1;
+			for (int j = 0; j < dst.size; j++) {
+				scores[i][j] = score.score(src.get(i),dst.get(j));
+				if( scores[i][j] <= bestScore ) {
+					bestScore = scores[i][j];
+					pairs[i] = j;
+				}
+			}
+		}
+
+		if( !backwards )
+			return;
+
+		for (int i = 0; i < src.size; i++) {
+			int match = pairs[i];
+			if( match == -1 )
+				continue;
+			for (int j = 0; j < src.size; j++) {
+				if( j != i && scores[j][match] <= scores[i][match] ) {
+					pairs[i] = -1;
+					break;
+				}
+			}
+		}
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F64;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedy_MT {
+
+	Random rand = new Random(234);
+
+	ScoreAssociation<TupleDesc_F64> score = new ScoreAssociateEuclideanSq_F64();
+
+	@Test
+	public void compareToSingleThread() {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double ratio : new double[]{1.0,0.8} ) {
+					// different sizes to exercise the number of blocks
+					compareToSingleThread(100, 90, backwards, ratio);
+					compareToSingleThread(3, 50, backwards, ratio);
+					compareToSingleThread(0, 10, backwards, ratio);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private void compareToSingleThread( int numSrc , int numDst , boolean backwards , double ratio ) {
+		AssociateGreedy<TupleDesc_F64> serial = new AssociateGreedy<TupleDesc_F64>(score,backwards);
+		AssociateGreedy<TupleDesc_F64> concurrent = new AssociateGreedy_MT<TupleDesc_F64>(score,backwards);
+		serial.setMaxFitError(20);
+		concurrent.setMaxFitError(20);
+		serial.setRatioTest(ratio);
+		concurrent.setRatioTest(ratio);
+
+		// process twice to make sure internal storage is correctly reused
+		for (int trial = 0; trial < 2; trial++) {
+			// discretized values so that there are ties
+			FastQueue<TupleDesc_F64> src = createData(numSrc);
+			FastQueue<TupleDesc_F64> dst = createData(numDst);
+
+			serial.associate(src,dst);
+			concurrent.associate(src,dst);
+
+			for (int i = 0; i < numSrc; i++) {
+				assertEquals(serial.getPairs()[i],concurrent.getPairs()[i]);
+				assertEquals(serial.getFitQuality()[i],concurrent.getFitQuality()[i],0);
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_F64> createData( int total ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(2);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			ret.grow().set(rand.nextInt(10),rand.nextInt(10));
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F64;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateMaxDistanceGrid {
+
+	Random rand = new Random(234);
+
+	ScoreAssociation<TupleDesc_F64> score = new ScoreAssociateEuclideanSq_F64();
+
+	/**
+	 * Results should be identical to the naive implementation
+	 */
+	@Test
+	public void compareToNaive() {
+		for( boolean backwards : new boolean[]{false,true} ) {
+			for( double maxDistance : new double[]{0.5,5,30,Double.MAX_VALUE} ) {
+				compareToNaive(backwards, maxDistance);
+			}
+		}
+	}
+
+	/**
+	 * If the max distance is never specified then it's unbounded and every feature should be considered
+	 */
+	@Test
+	public void compareToNaive_distanceNotSpecified() {
+		for( boolean backwards : new boolean[]{false,true} ) {
+			compareToNaive(backwards, Double.NaN);
+		}
+	}
+
+	/**
+	 * @param maxDistance If NaN then the constructor without a max distance is used
+	 */
+	private void compareToNaive( boolean backwards , double maxDistance ) {
+		FastQueue<Point2D_F64> locSrc = createLocations(200);
+		FastQueue<Point2D_F64> locDst = createLocations(150);
+		FastQueue<TupleDesc_F64> descSrc = createDescriptions(200);
+		FastQueue<TupleDesc_F64> descDst = createDescriptions(150);
+
+		AssociateMaxDistanceNaive<TupleDesc_F64> naive;
+		AssociateMaxDistanceGrid<TupleDesc_F64> grid;
+		if( Double.isNaN(maxDistance) ) {
+			naive = new AssociateMaxDistanceNaive<TupleDesc_F64>(score,backwards,Double.MAX_VALUE);
+			grid = new AssociateMaxDistanceGrid<TupleDesc_F64>(score,backwards,Double.MAX_VALUE);
+		} else {
+			naive = new AssociateMaxDistanceNaive<TupleDesc_F64>(score,backwards,Double.MAX_VALUE,maxDistance);
+			grid = new AssociateMaxDistanceGrid<TupleDesc_F64>(score,backwards,Double.MAX_VALUE,maxDistance);
+		}
+
+		naive.setSource(locSrc,descSrc);
+		naive.setDestination(locDst,descDst);
+		grid.setSource(locSrc,descSrc);
+		grid.setDestination(locDst,descDst);
+
+		naive.associate();
+		grid.associate();
+
+		FastQueue<AssociatedIndex> expected = naive.getMatches();
+		FastQueue<AssociatedIndex> found = grid.getMatches();
+
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			assertEquals(expected.get(i).src,found.get(i).src);
+			assertEquals(expected.get(i).dst,found.get(i).dst);
+			assertEquals(expected.get(i).fitScore,found.get(i).fitScore,0);
+		}
+		assertEquals(naive.getUnassociatedSource().size,grid.getUnassociatedSource().size);
+	}
+
+	/**
+	 * The grid must return every point within the cell size of the query, including queries outside the grid
+	 */
+	@Test
+	public void grid_findNeighbors() {
+		FastQueue<Point2D_F64> locations = createLocations(300);
+		GrowQueue_I32 found = new GrowQueue_I32();
+
+		for( double cellSize : new double[]{0.5,3,200} ) {
+			AssociateMaxDistanceGrid.Grid grid = new AssociateMaxDistanceGrid.Grid();
+			grid.build(locations,cellSize);
+			assertTrue(grid.cellSize >= cellSize);
+
+			for (int trial = 0; trial < 50; trial++) {
+				Point2D_F64 p = new Point2D_F64(rand.nextDouble()*140-20,rand.nextDouble()*140-20);
+				grid.findNeighbors(p,found);
+
+				boolean isFound[] = new boolean[locations.size];
+				for (int i = 0; i < found.size; i++) {
+					isFound[found.get(i)] = true;
+				}
+				for (int i = 0; i < locations.size; i++) {
+					if( locations.get(i).distance(p) <= cellSize )
+						assertTrue(isFound[i]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void grid_empty() {
+		AssociateMaxDistanceGrid.Grid grid = new AssociateMaxDistanceGrid.Grid();
+		grid.build(new FastQueue<Point2D_F64>(Point2D_F64.class,true),2);
+
+		GrowQueue_I32 found = new GrowQueue_I32();
+		grid.findNeighbors(new Point2D_F64(1,2),found);
+		assertEquals(0,found.size);
+	}
+
+	private FastQueue<Point2D_F64> createLocations( int total ) {
+		FastQueue<Point2D_F64> ret = new FastQueue<Point2D_F64>(Point2D_F64.class,true);
+		for (int i = 0; i < total; i++) {
+			ret.grow().set(rand.nextDouble()*100,rand.nextDouble()*100);
+		}
+		return ret;
+	}
+
+	/**
+	 * Discretized descriptions so that there are ties in the score
+	 */
+	private FastQueue<TupleDesc_F64> createDescriptions( int total ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(2);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			ret.grow().set(rand.nextInt(10),rand.nextInt(10));
+		}
+
+		return ret;
+	}
+}
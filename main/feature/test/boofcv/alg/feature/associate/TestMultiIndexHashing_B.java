@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMultiIndexHashing_B {
+
+	Random rand = new Random(234);
+
+	GrowQueue_I32 indexes = new GrowQueue_I32();
+	GrowQueue_I32 distances = new GrowQueue_I32();
+
+	@Test
+	public void substring() {
+		TupleDesc_B desc = new TupleDesc_B(96);
+		for (int i = 0; i < 96; i++) {
+			if( rand.nextBoolean() )
+				desc.data[i/32] |= 1 << (i%32);
+		}
+
+		for( int bit0 : new int[]{0,5,20,30,31,60,72} ) {
+			for( int length : new int[]{1,8,13,24} ) {
+				int found = MultiIndexHashing_B.substring(desc.data,bit0,length);
+				for (int i = 0; i < length; i++) {
+					assertEquals(desc.isBitTrue(bit0+i),((found >> i) & 0x01) == 1);
+				}
+				assertEquals(0,found >>> length);
+			}
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void tooManyBitsPerTable() {
+		new MultiIndexHashing_B(256,10);
+	}
+
+	/**
+	 * Compare radius search against brute force.  Number of bits isn't evenly divisible by the number of tables
+	 */
+	@Test
+	public void searchRadius() {
+		int numBits = 100;
+		FastQueue<TupleDesc_B> database = createDatabase(numBits, 300);
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(numBits,7);
+		alg.setDatabase(database);
+		assertEquals(300,alg.size());
+
+		for (int trial = 0; trial < 30; trial++) {
+			TupleDesc_B query = createQuery(database,numBits);
+			for( int radius : new int[]{0,5,14,30} ) {
+				alg.searchRadius(query, radius, indexes, distances);
+
+				boolean found[] = new boolean[database.size];
+				for (int i = 0; i < indexes.size; i++) {
+					int d = DescriptorDistance.hamming(query,database.get(indexes.get(i)));
+					assertEquals(d,distances.get(i));
+					assertTrue(d <= radius);
+					assertTrue(!found[indexes.get(i)]);
+					found[indexes.get(i)] = true;
+				}
+				for (int i = 0; i < database.size; i++) {
+					int d = DescriptorDistance.hamming(query,database.get(i));
+					assertEquals(d <= radius, found[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compare nearest neighbor search against brute force
+	 */
+	@Test
+	public void searchNearest() {
+		for( int numBits : new int[]{64,100,256} ) {
+			FastQueue<TupleDesc_B> database = createDatabase(numBits, 400);
+
+			MultiIndexHashing_B alg = new MultiIndexHashing_B(numBits,numBits/12);
+			alg.setDatabase(database);
+
+			for (int trial = 0; trial < 30; trial++) {
+				TupleDesc_B query = createQuery(database, numBits);
+
+				for( int k : new int[]{1,3,10} ) {
+					for( int maxDistance : new int[]{-1,4,numBits/4} ) {
+						alg.searchNearest(query, k, maxDistance, indexes, distances);
+
+						int expected[] = bruteForce(database, query, maxDistance);
+						int N = Math.min(k, expected.length);
+						assertEquals(N, indexes.size);
+						for (int i = 0; i < N; i++) {
+							assertEquals(expected[i], distances.get(i));
+							assertEquals(expected[i], DescriptorDistance.hamming(query, database.get(indexes.get(i))));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Make sure the index can be rebuilt with a different database
+	 */
+	@Test
+	public void setDatabase_multipleCalls() {
+		FastQueue<TupleDesc_B> databaseA = createDatabase(64, 200);
+		FastQueue<TupleDesc_B> databaseB = createDatabase(64, 50);
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(64,4);
+		alg.setDatabase(databaseA);
+		alg.setDatabase(databaseB);
+		assertEquals(50,alg.size());
+
+		for (int i = 0; i < databaseB.size; i++) {
+			alg.searchNearest(databaseB.get(i),1,0,indexes,distances);
+			assertEquals(1,indexes.size);
+			assertEquals(0,distances.get(0));
+			assertEquals(0,DescriptorDistance.hamming(databaseB.get(i),databaseB.get(indexes.get(0))));
+		}
+	}
+
+	/**
+	 * Sorted distances to every descriptor within the max distance
+	 */
+	private int[] bruteForce( FastQueue<TupleDesc_B> database , TupleDesc_B query , int maxDistance ) {
+		GrowQueue_I32 found = new GrowQueue_I32();
+		for (int i = 0; i < database.size; i++) {
+			int d = DescriptorDistance.hamming(query,database.get(i));
+			if( maxDistance < 0 || d <= maxDistance )
+				found.add(d);
+		}
+		int ret[] = new int[found.size];
+		System.arraycopy(found.data,0,ret,0,found.size);
+		Arrays.sort(ret);
+		return ret;
+	}
+
+	private FastQueue<TupleDesc_B> createDatabase( int numBits , int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(TupleDesc_B.class,false);
+		for (int i = 0; i < total; i++) {
+			TupleDesc_B desc = new TupleDesc_B(numBits);
+			for (int j = 0; j < numBits; j++) {
+				if( rand.nextBoolean() )
+					desc.data[j/32] |= 1 << (j%32);
+			}
+			ret.add(desc);
+		}
+		return ret;
+	}
+
+	/**
+	 * Creates a query by flipping a few bits in a random database descriptor
+	 */
+	private TupleDesc_B createQuery( FastQueue<TupleDesc_B> database , int numBits ) {
+		TupleDesc_B query = database.get(rand.nextInt(database.size)).copy();
+		int numFlip = rand.nextInt(numBits/8);
+		for (int i = 0; i < numFlip; i++) {
+			int bit = rand.nextInt(numBits);
+			query.data[bit/32] ^= 1 << (bit%32);
+		}
+		return query;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
+import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescribePointBriefSteered {
+	Random rand = new Random(234);
+	int width = 41;
+	int height = 41;
+
+	int briefRadius = 5;
+	BinaryCompareDefinition_I32 def = FactoryBriefDefinition.gaussian2(rand, briefRadius, 64);
+	BlurFilter<ImageUInt8> filterBlur = FactoryBlurFilter.gaussian(ImageUInt8.class, -1, 1);
+
+	protected ImageUInt8 createImage( int width , int height ) {
+		ImageUInt8 ret = new ImageUInt8(width,height);
+		GImageMiscOps.fillUniform(ret, rand, 0, 200);
+		return ret;
+	}
+
+	/**
+	 * At an orientation of zero it should be the same as regular BRIEF on the blurred image
+	 */
+	@Test
+	public void zeroOrientation() {
+		ImageUInt8 input = createImage(width,height);
+
+		DescribePointBriefSteered<ImageUInt8> alg = FactoryDescribePointAlgs.briefSteered(def,30,filterBlur);
+		alg.setImage(input);
+
+		ImageUInt8 blurred = new ImageUInt8(width,height);
+		filterBlur.process(input,blurred);
+		DescribePointBinaryCompare<ImageUInt8> brief = FactoryDescribePointAlgs.binaryCompare(def,ImageUInt8.class);
+		brief.setImage(blurred);
+
+		TupleDesc_B found = alg.createFeature();
+		TupleDesc_B expected = alg.createFeature();
+
+		// inside and along the border
+		int points[][] = new int[][]{{20,20},{1,3},{39,40}};
+		for( int[] p : points ) {
+			alg.process(p[0],p[1],0,found);
+			brief.process(p[0],p[1],expected);
+			assertArrayEquals(expected.data,found.data);
+		}
+	}
+
+	/**
+	 * Rotate the image by 90 degrees and see if the steered descriptor is the same
+	 */
+	@Test
+	public void rotatedImage() {
+		ImageUInt8 input = createImage(width,height);
+		ImageUInt8 rotated = new ImageUInt8(width,height);
+
+		// (x,y) is moved to (c-(y-c),c+(x-c))
+		int c = width/2;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				rotated.set(2*c-y,x,input.get(x,y));
+			}
+		}
+
+		DescribePointBriefSteered<ImageUInt8> alg = FactoryDescribePointAlgs.briefSteered(def,4,filterBlur);
+		TupleDesc_B desc0 = alg.createFeature();
+		TupleDesc_B desc1 = alg.createFeature();
+		TupleDesc_B desc2 = alg.createFeature();
+
+		alg.setImage(input);
+		alg.process(c,c,0,desc0);
+		alg.setImage(rotated);
+		alg.process(c,c,Math.PI/2,desc1);
+		alg.process(c,c,0,desc2);
+
+		assertArrayEquals(desc0.data,desc1.data);
+		assertFalse(Arrays.equals(desc0.data, desc2.data));
+	}
+
+	/**
+	 * Orientations are rounded to the nearest bin and wrap around
+	 */
+	@Test
+	public void orientationBins() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		BlurFilter<ImageFloat32> filter = FactoryBlurFilter.gaussian(ImageFloat32.class, -1, 1);
+		DescribePointBriefSteered<ImageFloat32> alg = FactoryDescribePointAlgs.briefSteered(def,8,filter);
+		alg.setImage(input);
+
+		TupleDesc_B a = alg.createFeature();
+		TupleDesc_B b = alg.createFeature();
+
+		double step = 2*Math.PI/8;
+		alg.process(20,20,step,a);
+		alg.process(20,20,step+0.3*step,b);
+		assertArrayEquals(a.data,b.data);
+
+		alg.process(20,20,-step,a);
+		alg.process(20,20,7*step,b);
+		assertArrayEquals(a.data,b.data);
+
+		alg.process(20,20,2*Math.PI-0.1*step,a);
+		alg.process(20,20,0,b);
+		assertArrayEquals(a.data,b.data);
+	}
+
+	@Test
+	public void steer() {
+		BinaryCompareDefinition_I32 found = FactoryBriefDefinition.steer(def,Math.PI/2);
+
+		assertEquals(def.samplePoints.length,found.samplePoints.length);
+		assertEquals(def.compare.length,found.compare.length);
+		assertTrue(found.radius >= def.radius);
+
+		for( int i = 0; i < def.samplePoints.length; i++ ) {
+			assertEquals(-def.samplePoints[i].y,found.samplePoints[i].x);
+			assertEquals(def.samplePoints[i].x,found.samplePoints[i].y);
+		}
+		for( int i = 0; i < def.compare.length; i++ ) {
+			assertEquals(def.compare[i].x,found.compare[i].x);
+			assertEquals(def.compare[i].y,found.compare[i].y);
+		}
+	}
+}
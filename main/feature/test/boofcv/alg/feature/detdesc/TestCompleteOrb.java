@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detdesc.ConfigCompleteOrb;
+import boofcv.abst.feature.detdesc.DetectDescribe_CompleteOrb;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCompleteOrb {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Checks the number of features and that they are inside the image
+	 */
+	@Test
+	public void basic() {
+		ImageUInt8 image = new ImageUInt8(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		ConfigCompleteOrb config = new ConfigCompleteOrb(200);
+		CompleteOrb<ImageUInt8> alg = createAlg(config);
+
+		int total = 0;
+		for( int quota : alg.getLayerQuota() ) {
+			assertTrue(quota >= 0);
+			total += quota;
+		}
+		assertEquals(200,total);
+		// lower resolution layers get fewer features
+		assertTrue(alg.getLayerQuota()[0] > alg.getLayerQuota()[1]);
+
+		alg.process(image);
+
+		int N = alg.getDescriptions().size;
+		assertTrue(N > 100 && N <= 200);
+		assertEquals(N,alg.getLocations().size);
+		assertEquals(N,alg.getOrientations().size);
+		assertEquals(config.numPoints,alg.getDescriptions().get(0).numBits);
+
+		boolean foundScaled = false;
+		for( int i = 0; i < N; i++ ) {
+			ScalePoint p = alg.getLocations().get(i);
+			assertTrue(p.x >= 0 && p.x < image.width);
+			assertTrue(p.y >= 0 && p.y < image.height);
+			assertTrue(p.scale >= config.regionRadius);
+			if( p.scale > config.regionRadius )
+				foundScaled = true;
+		}
+		assertTrue(foundScaled);
+	}
+
+	/**
+	 * No limit on the number of features
+	 */
+	@Test
+	public void noLimit() {
+		ImageUInt8 image = new ImageUInt8(200,190);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		CompleteOrb<ImageUInt8> limited = createAlg(new ConfigCompleteOrb(50));
+		CompleteOrb<ImageUInt8> unlimited = createAlg(new ConfigCompleteOrb(-1));
+
+		for( int quota : unlimited.getLayerQuota() ) {
+			assertEquals(-1,quota);
+		}
+
+		limited.process(image);
+		unlimited.process(image);
+
+		assertTrue(unlimited.getDescriptions().size > limited.getDescriptions().size);
+	}
+
+	private CompleteOrb<ImageUInt8> createAlg( ConfigCompleteOrb config ) {
+		DetectDescribe_CompleteOrb<ImageUInt8> detDesc =
+				(DetectDescribe_CompleteOrb<ImageUInt8>)FactoryDetectDescribe.orb(config, ImageUInt8.class);
+		return detDesc.getAlgorithm();
+	}
+}
@@ -25,6 +25,7 @@ import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
@@ -83,4 +84,54 @@ public class TestCompleteSift {
 
 		return new CompleteSift(ss,10,limiter,ori,describe);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The concurrent implementation should produce identical features in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 image = new ImageFloat32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		CompleteSift serial = createAlg();
+		CompleteSift concurrent = createAlg();
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			// process twice to make sure internal storage is correctly recycled
+			for (int trial = 0; trial < 2; trial++) {
+				BoofConcurrency.USE_CONCURRENT = false;
+				serial.process(image);
+				BoofConcurrency.USE_CONCURRENT = true;
+				concurrent.process(image);
+
+				int N = serial.getDescriptions().size;
+				assertTrue(N > 10);
+				assertEquals(N, concurrent.getDescriptions().size);
+				assertEquals(N, concurrent.getLocations().size);
+				assertEquals(N, concurrent.getOrientations().size);
+
+				for (int i = 0; i < N; i++) {
+					ScalePoint e = serial.getLocations().get(i);
+					ScalePoint f = concurrent.getLocations().get(i);
+					assertEquals(e.x, f.x, 0);
+					assertEquals(e.y, f.y, 0);
+					assertEquals(e.scale, f.scale, 0);
+					assertEquals(serial.getOrientations().get(i), concurrent.getOrientations().get(i), 0);
+
+					BrightFeature descE = serial.getDescriptions().get(i);
+					BrightFeature descF = concurrent.getDescriptions().get(i);
+					assertTrue(descE.white == descF.white);
+					for (int j = 0; j < descE.size(); j++) {
+						assertEquals(descE.value[j], descF.value[j], 0);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+}
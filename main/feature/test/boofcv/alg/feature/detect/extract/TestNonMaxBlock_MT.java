@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNonMaxBlock_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void checkStandard() {
+		GenericNonMaxAlgorithmTests checks = new GenericNonMaxAlgorithmTests(true,true,true) {
+
+			@Override
+			public void findMaximums(ImageFloat32 intensity, float threshold, int radius, int border,
+									 QueueCorner foundMinimum, QueueCorner foundMaximum)
+			{
+				NonMaxBlock alg = new NonMaxBlock_MT(new NonMaxBlockStrict.MinMax());
+				alg.setThresholdMin(-threshold);
+				alg.setThresholdMax(threshold);
+				alg.setBorder(border);
+				alg.setSearchRadius(radius);
+
+				int maxThreads = BoofConcurrency.getMaxThreads();
+				try {
+					BoofConcurrency.setMaxThreads(4);
+					alg.process(intensity,foundMinimum,foundMaximum);
+				} finally {
+					BoofConcurrency.setMaxThreads(maxThreads);
+				}
+			}
+		};
+
+		checks.allStandard();
+	}
+
+	/**
+	 * Results should be identical to the single threaded version, including the order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 intensity = new ImageFloat32(80,65);
+		ImageMiscOps.fillUniform(intensity, rand, -10, 10);
+
+		NonMaxBlock[] algs = new NonMaxBlock[]{
+				new NonMaxBlockStrict.MinMax(),new NonMaxBlockStrict.Max(),new NonMaxBlockStrict.Min(),
+				new NonMaxBlockRelaxed.MinMax(),new NonMaxBlockRelaxed.Max(),new NonMaxBlockRelaxed.Min()};
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( NonMaxBlock serial : algs ) {
+				for( int radius = 1; radius <= 3; radius++ ) {
+					for( int border = 0; border <= 2; border++ ) {
+						serial.setSearchRadius(radius);
+						serial.setBorder(border);
+						serial.setThresholdMax(2);
+						serial.setThresholdMin(-2);
+
+						NonMaxBlock_MT concurrent = new NonMaxBlock_MT(serial.newInstance());
+						concurrent.setConfiguration(serial);
+
+						QueueCorner expectedMin = new QueueCorner(), expectedMax = new QueueCorner();
+						QueueCorner foundMin = new QueueCorner(), foundMax = new QueueCorner();
+
+						serial.process(intensity, expectedMin, expectedMax);
+						// process twice to make sure the workers are correctly reset
+						concurrent.process(intensity, new QueueCorner(), new QueueCorner());
+						concurrent.process(intensity, foundMin, foundMax);
+
+						assertTrue(expectedMin.size + expectedMax.size > 0);
+						checkIdentical(expectedMin, foundMin);
+						checkIdentical(expectedMax, foundMax);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	static void checkIdentical( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size, found.size);
+		for (int i = 0; i < expected.size; i++) {
+			Point2D_I16 e = expected.get(i);
+			Point2D_I16 f = found.get(i);
+			assertEquals(e.x, f.x);
+			assertEquals(e.y, f.y);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNonMaxCandidate_MT extends GenericNonMaxCandidateTests {
+
+	Random rand = new Random(234);
+
+	public TestNonMaxCandidate_MT() {
+		super(true, true, true);
+	}
+
+	@Override
+	public void findMaximums(ImageFloat32 intensity, float threshold, int radius, int border,
+							 QueueCorner candidatesMin, QueueCorner candidatesMax,
+							 QueueCorner foundMinimum, QueueCorner foundMaximum)
+	{
+		NonMaxCandidate_MT alg = new NonMaxCandidate_MT(new NonMaxCandidateStrict());
+		alg.radius = radius;
+		alg.ignoreBorder = border;
+		alg.thresholdMin = -threshold;
+		alg.thresholdMax = threshold;
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			alg.process(intensity,candidatesMin,candidatesMax,foundMinimum,foundMaximum);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	/**
+	 * Results should be identical to the single threaded version, including the order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 intensity = new ImageFloat32(80,65);
+		ImageMiscOps.fillUniform(intensity, rand, -10, 10);
+
+		QueueCorner candidates = new QueueCorner();
+		for (int y = 0; y < intensity.height; y++) {
+			for (int x = 0; x < intensity.width; x++) {
+				if( rand.nextDouble() < 0.3 )
+					candidates.add(x,y);
+			}
+		}
+
+		NonMaxCandidate[] algs = new NonMaxCandidate[]{new NonMaxCandidateStrict(),new NonMaxCandidateRelaxed()};
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( NonMaxCandidate serial : algs ) {
+				for( int radius = 1; radius <= 3; radius++ ) {
+					serial.setSearchRadius(radius);
+					serial.setBorder(1);
+					serial.setThresholdMax(2);
+					serial.setThresholdMin(-2);
+
+					NonMaxCandidate_MT concurrent = new NonMaxCandidate_MT(serial.newInstance());
+					concurrent.setConfiguration(serial);
+
+					QueueCorner expectedMin = new QueueCorner(), expectedMax = new QueueCorner();
+					QueueCorner foundMin = new QueueCorner(), foundMax = new QueueCorner();
+
+					serial.process(intensity, candidates, candidates, expectedMin, expectedMax);
+					concurrent.process(intensity, candidates, candidates, foundMin, foundMax);
+
+					assertTrue(expectedMin.size > 0 && expectedMax.size > 0);
+					TestNonMaxBlock_MT.checkIdentical(expectedMin, foundMin);
+					TestNonMaxBlock_MT.checkIdentical(expectedMax, foundMax);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSelectAnmsFeatures {
+
+	/**
+	 * An isolated weak feature should be selected over intense features which are next to even more intense features
+	 */
+	@Test
+	public void isolatedFeature() {
+		ImageFloat32 intensity = new ImageFloat32(50,50);
+		QueueCorner corners = new QueueCorner();
+
+		add(intensity, corners, 10, 10, 100);
+		add(intensity, corners, 11, 10, 80);
+		add(intensity, corners, 10, 11, 70);
+		add(intensity, corners, 40, 40, 5);
+
+		SelectAnmsFeatures alg = new SelectAnmsFeatures(2,0.9f);
+		alg.process(intensity, corners, true);
+
+		QueueCorner found = alg.getBestCorners();
+		assertEquals(2, found.size);
+		assertTrue(contains(found, 10, 10));
+		assertTrue(contains(found, 40, 40));
+
+		// same test with local minimums
+		for (int i = 0; i < intensity.data.length; i++) {
+			intensity.data[i] = -intensity.data[i];
+		}
+		alg.process(intensity, corners, false);
+		found = alg.getBestCorners();
+		assertEquals(2, found.size);
+		assertTrue(contains(found, 10, 10));
+		assertTrue(contains(found, 40, 40));
+	}
+
+	/**
+	 * Features of similar intensity should not suppress each other
+	 */
+	@Test
+	public void robust() {
+		ImageFloat32 intensity = new ImageFloat32(50,50);
+		QueueCorner corners = new QueueCorner();
+
+		add(intensity, corners, 10, 10, 100);
+		add(intensity, corners, 12, 10, 99);
+		add(intensity, corners, 30, 10, 50);
+
+		SelectAnmsFeatures alg = new SelectAnmsFeatures(2,0.9f);
+		alg.process(intensity, corners, true);
+
+		// the second feature isn't suppressed by the first so it has an infinite radius
+		QueueCorner found = alg.getBestCorners();
+		assertEquals(2, found.size);
+		assertTrue(contains(found, 10, 10));
+		assertTrue(contains(found, 12, 10));
+	}
+
+	/**
+	 * If there are fewer features than N then all of them are returned
+	 */
+	@Test
+	public void tooFew() {
+		ImageFloat32 intensity = new ImageFloat32(50,50);
+		QueueCorner corners = new QueueCorner();
+
+		add(intensity, corners, 10, 10, 100);
+		add(intensity, corners, 11, 10, 90);
+
+		SelectAnmsFeatures alg = new SelectAnmsFeatures(5,0.9f);
+		alg.process(intensity, corners, true);
+		assertEquals(2, alg.getBestCorners().size);
+	}
+
+	private static void add( ImageFloat32 intensity , QueueCorner corners , int x , int y , float value ) {
+		intensity.set(x, y, value);
+		corners.add(x, y);
+	}
+
+	private static boolean contains( QueueCorner corners , int x , int y ) {
+		for (int i = 0; i < corners.size; i++) {
+			Point2D_I16 p = corners.get(i);
+			if( p.x == x && p.y == y )
+				return true;
+		}
+		return false;
+	}
+}
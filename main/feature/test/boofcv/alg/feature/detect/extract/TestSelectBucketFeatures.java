@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSelectBucketFeatures {
+
+	Random rand = new Random(234);
+
+	/**
+	 * A cluster of intense features in one cell should not prevent features in other cells from being selected
+	 */
+	@Test
+	public void spreadAcrossCells() {
+		ImageFloat32 intensity = new ImageFloat32(40,20);
+		QueueCorner corners = new QueueCorner();
+
+		// lots of very intense features in the first cell
+		for (int i = 0; i < 8; i++) {
+			add(intensity, corners, i, 2, 100+i);
+		}
+		// one weak feature in each of the other cells
+		add(intensity, corners, 15, 5, 1);
+		add(intensity, corners, 25, 15, 2);
+		add(intensity, corners, 35, 3, 3);
+
+		SelectBucketFeatures alg = new SelectBucketFeatures(6,10,3);
+		alg.process(intensity, corners, true);
+
+		QueueCorner found = alg.getBestCorners();
+		assertEquals(6, found.size);
+
+		// the best feature in every cell comes first
+		assertTrue(contains(found, 7, 2));
+		assertTrue(contains(found, 15, 5));
+		assertTrue(contains(found, 25, 15));
+		assertTrue(contains(found, 35, 3));
+		// then the second rank
+		assertTrue(contains(found, 6, 2));
+		assertTrue(contains(found, 5, 2));
+	}
+
+	/**
+	 * No more than the quota is selected in each cell, even if N is larger
+	 */
+	@Test
+	public void cellQuota() {
+		ImageFloat32 intensity = new ImageFloat32(40,20);
+		QueueCorner corners = new QueueCorner();
+
+		for (int i = 0; i < 8; i++) {
+			add(intensity, corners, i, 2, 100+i);
+		}
+		add(intensity, corners, 15, 5, 1);
+
+		SelectBucketFeatures alg = new SelectBucketFeatures(20,10,3);
+		alg.process(intensity, corners, true);
+
+		QueueCorner found = alg.getBestCorners();
+		assertEquals(4, found.size);
+		assertTrue(contains(found, 7, 2));
+		assertTrue(contains(found, 6, 2));
+		assertTrue(contains(found, 5, 2));
+		assertTrue(contains(found, 15, 5));
+	}
+
+	/**
+	 * Local minimums should select the features with the most negative intensity
+	 */
+	@Test
+	public void negative() {
+		ImageFloat32 intensity = new ImageFloat32(40,20);
+		QueueCorner corners = new QueueCorner();
+
+		add(intensity, corners, 1, 2, -5);
+		add(intensity, corners, 2, 2, -10);
+		add(intensity, corners, 3, 2, -1);
+
+		SelectBucketFeatures alg = new SelectBucketFeatures(10,10,1);
+		alg.process(intensity, corners, false);
+
+		QueueCorner found = alg.getBestCorners();
+		assertEquals(1, found.size);
+		assertTrue(contains(found, 2, 2));
+	}
+
+	/**
+	 * Randomly generated features with the number of selected features compared against a brute force count
+	 */
+	@Test
+	public void random() {
+		ImageFloat32 intensity = new ImageFloat32(64,48);
+		QueueCorner corners = new QueueCorner();
+
+		for (int y = 0; y < intensity.height; y++) {
+			for (int x = 0; x < intensity.width; x++) {
+				if( rand.nextDouble() < 0.2 )
+					add(intensity, corners, x, y, rand.nextFloat());
+			}
+		}
+
+		SelectBucketFeatures alg = new SelectBucketFeatures(-1,16,2);
+		alg.process(intensity, corners, true);
+		QueueCorner all = alg.getBestCorners();
+
+		// every cell has at least two features so the quota is always reached
+		assertEquals(4*3*2, all.size);
+
+		alg.setN(15);
+		alg.process(intensity, corners, true);
+		assertEquals(15, alg.getBestCorners().size);
+
+		// every cell should have a feature since there are more features than cells
+		int count[] = new int[12];
+		for (int i = 0; i < alg.getBestCorners().size; i++) {
+			Point2D_I16 p = alg.getBestCorners().get(i);
+			count[(p.y/16)*4 + p.x/16]++;
+		}
+		for (int i = 0; i < count.length; i++) {
+			assertTrue(count[i] >= 1 && count[i] <= 2);
+		}
+	}
+
+	@Test
+	public void noFeatures() {
+		SelectBucketFeatures alg = new SelectBucketFeatures(10,10,1);
+		alg.process(new ImageFloat32(20,30), new QueueCorner(), true);
+		assertEquals(0, alg.getBestCorners().size);
+	}
+
+	private static void add( ImageFloat32 intensity , QueueCorner corners , int x , int y , float value ) {
+		intensity.set(x, y, value);
+		corners.add(x, y);
+	}
+
+	private static boolean contains( QueueCorner corners , int x , int y ) {
+		for (int i = 0; i < corners.size; i++) {
+			Point2D_I16 p = corners.get(i);
+			if( p.x == x && p.y == y )
+				return true;
+		}
+		return false;
+	}
+}
@@ -67,6 +67,24 @@ public class TestSelectNBestFeatures {
 		assertEquals(10,found.get(0).y);
 	}
 
+	/**
+	 * If N &le; 0 then there is no limit and all the features are returned
+	 */
+	@Test
+	public void noLimit() {
+		ImageFloat32 intensity = new ImageFloat32(10,20);
+
+		QueueCorner corners = new QueueCorner();
+		corners.add(5,10);
+		corners.add(4,10);
+		corners.add(8,8);
+
+		SelectNBestFeatures alg = new SelectNBestFeatures(-1);
+		alg.process(intensity,corners,true);
+
+		assertEquals(3,alg.getBestCorners().size);
+	}
+
 	/**
 	 * The size of N is less than the number of points
 	 */
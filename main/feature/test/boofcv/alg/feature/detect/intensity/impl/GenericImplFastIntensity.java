@@ -21,9 +21,12 @@ package boofcv.alg.feature.detect.intensity.impl;
 import boofcv.alg.feature.detect.intensity.DetectorFastNaive;
 import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.DiscretizedCircle;
+import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_I16;
 import org.junit.Test;
 
@@ -72,6 +75,47 @@ public abstract class GenericImplFastIntensity {
 		}
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded version
+	 */
+	@Test
+	public void concurrent() {
+		ImageUInt8 input = new ImageUInt8(60,75);
+		GImageMiscOps.fillUniform(input, rand, 0, 50);
+		ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+		ImageFloat32 found = new ImageFloat32(input.width,input.height);
+
+		alg.process(input,expected);
+		QueueCorner expectedCorners = new QueueCorner();
+		for( int i = 0; i < alg.getCandidates().size; i++ ) {
+			expectedCorners.add(alg.getCandidates().get(i));
+		}
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			// process it twice to make sure the workers are correctly reset
+			alg.process(input,found);
+			alg.process(input,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+		assertTrue(expectedCorners.size > 0);
+		assertEquals(expectedCorners.size,alg.getCandidates().size);
+		for( int i = 0; i < expectedCorners.size(); i++ ) {
+			Point2D_I16 e = expectedCorners.get(i);
+			Point2D_I16 f = alg.getCandidates().get(i);
+
+			assertEquals(e.x,f.x);
+			assertEquals(e.y,f.y);
+		}
+	}
+
 	@Test
 	public void checkIntensity() {
 		ImageUInt8 input = new ImageUInt8(40,50);
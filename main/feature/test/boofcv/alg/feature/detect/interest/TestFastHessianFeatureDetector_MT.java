@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT extends GenericFeatureDetectorTests {
+
+	Random rand = new Random(234);
+
+	public TestFastHessianFeatureDetector_MT() {
+		this.scaleTolerance = 0.3;
+	}
+
+	@Override
+	protected Object createDetector( int maxFeatures ) {
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true));
+		return new FastHessianFeatureDetector_MT(extractor,maxFeatures, 1, 9,4,4, 6);
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	protected int detectFeature(ImageFloat32 input, Object detector) {
+		FastHessianFeatureDetector<ImageFloat32> alg = (FastHessianFeatureDetector<ImageFloat32>)detector;
+		ImageFloat32 integral = IntegralImageOps.transform(input,null);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			alg.detect(integral);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		return alg.getFoundPoints().size();
+	}
+
+	/**
+	 * The concurrent and single threaded versions should produce identical results, in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 inputF = new ImageFloat32(160,130);
+		ImageMiscOps.fillUniform(inputF, rand, 0, 200);
+		ImageUInt8 inputU = new ImageUInt8(160,130);
+		ImageMiscOps.fillUniform(inputU, rand, 0, 200);
+
+		ImageFloat32 integralF = IntegralImageOps.transform(inputF,null);
+		ImageSInt32 integralI = IntegralImageOps.transform(inputU,null);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( int maxFeatures : new int[]{-1,20} ) {
+				for( int numScales : new int[]{3,4,5} ) {
+					compareToSingleThread(integralF, maxFeatures, numScales);
+					compareToSingleThread(integralI, maxFeatures, numScales);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private <II extends ImageSingleBand>
+	void compareToSingleThread( II integral , int maxFeatures , int numScales ) {
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(2, 0, 5, true));
+		FastHessianFeatureDetector<II> serial =
+				new FastHessianFeatureDetector<II>(extractor, maxFeatures, 1, 9, numScales, 4, 6);
+		FastHessianFeatureDetector<II> concurrent =
+				new FastHessianFeatureDetector_MT<II>(extractor, maxFeatures, 1, 9, numScales, 4, 6);
+
+		// process the image twice to make sure internal storage is correctly reused
+		for( int trial = 0; trial < 2; trial++ ) {
+			serial.detect(integral);
+			concurrent.detect(integral);
+
+			List<ScalePoint> expected = serial.getFoundPoints();
+			List<ScalePoint> found = concurrent.getFoundPoints();
+
+			assertTrue(expected.size() > 0);
+			assertEquals(expected.size(), found.size());
+			for( int i = 0; i < expected.size(); i++ ) {
+				ScalePoint e = expected.get(i);
+				ScalePoint f = found.get(i);
+
+				assertEquals(e.x, f.x, 0);
+				assertEquals(e.y, f.y, 0);
+				assertEquals(e.scale, f.scale, 0);
+			}
+		}
+	}
+}
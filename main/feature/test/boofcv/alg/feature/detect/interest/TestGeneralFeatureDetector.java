@@ -21,6 +21,8 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.detect.interest.SelectLimitType;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
@@ -215,6 +217,37 @@ public class TestGeneralFeatureDetector {
 		assertEquals(1, detector.getMaximums().size());
 	}
 
+	/**
+	 * A bucket selector enforces the cell quota even when there is no limit on the total number of features
+	 */
+	@Test
+	public void bucketSelect_noMaxFeatures() {
+		HelperIntensity intensity = new HelperIntensity(false, false, true);
+		HelperExtractor extractor = new HelperExtractor(true, true);
+
+		GeneralFeatureDetector<ImageFloat32, ImageFloat32> detector =
+				new GeneralFeatureDetector<ImageFloat32, ImageFloat32>(intensity, extractor);
+
+		ConfigGeneralDetector config = new ConfigGeneralDetector();
+		config.maxFeatures = -1;
+		config.selectLimit = SelectLimitType.BUCKET;
+		config.bucketCellSize = 10;
+		config.bucketQuota = 1;
+		detector.setSelector(FactoryFeatureExtractor.selectLimit(config));
+		detector.setMaxFeatures(config.maxFeatures);
+
+		detector.process(new ImageFloat32(width, height), null, null, null, null, null);
+
+		// both features are inside the same cell
+		assertEquals(1, detector.getMaximums().size());
+
+		// the n-best selector does nothing when there is no limit
+		config.selectLimit = SelectLimitType.BEST;
+		detector.setSelector(FactoryFeatureExtractor.selectLimit(config));
+		detector.process(new ImageFloat32(width, height), null, null, null, null, null);
+		assertEquals(2, detector.getMaximums().size());
+	}
+
 	/**
 	 * If n-best wasn't initially being used it should now be used
 	 */
@@ -22,12 +22,15 @@ import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxLimiter;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.ImageFloat32;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 /**
@@ -199,4 +202,45 @@ public class TestSiftDetector {
 		return new SiftDetector(ss,10,limiter);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * The concurrent implementation should produce identical detections in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 input = new ImageFloat32(200,170);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 200);
+
+		SiftDetector serial = createDetector();
+		SiftDetector concurrent = createDetector();
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			// process twice to make sure internal storage is correctly recycled
+			for (int trial = 0; trial < 2; trial++) {
+				BoofConcurrency.USE_CONCURRENT = false;
+				serial.process(input);
+				BoofConcurrency.USE_CONCURRENT = true;
+				concurrent.process(input);
+
+				FastQueue<ScalePoint> expected = serial.getDetections();
+				FastQueue<ScalePoint> found = concurrent.getDetections();
+
+				assertTrue(expected.size > 0);
+				assertEquals(expected.size, found.size);
+				for (int i = 0; i < expected.size; i++) {
+					ScalePoint e = expected.get(i);
+					ScalePoint f = found.get(i);
+					assertEquals(e.x, f.x, 0);
+					assertEquals(e.y, f.y, 0);
+					assertEquals(e.scale, f.scale, 0);
+					assertTrue(e.white == f.white);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+}
@@ -20,7 +20,9 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -161,4 +163,46 @@ public class TestSiftScaleSpace {
 
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The concurrent implementation should produce identical scale and DoG images
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 original = new ImageFloat32(300,340);
+		GImageMiscOps.fillUniform(original,rand,0,100);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for (int firstOctave = -1; firstOctave < 2; firstOctave++) {
+				SiftScaleSpace serial = new SiftScaleSpace(firstOctave,5,3,1.6);
+				SiftScaleSpace concurrent = new SiftScaleSpace(firstOctave,5,3,1.6);
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				serial.initialize(original);
+				BoofConcurrency.USE_CONCURRENT = true;
+				concurrent.initialize(original);
+
+				boolean more;
+				do {
+					for (int i = 0; i < serial.getNumScaleImages(); i++) {
+						BoofTesting.assertEquals(serial.getImageScale(i), concurrent.getImageScale(i), 0);
+					}
+					for (int i = 0; i < serial.getNumScaleImages()-1; i++) {
+						BoofTesting.assertEquals(serial.getDifferenceOfGaussian(i),
+								concurrent.getDifferenceOfGaussian(i), 0);
+					}
+
+					BoofConcurrency.USE_CONCURRENT = false;
+					more = serial.computeNextOctave();
+					BoofConcurrency.USE_CONCURRENT = true;
+					assertEquals(more, concurrent.computeNextOctave());
+				} while( more );
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+}
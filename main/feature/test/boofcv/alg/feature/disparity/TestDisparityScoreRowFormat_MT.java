@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.abst.feature.disparity.WrapDisparityCensusRect;
+import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.disparity.CensusType;
+import boofcv.factory.feature.disparity.DisparityAlgorithms;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreRowFormat_MT {
+
+	Random rand = new Random(234);
+
+	int width = 80, height = 71;
+
+	@Test
+	public void compareToSingleThread_U8() {
+		compareToSingleThread(ImageUInt8.class);
+	}
+
+	@Test
+	public void compareToSingleThread_S16() {
+		compareToSingleThread(ImageSInt16.class);
+	}
+
+	@Test
+	public void compareToSingleThread_F32() {
+		compareToSingleThread(ImageFloat32.class);
+	}
+
+	/**
+	 * Non-integer intensities.  The rolling sums in each band are started at a different row, so round off
+	 * error can make the scores slightly different from the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread_F32_fractional() {
+		ImageFloat32 left = new ImageFloat32(width, height);
+		ImageFloat32 right = new ImageFloat32(width, height);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float value = rand.nextFloat()*100;
+				left.set(x, y, value);
+				right.set(Math.max(0, x - 6), y, value + rand.nextFloat()*5);
+			}
+		}
+
+		for( DisparityAlgorithms which : DisparityAlgorithms.values() ) {
+			compareTolerance(left, right,
+					FactoryStereoDisparity.regionSubpixelWta(which, 2, 20, 2, 3, 30, 1, 0.1, ImageFloat32.class),
+					createConcurrent(which, ImageFloat32.class, true));
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_census() {
+		ImageUInt8 left = new ImageUInt8(width, height);
+		ImageUInt8 right = new ImageUInt8(width, height);
+		GImageMiscOps.fillUniform(left, rand, 0, 100);
+		GImageMiscOps.fillUniform(right, rand, 0, 100);
+
+		for( CensusType type : CensusType.values() ) {
+			StereoDisparity found;
+			int maxThreads = BoofConcurrency.getMaxThreads();
+			try {
+				BoofConcurrency.USE_CONCURRENT = true;
+				BoofConcurrency.setMaxThreads(4);
+				found = FactoryStereoDisparity.regionCensusWta(type, 2, 20, 2, 3, 10, 1, 0.1);
+				assertTrue(((WrapDisparityCensusRect)found).getAlg() instanceof DisparityScoreRowFormat_MT);
+			} finally {
+				BoofConcurrency.USE_CONCURRENT = false;
+				BoofConcurrency.setMaxThreads(maxThreads);
+			}
+
+			compare(left, right, FactoryStereoDisparity.regionCensusWta(type, 2, 20, 2, 3, 10, 1, 0.1), found);
+		}
+	}
+
+	private <T extends ImageSingleBand> void compareToSingleThread( Class<T> imageType ) {
+		T left = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T right = GeneralizedImageOps.createSingleBand(imageType, width, height);
+
+		// integer values so that floating point sums are exact
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double value = rand.nextInt(100);
+				GeneralizedImageOps.set(left, x, y, value);
+				GeneralizedImageOps.set(right, Math.max(0, x - 6), y, value + rand.nextInt(5));
+			}
+		}
+
+		for( DisparityAlgorithms which : DisparityAlgorithms.values() ) {
+			compare(left, right, FactoryStereoDisparity.regionWta(which, 2, 20, 2, 3, 30, 1, 0.1, imageType),
+					createConcurrent(which, imageType, false));
+			compare(left, right, FactoryStereoDisparity.regionSubpixelWta(which, 2, 20, 2, 3, 30, 1, 0.1, imageType),
+					createConcurrent(which, imageType, true));
+		}
+	}
+
+	private <T extends ImageSingleBand> StereoDisparity createConcurrent( DisparityAlgorithms which,
+																		  Class<T> imageType, boolean subpixel ) {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			StereoDisparity alg;
+			if( subpixel )
+				alg = FactoryStereoDisparity.regionSubpixelWta(which, 2, 20, 2, 3, 30, 1, 0.1, imageType);
+			else
+				alg = FactoryStereoDisparity.regionWta(which, 2, 20, 2, 3, 30, 1, 0.1, imageType);
+
+			assertTrue(((WrapDisparitySadRect)alg).getAlg() instanceof DisparityScoreRowFormat_MT);
+			return alg;
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private void compare( ImageSingleBand left , ImageSingleBand right ,
+						  StereoDisparity expected , StereoDisparity found ) {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			// process twice to make sure internal storage is correctly reused
+			for( int trial = 0; trial < 2; trial++ ) {
+				expected.process(left, right);
+				found.process(left, right);
+
+				BoofTesting.assertEquals(expected.getDisparity(), found.getDisparity(), 1e-8);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private void compareTolerance( ImageFloat32 left , ImageFloat32 right ,
+								   StereoDisparity expected , StereoDisparity found ) {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			expected.process(left, right);
+			found.process(left, right);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		ImageFloat32 a = (ImageFloat32)expected.getDisparity();
+		ImageFloat32 b = (ImageFloat32)found.getDisparity();
+
+		BoofTesting.assertEquals(a, b, 1e-3);
+	}
+
+	/**
+	 * Image which is too small to be split into multiple bands
+	 */
+	@Test
+	public void smallImage() {
+		width = 30; height = 12;
+		compareToSingleThread(ImageUInt8.class);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparityScoreHammingRect;
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public abstract class ChecksImplDisparityScoreHammingRect<Image extends ImageSingleBand> {
+
+	Random rand = new Random(234);
+
+	DisparitySelect compDisp = new ImplSelectRectBasicWta_S32_U8();
+	Class<Image> imageType;
+
+	public ChecksImplDisparityScoreHammingRect( Class<Image> imageType ) {
+		this.imageType = imageType;
+	}
+
+	protected abstract DisparityScoreHammingRect<Image,ImageUInt8>
+	createAlg( int minDisparity , int maxDisparity , int radiusX, int radiusY, DisparitySelect compDisp);
+
+	/**
+	 * Fills the image with random census bit strings
+	 */
+	protected abstract void fillRandom( Image image );
+
+	/**
+	 * Compare to a simplistic implementation of stereo disparity using the Hamming distance
+	 */
+	@Test
+	public void compareToNaive() {
+		int w = 20, h = 25;
+		Image left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		Image right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+
+		fillRandom(left);
+		fillRandom(right);
+
+		int radiusX = 3;
+		int radiusY = 2;
+
+		// compare to naive with different settings
+		compareToNaive(left, right, 0, 10, radiusX, radiusY);
+		compareToNaive(left, right, 4, 10, radiusX, radiusY);
+	}
+
+	private void compareToNaive(Image left, Image right,
+								int minDisparity, int maxDisparity,
+								int radiusX, int radiusY)
+	{
+		int w = left.width;
+		int h = left.height;
+
+		DisparityScoreHammingRect<Image,ImageUInt8> alg = createAlg(minDisparity,maxDisparity,radiusX,radiusY,compDisp);
+		StereoDisparityWtoNaive<Image> naive = new HammingNaive<Image>(minDisparity,maxDisparity,radiusX,radiusY);
+
+		ImageUInt8 found = new ImageUInt8(w,h);
+		ImageFloat32 expected = new ImageFloat32(w,h);
+
+		alg.process(left,right,found);
+		naive.process(left,right,expected);
+
+		BoofTesting.assertEquals(found, expected, 1);
+	}
+
+	/**
+	 * Naive implementation which scores regions using the Hamming distance
+	 */
+	private static class HammingNaive<I extends ImageSingleBand> extends StereoDisparityWtoNaive<I> {
+
+		public HammingNaive(int minDisparity, int maxDisparity, int radiusWidth, int radiusHeight) {
+			super(minDisparity, maxDisparity, radiusWidth, radiusHeight);
+		}
+
+		@Override
+		protected double computeScore( int leftX , int rightX , int centerY ) {
+			double ret=0;
+			for( int y = -radiusY; y <= radiusY; y++ ) {
+				for( int x = -radiusX; x <= radiusX; x++ ) {
+					long l = (long)GeneralizedImageOps.get(imageLeft,leftX+x,centerY+y);
+					long r = (long)GeneralizedImageOps.get(imageRight,rightX+x,centerY+y);
+
+					ret += Long.bitCount(l ^ r);
+				}
+			}
+
+			return ret;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation {
+
+	Random rand = new Random(234);
+
+	int width = 15, height = 12;
+	int minDisparity = 2, rangeDisparity = 6;
+
+	@Test
+	public void compareToNaive() {
+		SgmCostCensus cost = createCost();
+
+		for( int paths : new int[]{4,8} ) {
+			SgmCostAggregation alg = new SgmCostAggregation(200,2000,paths);
+			// process twice to make sure the aggregated cost is reset
+			for( int trial = 0; trial < 2; trial++ ) {
+				alg.process(cost, width, height, minDisparity, rangeDisparity);
+				checkAgainstNaive(cost, alg);
+			}
+		}
+	}
+
+	/**
+	 * The number of elements in the aggregated cost would overflow an int
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void costTooLarge() {
+		SgmCostAggregation alg = new SgmCostAggregation(200,2000,4);
+		alg.process(createCost(), 20000, 20000, 0, 128);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void penaltyTooLarge() {
+		new SgmCostAggregation(200,SgmDisparityCost.MAX_COST+1,8);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void badNumberOfPaths() {
+		new SgmCostAggregation(200,2000,6);
+	}
+
+	SgmCostCensus createCost() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 100);
+		ImageMiscOps.fillUniform(right, rand, 0, 100);
+
+		SgmCostCensus cost = new SgmCostCensus();
+		cost.setImages(left, right);
+		return cost;
+	}
+
+	/**
+	 * Computes the cost along each path by visiting pixels in an order which ensures the previous pixel along the
+	 * path has already been computed
+	 */
+	void checkAgainstNaive( SgmDisparityCost cost , SgmCostAggregation alg ) {
+		int p1 = alg.getPenalty1(), p2 = alg.getPenalty2();
+		int expected[][][] = new int[height][width][rangeDisparity];
+		int c[] = new int[rangeDisparity];
+
+		for( int path = 0; path < alg.getPathsConsidered(); path++ ) {
+			int dx = SgmCostAggregation.DIRECTIONS[path][0];
+			int dy = SgmCostAggregation.DIRECTIONS[path][1];
+			int L[][][] = new int[height][width][rangeDisparity];
+
+			for( int i = 0; i < height; i++ ) {
+				int y = dy >= 0 ? i : height-1-i;
+				for( int j = 0; j < width; j++ ) {
+					int x = dx >= 0 ? j : width-1-j;
+					cost.compute(x, y, minDisparity, rangeDisparity, c);
+
+					int px = x-dx, py = y-dy;
+					boolean hasPrevious = px >= 0 && px < width && py >= 0 && py < height;
+
+					for( int d = 0; d < rangeDisparity; d++ ) {
+						if( !hasPrevious ) {
+							L[y][x][d] = c[d];
+						} else {
+							int prev[] = L[py][px];
+							int minPrev = Integer.MAX_VALUE;
+							for( int k = 0; k < rangeDisparity; k++ )
+								minPrev = Math.min(minPrev, prev[k]);
+
+							int best = prev[d];
+							if( d > 0 ) best = Math.min(best, prev[d-1]+p1);
+							if( d < rangeDisparity-1 ) best = Math.min(best, prev[d+1]+p1);
+							best = Math.min(best, minPrev+p2);
+							L[y][x][d] = c[d] + best - minPrev;
+						}
+						expected[y][x][d] += L[y][x][d];
+					}
+				}
+			}
+		}
+
+		short found[] = alg.getAggregated();
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					assertEquals(expected[y][x][d], found[(y*width + x)*rangeDisparity + d]);
+				}
+			}
+		}
+	}
+}
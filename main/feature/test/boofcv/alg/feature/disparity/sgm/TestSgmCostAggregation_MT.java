@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation_MT {
+
+	@Test
+	public void compareToSingleThread() {
+		TestSgmCostAggregation helper = new TestSgmCostAggregation();
+		helper.width = 70; helper.height = 60;
+		SgmCostCensus cost = helper.createCost();
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+
+			for( int paths : new int[]{4,8} ) {
+				SgmCostAggregation expected = new SgmCostAggregation(200,2000,paths);
+				SgmCostAggregation_MT found = new SgmCostAggregation_MT(200,2000,paths);
+
+				expected.process(cost, helper.width, helper.height, helper.minDisparity, helper.rangeDisparity);
+				found.process(cost, helper.width, helper.height, helper.minDisparity, helper.rangeDisparity);
+
+				int length = helper.width*helper.height*helper.rangeDisparity;
+				for( int i = 0; i < length; i++ ) {
+					assertEquals(expected.getAggregated()[i], found.getAggregated()[i]);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.factory.feature.disparity.SgmCostType;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity {
+
+	Random rand = new Random(234);
+
+	int width = 60, height = 50;
+	int minDisparity = 2, maxDisparity = 20;
+	int trueDisparity = 8;
+
+	ImageUInt8 left = new ImageUInt8(width,height);
+	ImageUInt8 right = new ImageUInt8(width,height);
+
+	public TestSgmStereoDisparity() {
+		ImageMiscOps.fillUniform(right, rand, 0, 200);
+		// region without any texture
+		ImageMiscOps.fillRectangle(right, 100, 20, 15, 20, 20);
+
+		// left image is the right image shifted by the true disparity
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				left.set(x, y, right.get(Math.max(0, x - trueDisparity), y));
+			}
+		}
+	}
+
+	/**
+	 * The correct disparity should be found everywhere it can be seen, including the region without texture.
+	 * Pixels along the right border are skipped since the census transform is different at the image border
+	 */
+	@Test
+	public void constantDisparity() {
+		for( SgmCostType type : SgmCostType.values() ) {
+			StereoDisparity<ImageUInt8,ImageUInt8> alg =
+					FactoryStereoDisparity.sgm(type, minDisparity, maxDisparity, 200, 2000, 8, 1, ImageUInt8.class);
+			alg.process(left, right);
+			ImageUInt8 found = alg.getDisparity();
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = trueDisparity+2; x < width-2; x++ ) {
+					assertEquals(type+" "+x+" "+y,trueDisparity - minDisparity, found.get(x, y));
+				}
+				// can't be seen in the right image
+				for( int x = 0; x < minDisparity; x++ ) {
+					assertEquals(maxDisparity - minDisparity + 1, found.get(x, y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void constantDisparity_subpixel() {
+		StereoDisparity<ImageUInt8,ImageFloat32> alg = FactoryStereoDisparity.sgmSubpixel(SgmCostType.CENSUS,
+				minDisparity, maxDisparity, 200, 2000, 4, 1, ImageUInt8.class);
+		alg.process(left, right);
+		ImageFloat32 found = alg.getDisparity();
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = trueDisparity+2; x < width-2; x++ ) {
+				assertEquals(trueDisparity - minDisparity, found.get(x, y), 0.5);
+			}
+		}
+	}
+
+	/**
+	 * Validation with right to left should remove pixels which are occluded
+	 */
+	@Test
+	public void rightToLeftValidation() {
+		// change the part of the left image which isn't visible in the right image
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < trueDisparity; x++ ) {
+				left.set(x, y, rand.nextInt(200));
+			}
+		}
+
+		StereoDisparity<ImageUInt8,ImageUInt8> withCheck =
+				FactoryStereoDisparity.sgm(SgmCostType.CENSUS, 0, maxDisparity, 200, 2000, 8, 0, ImageUInt8.class);
+		StereoDisparity<ImageUInt8,ImageUInt8> withoutCheck =
+				FactoryStereoDisparity.sgm(SgmCostType.CENSUS, 0, maxDisparity, 200, 2000, 8, -1, ImageUInt8.class);
+		withCheck.process(left, right);
+		withoutCheck.process(left, right);
+
+		int invalidWith = countInvalid(withCheck.getDisparity(), maxDisparity+1);
+		int invalidWithout = countInvalid(withoutCheck.getDisparity(), maxDisparity+1);
+		assertEquals(0, invalidWithout);
+		assertTrue(invalidWith > height);
+	}
+
+	private int countInvalid( ImageUInt8 disparity , int invalid ) {
+		int total = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				if( disparity.get(x,y) == invalid )
+					total++;
+			}
+		}
+		return total;
+	}
+}
@@ -24,6 +24,7 @@ import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.metric.UtilAngle;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 
@@ -65,6 +66,30 @@ public class GenericOrientationIntegralTests<T extends ImageSingleBand> {
 		setScale();
 		checkSubImages();
 		checkBorderExplode();
+		checkCopy();
+	}
+
+	/**
+	 * A copy should produce the same results as the original and not share internal work space
+	 */
+	public void checkCopy() {
+		createOrientedImage(0.7);
+
+		OrientationIntegral<T> copy = alg.copy();
+		assertTrue( copy != alg );
+
+		alg.setImage(ii);
+		copy.setImage(ii);
+
+		for( int y = 0; y < height; y += 3 ) {
+			for( int x = 0; x < width; x += 3 ) {
+				double radius = 4 + (x+y)%7;
+				alg.setObjectRadius(radius);
+				copy.setObjectRadius(radius);
+
+				assertEquals( alg.compute(x,y) , copy.compute(x,y) , 0 );
+			}
+		}
 	}
 
 	/**
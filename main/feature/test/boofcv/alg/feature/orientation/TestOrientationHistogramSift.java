@@ -69,6 +69,38 @@ public class TestOrientationHistogramSift {
 		assertTrue(UtilAngle.dist(theta1,alg.getOrientations().get(1)) <= 1e-5);
 	}
 
+	/**
+	 * A copy should produce identical results without sharing work space
+	 */
+	@Test
+	public void copy() {
+		ImageFloat32 derivX = new ImageFloat32(width, height);
+		ImageFloat32 derivY = new ImageFloat32(width, height);
+		GImageMiscOps.fillUniform(derivX, rand, -10, 10);
+		GImageMiscOps.fillUniform(derivY, rand, -10, 10);
+
+		OrientationHistogramSift<ImageFloat32> alg =
+				new OrientationHistogramSift<ImageFloat32>(36, 1.5,ImageFloat32.class);
+		OrientationHistogramSift<ImageFloat32> copy = alg.copy();
+		assertTrue(alg.histogramMag != copy.histogramMag);
+
+		alg.setImageGradient(derivX, derivY);
+		copy.setImageGradient(derivX, derivY);
+
+		for (int i = 0; i < 20; i++) {
+			double x = rand.nextDouble()*width, y = rand.nextDouble()*height;
+			double sigma = 1 + rand.nextDouble()*4;
+			alg.process(x, y, sigma);
+			copy.process(x, y, sigma);
+
+			assertEquals(alg.getOrientations().size, copy.getOrientations().size);
+			for (int j = 0; j < alg.getOrientations().size; j++) {
+				assertEquals(alg.getOrientations().get(j), copy.getOrientations().get(j), 0);
+			}
+			assertEquals(alg.getPeakOrientation(), copy.getPeakOrientation(), 0);
+		}
+	}
+
 	/**
 	 * Real basic check to see if a uniform gradient is added to the histogram.  Goes through
 	 * all angles and makes sure it doesn't blow up at the border
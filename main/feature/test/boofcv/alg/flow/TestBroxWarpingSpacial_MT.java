@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.pyramid.PyramidFloat;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBroxWarpingSpacial_MT {
+
+	int width = 30;
+	int height = 40;
+	Random rand = new Random(234);
+
+	PyramidFloat<ImageFloat32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+	PyramidFloat<ImageFloat32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+
+	/**
+	 * Checks to see if the correct flow is found for a simple translation
+	 */
+	@Test
+	public void process() {
+		ImageFloat32 original1 = new ImageFloat32(width,height);
+		ImageFloat32 original2 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillRectangle(original1, 40, 10, 0, 10, height);
+		ImageMiscOps.fillRectangle(original2, 40, 15, 0, 10, height);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			BroxWarpingSpacial_MT<ImageFloat32> alg = create();
+			alg.process(pyr1,pyr2);
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 10; x < 20; x++ ) {
+					assertEquals(5,alg.getFlowX().get(x,y),1);
+					assertEquals(0,alg.getFlowY().get(x,y),1);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	/**
+	 * The output should not depend on the number of threads
+	 */
+	@Test
+	public void independentOfThreads() {
+		ImageFloat32 original1 = new ImageFloat32(width,height);
+		ImageFloat32 original2 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillUniform(original1, rand, 0, 100);
+		ImageMiscOps.fillUniform(original2, rand, 0, 100);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(1);
+			BroxWarpingSpacial_MT<ImageFloat32> expected = create();
+			expected.process(pyr1,pyr2);
+
+			BoofConcurrency.setMaxThreads(4);
+			BroxWarpingSpacial_MT<ImageFloat32> found = create();
+			found.process(pyr1,pyr2);
+
+			BoofTesting.assertEquals(expected.getFlowX(), found.getFlowX(), 0);
+			BoofTesting.assertEquals(expected.getFlowY(), found.getFlowY(), 0);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private BroxWarpingSpacial_MT<ImageFloat32> create() {
+		InterpolatePixelS<ImageFloat32> interpolate = FactoryInterpolation.bilinearPixelS(
+				ImageFloat32.class, BorderType.EXTENDED);
+		return new BroxWarpingSpacial_MT<ImageFloat32>(new ConfigBroxWarping(),interpolate);
+	}
+}
@@ -148,6 +148,11 @@ public class TestDenseOpticalFlowBlockPyramid {
 				return dx*dx + dy*dy + minScore;
 			}
 		}
+
+		@Override
+		public DenseOpticalFlowBlockPyramid concurrentCopy() {
+			return null;
+		}
 	}
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDenseOpticalFlowBlockPyramid_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread_U8() {
+		compareToSingleThread(new DenseOpticalFlowBlockPyramid.U8(2,3,20), ImageUInt8.class);
+	}
+
+	@Test
+	public void compareToSingleThread_F32() {
+		compareToSingleThread(new DenseOpticalFlowBlockPyramid.F32(2,3,20), ImageFloat32.class);
+	}
+
+	/**
+	 * Results should be identical to the single threaded version
+	 */
+	private <T extends ImageSingleBand> void compareToSingleThread( DenseOpticalFlowBlockPyramid<T> serial ,
+																	Class<T> imageType ) {
+		T image1 = GeneralizedImageOps.createSingleBand(imageType,60,45);
+		T image2 = GeneralizedImageOps.createSingleBand(imageType,60,45);
+
+		// the second image is a shifted version of the first with a textureless region
+		GImageMiscOps.fillUniform(image1, rand, 0, 200);
+		GImageMiscOps.fillRectangle(image1, 50, 20, 15, 15, 10);
+		for( int y = 0; y < image1.height; y++ ) {
+			for( int x = 0; x < image1.width; x++ ) {
+				double value = GeneralizedImageOps.get(image1, Math.max(0, x - 2), Math.max(0, y - 1));
+				GeneralizedImageOps.set(image2, x, y, value);
+			}
+		}
+
+		ImagePyramid<T> pyr1 = FactoryPyramid.discreteGaussian(new int[]{1,2,4},0,2,false,imageType);
+		ImagePyramid<T> pyr2 = FactoryPyramid.discreteGaussian(new int[]{1,2,4},0,2,false,imageType);
+		pyr1.process(image1);
+		pyr2.process(image2);
+
+		DenseOpticalFlowBlockPyramid_MT<T> concurrent = new DenseOpticalFlowBlockPyramid_MT<T>(serial.concurrentCopy());
+
+		// process twice to make sure internal storage is correctly reused
+		serial.process(pyr1, pyr2);
+		serial.process(pyr1, pyr2);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			concurrent.process(pyr1, pyr2);
+			concurrent.process(pyr1, pyr2);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		ImageFlow expected = serial.getOpticalFlow();
+		ImageFlow found = concurrent.getOpticalFlow();
+
+		int total = 0;
+		for( int y = 0; y < expected.height; y++ ) {
+			for( int x = 0; x < expected.width; x++ ) {
+				ImageFlow.D e = expected.get(x, y);
+				ImageFlow.D f = found.get(x, y);
+
+				assertEquals(e.isValid(), f.isValid());
+				if( e.isValid() ) {
+					assertEquals(e.x, f.x, 0);
+					assertEquals(e.y, f.y, 0);
+					total++;
+				}
+			}
+		}
+		assertTrue(total > expected.width*expected.height/2);
+	}
+}
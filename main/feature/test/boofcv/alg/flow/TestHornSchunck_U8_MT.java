@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.flow;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHornSchunck_U8_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Results should be identical to the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageUInt8 image1 = new ImageUInt8(45,32);
+		ImageUInt8 image2 = new ImageUInt8(45,32);
+		ImageMiscOps.fillUniform(image1, rand, 0, 200);
+		ImageMiscOps.fillUniform(image2, rand, 0, 200);
+
+		ImageFlow expected = new ImageFlow(45,32);
+		ImageFlow found = new ImageFlow(45,32);
+
+		new HornSchunck_U8(20,50).process(image1, image2, expected);
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			HornSchunck_U8_MT alg = new HornSchunck_U8_MT(20,50);
+			// process twice to make sure internal storage is correctly reused
+			alg.process(image1, image2, found);
+			alg.process(image1, image2, found);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		for( int i = 0; i < expected.data.length; i++ ) {
+			assertEquals(expected.data[i].x, found.data[i].x, 0);
+			assertEquals(expected.data[i].y, found.data[i].y, 0);
+		}
+	}
+}
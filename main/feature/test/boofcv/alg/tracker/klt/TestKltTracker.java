@@ -99,6 +99,58 @@ public class TestKltTracker {
 
 	}
 
+	/**
+	 * The feature's description is stored inside of a larger array and doesn't start at index zero.  Results
+	 * should be identical to a feature which has its own storage
+	 */
+	@Test
+	public void featureDescriptionOffset() {
+		ImageMiscOps.fillUniform(image, rand, 0, 100);
+		GradientSobel.process(image, derivX, derivY, new ImageBorder1D_F32(BorderIndex1D_Extend.class));
+
+		KltTracker<ImageFloat32, ImageFloat32> tracker = createDefaultTracker();
+		tracker.setImage(image, derivX, derivY);
+
+		// includes features along the border
+		for( int y = 0; y < imageHeight; y += 4) {
+			for( int x = 0; x < imageWidth; x += 4) {
+				KltFeature featureA = new KltFeature(3);
+				KltFeature featureB = new KltFeature(3,
+						createView(5, 7), createView(13, 7), createView(2, 7));
+
+				featureA.setPosition(x,y);
+				featureB.setPosition(x,y);
+
+				assertEquals(tracker.setDescription(featureA), tracker.setDescription(featureB));
+				assertEquals(featureA.Gxx, featureB.Gxx, 0);
+
+				float dx = rand.nextFloat()*2-1;
+				float dy = rand.nextFloat()*2-1;
+
+				featureA.setPosition(x+dx,y+dy);
+				featureB.setPosition(x+dx,y+dy);
+
+				assertTrue(tracker.track(featureA) == tracker.track(featureB));
+				assertTrue(featureA.x == featureB.x);
+				assertTrue(featureA.y == featureB.y);
+			}
+		}
+	}
+
+	/**
+	 * Creates a contiguous image which is a view into a larger array
+	 */
+	private ImageFloat32 createView( int offset , int width ) {
+		ImageFloat32 view = new ImageFloat32();
+		view.data = new float[offset + width*width + 10];
+		view.startIndex = offset;
+		view.stride = width;
+		view.width = width;
+		view.height = width;
+		view.subImage = true;
+		return view;
+	}
+
 	/**
 	 * Create a description of a feature next to the border then place the feature just outside of the image
 	 * and see if it can track to its original position.
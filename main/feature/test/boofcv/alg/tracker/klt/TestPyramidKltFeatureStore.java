@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.tracker.klt;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidKltFeatureStore {
+
+	int numLayers = 3;
+	int radius = 2;
+	int width = radius*2+1;
+
+	/**
+	 * Each layer of the feature should reference the correct location inside the arrays
+	 */
+	@Test
+	public void grab_views() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		for( int i = 0; i < 15; i++ ) {
+			PyramidKltFeature f = alg.grab();
+			assertEquals(i, alg.indexOf(f));
+			assertEquals(numLayers, f.desc.length);
+
+			for( int layer = 0; layer < numLayers; layer++ ) {
+				KltFeature k = f.desc[layer];
+				int offset = (i*numLayers + layer)*width*width;
+				assertEquals(offset, alg.getOffset(i, layer));
+				assertEquals(radius, k.radius);
+
+				assertTrue(k.desc.data == alg.desc);
+				assertTrue(k.derivX.data == alg.derivX);
+				assertTrue(k.derivY.data == alg.derivY);
+				assertEquals(offset, k.desc.startIndex);
+				assertEquals(offset, k.derivX.startIndex);
+				assertEquals(offset, k.derivY.startIndex);
+				assertEquals(width, k.desc.width);
+				assertEquals(width, k.desc.height);
+				assertEquals(width, k.desc.stride);
+			}
+		}
+		assertEquals(15, alg.getNumUsed());
+	}
+
+	/**
+	 * Released features should be reused without creating new features
+	 */
+	@Test
+	public void release_reuse() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		List<PyramidKltFeature> list = new ArrayList<PyramidKltFeature>();
+		for( int i = 0; i < 30; i++ ) {
+			list.add(alg.grab());
+		}
+		int size = alg.size();
+		float[] desc = alg.desc;
+
+		alg.release(list.get(4));
+		alg.release(list.get(20));
+		assertEquals(28, alg.getNumUsed());
+
+		PyramidKltFeature a = alg.grab();
+		PyramidKltFeature b = alg.grab();
+		assertTrue(a == list.get(20));
+		assertTrue(b == list.get(4));
+
+		// nothing should have been declared
+		assertEquals(size, alg.size());
+		assertTrue(desc == alg.desc);
+	}
+
+	@Test
+	public void releaseAll() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		PyramidKltFeature first = alg.grab();
+		for( int i = 0; i < 20; i++ ) {
+			alg.grab();
+		}
+		int size = alg.size();
+
+		alg.releaseAll();
+		assertEquals(0, alg.getNumUsed());
+		assertEquals(size, alg.size());
+		assertTrue(first == alg.grab());
+	}
+
+	/**
+	 * Requesting a few more features at a time should grow the storage geometrically
+	 */
+	@Test
+	public void reserve_geometric() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		alg.reserve(10);
+		assertEquals(10, alg.size());
+
+		float[] before = alg.desc;
+		alg.reserve(11);
+		assertEquals(20, alg.size());
+		assertTrue(before != alg.desc);
+
+		// there is already enough storage so nothing should be reallocated
+		before = alg.desc;
+		for( int total = 12; total <= 20; total++ ) {
+			alg.reserve(total);
+			assertTrue(before == alg.desc);
+		}
+		assertEquals(20, alg.size());
+	}
+
+	/**
+	 * When the arrays grow the template data should be preserved and the existing features should
+	 * reference the new arrays
+	 */
+	@Test
+	public void reserve_preserve() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		PyramidKltFeature f = alg.grab();
+		f.desc[1].desc.set(2, 3, 5);
+		f.desc[2].derivX.set(1, 4, 6);
+		f.desc[0].derivY.set(0, 0, 7);
+
+		alg.reserve(100);
+		assertEquals(100, alg.size());
+		assertEquals(1, alg.getNumUsed());
+		assertTrue(alg.desc.length >= 100*numLayers*width*width);
+
+		assertTrue(f.desc[1].desc.data == alg.desc);
+		assertTrue(f.desc[2].derivX.data == alg.derivX);
+		assertTrue(f.desc[0].derivY.data == alg.derivY);
+		assertEquals(5, f.desc[1].desc.get(2, 3), 0);
+		assertEquals(6, f.desc[2].derivX.get(1, 4), 0);
+		assertEquals(7, f.desc[0].derivY.get(0, 0), 0);
+
+		// features which were already free are handed out before the new ones, and all in order
+		for( int i = 1; i < 100; i++ ) {
+			assertEquals(i, alg.indexOf(alg.grab()));
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void release_twice() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+
+		PyramidKltFeature f = alg.grab();
+		alg.release(f);
+		alg.release(f);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void release_foreign() {
+		PyramidKltFeatureStore alg = new PyramidKltFeatureStore(numLayers,radius);
+		alg.grab();
+
+		alg.release(new PyramidKltFeature(numLayers,radius));
+	}
+}
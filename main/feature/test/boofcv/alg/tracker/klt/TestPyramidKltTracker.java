@@ -25,6 +25,9 @@ import boofcv.core.image.border.ImageBorder1D_F32;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 /**
@@ -182,6 +185,51 @@ public class TestPyramidKltTracker extends PyramidKltTestBase {
 		assertTrue( tracker.track(feature) == KltTrackFault.OUT_OF_BOUNDS);
 	}
 
+	/**
+	 * Track several features at once and see if the results and descriptions are updated correctly
+	 */
+	@Test
+	public void trackUpdate() {
+		tracker.setImage(pyramid,derivX,derivY);
+
+		List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+		for( int i = 0; i < 3; i++ ) {
+			PyramidKltFeature feature = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			feature.setPosition(cornerX,cornerY);
+			tracker.setDescription(feature);
+			features.add(feature);
+		}
+
+		// small offset which it can recover from
+		features.get(0).setPosition(cornerX-1.3f,cornerY+1.2f);
+		// outside the image
+		features.get(1).setPosition(-20,-20);
+		// no offset
+		features.get(2).setPosition(cornerX,cornerY);
+
+		KltTrackFault[] results = new KltTrackFault[4];
+		tracker.trackUpdate(features, results);
+
+		assertTrue(results[0] == KltTrackFault.SUCCESS);
+		assertTrue(results[1] == KltTrackFault.OUT_OF_BOUNDS);
+		assertTrue(results[2] == KltTrackFault.SUCCESS);
+		assertTrue(results[3] == null);
+
+		assertEquals(cornerX,features.get(0).x,0.2);
+		assertEquals(cornerY,features.get(0).y,0.2);
+
+		// the description should have been updated at the new location
+		PyramidKltFeature check = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+		check.setPosition(features.get(0).x,features.get(0).y);
+		tracker.setDescription(check);
+		for( int i = 0; i < pyramid.getNumLayers(); i++ ) {
+			assertEquals(check.desc[i].Gxx,features.get(0).desc[i].Gxx,1e-4);
+			assertEquals(check.desc[i].Gyy,features.get(0).desc[i].Gyy,1e-4);
+		}
+		assertEquals(cornerX,features.get(2).x,0.2);
+		assertEquals(cornerY,features.get(2).y,0.2);
+	}
+
 	/**
 	 * See if a track out of bounds error is returned
 	 */
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidKltTracker_MT extends PyramidKltTestBase {
+
+	@Before
+	public void setup() {
+		super.setup();
+	}
+
+	/**
+	 * Results should be identical to the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		List<PyramidKltFeature> expected = createFeatures(tracker);
+		KltTrackFault[] expectedFaults = new KltTrackFault[expected.size()];
+		tracker.trackUpdate(expected, expectedFaults);
+
+		List<PyramidKltFeature> found;
+		KltTrackFault[] foundFaults = new KltTrackFault[expected.size()];
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			PyramidKltTracker_MT<ImageFloat32,ImageFloat32> alg =
+					new PyramidKltTracker_MT<ImageFloat32,ImageFloat32>(TestKltTracker.createDefaultTracker());
+
+			// process twice to make sure the workers are correctly reused
+			alg.trackUpdate(createFeatures(alg), foundFaults);
+			found = createFeatures(alg);
+			alg.trackUpdate(found, foundFaults);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		int numSuccess = 0;
+		for( int i = 0; i < expected.size(); i++ ) {
+			assertTrue(expectedFaults[i] == foundFaults[i]);
+			if( expectedFaults[i] == KltTrackFault.SUCCESS )
+				numSuccess++;
+
+			PyramidKltFeature a = expected.get(i);
+			PyramidKltFeature b = found.get(i);
+			assertEquals(a.x, b.x, 0);
+			assertEquals(a.y, b.y, 0);
+			for( int layer = 0; layer < a.desc.length; layer++ ) {
+				assertEquals(a.desc[layer].Gxx, b.desc[layer].Gxx, 0);
+				assertEquals(a.desc[layer].Gxy, b.desc[layer].Gxy, 0);
+				assertEquals(a.desc[layer].Gyy, b.desc[layer].Gyy, 0);
+			}
+		}
+
+		// sanity check the test
+		assertTrue(numSuccess > 0);
+		assertTrue(numSuccess < expected.size());
+	}
+
+	/**
+	 * Creates features spread across the image, including the border, and then offsets their location
+	 */
+	private List<PyramidKltFeature> createFeatures( PyramidKltTracker<ImageFloat32,ImageFloat32> tracker ) {
+		tracker.setImage(pyramid, derivX, derivY);
+
+		List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+		for( int y = 0; y < height; y += 6 ) {
+			for( int x = 0; x < width; x += 5 ) {
+				PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(), featureReadius);
+				f.setPosition(x, y);
+				tracker.setDescription(f);
+				f.setPosition(x + 1.2f, y - 0.7f);
+				features.add(f);
+			}
+		}
+		return features;
+	}
+}
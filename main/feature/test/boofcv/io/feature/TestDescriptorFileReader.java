@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.feature;
+
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescriptorFileReader {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void roundTrip_F64() throws IOException {
+		File f = createTemp();
+		List<TupleDesc_F64> list = new ArrayList<TupleDesc_F64>();
+		DescriptorFileWriter<TupleDesc_F64> writer = new DescriptorFileWriter<TupleDesc_F64>(f,TupleDesc_F64.class,7);
+		for( int i = 0; i < 30; i++ ) {
+			TupleDesc_F64 d = new TupleDesc_F64(7);
+			for( int j = 0; j < 7; j++ )
+				d.value[j] = rand.nextGaussian();
+			list.add(d);
+			writer.add(i,i+0.5,i*2,i*0.1,d);
+		}
+		writer.close();
+
+		// small segments to test files which need to be mapped multiple times
+		for( int segment : new int[]{Integer.MAX_VALUE,100,1} ) {
+			DescriptorFileReader reader = new DescriptorFileReader(f,segment);
+			assertEquals(30,reader.size());
+			assertEquals(7,reader.getDOF());
+			assertEquals(DescriptorFileFormat.TYPE_F64,reader.getTypeCode());
+
+			TupleDesc_F64 found = new TupleDesc_F64(7);
+			for( int i = 0; i < 30; i++ ) {
+				checkKeyPoint(reader, i);
+				reader.getDescriptor(i,found);
+				for( int j = 0; j < 7; j++ )
+					assertEquals(list.get(i).value[j],found.value[j],0);
+
+				TupleDesc_F64 query = list.get(3);
+				double expected = 0;
+				for( int j = 0; j < 7; j++ )
+					expected += Math.pow(query.value[j]-found.value[j],2);
+				assertEquals(expected,reader.euclideanSq(i,query),1e-8);
+			}
+			reader.close();
+		}
+	}
+
+	@Test
+	public void roundTrip_F32() throws IOException {
+		File f = createTemp();
+		List<TupleDesc_F32> list = new ArrayList<TupleDesc_F32>();
+		DescriptorFileWriter<TupleDesc_F32> writer = new DescriptorFileWriter<TupleDesc_F32>(f,TupleDesc_F32.class,5);
+		for( int i = 0; i < 25; i++ ) {
+			TupleDesc_F32 d = new TupleDesc_F32(5);
+			for( int j = 0; j < 5; j++ )
+				d.value[j] = (float)rand.nextGaussian();
+			list.add(d);
+			writer.add(i,i+0.5,i*2,i*0.1,d);
+		}
+		writer.close();
+
+		DescriptorFileReader reader = new DescriptorFileReader(f,50);
+		assertEquals(25,reader.size());
+		TupleDesc_F32 found = new TupleDesc_F32(5);
+		for( int i = 0; i < 25; i++ ) {
+			checkKeyPoint(reader, i);
+			reader.getDescriptor(i,found);
+			for( int j = 0; j < 5; j++ )
+				assertEquals(list.get(i).value[j],found.value[j],0);
+		}
+		assertEquals(0,reader.euclideanSq(4,list.get(4)),0);
+		reader.close();
+	}
+
+	@Test
+	public void roundTrip_B() throws IOException {
+		File f = createTemp();
+		List<TupleDesc_B> list = new ArrayList<TupleDesc_B>();
+		DescriptorFileWriter<TupleDesc_B> writer = new DescriptorFileWriter<TupleDesc_B>(f,TupleDesc_B.class,70);
+		for( int i = 0; i < 40; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(70);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			list.add(d);
+			writer.add(i,i+0.5,i*2,i*0.1,d);
+		}
+		writer.close();
+
+		DescriptorFileReader reader = new DescriptorFileReader(f,64);
+		assertEquals(40,reader.size());
+		assertEquals(70,reader.getDOF());
+		TupleDesc_B found = new TupleDesc_B(70);
+		for( int i = 0; i < 40; i++ ) {
+			checkKeyPoint(reader, i);
+			reader.getDescriptor(i,found);
+			assertArrayEquals(list.get(i).data,found.data);
+
+			TupleDesc_B query = list.get(5);
+			int expected = 0;
+			for( int j = 0; j < query.data.length; j++ )
+				expected += Integer.bitCount(query.data[j] ^ found.data[j]);
+			assertEquals(expected,reader.hamming(i,query));
+		}
+		reader.close();
+	}
+
+	@Test
+	public void empty() throws IOException {
+		File f = createTemp();
+		new DescriptorFileWriter<TupleDesc_F64>(f,TupleDesc_F64.class,7).close();
+
+		DescriptorFileReader reader = new DescriptorFileReader(f);
+		assertEquals(0,reader.size());
+		reader.close();
+	}
+
+	@Test
+	public void wrongType() throws IOException {
+		File f = createTemp();
+		DescriptorFileWriter<TupleDesc_F64> writer = new DescriptorFileWriter<TupleDesc_F64>(f,TupleDesc_F64.class,7);
+		writer.add(1,2,3,4,new TupleDesc_F64(7));
+		writer.close();
+
+		DescriptorFileReader reader = new DescriptorFileReader(f);
+		try {
+			reader.getDescriptor(0,new TupleDesc_F32(7));
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ) {}
+		reader.close();
+	}
+
+	@Test
+	public void notDescriptorFile() throws IOException {
+		File f = createTemp();
+		FileOutputStream out = new FileOutputStream(f);
+		out.write(new byte[100]);
+		out.close();
+
+		try {
+			new DescriptorFileReader(f);
+			fail("Exception should have been thrown");
+		} catch( IOException ignore ) {}
+	}
+
+	private static void checkKeyPoint(DescriptorFileReader reader, int i) {
+		assertEquals(i,reader.getX(i),1e-4);
+		assertEquals(i+0.5,reader.getY(i),1e-4);
+		assertEquals(i*2,reader.getScale(i),1e-4);
+		assertEquals(i*0.1,reader.getOrientation(i),1e-4);
+	}
+
+	private static File createTemp() throws IOException {
+		File f = File.createTempFile("descriptors",".bin");
+		f.deleteOnExit();
+		return f;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_B {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void addCopy_getCopy() {
+		// number of bits which don't line up with int and long boundaries
+		addCopy_getCopy(96);
+		addCopy_getCopy(40);
+		addCopy_getCopy(512);
+	}
+
+	private void addCopy_getCopy( int numBits ) {
+		PackedTupleArray_B alg = new PackedTupleArray_B(numBits);
+
+		TupleDesc_B expected[] = new TupleDesc_B[25];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = createRandom(numBits);
+			alg.addCopy(expected[i]);
+		}
+
+		assertEquals(expected.length,alg.size());
+		assertEquals(numBits,alg.getDOF());
+
+		TupleDesc_B found = new TupleDesc_B(numBits);
+		for (int i = 0; i < expected.length; i++) {
+			alg.getCopy(i,found);
+			checkEquals(expected[i],found);
+			checkEquals(expected[i],alg.getTemp(i));
+		}
+	}
+
+	/**
+	 * Bit i in the descriptor should be bit i%64 in long i/64
+	 */
+	@Test
+	public void bitOrder() {
+		int numBits = 150;
+		TupleDesc_B desc = createRandom(numBits);
+		PackedTupleArray_B alg = new PackedTupleArray_B(numBits);
+		alg.addCopy(desc);
+
+		assertEquals(3,alg.getNumLongs());
+		for (int i = 0; i < numBits; i++) {
+			boolean found = ((alg.data[i/64] >>> (i%64)) & 0x01) == 1;
+			assertEquals(desc.isBitTrue(i),found);
+		}
+	}
+
+	@Test
+	public void setTo() {
+		PackedTupleArray_B alg = new PackedTupleArray_B(96);
+		for (int i = 0; i < 4; i++) {
+			alg.addCopy(createRandom(96));
+		}
+
+		TupleDesc_B a = createRandom(96);
+		alg.setTo(2,a);
+		checkEquals(a,alg.getTemp(2));
+		assertEquals(4,alg.size());
+	}
+
+	@Test
+	public void reserve() {
+		PackedTupleArray_B alg = new PackedTupleArray_B(128);
+		TupleDesc_B a = createRandom(128);
+		alg.addCopy(a);
+
+		alg.reserve(30);
+		assertTrue(alg.data.length >= 30*2);
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+
+		alg.reset();
+		assertEquals(0,alg.size());
+	}
+
+	private TupleDesc_B createRandom( int numBits ) {
+		TupleDesc_B t = new TupleDesc_B(numBits);
+		for (int i = 0; i < numBits; i++) {
+			if( rand.nextBoolean() )
+				t.data[i/32] |= 1 << (i%32);
+		}
+		return t;
+	}
+
+	private void checkEquals( TupleDesc_B a , TupleDesc_B b ) {
+		assertEquals(a.numBits,b.numBits);
+		for (int i = 0; i < a.data.length; i++) {
+			assertEquals(a.data[i],b.data[i]);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_F32 {
+
+	Random rand = new Random(234);
+
+	int DOF = 5;
+
+	@Test
+	public void addCopy_getCopy() {
+		PackedTupleArray_F32 alg = new PackedTupleArray_F32(DOF);
+
+		TupleDesc_F32 expected[] = new TupleDesc_F32[25];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = createRandom();
+			alg.addCopy(expected[i]);
+		}
+
+		assertEquals(expected.length,alg.size());
+		assertEquals(DOF,alg.getDOF());
+
+		TupleDesc_F32 found = new TupleDesc_F32(DOF);
+		for (int i = 0; i < expected.length; i++) {
+			alg.getCopy(i,found);
+			checkEquals(expected[i],found);
+			checkEquals(expected[i],alg.getTemp(i));
+			assertEquals(expected[i].value[2],alg.data[alg.getOffset(i)+2],1e-8);
+		}
+	}
+
+	@Test
+	public void addCopy_F64() {
+		PackedTupleArray_F32 alg = new PackedTupleArray_F32(DOF);
+
+		TupleDesc_F64 a = new TupleDesc_F64(DOF);
+		for (int i = 0; i < DOF; i++) {
+			a.value[i] = rand.nextDouble();
+		}
+		alg.addCopy(createRandom());
+		alg.addCopy(a);
+
+		assertEquals(2,alg.size());
+		TupleDesc_F32 found = alg.getTemp(1);
+		for (int i = 0; i < DOF; i++) {
+			assertEquals(a.value[i],found.value[i],1e-6);
+		}
+	}
+
+	@Test
+	public void setTo() {
+		PackedTupleArray_F32 alg = new PackedTupleArray_F32(DOF);
+		for (int i = 0; i < 4; i++) {
+			alg.addCopy(createRandom());
+		}
+
+		TupleDesc_F32 a = createRandom();
+		alg.setTo(2,a);
+		checkEquals(a,alg.getTemp(2));
+		assertEquals(4,alg.size());
+	}
+
+	@Test
+	public void reset() {
+		PackedTupleArray_F32 alg = new PackedTupleArray_F32(DOF);
+		for (int i = 0; i < 4; i++) {
+			alg.addCopy(createRandom());
+		}
+		alg.reset();
+		assertEquals(0,alg.size());
+
+		TupleDesc_F32 a = createRandom();
+		alg.addCopy(a);
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+	}
+
+	@Test
+	public void reserve() {
+		PackedTupleArray_F32 alg = new PackedTupleArray_F32(DOF);
+		TupleDesc_F32 a = createRandom();
+		alg.addCopy(a);
+
+		alg.reserve(30);
+		assertTrue(alg.data.length >= 30*DOF);
+		// the previously added descriptor should be unchanged
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+
+		// should not shrink
+		float[] original = alg.data;
+		alg.reserve(2);
+		assertTrue(original == alg.data);
+	}
+
+	private TupleDesc_F32 createRandom() {
+		TupleDesc_F32 t = new TupleDesc_F32(DOF);
+		for (int i = 0; i < DOF; i++) {
+			t.value[i] = rand.nextFloat();
+		}
+		return t;
+	}
+
+	private void checkEquals( TupleDesc_F32 a , TupleDesc_F32 b ) {
+		for (int i = 0; i < DOF; i++) {
+			assertEquals(a.value[i],b.value[i],1e-8);
+		}
+	}
+}
@@ -23,6 +23,7 @@ import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.*;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.PyramidDiscrete;
@@ -35,6 +36,9 @@ import java.util.List;
 /**
  * Wrapper around {@link boofcv.alg.tracker.klt.PyramidKltTracker} for {@link PointTracker}.  Every track
  * will have the same size and shaped descriptor.  If any fault is encountered the track will be dropped.
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true when the tracker is created then active tracks will be updated
+ * in parallel using {@link PyramidKltTracker_MT}.  Feature descriptions are kept in a
+ * {@link PyramidKltFeatureStore} and recycled when a track is dropped.
  *
  * @author Peter Abeles
  */
@@ -64,11 +68,13 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 	protected List<PyramidKltFeature> spawned = new ArrayList<PyramidKltFeature>();
 	// list of features which were just dropped
 	protected List<PyramidKltFeature> dropped = new ArrayList<PyramidKltFeature>();
-	// feature data available for future tracking
-	protected List<PyramidKltFeature> unused = new ArrayList<PyramidKltFeature>();
+	// storage for feature data.  Recycles features which are no longer being tracked
+	protected PyramidKltFeatureStore store;
 
 	// the tracker
 	protected PyramidKltTracker<I, D> tracker;
+	// outcome of tracking each active feature
+	protected KltTrackFault[] faults = new KltTrackFault[0];
 
 	// selects point features
 	private GeneralFeatureDetector<I, D> detector;
@@ -106,7 +112,12 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		this.derivType = derivType;
 
 		KltTracker<I, D> klt = new KltTracker<I, D>(interpInput, interpDeriv,config);
-		tracker = new PyramidKltTracker<I, D>(klt);
+		if( BoofConcurrency.USE_CONCURRENT )
+			tracker = new PyramidKltTracker_MT<I, D>(klt);
+		else
+			tracker = new PyramidKltTracker<I, D>(klt);
+
+		store = new PyramidKltFeatureStore(pyramid.getNumLayers(), templateRadius);
 
 		if( detector != null) {
 			if (detector.getRequiresHessian())
@@ -116,15 +127,19 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		}
 	}
 
-	private void addTrackToUnused() {
-		int numLayers = basePyramid.getNumLayers();
-		PyramidKltFeature t = new PyramidKltFeature(numLayers, templateRadius);
+	/**
+	 * Requests a feature from the store and creates its track the first time the feature is used
+	 */
+	private PyramidKltFeature grabFeature() {
+		PyramidKltFeature t = store.grab();
 
-		PointTrack p = new PointTrack();
-		p.setDescription(t);
-		t.cookie = p;
+		if( t.cookie == null ) {
+			PointTrack p = new PointTrack();
+			p.setDescription(t);
+			t.cookie = p;
+		}
 
-		unused.add(t);
+		return t;
 	}
 
 	/**
@@ -140,13 +155,9 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		if( !input.isInBounds((int)x,(int)y))
 			return null;
 
-		// grow the number of tracks if needed
-		if( unused.isEmpty() )
-			addTrackToUnused();
-
 		// TODO make sure the feature is inside the image
 
-		PyramidKltFeature t = unused.remove(unused.size() - 1);
+		PyramidKltFeature t = grabFeature();
 		t.setPosition((float)x,(float)y);
 		tracker.setDescription(t);
 
@@ -158,6 +169,7 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 			return p;
 		}
 
+		store.release(t);
 		return null;
 	}
 
@@ -183,14 +195,13 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		QueueCorner found = detector.getMaximums();
 
 		// grow the number of tracks if needed
-		while( unused.size() < found.size() )
-			addTrackToUnused();
+		store.reserve(store.getNumUsed() + found.size());
 
-		for (int i = 0; i < found.size() && !unused.isEmpty(); i++) {
+		for (int i = 0; i < found.size(); i++) {
 			Point2D_I16 pt = found.get(i);
 
 			// set up pyramid description
-			PyramidKltFeature t = unused.remove(unused.size() - 1);
+			PyramidKltFeature t = grabFeature();
 			t.x = pt.x * scaleBottom;
 			t.y = pt.y * scaleBottom;
 
@@ -207,7 +218,7 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 				active.add(t);
 				spawned.add(t);
 			} else {
-				unused.add(t);
+				store.release(t);
 			}
 		}
 	}
@@ -221,7 +232,9 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 
 	@Override
 	public void dropAllTracks() {
-		unused.addAll(active);
+		for( int i = 0; i < active.size(); i++ ) {
+			store.release(active.get(i));
+		}
 		active.clear();
 		dropped.clear();
 	}
@@ -238,30 +251,29 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		declareOutput();
 		PyramidOps.gradient(basePyramid, gradient, derivX,derivY);
 
-		// track features
+		// track features and update their descriptions
+		if( faults.length < active.size() )
+			faults = new KltTrackFault[ active.size() ];
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < active.size(); ) {
+		tracker.trackUpdate(active, faults);
+
+		// remove tracks which failed while preserving the order of the active list
+		int numActive = active.size();
+		int numKept = 0;
+		for( int i = 0; i < numActive; i++ ) {
 			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					i++;
-					success = true;
-				}
-			}
 
-			if( !success ) {
-				active.remove(i);
+			if( faults[i] == KltTrackFault.SUCCESS ) {
+				PointTrack p = t.getCookie();
+				p.set(t.x,t.y);
+				active.set(numKept++, t);
+			} else {
 				dropped.add( t );
-				unused.add( t );
+				store.release( t );
 			}
 		}
+		while( active.size() > numKept )
+			active.remove(active.size()-1);
 	}
 
 	protected void declareOutput() {
@@ -283,7 +295,7 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		if( active.remove((PyramidKltFeature)track.getDescription()) ) {
 			// only recycle the description if it is in the active list.  This avoids the problem of adding the
 			// same description multiple times
-			unused.add((PyramidKltFeature)track.getDescription());
+			store.release((PyramidKltFeature)track.getDescription());
 			return true;
 		}
 		return false;
@@ -146,7 +146,7 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageSingleBand,D extends I
 		for( int i = 0; i < candidateDrop.size(); i++ ) {
 			PyramidKltFeature t = candidateDrop.get(i);
 			dropped.add( t );
-			unused.add( t );
+			store.release( t );
 		}
 
 		finishedTracking = true;
@@ -69,7 +69,8 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<ImageFloat3
 
 		int difference = total - alg.active.size();
 		assertEquals(difference,alg.dropped.size());
-		assertEquals(difference,alg.unused.size());
+		// dropped features should be returned to the store
+		assertEquals(alg.active.size(),alg.store.getNumUsed());
 	}
 
 	@Test
@@ -87,7 +88,8 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<ImageFloat3
 
 		assertEquals( 0, alg.active.size());
 		assertEquals( 0, alg.dropped.size());
-		assertEquals( numSpawned, alg.unused.size());
+		assertEquals( 0, alg.store.getNumUsed());
+		assertTrue( alg.store.size() >= numSpawned );
 	}
 
 	@Test
@@ -95,7 +97,7 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<ImageFloat3
 		PointTrackerKltPyramid<ImageFloat32,ImageFloat32> alg =
 				(PointTrackerKltPyramid<ImageFloat32,ImageFloat32>)createTracker();
 
-		assertEquals(0,alg.unused.size());
+		assertEquals(0,alg.store.getNumUsed());
 
 		alg.process(image);
 		alg.spawnTracks();
@@ -108,7 +110,7 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<ImageFloat3
 		alg.dropTrack((PointTrack)f.cookie);
 
 		assertEquals( before-1, alg.active.size());
-		assertEquals(1,alg.unused.size());
+		assertEquals(before-1,alg.store.getNumUsed());
 	}
 
 	@Test
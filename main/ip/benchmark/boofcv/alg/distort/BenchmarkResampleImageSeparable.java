@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.DistortSupport;
+import boofcv.alg.interpolate.TypeInterpolate;
+import boofcv.alg.interpolate.kernel.BicubicKernel_F32;
+import boofcv.alg.interpolate.kernel.LanczosKernel_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.distort.PixelTransform_F32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedU8;
+
+import java.util.Random;
+
+/**
+ * Compares resizing images using {@link ResampleImageSeparable} against per-pixel interpolation
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkResampleImageSeparable {
+	public static final int imgWidth = 2048;
+	public static final int imgHeight = 1536;
+
+	public static final int TEST_TIME = 1000;
+
+	// number of threads the concurrent algorithms are profiled with
+	static int numThreads[] = new int[]{1,2,4,8};
+
+	ImageUInt8 input = new ImageUInt8(imgWidth,imgHeight);
+	InterleavedU8 inputRGB = new InterleavedU8(imgWidth,imgHeight,3);
+
+	public class PerPixelBicubic extends PerformerBase {
+		ImageUInt8 output;
+		PixelTransform_F32 model;
+
+		public PerPixelBicubic(ImageUInt8 output) {
+			this.output = output;
+			model = DistortSupport.transformScale(output, input, null);
+		}
+
+		@Override
+		public void process() {
+			DistortImageOps.distortSingle(input, output, model, TypeInterpolate.BICUBIC, BorderType.EXTENDED);
+		}
+	}
+
+	public class Separable extends PerformerBase {
+		ImageUInt8 output;
+		ResampleImageSeparable<ImageUInt8> alg;
+
+		public Separable(ResampleImageSeparable<ImageUInt8> alg, ImageUInt8 output) {
+			this.alg = alg;
+			this.output = output;
+		}
+
+		@Override
+		public void process() {
+			alg.process(input,output);
+		}
+	}
+
+	public class SeparableRGB extends PerformerBase {
+		InterleavedU8 output;
+		ResampleImageSeparable<InterleavedU8> alg;
+
+		public SeparableRGB(ResampleImageSeparable<InterleavedU8> alg, InterleavedU8 output) {
+			this.alg = alg;
+			this.output = output;
+		}
+
+		@Override
+		public void process() {
+			alg.process(inputRGB,output);
+		}
+	}
+
+	private void profile( int width , int height ) {
+		ImageType<ImageUInt8> type = ImageType.single(ImageUInt8.class);
+		ImageType<InterleavedU8> typeRGB = ImageType.il(3, InterleavedU8.class);
+
+		ImageUInt8 output = new ImageUInt8(width,height);
+		InterleavedU8 outputRGB = new InterleavedU8(width,height,3);
+
+		System.out.println("---------- Output " + width + " x " + height);
+		ProfileOperation.printOpsPerSec(new PerPixelBicubic(output), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Separable(
+				new ResampleImageSeparable<ImageUInt8>(new BicubicKernel_F32(-0.5f),type),output), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Separable(
+				new ResampleImageSeparable<ImageUInt8>(new LanczosKernel_F32(3),type),output), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new SeparableRGB(
+				new ResampleImageSeparable<InterleavedU8>(new LanczosKernel_F32(3),typeRGB),outputRGB), TEST_TIME);
+	}
+
+	public void benchmark() {
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+		ImageMiscOps.fillUniform(inputRGB, rand, 0, 256);
+
+		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
+		System.out.println();
+
+		// thumbnail
+		profile(256, 192);
+		// pre-scaling
+		profile(imgWidth/2, imgHeight/2);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			System.out.println();
+			System.out.println("========== Concurrent Threads " + threads);
+			profile(imgWidth/2, imgHeight/2);
+		}
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	public static void main( String args[] ) {
+		BenchmarkResampleImageSeparable benchmark = new BenchmarkResampleImageSeparable();
+
+		benchmark.benchmark();
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.*;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
@@ -49,11 +50,19 @@ public abstract class BenchmarkDerivativeBase {
 
 	public static ImageSInt16 derivXY_I16;
 
+	// number of threads the concurrent implementations are profiled with
+	public static int[] numThreads = new int[]{1,2,4,8};
+
 
 	public abstract void profile_I8();
 	public abstract void profile_F32();
 
-	public void process() {
+	/**
+	 * Profiles concurrent implementations.  Called once for each number of threads.
+	 */
+	public void profile_MT() {}
+
+	public void declareImages() {
 		imgInt8 = new ImageUInt8(imgWidth,imgHeight);
 		derivX_I16 = new ImageSInt16(imgWidth,imgHeight);
 		derivY_I16 = new ImageSInt16(imgWidth,imgHeight);
@@ -66,7 +75,11 @@ public abstract class BenchmarkDerivativeBase {
 		Random rand = new Random(123);
 		GImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
 		GImageMiscOps.fillUniform(imgFloat32,rand,0,100);
-		
+	}
+
+	public void process() {
+		declareImages();
+
 		System.out.println("=========  Profile Image Size "+imgWidth+" x "+imgHeight+" ==========");
 		System.out.println("               border = "+border);
 		System.out.println();
@@ -81,4 +94,25 @@ public abstract class BenchmarkDerivativeBase {
 		profile_F32();
 
 	}
+
+	/**
+	 * Profiles the concurrent implementations to see how they scale with the number of threads
+	 */
+	public void processConcurrent() {
+		declareImages();
+
+		System.out.println("=========  Profile Concurrent Image Size "+imgWidth+" x "+imgHeight+" ==========");
+		System.out.println("               border = "+border);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			System.out.println();
+			System.out.println("             threads = "+threads);
+			System.out.println();
+
+			profile_MT();
+		}
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
 }
@@ -52,6 +52,22 @@ public class BenchmarkHessianSobel extends BenchmarkDerivativeBase {
 		}
 	}
 
+	public static class Hessian_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianSobel_MT.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
+		}
+	}
+
+	public static class Hessian_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianSobel_MT.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+		}
+	}
+
 	public static class HessianFromDeriv_I8 extends PerformerBase
 	{
 		@Override
@@ -82,10 +98,17 @@ public class BenchmarkHessianSobel extends BenchmarkDerivativeBase {
 		ProfileOperation.printOpsPerSec(new HessianFromDeriv_F32(),TEST_TIME);
 	}
 
+	@Override
+	public void profile_MT() {
+		ProfileOperation.printOpsPerSec(new Hessian_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Hessian_MT_F32(),TEST_TIME);
+	}
+
 	public static void main( String args[] ) {
 		BenchmarkHessianSobel benchmark = new BenchmarkHessianSobel();
 
 		BenchmarkHessianSobel.border = true;
 		benchmark.process();
+		benchmark.processConcurrent();
 	}
 }
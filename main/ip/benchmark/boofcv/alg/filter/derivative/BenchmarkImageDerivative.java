@@ -141,6 +141,102 @@ public class BenchmarkImageDerivative extends BenchmarkDerivativeBase {
 		}
 	}
 
+	public static class Sobel_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientSobel_MT.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+		}
+	}
+
+	public static class Prewitt_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientPrewitt_MT.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+		}
+	}
+
+	public static class DerivativeThree_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientThree_MT.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+		}
+	}
+
+	public static class HessianThree_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianThree_MT.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
+		}
+	}
+
+	public static class HessianSobel_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianSobel_MT.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
+		}
+	}
+
+	public static class LaplacianEdge_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			LaplacianEdge_MT.process(imgInt8,derivX_I16);
+		}
+	}
+
+	public static class Sobel_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientSobel_MT.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+		}
+	}
+
+	public static class Prewitt_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientPrewitt_MT.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+		}
+	}
+
+	public static class DerivativeThree_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientThree_MT.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+		}
+	}
+
+	public static class HessianThree_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianThree_MT.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+		}
+	}
+
+	public static class HessianSobel_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			HessianSobel_MT.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+		}
+	}
+
+	public static class LaplacianEdge_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			LaplacianEdge_MT.process(imgFloat32,derivX_F32);
+		}
+	}
+
 	@Override
 	public void profile_I8() {
 		ProfileOperation.printOpsPerSec(new Sobel_I8(),TEST_TIME);
@@ -161,11 +257,28 @@ public class BenchmarkImageDerivative extends BenchmarkDerivativeBase {
 		ProfileOperation.printOpsPerSec(new LaplacianEdge_F32(),TEST_TIME);
 	}
 
+	@Override
+	public void profile_MT() {
+		ProfileOperation.printOpsPerSec(new Sobel_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Prewitt_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new DerivativeThree_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HessianThree_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HessianSobel_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new LaplacianEdge_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sobel_MT_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Prewitt_MT_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new DerivativeThree_MT_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HessianThree_MT_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HessianSobel_MT_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new LaplacianEdge_MT_F32(),TEST_TIME);
+	}
+
 	public static void main( String args[] ) {
 		BenchmarkImageDerivative benchmark = new BenchmarkImageDerivative();
 
 		BenchmarkImageDerivative.border = true;
 		benchmark.process();
+		benchmark.processConcurrent();
 	}
 
 }
@@ -47,6 +47,22 @@ public class BenchmarkSobel extends BenchmarkDerivativeBase{
 		}
 	}
 
+	public static class Sobel_MT_I8 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientSobel_MT.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+		}
+	}
+
+	public static class Sobel_MT_F32 extends PerformerBase
+	{
+		@Override
+		public void process() {
+			GradientSobel_MT.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+		}
+	}
+
 	public static class SobelNaive_I8 extends PerformerBase
 	{
 		@Override
@@ -129,10 +145,17 @@ public class BenchmarkSobel extends BenchmarkDerivativeBase{
 		ProfileOperation.printOpsPerSec(new SobelUnrolledOuter_F32_Sub(),TEST_TIME);
 	}
 
+	@Override
+	public void profile_MT() {
+		ProfileOperation.printOpsPerSec(new Sobel_MT_I8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sobel_MT_F32(),TEST_TIME);
+	}
+
 	public static void main( String args[] ) {
 		BenchmarkSobel benchmark = new BenchmarkSobel();
 
 		BenchmarkSobel.border = true;
 		benchmark.process();
+		benchmark.processConcurrent();
 	}
 }
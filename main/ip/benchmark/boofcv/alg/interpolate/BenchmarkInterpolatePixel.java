@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate;
 
 import boofcv.alg.interpolate.impl.ImplBilinearPixel_F32;
+import boofcv.alg.interpolate.impl.ImplBilinearPixel_U8;
 import boofcv.alg.interpolate.impl.ImplInterpolatePixelConvolution_F32;
 import boofcv.alg.interpolate.impl.ImplPolynomialPixel_F32;
 import boofcv.alg.interpolate.impl.NearestNeighborPixel_F32;
@@ -49,6 +50,11 @@ public class BenchmarkInterpolatePixel {
 	static float end = 310.1f;
 	static float step = 1f;
 
+	// same points as above but stored in arrays for the batch interpolation functions
+	static float pointsX[];
+	static float pointsY[];
+	static float values[];
+
 	public static class Bilinear_Safe_F32 extends PerformerBase {
 		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
 
@@ -106,6 +112,80 @@ public class BenchmarkInterpolatePixel {
 		}
 	}
 
+	public static class Bilinear_Batch_Safe_F32 extends PerformerBase {
+		InterpolatePixelS<ImageFloat32> alg = new ImplBilinearPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	public static class Bilinear_Batch_UnSafe_F32 extends PerformerBase {
+		InterpolatePixelS<ImageFloat32> alg = new ImplBilinearPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get_fast(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	public static class Bilinear_Batch_UnSafe_U8 extends PerformerBase {
+		InterpolatePixelS<ImageUInt8> alg = new ImplBilinearPixel_U8(imgInt8);
+
+		@Override
+		public void process() {
+			alg.get_fast(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	public static class NearestNeighbor_Batch_Safe_F32 extends PerformerBase {
+		InterpolatePixelS<ImageFloat32> alg = new NearestNeighborPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	public static class NearestNeighbor_Batch_UnSafe_F32 extends PerformerBase {
+		InterpolatePixelS<ImageFloat32> alg = new NearestNeighborPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get_fast(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	public static class Polynomial_Batch_Safe_F32 extends PerformerBase {
+		InterpolatePixelS<ImageFloat32> alg = new ImplPolynomialPixel_F32(5,0,255);
+
+		@Override
+		public void process() {
+			alg.setImage(imgFloat32);
+			alg.get(pointsX, pointsY, values, 0, values.length);
+		}
+	}
+
+	private static void declarePoints() {
+		int N = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				N++;
+
+		pointsX = new float[N];
+		pointsY = new float[N];
+		values = new float[N];
+
+		int i = 0;
+		for (float x = start; x <= end; x += step) {
+			for (float y = start; y <= end; y += step) {
+				pointsX[i] = x;
+				pointsY[i++] = y;
+			}
+		}
+	}
+
 	public static void main(String args[]) {
 		imgInt8 = new ImageUInt8(imgWidth, imgHeight);
 		imgFloat32 = new ImageFloat32(imgWidth, imgHeight);
@@ -113,6 +193,7 @@ public class BenchmarkInterpolatePixel {
 		Random rand = new Random(234);
 		ImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
 		ImageMiscOps.fillUniform(imgFloat32, rand, 0, 200);
+		declarePoints();
 
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
@@ -122,5 +203,11 @@ public class BenchmarkInterpolatePixel {
 		ProfileOperation.printOpsPerSec(new NearestNeighbor_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new BilinearConvolution_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Polynomial_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Batch_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Batch_UnSafe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Batch_UnSafe_U8(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new NearestNeighbor_Batch_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new NearestNeighbor_Batch_UnSafe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Polynomial_Batch_Safe_F32(), TEST_TIME);
 	}
 }
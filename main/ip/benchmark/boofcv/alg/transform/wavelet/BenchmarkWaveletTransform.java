@@ -20,6 +20,7 @@ package boofcv.alg.transform.wavelet;
 
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
 import boofcv.misc.PerformerBase;
@@ -45,12 +46,15 @@ public class BenchmarkWaveletTransform {
 	static WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
 	static WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5,BorderType.REFLECT);
 
-	static ImageFloat32 orig_F32 = new ImageFloat32(imgWidth,imgHeight);
-	static ImageFloat32 temp1_F32 = new ImageFloat32(imgWidth,imgHeight);
-	static ImageFloat32 temp2_F32 = new ImageFloat32(imgWidth,imgHeight);
-	static ImageSInt32 orig_I32 = new ImageSInt32(imgWidth,imgHeight);
-	static ImageSInt32 temp1_I32 = new ImageSInt32(imgWidth,imgHeight);
-	static ImageSInt32 temp2_I32 = new ImageSInt32(imgWidth,imgHeight);
+	// number of threads the concurrent algorithms are profiled with
+	static int numThreads[] = new int[]{1,2,4,8};
+
+	static ImageFloat32 orig_F32;
+	static ImageFloat32 temp1_F32;
+	static ImageFloat32 temp2_F32;
+	static ImageSInt32 orig_I32;
+	static ImageSInt32 temp1_I32;
+	static ImageSInt32 temp2_I32;
 
 	public static class Naive_F32 extends PerformerBase {
 
@@ -86,9 +90,25 @@ public class BenchmarkWaveletTransform {
 		}
 	}
 
+	public static class Standard_MT_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			WaveletTransformOps_MT.transform1(desc_F32,orig_F32,temp1_F32,temp2_F32);
+		}
+	}
+
+	public static class Standard_MT_I32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			WaveletTransformOps_MT.transform1(desc_I32,orig_I32,temp1_I32,temp2_I32);
+		}
+	}
+
 	public static class FullLevel3_F32 extends PerformerBase {
 
-		static ImageFloat32 copy = new ImageFloat32(imgWidth,imgHeight);
+		ImageFloat32 copy = new ImageFloat32(imgWidth,imgHeight);
 		ImageFloat32 tran;
 		ImageFloat32 storage;
 
@@ -106,8 +126,24 @@ public class BenchmarkWaveletTransform {
 		}
 	}
 
+	public static class FullLevel3_MT_F32 extends FullLevel3_F32 {
+		@Override
+		public void process() {
+			copy.setTo(orig_F32);
+			WaveletTransformOps_MT.transformN(desc_F32,copy,tran,storage,3);
+		}
+	}
 
-	public static void main(String args[]) {
+	public static void declareImages( int width , int height ) {
+		imgWidth = width;
+		imgHeight = height;
+
+		orig_F32 = new ImageFloat32(imgWidth,imgHeight);
+		temp1_F32 = new ImageFloat32(imgWidth,imgHeight);
+		temp2_F32 = new ImageFloat32(imgWidth,imgHeight);
+		orig_I32 = new ImageSInt32(imgWidth,imgHeight);
+		temp1_I32 = new ImageSInt32(imgWidth,imgHeight);
+		temp2_I32 = new ImageSInt32(imgWidth,imgHeight);
 
 		Random rand = new Random(234);
 		ImageMiscOps.fillUniform(orig_F32, rand, 0, 100);
@@ -115,11 +151,39 @@ public class BenchmarkWaveletTransform {
 
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
+	}
+
+	/**
+	 * Profiles the concurrent implementations with a 16 mega pixel image for each number of threads
+	 */
+	public static void processConcurrent() {
+		declareImages(4096,4096);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		for( int threads : numThreads ) {
+			BoofConcurrency.setMaxThreads(threads);
+			System.out.println("---------- Threads " + threads);
+			ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
+			ProfileOperation.printOpsPerSec(new Standard_MT_F32(), TEST_TIME);
+			ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
+			ProfileOperation.printOpsPerSec(new Standard_MT_I32(), TEST_TIME);
+			ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
+			ProfileOperation.printOpsPerSec(new FullLevel3_MT_F32(), TEST_TIME);
+		}
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+
+	public static void main(String args[]) {
+
+		declareImages(640,480);
 
 		ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
+
+		processConcurrent();
 	}
 }
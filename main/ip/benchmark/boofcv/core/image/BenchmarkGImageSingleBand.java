@@ -116,6 +116,153 @@ public class BenchmarkGImageSingleBand {
 		}
 	}
 
+	/**
+	 * 3x3 mean blur computed by directly accessing the raw array
+	 */
+	public static class BlurDirect_F32 extends PerformerBase
+	{
+		ImageFloat32 output = new ImageFloat32(width,height);
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				for( int x = 1; x < width-1; x++ ) {
+					float sum = 0;
+					for( int i = -1; i <= 1; i++ ) {
+						int index = input.startIndex + (y+i)*input.stride + x-1;
+						sum += input.data[index] + input.data[index+1] + input.data[index+2];
+					}
+					output.data[output.startIndex + y*output.stride + x] = sum/9.0f;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 3x3 mean blur computed using the Number based accessors
+	 */
+	public static class BlurNumber extends PerformerBase
+	{
+		GImageSingleBand in = FactoryGImageSingleBand.wrap(input);
+		GImageSingleBand out;
+
+		public BlurNumber( ImageSingleBand output ) {
+			this.out = FactoryGImageSingleBand.wrap(output);
+		}
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				for( int x = 1; x < width-1; x++ ) {
+					float sum = 0;
+					for( int i = -1; i <= 1; i++ ) {
+						for( int j = -1; j <= 1; j++ ) {
+							sum += in.get(x+j,y+i).floatValue();
+						}
+					}
+					out.set(x,y,sum/9.0f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 3x3 mean blur computed using the primitive accessors
+	 */
+	public static class BlurPrimitive extends PerformerBase
+	{
+		GImageSingleBand in = FactoryGImageSingleBand.wrap(input);
+		GImageSingleBand out;
+
+		public BlurPrimitive( ImageSingleBand output ) {
+			this.out = FactoryGImageSingleBand.wrap(output);
+		}
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				for( int x = 1; x < width-1; x++ ) {
+					float sum = 0;
+					for( int i = -1; i <= 1; i++ ) {
+						for( int j = -1; j <= 1; j++ ) {
+							sum += in.getF(x+j,y+i);
+						}
+					}
+					out.setF(x,y,sum/9.0f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Central difference derivative computed by directly accessing the raw array
+	 */
+	public static class DerivDirect_F32 extends PerformerBase
+	{
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				int index = input.startIndex + y*input.stride + 1;
+				int indexOut = derivX.startIndex + y*derivX.stride + 1;
+				for( int x = 1; x < width-1; x++ , index++ , indexOut++ ) {
+					derivX.data[indexOut] = (input.data[index+1] - input.data[index-1])/2.0f;
+					derivY.data[indexOut] = (input.data[index+input.stride] - input.data[index-input.stride])/2.0f;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Central difference derivative computed using the Number based accessors
+	 */
+	public static class DerivNumber extends PerformerBase
+	{
+		GImageSingleBand in = FactoryGImageSingleBand.wrap(input);
+		GImageSingleBand derivX,derivY;
+
+		public DerivNumber( ImageSingleBand derivX , ImageSingleBand derivY ) {
+			this.derivX = FactoryGImageSingleBand.wrap(derivX);
+			this.derivY = FactoryGImageSingleBand.wrap(derivY);
+		}
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				for( int x = 1; x < width-1; x++ ) {
+					derivX.set(x,y,(in.get(x+1,y).floatValue() - in.get(x-1,y).floatValue())/2.0f);
+					derivY.set(x,y,(in.get(x,y+1).floatValue() - in.get(x,y-1).floatValue())/2.0f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Central difference derivative computed using the primitive accessors
+	 */
+	public static class DerivPrimitive extends PerformerBase
+	{
+		GImageSingleBand in = FactoryGImageSingleBand.wrap(input);
+		GImageSingleBand derivX,derivY;
+
+		public DerivPrimitive( ImageSingleBand derivX , ImageSingleBand derivY ) {
+			this.derivX = FactoryGImageSingleBand.wrap(derivX);
+			this.derivY = FactoryGImageSingleBand.wrap(derivY);
+		}
+
+		@Override
+		public void process() {
+			for( int y = 1; y < height-1; y++ ) {
+				for( int x = 1; x < width-1; x++ ) {
+					derivX.setF(x,y,(in.getF(x+1,y) - in.getF(x-1,y))/2.0f);
+					derivY.setF(x,y,(in.getF(x,y+1) - in.getF(x,y-1))/2.0f);
+				}
+			}
+		}
+	}
+
 	public static void main( String args[] ) {
 		ImageFloat32 output_F32 = new ImageFloat32(width,height);
 		ImageUInt8 output_U8 = new ImageUInt8(width,height);
@@ -139,5 +286,19 @@ public class BenchmarkGImageSingleBand {
 				ProfileOperation.profileOpsPerSec(new IndexAccess(output_F32),period, false));
 		System.out.printf("Wrapped F32 Pixel   %10.2f ops/sec\n",
 				ProfileOperation.profileOpsPerSec(new PixelAccess(output_F32),period, false));
+
+		System.out.println();
+		System.out.println("Generic 3x3 blur and derivative");
+		System.out.println();
+
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+
+		ProfileOperation.printOpsPerSec(new BlurDirect_F32(), period);
+		ProfileOperation.printOpsPerSec(new BlurNumber(output_F32), period);
+		ProfileOperation.printOpsPerSec(new BlurPrimitive(output_F32), period);
+		ProfileOperation.printOpsPerSec(new DerivDirect_F32(), period);
+		ProfileOperation.printOpsPerSec(new DerivNumber(derivX,derivY), period);
+		ProfileOperation.printOpsPerSec(new DerivPrimitive(derivX,derivY), period);
 	}
 }
@@ -94,6 +94,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 
 	private void printTheRest() {
 		String bitWise = image.getBitWise();
+		String bitWiseBatch = bitWise.length() == 0 ? "" : " "+bitWise;
 
 		out.print("\t@Override\n" +
 				"\tpublic float get_fast(float x, float y) {\n" +
@@ -114,6 +115,32 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t\treturn val;\n" +
 				"\t}\n" +
 				"\n" +
+				"\t@Override\n" +
+				"\tpublic void get_fast(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\t\tfinal int startIndex = orig.startIndex;\n" +
+				"\t\tfinal int stride = this.stride;\n" +
+				"\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\t\tfor( int i = offset; i < end; i++ ) {\n" +
+				"\t\t\tfloat px = x[i];\n" +
+				"\t\t\tfloat py = y[i];\n" +
+				"\t\t\tint xt = (int) px;\n" +
+				"\t\t\tint yt = (int) py;\n" +
+				"\t\t\t"+floatType+" ax = px - xt;\n" +
+				"\t\t\t"+floatType+" ay = py - yt;\n" +
+				"\n" +
+				"\t\t\tint index = startIndex + yt * stride + xt;\n" +
+				"\n" +
+				"\t\t\t"+floatType+" val = (1.0"+f+" - ax) * (1.0"+f+" - ay) * (data[index]"+bitWiseBatch+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0"+f+" - ay) * (data[index + 1]"+bitWiseBatch+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + 1 + stride]"+bitWiseBatch+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride]"+bitWiseBatch+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\toutput[i] = "+(floatType.equals("double") ? "(float)" : "")+"val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
 				"\tpublic float get_border(float x, float y) {\n" +
 				"\t\t"+floatType+" xf = ("+floatType+")Math.floor(x);\n" +
 				"\t\t"+floatType+" yf = ("+floatType+")Math.floor(y);\n" +
@@ -227,6 +227,23 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				"\t\telse\n" +
 				"\t\t\treturn value;\n"+
 				"\t}\n"+
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void get(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\t\tfor( int i = offset; i < end; i++ ) {\n" +
+				"\t\t\toutput[i] = get(x[i],y[i]);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void get_fast(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\t\tfor( int i = offset; i < end; i++ ) {\n" +
+				"\t\t\toutput[i] = get_fast(x[i],y[i]);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
 				"\t@Override\n" +
 				"\tpublic boolean isInFastBounds(float x, float y) {\n" +
 				"\t\tfloat r = kernel.getRadius();\n" +
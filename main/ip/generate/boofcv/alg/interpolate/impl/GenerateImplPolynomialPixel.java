@@ -151,7 +151,14 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 						"\t\treturn ret;\n" +
 						"\t}\n" +
 						"\n" +
-						"\tpublic float get_border(float x, float y) {\n" +
+						"");
+
+		if( image.isInteger() )
+			printBatchFastInteger();
+		else
+			printBatchFast();
+
+		out.print("\tpublic float get_border(float x, float y) {\n" +
 						"\t\tint xt = (int) Math.floor(x);\n" +
 						"\t\tint yt = (int) Math.floor(y);\n" +
 						"\n" +
@@ -186,6 +193,89 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 		);
 	}
 
+	private void printBatchFast() {
+		out.print(
+				"\t/**\n" +
+				"\t * Batch version of {@link #get_fast(float, float)}.  Pixels are read directly from the image's array without\n" +
+				"\t * checking the image bounds.\n" +
+				"\t */\n" +
+				"\t@Override\n" +
+				"\tpublic void get_fast(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal "+image.getDataType()+" data[] = image.data;\n" +
+				"\t\tfinal int startIndex = image.startIndex;\n" +
+				"\t\tfinal int stride = image.stride;\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\n" +
+				"\t\tfor( int k = offset; k < end; k++ ) {\n" +
+				"\t\t\tfloat px = x[k];\n" +
+				"\t\t\tfloat py = y[k];\n" +
+				"\n" +
+				"\t\t\tint x0 = (int)px - M/2 + offM;\n" +
+				"\t\t\tint y0 = (int)py - M/2 + offM;\n" +
+				"\n" +
+				"\t\t\tinterp1D.setInput(horiz,horiz.length);\n" +
+				"\t\t\tfor( int i = 0; i < M; i++ ) {\n" +
+				"\t\t\t\tint index = startIndex + (i+y0)*stride + x0;\n" +
+				"\t\t\t\tfor( int j = 0; j < M; j++ ) {\n" +
+				"\t\t\t\t\thoriz[j] = data[index++];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\tvert[i]=interp1D.process(px-x0,0,M-1);\n" +
+				"\t\t\t}\n" +
+				"\t\t\tinterp1D.setInput(vert,vert.length);\n" +
+				"\n" +
+				"\t\t\tfloat ret = interp1D.process(py-y0,0,M-1);\n" +
+				"\n" +
+				"\t\t\t// because it is fitting polynomials it can go above or below max or min values.\n" +
+				"\t\t\tif( ret > max ) {\n" +
+				"\t\t\t\tret = max;\n" +
+				"\t\t\t} else if( ret < min ) {\n" +
+				"\t\t\t\tret = min;\n" +
+				"\t\t\t}\n" +
+				"\t\t\toutput[k] = ret;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printBatchFastInteger() {
+		out.print(
+				"\t/**\n" +
+				"\t * Batch version of {@link #get_fast(float, float)}.  Pixels are read without checking the image bounds.\n" +
+				"\t */\n" +
+				"\t@Override\n" +
+				"\tpublic void get_fast(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\n" +
+				"\t\tfor( int k = offset; k < end; k++ ) {\n" +
+				"\t\t\tfloat px = x[k];\n" +
+				"\t\t\tfloat py = y[k];\n" +
+				"\n" +
+				"\t\t\tint x0 = (int)px - M/2 + offM;\n" +
+				"\t\t\tint y0 = (int)py - M/2 + offM;\n" +
+				"\n" +
+				"\t\t\tinterp1D.setInput(horiz,horiz.length);\n" +
+				"\t\t\tfor( int i = 0; i < M; i++ ) {\n" +
+				"\t\t\t\tfor( int j = 0; j < M; j++ ) {\n" +
+				"\t\t\t\t\thoriz[j] = image.unsafe_get(j+x0,i+y0);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\tvert[i]=interp1D.process(px-x0,0,M-1);\n" +
+				"\t\t\t}\n" +
+				"\t\t\tinterp1D.setInput(vert,vert.length);\n" +
+				"\n" +
+				"\t\t\tfloat ret = interp1D.process(py-y0,0,M-1);\n" +
+				"\n" +
+				"\t\t\t// because it is fitting polynomials it can go above or below max or min values.\n" +
+				"\t\t\tif( ret > max ) {\n" +
+				"\t\t\t\tret = max;\n" +
+				"\t\t\t} else if( ret < min ) {\n" +
+				"\t\t\t\tret = min;\n" +
+				"\t\t\t}\n" +
+				"\t\t\toutput[k] = ret;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplPolynomialPixel gen = new GenerateImplPolynomialPixel();
 		gen.generate();
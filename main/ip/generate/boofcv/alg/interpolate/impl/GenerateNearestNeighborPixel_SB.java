@@ -108,6 +108,15 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 				"\t\treturn data[ orig.startIndex + ((int)y)*stride + (int)x]"+bitWise+";\n" +
 				"\t}\n" +
 				"\n" +
+				"\t@Override\n" +
+				"\tpublic void get_fast(float[] x, float[] y, float[] output, int offset, int length) {\n" +
+				"\t\tfinal int startIndex = orig.startIndex;\n" +
+				"\t\tfinal int end = offset + length;\n" +
+				"\t\tfor( int i = offset; i < end; i++ ) {\n" +
+				"\t\t\toutput[i] = data[ startIndex + ((int)y[i])*stride + (int)x[i]]"+bitWise+";\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
 				"\tpublic float get_border(float x, float y) {\n" +
 				"\t\treturn ((ImageBorder_"+borderType+")border).get((int)Math.floor(x),(int)Math.floor(y));\n" +
 				"\t}\n" +
@@ -21,6 +21,8 @@ package boofcv.abst.transform.wavelet.impl;
 import boofcv.abst.transform.wavelet.WaveletTransform;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
+import boofcv.alg.transform.wavelet.WaveletTransformOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.struct.image.ImageDimension;
 import boofcv.struct.image.ImageFloat32;
@@ -64,7 +66,10 @@ public class WaveletTransformFloat32 implements WaveletTransform<ImageFloat32,Im
 		copy.reshape(original.width,original.height);
 		copy.setTo(original);
 
-		WaveletTransformOps.transformN(desc,copy,transformed,temp,numLevels);
+		if( BoofConcurrency.USE_CONCURRENT )
+			WaveletTransformOps_MT.transformN(desc,copy,transformed,temp,numLevels);
+		else
+			WaveletTransformOps.transformN(desc,copy,transformed,temp,numLevels);
 
 		return transformed;
 	}
@@ -75,7 +80,10 @@ public class WaveletTransformFloat32 implements WaveletTransform<ImageFloat32,Im
 		copy.reshape(transformed.width,transformed.height);
 		copy.setTo(transformed);
 
-		WaveletTransformOps.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
+		if( BoofConcurrency.USE_CONCURRENT )
+			WaveletTransformOps_MT.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
+		else
+			WaveletTransformOps.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
 	}
 
 	@Override
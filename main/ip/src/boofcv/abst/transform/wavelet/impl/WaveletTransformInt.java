@@ -21,6 +21,8 @@ package boofcv.abst.transform.wavelet.impl;
 import boofcv.abst.transform.wavelet.WaveletTransform;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
+import boofcv.alg.transform.wavelet.WaveletTransformOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GConvertImage;
 import boofcv.core.image.border.BorderType;
 import boofcv.struct.image.ImageDimension;
@@ -84,7 +86,10 @@ public class WaveletTransformInt<T extends ImageInteger> implements WaveletTrans
 		} else {
 			GConvertImage.convert(original, copyInput);
 		}
-		WaveletTransformOps.transformN(desc, copyInput,transformed,temp,numLevels);
+		if( BoofConcurrency.USE_CONCURRENT )
+			WaveletTransformOps_MT.transformN(desc, copyInput,transformed,temp,numLevels);
+		else
+			WaveletTransformOps.transformN(desc, copyInput,transformed,temp,numLevels);
 
 		return transformed;
 	}
@@ -96,15 +101,21 @@ public class WaveletTransformInt<T extends ImageInteger> implements WaveletTrans
 		copyInput.setTo(transformed);
 
 		if( original.getDataType().getDataType() == int.class ) {
-			WaveletTransformOps.
-					inverseN(desc, copyInput, (ImageSInt32) original, temp, numLevels, minPixelValue, maxPixelValue);
+			inverseN((ImageSInt32) original);
 		} else {
 			copyOutput.reshape(original.width,original.height);
-			WaveletTransformOps.inverseN(desc, copyInput, copyOutput,temp,numLevels,minPixelValue,maxPixelValue);
+			inverseN(copyOutput);
 			GConvertImage.convert(copyOutput,original);
 		}
 	}
 
+	private void inverseN( ImageSInt32 output ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			WaveletTransformOps_MT.inverseN(desc, copyInput, output,temp,numLevels,minPixelValue,maxPixelValue);
+		else
+			WaveletTransformOps.inverseN(desc, copyInput, output,temp,numLevels,minPixelValue,maxPixelValue);
+	}
+
 	@Override
 	public int getLevels() {
 		return numLevels;
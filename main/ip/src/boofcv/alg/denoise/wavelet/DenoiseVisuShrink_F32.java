@@ -21,6 +21,8 @@ package boofcv.alg.denoise.wavelet;
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.ImageFloat32;
 
 
@@ -64,7 +66,24 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
 
 		// apply same threshold to all wavelet coefficients
-		rule.process(transform.subimage(innerWidth,0,w,h, null),threshold);
-		rule.process(transform.subimage(0,innerHeight,innerWidth,h, null),threshold);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			applyConcurrent(transform.subimage(innerWidth,0,w,h, null),threshold);
+			applyConcurrent(transform.subimage(0,innerHeight,innerWidth,h, null),threshold);
+		} else {
+			rule.process(transform.subimage(innerWidth,0,w,h, null),threshold);
+			rule.process(transform.subimage(0,innerHeight,innerWidth,h, null),threshold);
+		}
+	}
+
+	/**
+	 * Applies the threshold rule to the region by splitting it into blocks of rows
+	 */
+	private void applyConcurrent( final ImageFloat32 region , final float threshold ) {
+		BoofConcurrency.loopBlocks(0, region.height, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				rule.process(region.subimage(0,y0,region.width,y1, null),threshold);
+			}
+		});
 	}
 }
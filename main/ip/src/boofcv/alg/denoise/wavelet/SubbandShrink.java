@@ -20,8 +20,13 @@ package boofcv.alg.denoise.wavelet;
 
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntTask;
 import boofcv.struct.image.ImageSingleBand;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Performs an adaptive threshold based wavelet shrinkage across each of the wavelet subbands in each
@@ -39,7 +44,8 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 	}
 
 	/**
-	 * Compute the threshold for the specified subband.
+	 * Compute the threshold for the specified subband.  Can be called by multiple threads at the same time
+	 * on different subbands so it must not modify the state of this class.
 	 *
 	 * @param subband Subband whose threshold is being computed.
 	 * @return
@@ -48,45 +54,50 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 
 	/**
 	 * Performs wavelet shrinking using the specified rule and by computing a threshold
-	 * for each subband.
+	 * for each subband.  If {@link BoofConcurrency#USE_CONCURRENT} is true then each subband is processed
+	 * by its own thread.  Subbands don't overlap and their thresholds only depend on their own coefficients,
+	 * so the results are the same either way.
 	 *
 	 * @param transform The image being transformed.
 	 * @param numLevels Number of levels in the transform.
 	 */
 	protected void performShrinkage( I transform , int numLevels ) {
 
-		// step through each layer in the pyramid.
+		final List<I> subbands = new ArrayList<I>();
+
+		// step through each layer in the pyramid and collect its HL, LH, and HH subbands
 		for( int i = 0; i < numLevels; i++ ) {
 			int w = transform.width;
 			int h = transform.height;
 			int ww = w/2;
 			int hh = h/2;
-			Number threshold;
-			I subband;
-
-			// HL
-			subband = transform.subimage(ww,0,w,hh, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("HL = "+threshold);
-
-			// LH
-			subband = transform.subimage(0,hh,ww,h, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("  LH = "+threshold);
 
-			// HH
-			subband = transform.subimage(ww,hh,w,h, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.println("  HH = "+threshold);
+			subbands.add(transform.subimage(ww,0,w,hh, null));
+			subbands.add(transform.subimage(0,hh,ww,h, null));
+			subbands.add(transform.subimage(ww,hh,w,h, null));
 
 			transform = transform.subimage(0,0,ww,hh, null);
 		}
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(0, subbands.size(), new IntTask() {
+				@Override
+				public void process(int index) {
+					shrinkSubband(subbands.get(index));
+				}
+			});
+		} else {
+			for( int i = 0; i < subbands.size(); i++ ) {
+				shrinkSubband(subbands.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Computes the threshold for a single subband and applies the rule to it
+	 */
+	private void shrinkSubband( I subband ) {
+		Number threshold = computeThreshold(subband);
+		rule.process(subband,threshold);
 	}
 }
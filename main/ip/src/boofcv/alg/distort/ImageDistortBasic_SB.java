@@ -30,6 +30,13 @@ import boofcv.struct.image.ImageSingleBand;
 public abstract class ImageDistortBasic_SB<Input extends ImageSingleBand,Output extends ImageSingleBand>
 		extends ImageDistortBasic<Input,Output,InterpolatePixelS<Input>> {
 
+	// storage for the source coordinates and interpolated values of a single row
+	protected float[] rowX = new float[0];
+	protected float[] rowY = new float[0];
+	protected float[] rowValue = new float[0];
+	// destination index of each pixel in the row buffers
+	protected int[] rowIndex = new int[0];
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -41,35 +48,73 @@ public abstract class ImageDistortBasic_SB<Input extends ImageSingleBand,Output
 
 	@Override
 	public void applyAll() {
+		declareRowStorage(x1-x0);
 
-		// todo TO make this faster first apply inside the region which can process the fast border
-		// then do the slower border thingy
+		// each row is interpolated as a single batch.  If every point is far enough away from the border
+		// then the unchecked batch is used
 		for( int y = y0; y < y1; y++ ) {
-			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
+			boolean inside = true;
+			int length = 0;
+			for( int x = x0; x < x1; x++ , length++ ) {
 				dstToSrc.compute(x,y);
 
-				assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+				rowX[length] = dstToSrc.distX;
+				rowY[length] = dstToSrc.distY;
+
+				if( inside )
+					inside = interp.isInFastBounds(dstToSrc.distX, dstToSrc.distY);
+			}
+
+			if( inside )
+				interp.get_fast(rowX, rowY, rowValue, 0, length);
+			else
+				interp.get(rowX, rowY, rowValue, 0, length);
+
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			for( int i = 0; i < length; i++ ) {
+				assign(indexDst++,rowValue[i]);
 			}
 		}
 	}
 
 	@Override
 	public void applyOnlyInside() {
+		declareRowStorage(x1-x0);
 
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int length = 0;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
 				dstToSrc.compute(x,y);
 
 				if( dstToSrc.distX >= 0 && dstToSrc.distX <= maxWidth &&
 						dstToSrc.distY >= 0 && dstToSrc.distY <= maxHeight ) {
-					assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+					rowX[length] = dstToSrc.distX;
+					rowY[length] = dstToSrc.distY;
+					rowIndex[length++] = indexDst;
 				}
 			}
+
+			interp.get(rowX, rowY, rowValue, 0, length);
+
+			for( int i = 0; i < length; i++ ) {
+				assign(rowIndex[i],rowValue[i]);
+			}
+		}
+	}
+
+	/**
+	 * Makes sure the row buffers can hold the specified number of pixels
+	 */
+	protected void declareRowStorage( int length ) {
+		if( rowX.length < length ) {
+			rowX = new float[length];
+			rowY = new float[length];
+			rowValue = new float[length];
+			rowIndex = new int[length];
 		}
 	}
 
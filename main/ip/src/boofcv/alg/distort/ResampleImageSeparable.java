@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.ImplResampleSeparable;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.KernelContinuous1D_F32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Resizes an image using a separable interpolation kernel, e.g. bicubic or Lanczos.  Weights for each output
+ * column and row are computed once by {@link ResampleWeightTable} and reused until the input or output shape
+ * changes, making this much faster than {@link DistortImageOps#scale} for repeatedly resizing images by a fixed
+ * ratio.  First each row is resampled horizontally into a floating point image, then each column of that image is
+ * resampled vertically into the output image.  When the image is shrunk the kernel is stretched to avoid aliasing.
+ * Pixels outside the input image are handled by extending the image border.
+ * </p>
+ *
+ * <p>
+ * Supported image types are {@link ImageUInt8}, {@link ImageFloat32}, {@link InterleavedU8}, and
+ * {@link InterleavedF32}.  Integer output is rounded and bounded from 0 to 255.  If
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then each pass is split into blocks of rows
+ * which are processed by different threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ResampleImageSeparable<T extends ImageBase> {
+
+	// interpolation kernel
+	private KernelContinuous1D_F32 kernel;
+	private ImageType<T> imageType;
+
+	// weights for resampling each row and each column
+	private ResampleWeightTable tableX = new ResampleWeightTable();
+	private ResampleWeightTable tableY = new ResampleWeightTable();
+
+	// storage for the results of the horizontal pass
+	private ImageFloat32 workSB;
+	private InterleavedF32 workIL;
+
+	// references to the images being processed
+	private T input;
+	private T output;
+
+	/**
+	 * Configures the resampler.
+	 *
+	 * @param kernel Interpolation kernel, e.g. {@link boofcv.alg.interpolate.kernel.BicubicKernel_F32}
+	 * @param imageType Type of image being processed.
+	 */
+	public ResampleImageSeparable(KernelContinuous1D_F32 kernel, ImageType<T> imageType) {
+		this.kernel = kernel;
+		this.imageType = imageType;
+
+		ImageDataType dataType = imageType.getDataType();
+		if( dataType != ImageDataType.U8 && dataType != ImageDataType.F32 )
+			throw new IllegalArgumentException("Only U8 and F32 images are supported");
+
+		switch( imageType.getFamily() ) {
+			case SINGLE_BAND:
+				workSB = new ImageFloat32(1,1);
+				break;
+
+			case INTERLEAVED:
+				workIL = new InterleavedF32(1,1,imageType.getNumBands());
+				break;
+
+			default:
+				throw new IllegalArgumentException("Only single band and interleaved images are supported");
+		}
+	}
+
+	/**
+	 * Resizes the input image so that it fills the output image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image.  Its shape determines the scale factor. Modified.
+	 */
+	public void process( T input , T output ) {
+		if( !tableX.isConfigured(input.width,output.width) )
+			tableX.configure(kernel,input.width,output.width);
+		if( !tableY.isConfigured(input.height,output.height) )
+			tableY.configure(kernel,input.height,output.height);
+
+		this.input = input;
+		this.output = output;
+
+		if( workSB != null ) {
+			workSB.reshape(output.width, input.height);
+		} else {
+			int numBands = ((ImageInterleaved)input).numBands;
+			if( workIL.numBands != numBands )
+				workIL.setNumBands(numBands);
+			workIL.reshape(output.width, input.height);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, input.height, new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					horizontal(y0, y1);
+				}
+			});
+			BoofConcurrency.loopBlocks(0, output.height, new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					vertical(y0, y1);
+				}
+			});
+		} else {
+			horizontal(0, input.height);
+			vertical(0, output.height);
+		}
+
+		this.input = null;
+		this.output = null;
+	}
+
+	private void horizontal( int y0 , int y1 ) {
+		if( input instanceof ImageUInt8 ) {
+			ImplResampleSeparable.horizontal(tableX, (ImageUInt8)input, workSB, y0, y1);
+		} else if( input instanceof ImageFloat32 ) {
+			ImplResampleSeparable.horizontal(tableX, (ImageFloat32)input, workSB, y0, y1);
+		} else if( input instanceof InterleavedU8 ) {
+			ImplResampleSeparable.horizontal(tableX, (InterleavedU8)input, workIL, y0, y1);
+		} else if( input instanceof InterleavedF32 ) {
+			ImplResampleSeparable.horizontal(tableX, (InterleavedF32)input, workIL, y0, y1);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+input.getClass().getSimpleName());
+		}
+	}
+
+	private void vertical( int y0 , int y1 ) {
+		if( output instanceof ImageUInt8 ) {
+			ImplResampleSeparable.vertical(tableY, workSB, (ImageUInt8)output, y0, y1);
+		} else if( output instanceof ImageFloat32 ) {
+			ImplResampleSeparable.vertical(tableY, workSB, (ImageFloat32)output, y0, y1);
+		} else if( output instanceof InterleavedU8 ) {
+			ImplResampleSeparable.vertical(tableY, workIL, (InterleavedU8)output, y0, y1);
+		} else if( output instanceof InterleavedF32 ) {
+			ImplResampleSeparable.vertical(tableY, workIL, (InterleavedF32)output, y0, y1);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+output.getClass().getSimpleName());
+		}
+	}
+
+	public KernelContinuous1D_F32 getKernel() {
+		return kernel;
+	}
+
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.struct.convolve.KernelContinuous1D_F32;
+
+/**
+ * <p>
+ * Precomputed weights for resampling a 1D signal from one length to another using a continuous kernel.  For each
+ * destination element the index of each contributing source element and its normalized weight are saved,
+ * so that the kernel only needs to be evaluated once per column or row instead of once per pixel.  Source
+ * indexes are clamped to the signal, which has the effect of extending the image border.
+ * </p>
+ *
+ * <p>
+ * Destination element 'd' is centered at source coordinate d*srcLength/dstLength, the same mapping as
+ * {@link DistortImageOps#scale}.  When shrinking the signal the kernel is stretched by the scale factor so that
+ * it also acts as a low pass filter and avoids aliasing.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ResampleWeightTable {
+
+	// length of the source and destination signals
+	private int srcLength = -1;
+	private int dstLength = -1;
+
+	// number of source elements which contribute to each destination element
+	private int numTaps;
+
+	// Index of source elements.  Element 'k' for destination 'd' is at d*numTaps + k
+	private int indexes[] = new int[0];
+	// Normalized weight of each source element.  Same layout as indexes
+	private float weights[] = new float[0];
+
+	/**
+	 * Computes the table for the specified kernel and signal lengths.
+	 *
+	 * @param kernel Interpolation kernel.  Assumed to be zero outside of its radius.
+	 * @param srcLength Length of the source signal.
+	 * @param dstLength Length of the destination signal.
+	 */
+	public void configure( KernelContinuous1D_F32 kernel , int srcLength , int dstLength ) {
+		if( srcLength <= 0 || dstLength <= 0 )
+			throw new IllegalArgumentException("Lengths must be more than zero");
+
+		this.srcLength = srcLength;
+		this.dstLength = dstLength;
+
+		float scale = srcLength/(float)dstLength;
+		float filterScale = Math.max(1f,scale);
+		float radius = kernel.getRadius()*filterScale;
+
+		numTaps = (int)Math.ceil(2*radius)+1;
+		if( indexes.length < numTaps*dstLength ) {
+			indexes = new int[ numTaps*dstLength ];
+			weights = new float[ numTaps*dstLength ];
+		}
+
+		for( int d = 0; d < dstLength; d++ ) {
+			float center = d*scale;
+			int first = (int)Math.floor(center-radius);
+			int tap0 = d*numTaps;
+
+			float total = 0;
+			for( int k = 0; k < numTaps; k++ ) {
+				int i = first + k;
+				float w = kernel.compute((i-center)/filterScale);
+				total += w;
+
+				if( i < 0 )
+					i = 0;
+				else if( i >= srcLength )
+					i = srcLength-1;
+
+				indexes[tap0+k] = i;
+				weights[tap0+k] = w;
+			}
+
+			if( total != 0 ) {
+				for( int k = 0; k < numTaps; k++ ) {
+					weights[tap0+k] /= total;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the table was configured for the specified lengths
+	 */
+	public boolean isConfigured( int srcLength , int dstLength ) {
+		return this.srcLength == srcLength && this.dstLength == dstLength;
+	}
+
+	public int getSrcLength() {
+		return srcLength;
+	}
+
+	public int getDstLength() {
+		return dstLength;
+	}
+
+	public int getNumTaps() {
+		return numTaps;
+	}
+
+	public int[] getIndexes() {
+		return indexes;
+	}
+
+	public float[] getWeights() {
+		return weights;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ResampleWeightTable;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * <p>
+ * Implementation of the horizontal and vertical passes used by {@link boofcv.alg.distort.ResampleImageSeparable}.
+ * The horizontal pass resamples each row of the input image into a floating point image which has the output's
+ * width and the input's height.  The vertical pass then resamples each column of that image into the output.
+ * Each function only processes the rows from y0 (inclusive) to y1 (exclusive) in the image being written to,
+ * which allows different threads to process different blocks of rows.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplResampleSeparable {
+
+	public static void horizontal( ResampleWeightTable table , ImageUInt8 input , ImageFloat32 output ,
+								   int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			int tap = 0;
+			for( int x = 0; x < output.width; x++ ) {
+				float sum = 0;
+				for( int k = 0; k < numTaps; k++ , tap++ ) {
+					sum += (input.data[indexRow + indexes[tap]] & 0xFF)*weights[tap];
+				}
+				output.data[indexOut++] = sum;
+			}
+		}
+	}
+
+	public static void horizontal( ResampleWeightTable table , ImageFloat32 input , ImageFloat32 output ,
+								   int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			int tap = 0;
+			for( int x = 0; x < output.width; x++ ) {
+				float sum = 0;
+				for( int k = 0; k < numTaps; k++ , tap++ ) {
+					sum += input.data[indexRow + indexes[tap]]*weights[tap];
+				}
+				output.data[indexOut++] = sum;
+			}
+		}
+	}
+
+	public static void horizontal( ResampleWeightTable table , InterleavedU8 input , InterleavedF32 output ,
+								   int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+		final int numBands = input.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < output.width; x++ ) {
+				int tap0 = x*numTaps;
+				for( int band = 0; band < numBands; band++ ) {
+					float sum = 0;
+					for( int k = 0; k < numTaps; k++ ) {
+						int tap = tap0 + k;
+						sum += (input.data[indexRow + indexes[tap]*numBands + band] & 0xFF)*weights[tap];
+					}
+					output.data[indexOut++] = sum;
+				}
+			}
+		}
+	}
+
+	public static void horizontal( ResampleWeightTable table , InterleavedF32 input , InterleavedF32 output ,
+								   int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+		final int numBands = input.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < output.width; x++ ) {
+				int tap0 = x*numTaps;
+				for( int band = 0; band < numBands; band++ ) {
+					float sum = 0;
+					for( int k = 0; k < numTaps; k++ ) {
+						int tap = tap0 + k;
+						sum += input.data[indexRow + indexes[tap]*numBands + band]*weights[tap];
+					}
+					output.data[indexOut++] = sum;
+				}
+			}
+		}
+	}
+
+	public static void vertical( ResampleWeightTable table , ImageFloat32 input , ImageUInt8 output ,
+								 int y0 , int y1 ) {
+		vertical(table, input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.width, y0, y1);
+	}
+
+	public static void vertical( ResampleWeightTable table , ImageFloat32 input , ImageFloat32 output ,
+								 int y0 , int y1 ) {
+		vertical(table, input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.width, y0, y1);
+	}
+
+	public static void vertical( ResampleWeightTable table , InterleavedF32 input , InterleavedU8 output ,
+								 int y0 , int y1 ) {
+		// the vertical pass doesn't care about bands, so treat each row as one long row
+		vertical(table, input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.width*output.numBands, y0, y1);
+	}
+
+	public static void vertical( ResampleWeightTable table , InterleavedF32 input , InterleavedF32 output ,
+								 int y0 , int y1 ) {
+		vertical(table, input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.width*output.numBands, y0, y1);
+	}
+
+	private static void vertical( ResampleWeightTable table ,
+								  float[] dataIn , int startIn , int strideIn ,
+								  byte[] dataOut , int startOut , int strideOut ,
+								  int rowLength , int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+
+		// index of the first element in each row which contributes to the output row
+		final int rows[] = new int[numTaps];
+
+		for( int y = y0; y < y1; y++ ) {
+			int tap0 = y*numTaps;
+			for( int k = 0; k < numTaps; k++ ) {
+				rows[k] = startIn + indexes[tap0+k]*strideIn;
+			}
+
+			int indexOut = startOut + y*strideOut;
+			for( int x = 0; x < rowLength; x++ ) {
+				float sum = 0;
+				for( int k = 0; k < numTaps; k++ ) {
+					sum += dataIn[rows[k] + x]*weights[tap0+k];
+				}
+				int value = (int)(sum + 0.5f);
+				if( value < 0 )
+					value = 0;
+				else if( value > 255 )
+					value = 255;
+				dataOut[indexOut++] = (byte)value;
+			}
+		}
+	}
+
+	private static void vertical( ResampleWeightTable table ,
+								  float[] dataIn , int startIn , int strideIn ,
+								  float[] dataOut , int startOut , int strideOut ,
+								  int rowLength , int y0 , int y1 ) {
+		final int numTaps = table.getNumTaps();
+		final int indexes[] = table.getIndexes();
+		final float weights[] = table.getWeights();
+
+		// index of the first element in each row which contributes to the output row
+		final int rows[] = new int[numTaps];
+
+		for( int y = y0; y < y1; y++ ) {
+			int tap0 = y*numTaps;
+			for( int k = 0; k < numTaps; k++ ) {
+				rows[k] = startIn + indexes[tap0+k]*strideIn;
+			}
+
+			int indexOut = startOut + y*strideOut;
+			for( int x = 0; x < rowLength; x++ ) {
+				float sum = 0;
+				for( int k = 0; k < numTaps; k++ ) {
+					sum += dataIn[rows[k] + x]*weights[tap0+k];
+				}
+				dataOut[indexOut++] = sum;
+			}
+		}
+	}
+}
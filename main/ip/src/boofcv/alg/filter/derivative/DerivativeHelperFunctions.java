@@ -39,6 +39,15 @@ public class DerivativeHelperFunctions {
 												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderHorizontal(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderHorizontal} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderHorizontal( ImageUInt8 orig , ImageSInt16 deriv ,
+												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.horizontal(kernel, borderType,deriv);
 
 		ImageUInt8 origSub;
@@ -56,6 +65,15 @@ public class DerivativeHelperFunctions {
 												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderHorizontal(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderHorizontal} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderHorizontal( ImageUInt8 orig , ImageSInt32 deriv ,
+												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.horizontal(kernel, borderType,deriv);
 
 		ImageUInt8 origSub;
@@ -73,6 +91,15 @@ public class DerivativeHelperFunctions {
 												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderHorizontal(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderHorizontal} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderHorizontal( ImageSInt16 orig , ImageSInt16 deriv ,
+												Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.horizontal(kernel, borderType,deriv);
 
 		ImageSInt16 origSub;
@@ -87,9 +114,18 @@ public class DerivativeHelperFunctions {
 	}
 
 	public static void processBorderVertical( ImageUInt8 orig , ImageSInt16 deriv ,
-											  Kernel1D_I32 kernel , ImageBorder_S32 borderType)
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderVertical(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderVertical} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderVertical( ImageUInt8 orig , ImageSInt16 deriv ,
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.vertical(kernel,borderType,deriv);
 
 		ImageUInt8 origSub;
@@ -104,9 +140,18 @@ public class DerivativeHelperFunctions {
 	}
 
 	public static void processBorderVertical( ImageUInt8 orig , ImageSInt32 deriv ,
-											  Kernel1D_I32 kernel , ImageBorder_S32 borderType)
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderVertical(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderVertical} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderVertical( ImageUInt8 orig , ImageSInt32 deriv ,
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.vertical(kernel,borderType,deriv);
 
 		ImageUInt8 origSub;
@@ -121,9 +166,18 @@ public class DerivativeHelperFunctions {
 	}
 
 	public static void processBorderVertical( ImageSInt16 orig , ImageSInt16 deriv ,
-											  Kernel1D_I32 kernel , ImageBorder_S32 borderType)
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderVertical(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderVertical} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderVertical( ImageSInt16 orig , ImageSInt16 deriv ,
+											  Kernel1D_I32 kernel , ImageBorder_S32 borderType )
+	{
 		ConvolveJustBorder_General.vertical(kernel, borderType ,deriv);
 
 		ImageSInt16 origSub;
@@ -141,6 +195,15 @@ public class DerivativeHelperFunctions {
 												Kernel1D_F32 kernel , ImageBorder_F32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderHorizontal(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderHorizontal} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderHorizontal( ImageFloat32 orig , ImageFloat32 deriv ,
+												Kernel1D_F32 kernel , ImageBorder_F32 borderType )
+	{
 		ConvolveJustBorder_General.horizontal(kernel, borderType , deriv );
 
 		ImageFloat32 origSub;
@@ -155,9 +218,18 @@ public class DerivativeHelperFunctions {
 	}
 
 	public static void processBorderVertical( ImageFloat32 orig , ImageFloat32 deriv ,
-											  Kernel1D_F32 kernel , ImageBorder_F32 borderType)
+											  Kernel1D_F32 kernel , ImageBorder_F32 borderType )
 	{
 		borderType.setImage(orig);
+		convolveBorderVertical(orig, deriv, kernel, borderType);
+	}
+
+	/**
+	 * Same as {@link #processBorderVertical} but the image has already been passed to the border.
+	 */
+	public static void convolveBorderVertical( ImageFloat32 orig , ImageFloat32 deriv ,
+											  Kernel1D_F32 kernel , ImageBorder_F32 borderType )
+	{
 		ConvolveJustBorder_General.vertical(kernel, borderType ,deriv );
 
 		ImageFloat32 origSub;
@@ -19,6 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.abst.filter.derivative.AnyImageDerivative;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.*;
 import boofcv.struct.convolve.Kernel1D;
@@ -28,7 +29,8 @@ import boofcv.struct.image.*;
 
 
 /**
- * Generalized operations related to compute different image derivatives.
+ * Generalized operations related to compute different image derivatives.  If
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then concurrent implementations are used when available.
  *
  * @author Peter Abeles
  */
@@ -37,9 +39,15 @@ public class GImageDerivativeOps {
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
 	void laplace( I input , D output ) {
 		if( input instanceof ImageFloat32 ) {
-			LaplacianEdge.process((ImageFloat32)input,(ImageFloat32)output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				LaplacianEdge_MT.process((ImageFloat32)input,(ImageFloat32)output);
+			else
+				LaplacianEdge.process((ImageFloat32)input,(ImageFloat32)output);
 		} else if( input instanceof ImageUInt8 ) {
-			LaplacianEdge.process((ImageUInt8)input,(ImageSInt16)output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				LaplacianEdge_MT.process((ImageUInt8)input,(ImageSInt16)output);
+			else
+				LaplacianEdge.process((ImageUInt8)input,(ImageSInt16)output);
 		} else {
 			throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 
@@ -83,33 +91,60 @@ public class GImageDerivativeOps {
 		switch( type ) {
 			case PREWITT:
 				if( input instanceof ImageFloat32 ) {
-					GradientPrewitt.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientPrewitt_MT.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					else
+						GradientPrewitt.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
 				} else if( input instanceof ImageUInt8 ) {
-					GradientPrewitt.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientPrewitt_MT.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientPrewitt.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else if( input instanceof ImageSInt16 ) {
-					GradientPrewitt.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientPrewitt_MT.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientPrewitt.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
 				break;
 			case SOBEL:
 				if( input instanceof ImageFloat32 ) {
-					GradientSobel.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientSobel_MT.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					else
+						GradientSobel.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
 				} else if( input instanceof ImageUInt8 ) {
-					GradientSobel.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientSobel_MT.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientSobel.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else if( input instanceof ImageSInt16 ) {
-					GradientSobel.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientSobel_MT.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientSobel.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
 				break;
 			case THREE:
 				if( input instanceof ImageFloat32 ) {
-					GradientThree.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientThree_MT.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
+					else
+						GradientThree.process((ImageFloat32)input,(ImageFloat32)derivX,(ImageFloat32)derivY,(ImageBorder_F32)border);
 				} else if( input instanceof ImageUInt8 ) {
-					GradientThree.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientThree_MT.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientThree.process((ImageUInt8)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else if( input instanceof ImageSInt16 ) {
-					GradientThree.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						GradientThree_MT.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
+					else
+						GradientThree.process((ImageSInt16)input,(ImageSInt16)derivX,(ImageSInt16)derivY,(ImageBorder_S32)border);
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
@@ -161,9 +196,15 @@ public class GImageDerivativeOps {
 		switch( type ) {
 			case SOBEL:
 				if( input instanceof ImageFloat32 ) {
-					HessianSobel.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						HessianSobel_MT.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
+					else
+						HessianSobel.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
 				} else if( input instanceof ImageUInt8 ) {
-					HessianSobel.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						HessianSobel_MT.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
+					else
+						HessianSobel.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
@@ -171,9 +212,15 @@ public class GImageDerivativeOps {
 
 			case THREE:
 				if( input instanceof ImageFloat32 ) {
-					HessianThree.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						HessianThree_MT.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
+					else
+						HessianThree.process((ImageFloat32) input, (ImageFloat32) derivXX, (ImageFloat32) derivYY, (ImageFloat32) derivXY, (ImageBorder_F32) border);
 				} else if( input instanceof ImageUInt8 ) {
-					HessianThree.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
+					if( BoofConcurrency.USE_CONCURRENT )
+						HessianThree_MT.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
+					else
+						HessianThree.process((ImageUInt8) input, (ImageSInt16) derivXX, (ImageSInt16) derivYY, (ImageSInt16) derivXY, (ImageBorder_S32) border);
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.derivative.impl.GradientSobel_Outer;
+import boofcv.alg.filter.derivative.impl.GradientSobel_UnrolledOuter;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.IntTask;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+
+import static boofcv.alg.filter.derivative.GradientSobel.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GradientSobel}.  The inner image is split into horizontal bands which are
+ * processed by different threads and the image border for each derivative is processed by its own thread.
+ * Output is identical to the single threaded implementation.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GradientSobel_MT {
+
+	/**
+	 * Computes the derivative in the X and Y direction using an integer Sobel edge detector.
+	 *
+	 * @param orig   Input image.  Not modified.
+	 * @param derivX Storage for image derivative along the x-axis. Modified.
+	 * @param derivY Storage for image derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(final ImageUInt8 orig, final ImageSInt16 derivX, final ImageSInt16 derivY,
+							   final ImageBorder_S32<ImageUInt8> border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				GradientSobel_Outer.process_I8_sub(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivX.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivY.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			BoofConcurrency.loopFor(0, 2, new IntTask() {
+				@Override
+				public void process(int index) {
+					if( index == 0 )
+						ConvolveJustBorder_General.convolve(kernelDerivX_I32, border, derivX);
+					else
+						ConvolveJustBorder_General.convolve(kernelDerivY_I32, border, derivY);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Computes the derivative in the X and Y direction using an integer Sobel edge detector.
+	 *
+	 * @param orig   Input image.  Not modified.
+	 * @param derivX Storage for image derivative along the x-axis. Modified.
+	 * @param derivY Storage for image derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(final ImageSInt16 orig, final ImageSInt16 derivX, final ImageSInt16 derivY,
+							   final ImageBorder_S32<ImageSInt16> border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				GradientSobel_Outer.process_I8_sub(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivX.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivY.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			BoofConcurrency.loopFor(0, 2, new IntTask() {
+				@Override
+				public void process(int index) {
+					if( index == 0 )
+						ConvolveJustBorder_General.convolve(kernelDerivX_I32, border, derivX);
+					else
+						ConvolveJustBorder_General.convolve(kernelDerivY_I32, border, derivY);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Computes the derivative in the X and Y direction using a floating point Sobel edge detector.
+	 *
+	 * @param orig   Input image.  Not modified.
+	 * @param derivX Storage for image derivative along the x-axis. Modified.
+	 * @param derivY Storage for image derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(final ImageFloat32 orig, final ImageFloat32 derivX, final ImageFloat32 derivY,
+							   final ImageBorder_F32 border) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				GradientSobel_UnrolledOuter.process_F32_sub(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivX.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						derivY.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			BoofConcurrency.loopFor(0, 2, new IntTask() {
+				@Override
+				public void process(int index) {
+					if( index == 0 )
+						ConvolveJustBorder_General.convolve(kernelDerivX_F32, border, derivX);
+					else
+						ConvolveJustBorder_General.convolve(kernelDerivY_F32, border, derivY);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.derivative.impl.HessianThree_Standard;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.IntTask;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+
+import static boofcv.alg.filter.derivative.HessianThree.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HessianThree}.  The inner image is split into horizontal bands which are
+ * processed by different threads and the image border for each derivative is processed by its own thread.
+ * Output is identical to the single threaded implementation.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HessianThree_MT {
+
+	/**
+	 * Computes the second derivative of an {@link ImageUInt8} along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivXX Second derivative along the x-axis. Modified.
+	 * @param derivYY Second derivative along the y-axis. Modified.
+	 * @param derivXY Second cross derivative. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process( final ImageUInt8 orig,
+								final ImageSInt16 derivXX, final ImageSInt16 derivYY, final ImageSInt16 derivXY ,
+								final ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivXX, derivYY, derivXY);
+		BoofConcurrency.loopBlocks(2, orig.height - 2, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				HessianThree_Standard.process(
+						orig.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivXX.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivYY.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivXY.subimage(0, y0 - 2, orig.width, y1 + 2, null));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			BoofConcurrency.loopFor(0, 3, new IntTask() {
+				@Override
+				public void process(int index) {
+					switch( index ) {
+						case 0: DerivativeHelperFunctions.convolveBorderHorizontal(orig, derivXX, kernelXXYY_I32, border); break;
+						case 1: DerivativeHelperFunctions.convolveBorderVertical(orig, derivYY, kernelXXYY_I32, border); break;
+						default: ConvolveJustBorder_General.convolve(kernelCross_I32, border, derivXY); break;
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Computes the second derivative of an {@link ImageFloat32} along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivXX Second derivative along the x-axis. Modified.
+	 * @param derivYY Second derivative along the y-axis. Modified.
+	 * @param derivXY Second cross derivative. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process( final ImageFloat32 orig,
+								final ImageFloat32 derivXX, final ImageFloat32 derivYY, final ImageFloat32 derivXY ,
+								final ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivXX, derivYY, derivXY);
+		BoofConcurrency.loopBlocks(2, orig.height - 2, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				HessianThree_Standard.process(
+						orig.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivXX.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivYY.subimage(0, y0 - 2, orig.width, y1 + 2, null),
+						derivXY.subimage(0, y0 - 2, orig.width, y1 + 2, null));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			BoofConcurrency.loopFor(0, 3, new IntTask() {
+				@Override
+				public void process(int index) {
+					switch( index ) {
+						case 0: DerivativeHelperFunctions.convolveBorderHorizontal(orig, derivXX, kernelXXYY_F32, border); break;
+						case 1: DerivativeHelperFunctions.convolveBorderVertical(orig, derivYY, kernelXXYY_F32, border); break;
+						default: ConvolveJustBorder_General.convolve(kernelCross_F32, border, derivXY); break;
+					}
+				}
+			});
+		}
+	}
+}
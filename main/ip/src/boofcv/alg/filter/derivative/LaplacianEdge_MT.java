@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LaplacianEdge}.  The image is split into horizontal bands which are
+ * processed by different threads.  Output is identical to the single threaded implementation.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LaplacianEdge_MT {
+
+	/**
+	 * Computes the Laplacian of input image.
+	 *
+	 * @param orig  Input image.  Not modified.
+	 * @param deriv Where the Laplacian is written to. Modified.
+	 */
+	public static void process(final ImageUInt8 orig, final ImageSInt16 deriv) {
+		InputSanityCheck.checkSameShape(orig, deriv);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				LaplacianEdge.process(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						deriv.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+	}
+
+	/**
+	 * Computes the Laplacian of input image.
+	 *
+	 * @param orig  Input image.  Not modified.
+	 * @param deriv Where the Laplacian is written to. Modified.
+	 */
+	public static void process(final ImageUInt8 orig, final ImageFloat32 deriv) {
+		InputSanityCheck.checkSameShape(orig, deriv);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				LaplacianEdge.process(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						deriv.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+	}
+
+	/**
+	 * Computes the Laplacian of input image.
+	 *
+	 * @param orig  Input image.  Not modified.
+	 * @param deriv Where the Laplacian is written to. Modified.
+	 */
+	public static void process(final ImageFloat32 orig, final ImageFloat32 deriv) {
+		InputSanityCheck.checkSameShape(orig, deriv);
+		BoofConcurrency.loopBlocks(1, orig.height - 1, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				LaplacianEdge.process(
+						orig.subimage(0, y0 - 1, orig.width, y1 + 1, null),
+						deriv.subimage(0, y0 - 1, orig.width, y1 + 1, null));
+			}
+		});
+	}
+}
@@ -57,6 +57,22 @@ public abstract class BilinearPixelS<T extends ImageSingleBand> implements Inter
 		return orig;
 	}
 
+	@Override
+	public void get(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = get(x[i],y[i]);
+		}
+	}
+
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = get_fast(x[i],y[i]);
+		}
+	}
+
 	@Override
 	public boolean isInFastBounds(float x, float y) {
 		return !(x < 0 || y < 0 || x > width-2 || y > height-2);
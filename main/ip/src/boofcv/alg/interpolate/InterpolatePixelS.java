@@ -48,4 +48,31 @@ public interface InterpolatePixelS<T extends ImageSingleBand> extends Interpolat
 	 * @return Interpolated intensity value.
 	 */
 	public float get_fast(float x, float y);
+
+	/**
+	 * Interpolates multiple points at once while checking to see if border conditions apply.  Produces the
+	 * same results as calling {@link #get(float, float)} for each point but avoids the overhead of a
+	 * function call through this interface for every point.  Point 'i' is (x[offset+i],y[offset+i]) and
+	 * its value is written to output[offset+i].
+	 *
+	 * @param x Array containing each point's x-coordinate. Not modified.
+	 * @param y Array containing each point's y-coordinate. Not modified.
+	 * @param output Array which the interpolated values are written into. Modified.
+	 * @param offset Index of the first point in the arrays.
+	 * @param length Number of points which are interpolated.
+	 */
+	public void get( float x[] , float y[] , float output[] , int offset , int length );
+
+	/**
+	 * Batch version of {@link #get_fast(float, float)}.  The caller must guarantee that
+	 * {@link #isInFastBounds} is true for every point, which allows all bounds checks to be skipped.
+	 * See {@link #get(float[], float[], float[], int, int)} for how the arrays are accessed.
+	 *
+	 * @param x Array containing each point's x-coordinate. Not modified.
+	 * @param y Array containing each point's y-coordinate. Not modified.
+	 * @param output Array which the interpolated values are written into. Modified.
+	 * @param offset Index of the first point in the arrays.
+	 * @param length Number of points which are interpolated.
+	 */
+	public void get_fast( float x[] , float y[] , float output[] , int offset , int length );
 }
@@ -52,5 +52,13 @@ public interface InterpolateRectangle<T extends ImageSingleBand> {
 	 * @param dest Where the interpolated region is to be copied into
 	 */
 	public void region(float tl_x, float tl_y, ImageFloat32 dest );
+
+	/**
+	 * Creates a new instance of this interpolation algorithm with the same configuration.  The image
+	 * is not copied and must be set again.  Used to create independent copies for use in different threads.
+	 *
+	 * @return New instance.
+	 */
+	public InterpolateRectangle<T> copy();
 //	public void region(float tl_x, float tl_y, float[] results, int regWidth, int regHeight);
 }
@@ -90,6 +90,29 @@ public abstract class PolynomialPixel<T extends ImageSingleBand> implements Inte
 		return image;
 	}
 
+	@Override
+	public void get(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			if( !isInFastBounds(x[i],y[i]) ) {
+				// at least one point needs the bounds checked version
+				for( i = offset; i < end; i++ ) {
+					output[i] = get(x[i],y[i]);
+				}
+				return;
+			}
+		}
+		get_fast(x, y, output, offset, length);
+	}
+
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = get_fast(x[i],y[i]);
+		}
+	}
+
 	@Override
 	public boolean isInFastBounds(float x, float y) {
 		float x0 = x - M/2 + offM;
@@ -61,6 +61,11 @@ public class BilinearRectangle_S16 implements InterpolateRectangle<ImageSInt16>
 		return orig;
 	}
 
+	@Override
+	public BilinearRectangle_S16 copy() {
+		return new BilinearRectangle_S16();
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, ImageFloat32 output ) {
 		if( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {
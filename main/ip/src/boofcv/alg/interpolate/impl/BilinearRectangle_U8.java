@@ -61,6 +61,11 @@ public class BilinearRectangle_U8 implements InterpolateRectangle<ImageUInt8> {
 		return orig;
 	}
 
+	@Override
+	public BilinearRectangle_U8 copy() {
+		return new BilinearRectangle_U8();
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, ImageFloat32 output ) {
 		if( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {
@@ -63,6 +63,32 @@ public class ImplBilinearPixel_F32 extends BilinearPixelS<ImageFloat32> {
 		return val;
 	}
 
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final float[] data = orig.data;
+		final int startIndex = orig.startIndex;
+		final int stride = this.stride;
+
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			float px = x[i];
+			float py = y[i];
+			int xt = (int) px;
+			int yt = (int) py;
+			float ax = px - xt;
+			float ay = py - yt;
+
+			int index = startIndex + yt * stride + xt;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index]); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + 1]); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride]); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + stride]); // (x,y+1)
+
+			output[i] = val;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		float xf = (float)Math.floor(x);
 		float yf = (float)Math.floor(y);
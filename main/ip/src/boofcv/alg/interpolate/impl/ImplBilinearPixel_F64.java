@@ -63,6 +63,32 @@ public class ImplBilinearPixel_F64 extends BilinearPixelS<ImageFloat64> {
 		return (float)val;
 	}
 
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final double[] data = orig.data;
+		final int startIndex = orig.startIndex;
+		final int stride = this.stride;
+
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			float px = x[i];
+			float py = y[i];
+			int xt = (int) px;
+			int yt = (int) py;
+			double ax = px - xt;
+			double ay = py - yt;
+
+			int index = startIndex + yt * stride + xt;
+
+			double val = (1.0 - ax) * (1.0 - ay) * (data[index]); // (x,y)
+			val += ax * (1.0 - ay) * (data[index + 1]); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride]); // (x+1,y+1)
+			val += (1.0 - ax) * ay * (data[index + stride]); // (x,y+1)
+
+			output[i] = (float)val;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		double xf = (double)Math.floor(x);
 		double yf = (double)Math.floor(y);
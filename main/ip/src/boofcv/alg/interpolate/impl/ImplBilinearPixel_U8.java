@@ -63,6 +63,32 @@ public class ImplBilinearPixel_U8 extends BilinearPixelS<ImageUInt8> {
 		return val;
 	}
 
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final byte[] data = orig.data;
+		final int startIndex = orig.startIndex;
+		final int stride = this.stride;
+
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			float px = x[i];
+			float py = y[i];
+			int xt = (int) px;
+			int yt = (int) py;
+			float ax = px - xt;
+			float ay = py - yt;
+
+			int index = startIndex + yt * stride + xt;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index] & 0xFF); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + 1] & 0xFF); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride] & 0xFF); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + stride] & 0xFF); // (x,y+1)
+
+			output[i] = val;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		float xf = (float)Math.floor(x);
 		float yf = (float)Math.floor(y);
@@ -186,6 +186,23 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<Ima
 		else
 			return value;
 	}
+
+	@Override
+	public void get(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = get(x[i],y[i]);
+		}
+	}
+
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = get_fast(x[i],y[i]);
+		}
+	}
+
 	@Override
 	public boolean isInFastBounds(float x, float y) {
 		float r = kernel.getRadius();
@@ -111,6 +111,46 @@ public class ImplPolynomialPixel_F32 extends PolynomialPixel<ImageFloat32> {
 		return ret;
 	}
 
+	/**
+	 * Batch version of {@link #get_fast(float, float)}.  Pixels are read directly from the image's array without
+	 * checking the image bounds.
+	 */
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final float data[] = image.data;
+		final int startIndex = image.startIndex;
+		final int stride = image.stride;
+		final int end = offset + length;
+
+		for( int k = offset; k < end; k++ ) {
+			float px = x[k];
+			float py = y[k];
+
+			int x0 = (int)px - M/2 + offM;
+			int y0 = (int)py - M/2 + offM;
+
+			interp1D.setInput(horiz,horiz.length);
+			for( int i = 0; i < M; i++ ) {
+				int index = startIndex + (i+y0)*stride + x0;
+				for( int j = 0; j < M; j++ ) {
+					horiz[j] = data[index++];
+				}
+				vert[i]=interp1D.process(px-x0,0,M-1);
+			}
+			interp1D.setInput(vert,vert.length);
+
+			float ret = interp1D.process(py-y0,0,M-1);
+
+			// because it is fitting polynomials it can go above or below max or min values.
+			if( ret > max ) {
+				ret = max;
+			} else if( ret < min ) {
+				ret = min;
+			}
+			output[k] = ret;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		int xt = (int) Math.floor(x);
 		int yt = (int) Math.floor(y);
@@ -112,6 +112,41 @@ public class ImplPolynomialPixel_I extends PolynomialPixel<ImageInteger> {
 		return ret;
 	}
 
+	/**
+	 * Batch version of {@link #get_fast(float, float)}.  Pixels are read without checking the image bounds.
+	 */
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int end = offset + length;
+
+		for( int k = offset; k < end; k++ ) {
+			float px = x[k];
+			float py = y[k];
+
+			int x0 = (int)px - M/2 + offM;
+			int y0 = (int)py - M/2 + offM;
+
+			interp1D.setInput(horiz,horiz.length);
+			for( int i = 0; i < M; i++ ) {
+				for( int j = 0; j < M; j++ ) {
+					horiz[j] = image.unsafe_get(j+x0,i+y0);
+				}
+				vert[i]=interp1D.process(px-x0,0,M-1);
+			}
+			interp1D.setInput(vert,vert.length);
+
+			float ret = interp1D.process(py-y0,0,M-1);
+
+			// because it is fitting polynomials it can go above or below max or min values.
+			if( ret > max ) {
+				ret = max;
+			} else if( ret < min ) {
+				ret = min;
+			}
+			output[k] = ret;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		int xt = (int) Math.floor(x);
 		int yt = (int) Math.floor(y);
@@ -56,6 +56,15 @@ public class NearestNeighborPixel_F32 extends NearestNeighborPixelS<ImageFloat32
 		return data[ orig.startIndex + ((int)y)*stride + (int)x];
 	}
 
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int startIndex = orig.startIndex;
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = data[ startIndex + ((int)y[i])*stride + (int)x[i]];
+		}
+	}
+
 	public float get_border(float x, float y) {
 		return ((ImageBorder_F32)border).get((int)Math.floor(x),(int)Math.floor(y));
 	}
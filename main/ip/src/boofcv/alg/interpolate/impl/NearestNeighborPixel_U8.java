@@ -56,6 +56,15 @@ public class NearestNeighborPixel_U8 extends NearestNeighborPixelS<ImageUInt8> {
 		return data[ orig.startIndex + ((int)y)*stride + (int)x]& 0xFF;
 	}
 
+	@Override
+	public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+		final int startIndex = orig.startIndex;
+		final int end = offset + length;
+		for( int i = offset; i < end; i++ ) {
+			output[i] = data[ startIndex + ((int)y[i])*stride + (int)x[i]]& 0xFF;
+		}
+	}
+
 	public float get_border(float x, float y) {
 		return ((ImageBorder_S32)border).get((int)Math.floor(x),(int)Math.floor(y));
 	}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.interpolate.kernel;
+
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.convolve.KernelContinuous1D_F32;
+
+/**
+ * <p>
+ * Lanczos kernel, a windowed sinc function.  Larger values of 'a' preserve more detail but produce more ringing
+ * and are more expensive.  Typical values are a = 2 or a = 3.
+ * </p>
+ *
+ * <p>
+ * L(x) = sinc(x)*sinc(x/a) for |x| &lt; a and 0 otherwise, where sinc(x) = sin(&pi;x)/(&pi;x)
+ * </p>
+ *
+ * <p>
+ * <ul>
+ * <li>C. Duchon, (1979). "Lanczos Filtering in One and Two Dimensions". Journal of Applied Meteorology 18: 1016</li>
+ * <li>http://en.wikipedia.org/wiki/Lanczos_resampling</li>
+ * </ul>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LanczosKernel_F32 extends KernelContinuous1D_F32 {
+
+	// size of the window
+	int a;
+
+	/**
+	 * @param a Size of the window.  The kernel is zero for |x| &ge; a.
+	 */
+	public LanczosKernel_F32( int a ) {
+		super(2*a+1);
+		if( a <= 0 )
+			throw new IllegalArgumentException("a must be more than zero");
+		this.a = a;
+	}
+
+	@Override
+	public boolean isInteger() {
+		return false;
+	}
+
+	@Override
+	public <T extends KernelBase> T copy() {
+		return (T)new LanczosKernel_F32(a);
+	}
+
+	@Override
+	public float compute(float x) {
+		if( x == 0 )
+			return 1f;
+
+		float absX = x < 0 ? -x : x;
+		if( absX >= a )
+			return 0f;
+
+		double px = Math.PI*x;
+		return (float)(a*Math.sin(px)*Math.sin(px/a)/(px*px));
+	}
+
+	@Override
+	public double getDouble(int index) {
+		throw new RuntimeException("Well this function really shouldn't be required to be implemented");
+	}
+
+	@Override
+	public void setD(int index, double value) {
+		throw new RuntimeException("Well this function really shouldn't be required to be implemented");
+	}
+
+	public int getA() {
+		return a;
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * The Census Transform [1] describes the local neighborhood around each pixel as a bit string.  Each bit
+ * corresponds to a pixel in the neighborhood, excluding the center, and is set to 1 if that pixel has a greater
+ * value than the center pixel.  Neighbors are ordered row by row, starting at the top left, with the first neighbor
+ * being the least significant bit.  Since it only depends on the relative order of pixel values it is robust to
+ * changes in gain and bias, and two transformed pixels are compared using their Hamming distance.
+ * </p>
+ *
+ * <p>
+ * Pixels outside the image are handled by using the value of the closest pixel inside the image.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * ECCV 1994.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CensusTransform {
+
+	/**
+	 * Census transform for a 3x3 region.  The 8 bits are stored in a byte.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Transformed image. If null a new image will be declared. Modified.
+	 * @return Transformed image.
+	 */
+	public static ImageUInt8 region3x3( ImageUInt8 input , ImageUInt8 output ) {
+		output = InputSanityCheck.checkDeclare(input, output);
+
+		int offsets[] = createOffsets(input.stride, 1);
+
+		// inner image
+		for( int y = 1; y < input.height-1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + 1;
+			int indexOut = output.startIndex + y*output.stride + 1;
+			for( int x = 1; x < input.width-1; x++ , indexIn++ ) {
+				int center = input.data[indexIn] & 0xFF;
+				int census = 0;
+				for( int i = 0; i < 8; i++ ) {
+					if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = (byte)census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			int indexOut = output.startIndex + y*output.stride;
+			int step = y < 1 || y >= input.height-1 ? 1 : Math.max(1,input.width-1);
+			for( int x = 0; x < input.width; x += step ) {
+				output.data[indexOut+x] = (byte)censusBorder(input, x, y, 1);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Census transform for a 5x5 region.  The 24 bits are stored in the lower bits of an int.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Transformed image. If null a new image will be declared. Modified.
+	 * @return Transformed image.
+	 */
+	public static ImageSInt32 region5x5( ImageUInt8 input , ImageSInt32 output ) {
+		output = InputSanityCheck.checkDeclare(input, output, ImageSInt32.class);
+
+		int offsets[] = createOffsets(input.stride, 2);
+
+		// inner image
+		for( int y = 2; y < input.height-2; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + 2;
+			int indexOut = output.startIndex + y*output.stride + 2;
+			for( int x = 2; x < input.width-2; x++ , indexIn++ ) {
+				int center = input.data[indexIn] & 0xFF;
+				int census = 0;
+				for( int i = 0; i < 24; i++ ) {
+					if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			int indexOut = output.startIndex + y*output.stride;
+			boolean borderRow = y < 2 || y >= input.height-2;
+			for( int x = 0; x < input.width; x++ ) {
+				// skip over the inner image
+				if( !borderRow && x == 2 )
+					x = Math.max(2,input.width-2);
+				output.data[indexOut+x] = (int)censusBorder(input, x, y, 2);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Census transform for a 7x7 region.  The 48 bits are stored in the lower bits of a long.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Transformed image. If null a new image will be declared. Modified.
+	 * @return Transformed image.
+	 */
+	public static ImageSInt64 region7x7( ImageUInt8 input , ImageSInt64 output ) {
+		output = InputSanityCheck.checkDeclare(input, output, ImageSInt64.class);
+
+		int offsets[] = createOffsets(input.stride, 3);
+
+		// inner image
+		for( int y = 3; y < input.height-3; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + 3;
+			int indexOut = output.startIndex + y*output.stride + 3;
+			for( int x = 3; x < input.width-3; x++ , indexIn++ ) {
+				int center = input.data[indexIn] & 0xFF;
+				long census = 0;
+				for( int i = 0; i < 48; i++ ) {
+					if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+						census |= 1L << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			int indexOut = output.startIndex + y*output.stride;
+			boolean borderRow = y < 3 || y >= input.height-3;
+			for( int x = 0; x < input.width; x++ ) {
+				// skip over the inner image
+				if( !borderRow && x == 3 )
+					x = Math.max(3,input.width-3);
+				output.data[indexOut+x] = censusBorder(input, x, y, 3);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Offsets of each neighbor relative to the center pixel
+	 */
+	private static int[] createOffsets( int stride , int radius ) {
+		int width = radius*2+1;
+		int offsets[] = new int[width*width-1];
+		int index = 0;
+		for( int y = -radius; y <= radius; y++ ) {
+			for( int x = -radius; x <= radius; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				offsets[index++] = y*stride + x;
+			}
+		}
+		return offsets;
+	}
+
+	/**
+	 * Computes the census for a pixel which is near the image border
+	 */
+	private static long censusBorder( ImageUInt8 input , int cx , int cy , int radius ) {
+		int center = input.get(cx, cy);
+		long census = 0;
+		int bit = 0;
+		for( int y = -radius; y <= radius; y++ ) {
+			int py = Math.min(input.height-1, Math.max(0, cy+y));
+			for( int x = -radius; x <= radius; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				int px = Math.min(input.width-1, Math.max(0, cx+x));
+				if( input.get(px, py) > center )
+					census |= 1L << bit;
+				bit++;
+			}
+		}
+		return census;
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.core.image.border.BorderIndex1D;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WlBorderCoef;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+
+
+/**
+ * <p>
+ * Concurrent implementation of a single pass of the wavelet transform.  Each pass invokes
+ * {@link ImplWaveletTransformInner} followed by {@link ImplWaveletTransformBorder} on a block of the image.
+ * Horizontal passes only mix pixels along a row and are split into blocks of rows, while vertical passes
+ * only mix pixels along a column and are split into blocks of columns.  Column blocks always start on an
+ * even column and every block is given its own copy of the {@link BorderIndex1D}.  Output is identical to
+ * the single threaded implementation.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplWaveletTransform_MT {
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#horizontal(WlCoef_F32, ImageFloat32, ImageFloat32)} and
+	 * {@link ImplWaveletTransformBorder#horizontal(BorderIndex1D, WlCoef_F32, ImageFloat32, ImageFloat32)}.  Rows are split
+	 * into blocks.
+	 */
+	public static void horizontal( final BorderIndex1D border , final WlCoef_F32 coefficients ,
+								   final ImageFloat32 input , final ImageFloat32 output )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImageFloat32 blockIn = input.subimage(0, y0, input.width, y1, null);
+				ImageFloat32 blockOut = output.subimage(0, y0, output.width, y1, null);
+				ImplWaveletTransformInner.horizontal(coefficients, blockIn, blockOut);
+				ImplWaveletTransformBorder.horizontal(border.copy(), coefficients, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#vertical(WlCoef_F32, ImageFloat32, ImageFloat32)} and
+	 * {@link ImplWaveletTransformBorder#vertical(BorderIndex1D, WlCoef_F32, ImageFloat32, ImageFloat32)}.  Columns are split
+	 * into blocks.
+	 */
+	public static void vertical( final BorderIndex1D border , final WlCoef_F32 coefficients ,
+								 final ImageFloat32 input , final ImageFloat32 output )
+	{
+		final int pairs = input.width/2;
+		BoofConcurrency.loopBlocks(0, pairs, new IntRangeTask() {
+			@Override
+			public void process(int b0, int b1) {
+				int x0 = b0*2;
+				int x1 = b1 == pairs ? input.width : b1*2;
+				ImageFloat32 blockIn = input.subimage(x0, 0, x1, input.height, null);
+				ImageFloat32 blockOut = output.subimage(x0, 0, x1, output.height, null);
+				ImplWaveletTransformInner.vertical(coefficients, blockIn, blockOut);
+				ImplWaveletTransformBorder.vertical(border.copy(), coefficients, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#horizontalInverse(WlCoef_F32, ImageFloat32, ImageFloat32)} and
+	 * {@link ImplWaveletTransformBorder#horizontalInverse(BorderIndex1D, WlBorderCoef, ImageFloat32, ImageFloat32)}.
+	 * Rows are split into blocks.
+	 */
+	public static void horizontalInverse( final BorderIndex1D border , final WlBorderCoef<WlCoef_F32> desc ,
+										  final ImageFloat32 input , final ImageFloat32 output )
+	{
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImageFloat32 blockIn = input.subimage(0, y0, input.width, y1, null);
+				ImageFloat32 blockOut = output.subimage(0, y0, output.width, y1, null);
+				ImplWaveletTransformInner.horizontalInverse(desc.getInnerCoefficients(), blockIn, blockOut);
+				ImplWaveletTransformBorder.horizontalInverse(border.copy(), desc, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#verticalInverse(WlCoef_F32, ImageFloat32, ImageFloat32)} and
+	 * {@link ImplWaveletTransformBorder#verticalInverse(BorderIndex1D, WlBorderCoef, ImageFloat32, ImageFloat32)}.
+	 * Columns are split into blocks.
+	 */
+	public static void verticalInverse( final BorderIndex1D border , final WlBorderCoef<WlCoef_F32> desc ,
+										final ImageFloat32 input , final ImageFloat32 output )
+	{
+		final int pairs = output.width/2;
+		BoofConcurrency.loopBlocks(0, pairs, new IntRangeTask() {
+			@Override
+			public void process(int b0, int b1) {
+				int x0 = b0*2;
+				int x1 = b1 == pairs ? output.width : b1*2;
+				ImageFloat32 blockIn = input.subimage(x0, 0, x1, input.height, null);
+				ImageFloat32 blockOut = output.subimage(x0, 0, x1, output.height, null);
+				ImplWaveletTransformInner.verticalInverse(desc.getInnerCoefficients(), blockIn, blockOut);
+				ImplWaveletTransformBorder.verticalInverse(border.copy(), desc, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#horizontal(WlCoef_I32, ImageSInt32, ImageSInt32)} and
+	 * {@link ImplWaveletTransformBorder#horizontal(BorderIndex1D, WlCoef_I32, ImageSInt32, ImageSInt32)}.  Rows are split
+	 * into blocks.
+	 */
+	public static void horizontal( final BorderIndex1D border , final WlCoef_I32 coefficients ,
+								   final ImageSInt32 input , final ImageSInt32 output )
+	{
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImageSInt32 blockIn = input.subimage(0, y0, input.width, y1, null);
+				ImageSInt32 blockOut = output.subimage(0, y0, output.width, y1, null);
+				ImplWaveletTransformInner.horizontal(coefficients, blockIn, blockOut);
+				ImplWaveletTransformBorder.horizontal(border.copy(), coefficients, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#vertical(WlCoef_I32, ImageSInt32, ImageSInt32)} and
+	 * {@link ImplWaveletTransformBorder#vertical(BorderIndex1D, WlCoef_I32, ImageSInt32, ImageSInt32)}.  Columns are split
+	 * into blocks.
+	 */
+	public static void vertical( final BorderIndex1D border , final WlCoef_I32 coefficients ,
+								 final ImageSInt32 input , final ImageSInt32 output )
+	{
+		final int pairs = input.width/2;
+		BoofConcurrency.loopBlocks(0, pairs, new IntRangeTask() {
+			@Override
+			public void process(int b0, int b1) {
+				int x0 = b0*2;
+				int x1 = b1 == pairs ? input.width : b1*2;
+				ImageSInt32 blockIn = input.subimage(x0, 0, x1, input.height, null);
+				ImageSInt32 blockOut = output.subimage(x0, 0, x1, output.height, null);
+				ImplWaveletTransformInner.vertical(coefficients, blockIn, blockOut);
+				ImplWaveletTransformBorder.vertical(border.copy(), coefficients, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#horizontalInverse(WlCoef_I32, ImageSInt32, ImageSInt32)} and
+	 * {@link ImplWaveletTransformBorder#horizontalInverse(BorderIndex1D, WlBorderCoef, ImageSInt32, ImageSInt32)}.
+	 * Rows are split into blocks.
+	 */
+	public static void horizontalInverse( final BorderIndex1D border , final WlBorderCoef<WlCoef_I32> desc ,
+										  final ImageSInt32 input , final ImageSInt32 output )
+	{
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImageSInt32 blockIn = input.subimage(0, y0, input.width, y1, null);
+				ImageSInt32 blockOut = output.subimage(0, y0, output.width, y1, null);
+				ImplWaveletTransformInner.horizontalInverse(desc.getInnerCoefficients(), blockIn, blockOut);
+				ImplWaveletTransformBorder.horizontalInverse(border.copy(), desc, blockIn, blockOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplWaveletTransformInner#verticalInverse(WlCoef_I32, ImageSInt32, ImageSInt32)} and
+	 * {@link ImplWaveletTransformBorder#verticalInverse(BorderIndex1D, WlBorderCoef, ImageSInt32, ImageSInt32)}.
+	 * Columns are split into blocks.
+	 */
+	public static void verticalInverse( final BorderIndex1D border , final WlBorderCoef<WlCoef_I32> desc ,
+										final ImageSInt32 input , final ImageSInt32 output )
+	{
+		final int pairs = output.width/2;
+		BoofConcurrency.loopBlocks(0, pairs, new IntRangeTask() {
+			@Override
+			public void process(int b0, int b1) {
+				int x0 = b0*2;
+				int x1 = b1 == pairs ? output.width : b1*2;
+				ImageSInt32 blockIn = input.subimage(x0, 0, x1, input.height, null);
+				ImageSInt32 blockOut = output.subimage(x0, 0, x1, output.height, null);
+				ImplWaveletTransformInner.verticalInverse(desc.getInnerCoefficients(), blockIn, blockOut);
+				ImplWaveletTransformBorder.verticalInverse(border.copy(), desc, blockIn, blockOut);
+			}
+		});
+	}
+}
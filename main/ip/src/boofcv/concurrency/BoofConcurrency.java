@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ * Utility functions for running loops concurrently.  A loop is split into contiguous blocks, one for each available
+ * thread, and each block is processed independently.  The calling thread processes one of the blocks itself and
+ * the function does not return until all the blocks have been processed.  Blocks are always ordered by their range,
+ * which allows algorithms that save results into per block storage to merge them in a deterministic order.
+ * </p>
+ *
+ * <p>
+ * Loops which are invoked from inside a worker thread are processed in the calling thread.  This prevents nested
+ * concurrent algorithms from deadlocking while waiting for threads in the same pool.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then factories and generalized functions will select the concurrent implementation of an algorithm
+	 * when one is available.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	// maximum number of threads, including the calling thread, which will process a loop
+	private static int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	// threads used to process blocks.  lazily created
+	private static ExecutorService pool;
+
+	// used to mark threads which belong to the pool
+	private static final ThreadLocal<Boolean> workerThread = new ThreadLocal<Boolean>() {
+		@Override
+		protected Boolean initialValue() {
+			return Boolean.FALSE;
+		}
+	};
+
+	/**
+	 * Specifies the maximum number of threads, including the calling thread, which will be used to process a loop.
+	 *
+	 * @param maxThreads Maximum number of threads.  Must be &ge; 1.
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Must be at least one thread");
+		if( BoofConcurrency.maxThreads == maxThreads )
+			return;
+		BoofConcurrency.maxThreads = maxThreads;
+		if( pool != null ) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Returns the maximum number of threads, including the calling thread, which will be used to process a loop.
+	 */
+	public static int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Computes the number of blocks a loop will be split into.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param minBlock Minimum number of indexes in a block
+	 * @return Number of blocks.  Zero if the loop is empty.
+	 */
+	public static int computeBlocks( int start , int endExclusive , int minBlock ) {
+		int length = endExclusive-start;
+		if( length <= 0 )
+			return 0;
+		if( workerThread.get() )
+			return 1;
+		int numBlocks = Math.min(maxThreads, length/Math.max(1,minBlock));
+		return Math.max(1,numBlocks);
+	}
+
+	/**
+	 * Concurrent version of a for loop.  Each index is processed exactly once, but the order is not specified.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param task Processes a single index
+	 */
+	public static void loopFor( int start , int endExclusive , final IntTask task ) {
+		loopBlocks(start, endExclusive, 1, new IntRangeTask() {
+			@Override
+			public void process(int minInclusive, int maxExclusive) {
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					task.process(i);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Splits the loop into blocks which are processed concurrently.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param task Processes a block of indexes
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeTask task ) {
+		loopBlocks(start, endExclusive, 1, task);
+	}
+
+	/**
+	 * Splits the loop into blocks which are processed concurrently.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param minBlock Minimum number of indexes in a block.  Prevents overhead from dominating small loops.
+	 * @param task Processes a block of indexes
+	 */
+	public static void loopBlocks( final int start , final int endExclusive , int minBlock , final IntRangeTask task ) {
+		final int numBlocks = computeBlocks(start, endExclusive, minBlock);
+		if( numBlocks == 0 )
+			return;
+		if( numBlocks == 1 ) {
+			task.process(start, endExclusive);
+			return;
+		}
+
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(numBlocks-1);
+		for (int i = 0; i < numBlocks-1; i++) {
+			final int y0 = blockStart(start, endExclusive, numBlocks, i);
+			final int y1 = blockStart(start, endExclusive, numBlocks, i+1);
+			tasks.add(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					task.process(y0, y1);
+					return null;
+				}
+			});
+		}
+
+		execute(tasks, new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				task.process(blockStart(start, endExclusive, numBlocks, numBlocks-1), endExclusive);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Splits the loop into blocks which are processed concurrently.  Each block is provided with its own
+	 * workspace.  After the function returns the size of 'workspace' is the number of blocks and the
+	 * workspace for block 'i' is at index 'i'.  Blocks are ordered by their range.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param workspace Storage for each block.  Resized to match the number of blocks.
+	 * @param task Processes a block of indexes
+	 */
+	public static <T> void loopBlocks( int start , int endExclusive ,
+									   FastQueue<T> workspace , IntRangeObjectTask<T> task ) {
+		loopBlocks(start, endExclusive, 1, workspace, task);
+	}
+
+	/**
+	 * Splits the loop into blocks which are processed concurrently.  Each block is provided with its own
+	 * workspace.  After the function returns the size of 'workspace' is the number of blocks and the
+	 * workspace for block 'i' is at index 'i'.  Blocks are ordered by their range.
+	 *
+	 * @param start First index in the loop
+	 * @param endExclusive One past the last index in the loop
+	 * @param minBlock Minimum number of indexes in a block.  Prevents overhead from dominating small loops.
+	 * @param workspace Storage for each block.  Resized to match the number of blocks.
+	 * @param task Processes a block of indexes
+	 */
+	public static <T> void loopBlocks( final int start , final int endExclusive , int minBlock ,
+									   final FastQueue<T> workspace , final IntRangeObjectTask<T> task ) {
+		final int numBlocks = computeBlocks(start, endExclusive, minBlock);
+		workspace.resize(numBlocks);
+		if( numBlocks == 0 )
+			return;
+
+		loopBlocks(0, numBlocks, 1, new IntRangeTask() {
+			@Override
+			public void process(int minInclusive, int maxExclusive) {
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					int y0 = blockStart(start, endExclusive, numBlocks, i);
+					int y1 = blockStart(start, endExclusive, numBlocks, i+1);
+					task.process(workspace.get(i), y0, y1);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the first index in the specified block
+	 */
+	private static int blockStart( int start , int endExclusive , int numBlocks , int block ) {
+		return start + (int)((endExclusive-start)*(long)block/numBlocks);
+	}
+
+	/**
+	 * Submits the tasks to the thread pool, runs 'local' in the calling thread, then waits for all the tasks to
+	 * finish.  If any task throws an exception it is rethrown after all the tasks have finished.
+	 */
+	private static void execute( List<Callable<Object>> tasks , Callable<Object> local ) {
+		ExecutorService pool = getPool();
+
+		List<Future<Object>> futures = new ArrayList<Future<Object>>(tasks.size());
+		for (int i = 0; i < tasks.size(); i++) {
+			futures.add(pool.submit(tasks.get(i)));
+		}
+
+		Throwable failure = null;
+		try {
+			local.call();
+		} catch( Throwable e ) {
+			failure = e;
+		}
+
+		boolean interrupted = false;
+		for (int i = 0; i < futures.size(); i++) {
+			while( true ) {
+				try {
+					futures.get(i).get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					if( failure == null )
+						failure = e.getCause();
+					break;
+				}
+			}
+		}
+		if( interrupted )
+			Thread.currentThread().interrupt();
+
+		if( failure != null ) {
+			if( failure instanceof RuntimeException )
+				throw (RuntimeException)failure;
+			if( failure instanceof Error )
+				throw (Error)failure;
+			throw new RuntimeException(failure);
+		}
+	}
+
+	private static synchronized ExecutorService getPool() {
+		if( pool == null ) {
+			pool = Executors.newFixedThreadPool(Math.max(1,maxThreads-1), new ThreadFactory() {
+				int count = 0;
+				@Override
+				public Thread newThread(final Runnable r) {
+					Thread t = new Thread(new Runnable() {
+						@Override
+						public void run() {
+							workerThread.set(Boolean.TRUE);
+							r.run();
+						}
+					},"BoofConcurrency-"+(count++));
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return pool;
+	}
+}
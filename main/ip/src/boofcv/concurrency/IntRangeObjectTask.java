@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+/**
+ * Task which processes a contiguous range of indexes and is provided with workspace which is owned by the
+ * thread processing the block.  Typically used to accumulate results in thread local storage which is
+ * then merged after all the blocks have been processed.
+ *
+ * @author Peter Abeles
+ */
+public interface IntRangeObjectTask<T> {
+
+	/**
+	 * Processes all the indexes inside the range.
+	 *
+	 * @param workspace Storage which is only used by this block.
+	 * @param minInclusive first index in the range
+	 * @param maxExclusive one past the last index in the range
+	 */
+	void process( T workspace , int minInclusive , int maxExclusive );
+}
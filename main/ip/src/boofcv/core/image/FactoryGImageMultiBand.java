@@ -192,12 +192,12 @@ public class FactoryGImageMultiBand {
 
 		@Override
 		public void set(int x, int y, float[] value) {
-			sb.set(x,y,value[0]);
+			sb.setF(x,y,value[0]);
 		}
 
 		@Override
 		public void get(int x, int y, float[] value) {
-			value[0]=sb.getF(y*sb.getWidth()+x);
+			value[0] = sb.getF(x,y);
 		}
 
 		@Override
@@ -131,6 +131,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public double unsafe_getD(int x, int y) {
 			return image.get(x,y);
@@ -188,6 +218,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.floatValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(float)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return (int)image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			throw new RuntimeException("Operation not supported by inner data type");
@@ -232,7 +292,37 @@ public class FactoryGImageSingleBand {
 
 		@Override
 		public void set(int x, int y, Number num) {
-			image.set(x,y,num.floatValue());
+			image.set(x,y,num.doubleValue());
+		}
+
+		@Override
+		public float getF(int x, int y) {
+			return (float)image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return (int)image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
 		}
 
 		@Override
@@ -267,6 +357,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public double unsafe_getD(int x, int y) {
 			return image.unsafe_get(x,y);
@@ -320,6 +440,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			image.data[index] = (byte)value;
@@ -362,6 +512,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			image.data[index] = (short)value;
@@ -404,6 +584,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			image.data[index] = (short)value;
@@ -446,9 +656,39 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.intValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(int)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
-			image.data[index] = (short)value;
+			image.data[index] = (int)value;
 		}
 
 		@Override
@@ -485,7 +725,37 @@ public class FactoryGImageSingleBand {
 
 		@Override
 		public void set(int x, int y, Number num) {
-			image.set(x,y,num.intValue());
+			image.set(x,y,num.longValue());
+		}
+
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,(long)value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(long)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return (int)image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
 		}
 
 		@Override
@@ -535,6 +805,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.floatValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,(float)value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return (int)image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			image.data[index] = value;
@@ -582,6 +882,36 @@ public class FactoryGImageSingleBand {
 			image.set(x,y,num.doubleValue());
 		}
 
+		@Override
+		public float getF(int x, int y) {
+			return (float)image.get(x,y);
+		}
+
+		@Override
+		public void setF(int x, int y, float value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public double getD(int x, int y) {
+			return image.get(x,y);
+		}
+
+		@Override
+		public void setD(int x, int y, double value) {
+			image.set(x,y,value);
+		}
+
+		@Override
+		public int getI(int x, int y) {
+			return (int)image.get(x,y);
+		}
+
+		@Override
+		public void setI(int x, int y, int value) {
+			image.set(x,y,value);
+		}
+
 		@Override
 		public void set(int index, float value) {
 			image.data[index] = value;
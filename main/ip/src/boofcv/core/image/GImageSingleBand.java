@@ -23,7 +23,8 @@ import boofcv.struct.image.ImageSingleBand;
 /**
  * Generalized interface for single banded images.  Setters and getters which use Number will be much slower than
  * direct access, about 12x.  Setts and getters which use index have a negligible difference to about 25% performance
- * hit depending if the data types need to be converted or not.
+ * hit depending if the data types need to be converted or not.  The primitive getters and setters, e.g.
+ * {@link #getF(int, int)} and {@link #setI(int, int, int)}, don't declare memory and should be used inside of loops.
  *
  * @author Peter Abeles
  */
@@ -47,6 +48,54 @@ public interface GImageSingleBand {
 	 */
 	void set( int x , int y , Number num );
 
+	/**
+	 * Returns the pixel's value as a float.  Unlike {@link #get(int, int)} no memory is declared.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @return Value of the pixel
+	 */
+	float getF( int x , int y );
+
+	/**
+	 * Sets the pixel's value using a float.  Integer images will type cast the value.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @param value Value of the pixel
+	 */
+	void setF( int x , int y , float value );
+
+	/**
+	 * Returns the pixel's value as a double.  Unlike {@link #get(int, int)} no memory is declared.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @return Value of the pixel
+	 */
+	double getD( int x , int y );
+
+	/**
+	 * Sets the pixel's value using a double.  Integer images will type cast the value.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @param value Value of the pixel
+	 */
+	void setD( int x , int y , double value );
+
+	/**
+	 * Returns the pixel's value as an int.  Floating point images will type cast the value.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @return Value of the pixel
+	 */
+	int getI( int x , int y );
+
+	/**
+	 * Sets the pixel's value using an int.
+	 * @param x pixel coordinate x-value
+	 * @param y pixel coordinate y-value
+	 * @param value Value of the pixel
+	 */
+	void setI( int x , int y , int value );
+
 	/**
 	 * get which returns a double, has no bounds checking. Still slow, but faster than the super generic get.  Also
 	 * doesn't create memory on each get
@@ -72,6 +72,39 @@ public class GImageSingleBandDistorted<T extends ImageSingleBand> implements GIm
 		throw new IllegalArgumentException("set is not supported");
 	}
 
+	@Override
+	public float getF(int x, int y) {
+		transform.compute(x,y);
+		return interpolate.get(transform.distX, transform.distY);
+	}
+
+	@Override
+	public void setF(int x, int y, float value) {
+		throw new IllegalArgumentException("set is not supported");
+	}
+
+	@Override
+	public double getD(int x, int y) {
+		transform.compute(x,y);
+		return interpolate.get(transform.distX, transform.distY);
+	}
+
+	@Override
+	public void setD(int x, int y, double value) {
+		throw new IllegalArgumentException("set is not supported");
+	}
+
+	@Override
+	public int getI(int x, int y) {
+		transform.compute(x,y);
+		return (int)interpolate.get(transform.distX, transform.distY);
+	}
+
+	@Override
+	public void setI(int x, int y, int value) {
+		throw new IllegalArgumentException("set is not supported");
+	}
+
 	@Override
 	public double unsafe_getD(int x, int y) {
 		transform.compute(x,y);
@@ -36,5 +36,13 @@ public abstract class BorderIndex1D {
 
 	public abstract int getIndex( int index );
 
+	/**
+	 * Creates a new instance of the same border type with the same length.  Useful when multiple
+	 * threads need their own border since {@link #setLength(int)} modifies the state.
+	 *
+	 * @return New instance of this border
+	 */
+	public abstract BorderIndex1D copy();
+
 	protected int length;
 }
@@ -37,4 +37,11 @@ public class BorderIndex1D_Reflect extends BorderIndex1D{
 		else
 			return index;
 	}
+
+	@Override
+	public BorderIndex1D_Reflect copy() {
+		BorderIndex1D_Reflect ret = new BorderIndex1D_Reflect();
+		ret.setLength(length);
+		return ret;
+	}
 }
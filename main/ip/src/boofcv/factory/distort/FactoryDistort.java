@@ -19,10 +19,12 @@
 package boofcv.factory.distort;
 
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ResampleImageSeparable;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.convolve.KernelContinuous1D_F32;
 import boofcv.struct.image.*;
 
 /**
@@ -125,4 +127,19 @@ public class FactoryDistort {
 			}
 		}
 	}
+
+	/**
+	 * Creates a {@link ResampleImageSeparable} for quickly resizing images by a fixed ratio using a separable
+	 * interpolation kernel.
+	 *
+	 * @see boofcv.alg.interpolate.kernel.BicubicKernel_F32
+	 * @see boofcv.alg.interpolate.kernel.LanczosKernel_F32
+	 *
+	 * @param kernel Interpolation kernel.
+	 * @param imageType Type of input and output image.  U8 and F32 single band and interleaved images are supported.
+	 */
+	public static <T extends ImageBase>
+	ResampleImageSeparable<T> resampleSeparable( KernelContinuous1D_F32 kernel , ImageType<T> imageType ) {
+		return new ResampleImageSeparable<T>(kernel,imageType);
+	}
 }
@@ -20,6 +20,7 @@ package boofcv.factory.filter.derivative;
 
 import boofcv.abst.filter.derivative.*;
 import boofcv.alg.filter.derivative.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_S32;
@@ -30,7 +31,8 @@ import java.lang.reflect.Method;
 /**
  * <p>
  * Factory for creating different types of {@link boofcv.abst.filter.derivative.ImageGradient}, which are used to compute
- * the image's derivative.
+ * the image's derivative.  If {@link BoofConcurrency#USE_CONCURRENT} is true when a filter is created then
+ * a concurrent implementation is used when one is available.
  * </p>
  *
  * @author Peter Abeles
@@ -56,15 +58,15 @@ public class FactoryDerivative {
 
 		switch( type ) {
 			case PREWITT:
-				which = GradientPrewitt.class;
+				which = concurrent(GradientPrewitt.class, GradientPrewitt_MT.class);
 				break;
 
 			case SOBEL:
-				which = GradientSobel.class;
+				which = concurrent(GradientSobel.class, GradientSobel_MT.class);
 				break;
 
 			case THREE:
-				which = GradientThree.class;
+				which = concurrent(GradientThree.class, GradientThree_MT.class);
 				break;
 
 			case TWO_0:
@@ -138,7 +140,7 @@ public class FactoryDerivative {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
 
-		Method m = findDerivative(GradientPrewitt.class,inputType,derivType);
+		Method m = findDerivative(concurrent(GradientPrewitt.class, GradientPrewitt_MT.class),inputType,derivType);
 		return new ImageGradient_Reflection<I,D>(m);
 	}
 
@@ -148,7 +150,7 @@ public class FactoryDerivative {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
 
-		Method m = findDerivative(GradientSobel.class,inputType,derivType);
+		Method m = findDerivative(concurrent(GradientSobel.class, GradientSobel_MT.class),inputType,derivType);
 		return new ImageGradient_Reflection<I,D>(m);
 	}
 
@@ -157,7 +159,7 @@ public class FactoryDerivative {
 	{
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
-		Method m = findDerivative(GradientThree.class,inputType,derivType);
+		Method m = findDerivative(concurrent(GradientThree.class, GradientThree_MT.class),inputType,derivType);
 		return new ImageGradient_Reflection<I,D>(m);
 	}
 
@@ -184,7 +186,7 @@ public class FactoryDerivative {
 	{
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
-		Method m = findHessian(HessianThree.class,inputType,derivType);
+		Method m = findHessian(concurrent(HessianThree.class, HessianThree_MT.class),inputType,derivType);
 		return new ImageHessianDirect_Reflection<I,D>(m);
 	}
 
@@ -193,7 +195,7 @@ public class FactoryDerivative {
 	{
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
-		Method m = findHessian(HessianSobel.class,inputType,derivType);
+		Method m = findHessian(concurrent(HessianSobel.class, HessianSobel_MT.class),inputType,derivType);
 		return new ImageHessianDirect_Reflection<I,D>(m);
 	}
 
@@ -277,6 +279,13 @@ public class FactoryDerivative {
 			throw new IllegalArgumentException("Not supported yet");
 	}
 
+	/**
+	 * Selects the concurrent implementation if {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 */
+	private static Class<?> concurrent( Class<?> serial , Class<?> concurrent ) {
+		return BoofConcurrency.USE_CONCURRENT ? concurrent : serial;
+	}
+
 	private static Method findDerivative(Class<?> derivativeClass,
 										 Class<?> inputType , Class<?> derivType ) {
 		Method m;
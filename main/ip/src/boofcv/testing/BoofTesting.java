@@ -454,8 +454,8 @@ public class BoofTesting {
 
 			for( int y = 0; y < imgA.height; y++ ) {
 				for( int x = 0; x < imgA.width; x++ ) {
-					double valA = a.get(x,y).doubleValue();
-					double valB = b.get(x,y).doubleValue();
+					double valA = a.getD(x,y);
+					double valB = b.getD(x,y);
 
 					double difference = valA - valB;
 					if( Math.abs(difference) > tol )
@@ -509,8 +509,8 @@ public class BoofTesting {
 
 			for( int y = borderY; y < imgA.height-borderY; y++ ) {
 				for( int x = borderX; x < imgA.width-borderX; x++ ) {
-					double valA = a.get(x,y).doubleValue();
-					double valB = b.get(x,y).doubleValue();
+					double valA = a.getD(x,y);
+					double valB = b.getD(x,y);
 
 					double error = Math.abs(valA - valB);
 					if( relative ) {
@@ -549,8 +549,8 @@ public class BoofTesting {
 
 			for( int y = borderY0; y < imgA.height-borderY1; y++ ) {
 				for( int x = borderX0; x < imgA.width-borderX1; x++ ) {
-					double valA = a.get(x,y).doubleValue();
-					double valB = b.get(x,y).doubleValue();
+					double valA = a.getD(x,y);
+					double valB = b.getD(x,y);
 
 					double error = Math.abs(valA - valB);
 					if( relative ) {
@@ -587,8 +587,8 @@ public class BoofTesting {
 
 			for( int y = 0; y < imgA.height; y++ ) {
 				for( int x = 0; x < imgA.width; x++ ) {
-					double valA = a.get(x,y).doubleValue();
-					double valB = b.get(x,y).doubleValue();
+					double valA = a.getD(x,y);
+					double valB = b.getD(x,y);
 
 					double difference = valA - valB;
 					double max = Math.max( Math.abs(valA), Math.abs(valB));
@@ -646,10 +646,10 @@ public class BoofTesting {
 	}
 
 	private static void compareValues(double tol, GImageSingleBand a, GImageSingleBand b, int x, int y) {
-		double normalizer = Math.abs(a.get(x, y).doubleValue()) + Math.abs(b.get(x, y).doubleValue());
+		double normalizer = Math.abs(a.getD(x, y)) + Math.abs(b.getD(x, y));
 		if (normalizer < 1.0) normalizer = 1.0;
-		if (Math.abs(a.get(x, y).doubleValue() - b.get(x, y).doubleValue()) / normalizer > tol)
-			throw new RuntimeException("values not equal at (" + x + " " + y + ") " + a.get(x, y) + "  " + b.get(x, y));
+		if (Math.abs(a.getD(x, y) - b.getD(x, y)) / normalizer > tol)
+			throw new RuntimeException("values not equal at (" + x + " " + y + ") " + a.getD(x, y) + "  " + b.getD(x, y));
 	}
 
 	public static void checkEquals(BufferedImage imgA, ImageBase imgB, boolean boofcvBandOrder,double tol ) {
@@ -1023,7 +1023,7 @@ public class BoofTesting {
 			for (int x = 0; x < img.getWidth(); x++) {
 				if (x >= border && x < img.getWidth() - border)
 					continue;
-				if (img.get(x, y).intValue() != 0)
+				if (img.getI(x, y) != 0)
 					throw new RuntimeException("The border is not zero: "+x+" "+y);
 			}
 		}
@@ -1039,7 +1039,7 @@ public class BoofTesting {
 			for (int x = 0; x < img.getWidth(); x++) {
 				if (x >= borderX0 && x < img.getWidth() - borderX1)
 					continue;
-				if (img.get(x, y).intValue() != 0)
+				if (img.getI(x, y) != 0)
 					throw new RuntimeException("The border is not zero: "+x+" "+y);
 			}
 		}
@@ -1053,7 +1053,7 @@ public class BoofTesting {
 		System.out.println("------- Difference -----------");
 		for (int y = 0; y < imgA.getHeight(); y++) {
 			for (int x = 0; x < imgA.getWidth(); x++) {
-				double diff = Math.abs(a.get(x, y).doubleValue() - b.get(x, y).doubleValue());
+				double diff = Math.abs(a.getD(x, y) - b.getD(x, y));
 				System.out.printf("%2d ", (int) diff);
 			}
 			System.out.println();
@@ -42,7 +42,7 @@ public abstract class GenericDenoiseTests<T extends ImageSingleBand> {
 	int width = 20;
 	int height = 30;
 
-	Class<T> imageType;
+	protected Class<T> imageType;
 	int noiseSigma;
 
 	T image;
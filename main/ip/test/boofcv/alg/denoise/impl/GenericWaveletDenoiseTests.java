@@ -20,10 +20,16 @@ package boofcv.alg.denoise.impl;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
 import boofcv.alg.denoise.GenericDenoiseTests;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.transform.wavelet.FactoryWaveletTransform;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.wavelet.WaveletDescription;
 import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
 
 
 /**
@@ -61,4 +67,31 @@ public abstract class GenericWaveletDenoiseTests<T extends ImageSingleBand> exte
 
 		transform.invert(transformedImg,imageDenoised);
 	}
+
+	/**
+	 * The concurrent code path should produce exactly the same results as the single threaded one
+	 */
+	@Test
+	public void concurrent() {
+		Random rand = new Random(234);
+		ImageSingleBand input = GeneralizedImageOps.createSingleBand(imageType, 64, 70);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImageSingleBand expected = transform.transform(input,null);
+		ImageSingleBand found = (ImageSingleBand)expected.clone();
+
+		denoiseWavelet(expected,transform.getLevels());
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			denoiseWavelet(found,transform.getLevels());
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
 }
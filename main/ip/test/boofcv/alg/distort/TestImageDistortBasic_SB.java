@@ -18,12 +18,18 @@
 
 package boofcv.alg.distort;
 
+import boofcv.alg.distort.impl.ImplImageDistort_F32;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.impl.ImplBilinearPixel_F32;
+import boofcv.alg.interpolate.impl.ImplPolynomialPixel_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageFloat32;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -92,6 +98,47 @@ public class TestImageDistortBasic_SB {
 		assertEquals(9*14,alg.getTotal());
 	}
 
+	/**
+	 * Rows are interpolated in batches.  Compare against interpolating each pixel individually for rows which
+	 * are entirely inside the fast bounds and rows which touch the border.
+	 */
+	@Test
+	public void batchMatchesSinglePoint() {
+		ImageFloat32 src = new ImageFloat32(20,25);
+		ImageMiscOps.fillUniform(src, new Random(234), 0, 100);
+
+		ImplPolynomialPixel_F32 interp = new ImplPolynomialPixel_F32(4,0,255);
+		interp.setBorder(FactoryImageBorder.singleValue(src, 0));
+		ImplImageDistort_F32<ImageFloat32> alg = new ImplImageDistort_F32<ImageFloat32>(interp);
+
+		offX = offY = 0.3f;
+		alg.setModel(tran);
+
+		// the first crop has rows which touch the border, the second is entirely inside the fast bounds
+		int crops[][] = new int[][]{{0,0,20,25},{5,5,15,20}};
+
+		for( int[] c : crops ) {
+			for( int i = 0; i < 2; i++ ) {
+				boolean renderAll = i == 0;
+				alg.setRenderAll(renderAll);
+
+				ImageFloat32 dst = new ImageFloat32(20,25);
+				alg.apply(src, dst, c[0], c[1], c[2], c[3]);
+
+				interp.setImage(src);
+				for( int y = c[1]; y < c[3]; y++ ) {
+					for( int x = c[0]; x < c[2]; x++ ) {
+						float xx = x + offX, yy = y + offY;
+						if( !renderAll && (xx > src.width-1 || yy > src.height-1) )
+							assertEquals(0, dst.get(x, y), 1e-8);
+						else
+							assertEquals(interp.get(xx, yy), dst.get(x, y), 1e-4);
+					}
+				}
+			}
+		}
+	}
+
 	private static class Helper extends ImageDistortBasic_SB {
 
 		int total = 0;
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.impl.ImplInterpolatePixelConvolution_F32;
+import boofcv.alg.interpolate.kernel.BicubicKernel_F32;
+import boofcv.alg.interpolate.kernel.LanczosKernel_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.convolve.KernelContinuous1D_F32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestResampleImageSeparable {
+
+	Random rand = new Random(234);
+
+	int shapes[][] = new int[][]{{30,40,60,25},{30,40,13,17},{31,27,31,27}};
+
+	/**
+	 * Compares against a brute force 2D implementation
+	 */
+	@Test
+	public void bruteForce_F32() {
+		KernelContinuous1D_F32 kernels[] = new KernelContinuous1D_F32[]{
+				new BicubicKernel_F32(-0.5f),new LanczosKernel_F32(3)};
+
+		for( KernelContinuous1D_F32 kernel : kernels ) {
+			for( int[] s : shapes ) {
+				ImageFloat32 input = new ImageFloat32(s[0],s[1]);
+				ImageFloat32 found = new ImageFloat32(s[2],s[3]);
+				ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+				ResampleImageSeparable<ImageFloat32> alg =
+						new ResampleImageSeparable<ImageFloat32>(kernel,ImageType.single(ImageFloat32.class));
+				alg.process(input,found);
+
+				for( int y = 0; y < found.height; y++ ) {
+					for( int x = 0; x < found.width; x++ ) {
+						float expected = bruteForce(kernel, input, x*s[0]/(float)s[2], y*s[1]/(float)s[3],
+								s[0]/(float)s[2], s[1]/(float)s[3]);
+						assertEquals(expected, found.get(x,y), 1e-3);
+					}
+				}
+
+				// a sub-image should produce the same results
+				ImageFloat32 subFound = BoofTesting.createSubImageOf(found);
+				alg.process(BoofTesting.createSubImageOf(input),subFound);
+				BoofTesting.assertEquals(found, subFound, 1e-6);
+			}
+		}
+	}
+
+	private float bruteForce( KernelContinuous1D_F32 kernel , ImageFloat32 input ,
+							  float cx , float cy , float scaleX , float scaleY ) {
+		float fx = Math.max(1,scaleX);
+		float fy = Math.max(1,scaleY);
+		int rx = (int)Math.ceil(kernel.getRadius()*fx);
+		int ry = (int)Math.ceil(kernel.getRadius()*fy);
+
+		float total = 0;
+		float sum = 0;
+		for( int i = (int)cy-ry-1; i <= (int)cy+ry+1; i++ ) {
+			float wy = kernel.compute((i-cy)/fy);
+			int yy = Math.min(Math.max(i,0),input.height-1);
+			for( int j = (int)cx-rx-1; j <= (int)cx+rx+1; j++ ) {
+				float w = wy*kernel.compute((j-cx)/fx);
+				int xx = Math.min(Math.max(j,0),input.width-1);
+				sum += w*input.get(xx,yy);
+				total += w;
+			}
+		}
+		return sum/total;
+	}
+
+	/**
+	 * When enlarging an image the inner pixels should be the same as the per-pixel interpolation
+	 */
+	@Test
+	public void compareToInterpolatePixel() {
+		BicubicKernel_F32 kernel = new BicubicKernel_F32(-0.5f);
+		ImageFloat32 input = new ImageFloat32(30,40);
+		ImageFloat32 found = new ImageFloat32(75,90);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ResampleImageSeparable<ImageFloat32> alg =
+				new ResampleImageSeparable<ImageFloat32>(kernel,ImageType.single(ImageFloat32.class));
+		alg.process(input,found);
+
+		ImplInterpolatePixelConvolution_F32 interp = new ImplInterpolatePixelConvolution_F32(kernel,-1000,1000);
+		interp.setImage(input);
+
+		for( int y = 0; y < found.height; y++ ) {
+			float yy = y*input.height/(float)found.height;
+			for( int x = 0; x < found.width; x++ ) {
+				float xx = x*input.width/(float)found.width;
+				if( interp.isInFastBounds(xx,yy) )
+					assertEquals(interp.get(xx,yy), found.get(x,y), 1e-3);
+			}
+		}
+	}
+
+	/**
+	 * U8 should be the same as F32 after rounding
+	 */
+	@Test
+	public void compare_U8_to_F32() {
+		LanczosKernel_F32 kernel = new LanczosKernel_F32(2);
+		for( int[] s : shapes ) {
+			ImageUInt8 input = new ImageUInt8(s[0],s[1]);
+			ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+			ImageUInt8 found = new ImageUInt8(s[2],s[3]);
+			ImageFloat32 expected = new ImageFloat32(s[2],s[3]);
+
+			new ResampleImageSeparable<ImageUInt8>(kernel,ImageType.single(ImageUInt8.class)).process(input,found);
+			new ResampleImageSeparable<ImageFloat32>(kernel,ImageType.single(ImageFloat32.class)).
+					process(ConvertImage.convert(input,(ImageFloat32)null),expected);
+
+			for( int y = 0; y < found.height; y++ ) {
+				for( int x = 0; x < found.width; x++ ) {
+					int value = (int)(expected.get(x,y)+0.5f);
+					value = Math.max(0,Math.min(255,value));
+					assertEquals(value, found.get(x,y), 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Each band in an interleaved image should be the same as resampling the band individually
+	 */
+	@Test
+	public void interleaved() {
+		BicubicKernel_F32 kernel = new BicubicKernel_F32(-0.5f);
+		for( int[] s : shapes ) {
+			InterleavedU8 inputU8 = new InterleavedU8(s[0],s[1],3);
+			ImageMiscOps.fillUniform(inputU8, rand, 0, 256);
+			InterleavedF32 input = ConvertImage.convert(inputU8,(InterleavedF32)null);
+
+			InterleavedF32 found = new InterleavedF32(s[2],s[3],3);
+			InterleavedU8 foundU8 = new InterleavedU8(s[2],s[3],3);
+			new ResampleImageSeparable<InterleavedF32>(kernel,ImageType.il(3,InterleavedF32.class)).
+					process(input,found);
+			new ResampleImageSeparable<InterleavedU8>(kernel,ImageType.il(3,InterleavedU8.class)).
+					process(inputU8,foundU8);
+
+			ResampleImageSeparable<ImageFloat32> algSB =
+					new ResampleImageSeparable<ImageFloat32>(kernel,ImageType.single(ImageFloat32.class));
+			ImageFloat32 band = new ImageFloat32(s[0],s[1]);
+			ImageFloat32 expected = new ImageFloat32(s[2],s[3]);
+
+			for( int b = 0; b < 3; b++ ) {
+				for( int y = 0; y < s[1]; y++ )
+					for( int x = 0; x < s[0]; x++ )
+						band.set(x,y,input.getBand(x,y,b));
+
+				algSB.process(band,expected);
+
+				for( int y = 0; y < s[3]; y++ ) {
+					for( int x = 0; x < s[2]; x++ ) {
+						assertEquals(expected.get(x,y), found.getBand(x,y,b), 1e-4);
+						int value = Math.max(0,Math.min(255,(int)(expected.get(x,y)+0.5f)));
+						assertEquals(value, foundU8.getBand(x,y,b), 1);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		LanczosKernel_F32 kernel = new LanczosKernel_F32(3);
+		ImageUInt8 input = new ImageUInt8(64,53);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		ImageUInt8 expected = new ImageUInt8(41,77);
+		ImageUInt8 found = new ImageUInt8(41,77);
+
+		ResampleImageSeparable<ImageUInt8> alg =
+				new ResampleImageSeparable<ImageUInt8>(kernel,ImageType.single(ImageUInt8.class));
+		alg.process(input,expected);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			alg.process(input,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.kernel.BicubicKernel_F32;
+import boofcv.alg.interpolate.kernel.LanczosKernel_F32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestResampleWeightTable {
+
+	@Test
+	public void weightsSumToOne() {
+		int lengths[][] = new int[][]{{10,30},{30,10},{31,17},{20,20}};
+
+		for( int[] l : lengths ) {
+			ResampleWeightTable alg = new ResampleWeightTable();
+			alg.configure(new LanczosKernel_F32(2), l[0], l[1]);
+
+			for( int d = 0; d < l[1]; d++ ) {
+				float total = 0;
+				for( int k = 0; k < alg.getNumTaps(); k++ ) {
+					int index = alg.getIndexes()[d*alg.getNumTaps()+k];
+					assertTrue(index >= 0 && index < l[0]);
+					total += alg.getWeights()[d*alg.getNumTaps()+k];
+				}
+				assertEquals(1, total, 1e-5);
+			}
+		}
+	}
+
+	/**
+	 * When the lengths are the same it should just copy the signal
+	 */
+	@Test
+	public void sameLength() {
+		ResampleWeightTable alg = new ResampleWeightTable();
+		alg.configure(new BicubicKernel_F32(-0.5f), 15, 15);
+
+		for( int d = 0; d < 15; d++ ) {
+			float total = 0;
+			for( int k = 0; k < alg.getNumTaps(); k++ ) {
+				int tap = d*alg.getNumTaps()+k;
+				if( alg.getIndexes()[tap] == d )
+					total += alg.getWeights()[tap];
+			}
+			assertEquals(1, total, 1e-5);
+		}
+	}
+
+	/**
+	 * When shrinking the kernel should be stretched so that more source elements contribute
+	 */
+	@Test
+	public void shrinkStretchesKernel() {
+		ResampleWeightTable alg = new ResampleWeightTable();
+		alg.configure(new BicubicKernel_F32(-0.5f), 20, 20);
+		int tapsSame = alg.getNumTaps();
+
+		alg.configure(new BicubicKernel_F32(-0.5f), 40, 20);
+		assertTrue(alg.getNumTaps() > tapsSame);
+	}
+
+	@Test
+	public void isConfigured() {
+		ResampleWeightTable alg = new ResampleWeightTable();
+		assertFalse(alg.isConfigured(10, 20));
+		alg.configure(new BicubicKernel_F32(-0.5f), 10, 20);
+		assertTrue(alg.isConfigured(10, 20));
+		assertFalse(alg.isConfigured(20, 10));
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.CompareIdenticalFunctions;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * Compares the output of a concurrent derivative implementation against its single threaded equivalent.
+ *
+ * @author Peter Abeles
+ */
+public class CompareDerivativeToSerial extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 41;
+
+	public CompareDerivativeToSerial(Class<?> testClass, Class<?> validationClass) {
+		super(testClass, validationClass);
+	}
+
+	@Override
+	public void performTests(int numMethods) {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		// make sure the image is split into multiple blocks even on a single core machine
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			super.performTests(numMethods);
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> types[] = candidate.getParameterTypes();
+
+		Object[] param = new Object[types.length];
+		ImageSingleBand input = GeneralizedImageOps.createSingleBand((Class)types[0], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		param[0] = input;
+
+		for (int i = 1; i < types.length; i++) {
+			if( ImageSingleBand.class.isAssignableFrom(types[i]) ) {
+				param[i] = GeneralizedImageOps.createSingleBand((Class)types[i], width, height);
+			} else if( ImageBorder.class.isAssignableFrom(types[i])) {
+				param[i] = FactoryImageBorder.single(input, BorderType.EXTENDED);
+			} else {
+				throw new RuntimeException("Unexpected parameter type "+types[i].getSimpleName());
+			}
+		}
+
+		return new Object[][]{param};
+	}
+}
@@ -69,6 +69,18 @@ public class TestInterpolatePixel_S_to_MB {
 			return 3;
 		}
 
+		@Override
+		public void get(float[] x, float[] y, float[] output, int offset, int length) {
+			for( int i = 0; i < length; i++ )
+				output[offset+i] = 2;
+		}
+
+		@Override
+		public void get_fast(float[] x, float[] y, float[] output, int offset, int length) {
+			for( int i = 0; i < length; i++ )
+				output[offset+i] = 3;
+		}
+
 		@Override
 		public void setBorder(ImageBorder border) {
 			this.border = border;
@@ -143,6 +143,34 @@ public abstract class GeneralBilinearRectangleChecks<T extends ImageSingleBand>
 			}
 		}
 	}
+	/**
+	 * The copy should be independent of the original and produce identical results
+	 */
+	@Test
+	public void copy() {
+		T imgA = createImage(width, height);
+		T imgB = createImage(width, height);
+		GImageMiscOps.fillUniform(imgA, rand, 0, 200);
+		GImageMiscOps.fillUniform(imgB, rand, 0, 200);
+
+		InterpolateRectangle<T> interpA = createRectangleInterpolate();
+		interpA.setImage(imgA);
+		InterpolateRectangle<T> interpB = interpA.copy();
+		assertTrue(interpA != interpB);
+		interpB.setImage(imgB);
+
+		ImageFloat32 outA = new ImageFloat32(20,25);
+		ImageFloat32 outB = new ImageFloat32(20,25);
+		interpA.region(5.4f, 8.6f, outA );
+
+		// changing the image in the copy shouldn't change the original
+		assertTrue(imgA == interpA.getImage());
+		interpB.setImage(imgA);
+		interpB.region(5.4f, 8.6f, outB );
+
+		BoofTesting.assertEquals(outA, outB, 0);
+	}
+
 	/**
 	 * Compare region against the value returned by get ImplBilinearPixel_F32
 	 */
@@ -152,6 +152,80 @@ public abstract class GeneralChecksInterpolationPixelS< T extends ImageSingleBan
 	}
 
 
+	/**
+	 * The batch version of get() should produce the same results as calling get() one point at a time
+	 */
+	@Test
+	public void get_batch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "get_batch", false, img);
+	}
+
+	public void get_batch(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder) FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		int N = 200;
+		int offset = 5;
+		float x[] = new float[N+offset];
+		float y[] = new float[N+offset];
+		float found[] = new float[N+offset];
+
+		// points are both inside and outside the image
+		for( int i = 0; i < N; i++ ) {
+			x[i+offset] = rand.nextFloat()*(width+20)-10;
+			y[i+offset] = rand.nextFloat()*(height+20)-10;
+		}
+
+		interp.get(x, y, found, offset, N);
+
+		for( int i = 0; i < offset; i++ )
+			assertEquals(0, found[i], 1e-8);
+		for( int i = 0; i < N; i++ ) {
+			int j = i + offset;
+			assertEquals(interp.get(x[j], y[j]), found[j], 1e-6);
+		}
+	}
+
+	/**
+	 * The batch version of get_fast() should produce the same results as calling get_fast() one point at a time
+	 */
+	@Test
+	public void get_fast_batch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "get_fast_batch", false, img);
+	}
+
+	public void get_fast_batch(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+
+		int N = 200;
+		float x[] = new float[N];
+		float y[] = new float[N];
+		float found[] = new float[N];
+
+		int numPoints = 0;
+		while( numPoints < N ) {
+			float xx = rand.nextFloat()*width;
+			float yy = rand.nextFloat()*height;
+			if( interp.isInFastBounds(xx, yy) ) {
+				x[numPoints] = xx;
+				y[numPoints++] = yy;
+			}
+		}
+
+		interp.get_fast(x, y, found, 0, N);
+
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(interp.get_fast(x[i], y[i]), found[i], 1e-6);
+		}
+	}
+
 	/**
 	 * If a border is specified it should handle everything just fine
 	 */
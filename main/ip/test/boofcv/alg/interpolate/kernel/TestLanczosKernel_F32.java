@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.interpolate.kernel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLanczosKernel_F32 {
+
+	@Test
+	public void knownValues() {
+		LanczosKernel_F32 kernel = new LanczosKernel_F32(3);
+
+		assertEquals(3, kernel.getRadius());
+		assertEquals(1, kernel.compute(0), 1e-6);
+
+		// zero at integer values
+		for( int i = 1; i <= 4; i++ ) {
+			assertEquals(0, kernel.compute(i), 1e-6);
+			assertEquals(0, kernel.compute(-i), 1e-6);
+		}
+
+		// zero outside the window
+		assertEquals(0, kernel.compute(3.5f), 1e-8);
+		assertEquals(0, kernel.compute(-3.5f), 1e-8);
+
+		// symmetric
+		assertEquals(kernel.compute(0.3f), kernel.compute(-0.3f), 1e-8);
+		assertEquals(kernel.compute(1.7f), kernel.compute(-1.7f), 1e-8);
+
+		// sinc(0.5)*sinc(0.5/3)
+		double expected = (Math.sin(Math.PI*0.5)/(Math.PI*0.5))*(Math.sin(Math.PI*0.5/3)/(Math.PI*0.5/3));
+		assertEquals(expected, kernel.compute(0.5f), 1e-6);
+	}
+
+	@Test
+	public void checkSumCloseToOne() {
+		LanczosKernel_F32 kernel = new LanczosKernel_F32(3);
+
+		for( int offset = 0; offset < 10; offset++ ) {
+			float delta = offset*0.1f;
+
+			float total = 0;
+			for( int i = 0; i < kernel.getWidth(); i++ ) {
+				float x = i - kernel.getRadius();
+				total += kernel.compute(x+delta);
+			}
+
+			assertEquals(1,total,0.02);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCensusTransform {
+
+	Random rand = new Random(234);
+	int width = 20, height = 25;
+
+	@Test
+	public void region3x3() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 30);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		BoofTesting.checkSubImage(this, "region3x3", true, input, found);
+	}
+
+	public void region3x3( ImageUInt8 input , ImageUInt8 found ) {
+		CensusTransform.region3x3(input, found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(naive(input,x,y,1),found.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void region5x5() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 30);
+		ImageSInt32 found = new ImageSInt32(width,height);
+
+		BoofTesting.checkSubImage(this, "region5x5", true, input, found);
+	}
+
+	public void region5x5( ImageUInt8 input , ImageSInt32 found ) {
+		CensusTransform.region5x5(input, found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(naive(input,x,y,2),found.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void region7x7() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 30);
+		ImageSInt64 found = new ImageSInt64(width,height);
+
+		BoofTesting.checkSubImage(this, "region7x7", true, input, found);
+	}
+
+	public void region7x7( ImageUInt8 input , ImageSInt64 found ) {
+		CensusTransform.region7x7(input, found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(naive(input,x,y,3),found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Images which are smaller than the region
+	 */
+	@Test
+	public void tinyImages() {
+		for( int size = 1; size <= 7; size++ ) {
+			width = height = size;
+			ImageUInt8 input = new ImageUInt8(size,size);
+			ImageMiscOps.fillUniform(input, rand, 0, 30);
+			region3x3(input, new ImageUInt8(size,size));
+			region5x5(input, new ImageSInt32(size,size));
+			region7x7(input, new ImageSInt64(size,size));
+		}
+	}
+
+	private static long naive( ImageUInt8 input , int cx , int cy , int radius ) {
+		int center = input.get(cx,cy);
+		long census = 0;
+		int bit = 0;
+		for( int y = -radius; y <= radius; y++ ) {
+			for( int x = -radius; x <= radius; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				int px = Math.min(input.width-1,Math.max(0,cx+x));
+				int py = Math.min(input.height-1,Math.max(0,cy+y));
+				if( input.get(px,py) > center )
+					census |= 1L << bit;
+				bit++;
+			}
+		}
+		return census;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+
+/**
+ * Compares the concurrent wavelet transform against the single threaded version.  Odd and even image
+ * sizes are tested since the column blocks are sensitive to the image's width.
+ *
+ * @author Peter Abeles
+ */
+public class TestWaveletTransformOps_MT {
+
+	Random rand = new Random(234);
+
+	int sizes[][] = new int[][]{{64,72},{65,71},{120,97}};
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// make sure the image is split into multiple blocks even on a single core machine
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compare_F32() {
+		WaveletDescription<WlCoef_F32> descs[] = new WaveletDescription[]{
+				FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT),
+				FactoryWaveletDaub.daubJ_F32(4)};
+
+		for( WaveletDescription<WlCoef_F32> desc : descs ) {
+			for( int[] size : sizes ) {
+				for( int numLevels = 1; numLevels <= 3; numLevels++ ) {
+					compare_F32(desc, size[0], size[1], numLevels);
+				}
+			}
+		}
+	}
+
+	private void compare_F32( WaveletDescription<WlCoef_F32> desc , int width , int height , int numLevels ) {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageDimension d = UtilWavelet.transformDimension(input,numLevels);
+
+		ImageFloat32 expected = new ImageFloat32(d.width,d.height);
+		ImageFloat32 found = new ImageFloat32(d.width,d.height);
+
+		WaveletTransformOps.transformN(desc, input.clone(), expected, null, numLevels);
+		WaveletTransformOps_MT.transformN(desc, input.clone(), found, null, numLevels);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		ImageFloat32 expectedInv = new ImageFloat32(width,height);
+		ImageFloat32 foundInv = new ImageFloat32(width,height);
+
+		WaveletTransformOps.inverseN(desc, expected.clone(), expectedInv, null, numLevels, 0, 100);
+		WaveletTransformOps_MT.inverseN(desc, expected.clone(), foundInv, null, numLevels, 0, 100);
+		BoofTesting.assertEquals(expectedInv, foundInv, 0);
+	}
+
+	@Test
+	public void compare_I32() {
+		WaveletDescription<WlCoef_I32> desc = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+
+		for( int[] size : sizes ) {
+			for( int numLevels = 1; numLevels <= 3; numLevels++ ) {
+				compare_I32(desc, size[0], size[1], numLevels);
+			}
+		}
+	}
+
+	private void compare_I32( WaveletDescription<WlCoef_I32> desc , int width , int height , int numLevels ) {
+		ImageSInt32 input = new ImageSInt32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageDimension d = UtilWavelet.transformDimension(input,numLevels);
+
+		ImageSInt32 expected = new ImageSInt32(d.width,d.height);
+		ImageSInt32 found = new ImageSInt32(d.width,d.height);
+
+		WaveletTransformOps.transformN(desc, input.clone(), expected, null, numLevels);
+		WaveletTransformOps_MT.transformN(desc, input.clone(), found, null, numLevels);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		ImageSInt32 expectedInv = new ImageSInt32(width,height);
+		ImageSInt32 foundInv = new ImageSInt32(width,height);
+
+		WaveletTransformOps.inverseN(desc, expected.clone(), expectedInv, null, numLevels, 0, 100);
+		WaveletTransformOps_MT.inverseN(desc, expected.clone(), foundInv, null, numLevels, 0, 100);
+		BoofTesting.assertEquals(expectedInv, foundInv, 0);
+	}
+}
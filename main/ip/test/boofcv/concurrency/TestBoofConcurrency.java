@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void loopFor() {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(100);
+
+		BoofConcurrency.loopFor(5, 95, new IntTask() {
+			@Override
+			public void process(int index) {
+				counts.incrementAndGet(index);
+			}
+		});
+
+		for (int i = 0; i < counts.length(); i++) {
+			if( i < 5 || i >= 95 )
+				assertEquals(0, counts.get(i));
+			else
+				assertEquals(1, counts.get(i));
+		}
+	}
+
+	@Test
+	public void loopBlocks() {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(100);
+
+		BoofConcurrency.loopBlocks(2, 97, 10, new IntRangeTask() {
+			@Override
+			public void process(int minInclusive, int maxExclusive) {
+				assertTrue(maxExclusive - minInclusive >= 10);
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					counts.incrementAndGet(i);
+				}
+			}
+		});
+
+		for (int i = 0; i < counts.length(); i++) {
+			if( i < 2 || i >= 97 )
+				assertEquals(0, counts.get(i));
+			else
+				assertEquals(1, counts.get(i));
+		}
+	}
+
+	@Test
+	public void loopBlocks_empty() {
+		BoofConcurrency.loopBlocks(5, 5, new IntRangeTask() {
+			@Override
+			public void process(int minInclusive, int maxExclusive) {
+				fail("Should not be called");
+			}
+		});
+	}
+
+	/**
+	 * Blocks should be ordered by their range in the workspace
+	 */
+	@Test
+	public void loopBlocks_workspace() {
+		FastQueue<GrowQueue_I32> workspace = new FastQueue<GrowQueue_I32>(GrowQueue_I32.class,true);
+
+		BoofConcurrency.loopBlocks(0, 50, workspace, new IntRangeObjectTask<GrowQueue_I32>() {
+			@Override
+			public void process(GrowQueue_I32 found, int minInclusive, int maxExclusive) {
+				found.reset();
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					found.add(i);
+				}
+			}
+		});
+
+		assertEquals(4, workspace.size());
+		int expected = 0;
+		for (int i = 0; i < workspace.size(); i++) {
+			GrowQueue_I32 found = workspace.get(i);
+			for (int j = 0; j < found.size; j++) {
+				assertEquals(expected++, found.get(j));
+			}
+		}
+		assertEquals(50, expected);
+	}
+
+	/**
+	 * Loops called from inside a worker thread should not deadlock
+	 */
+	@Test
+	public void nested() {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(20*20);
+
+		BoofConcurrency.loopFor(0, 20, new IntTask() {
+			@Override
+			public void process(final int row) {
+				BoofConcurrency.loopFor(0, 20, new IntTask() {
+					@Override
+					public void process(int col) {
+						counts.incrementAndGet(row*20+col);
+					}
+				});
+			}
+		});
+
+		for (int i = 0; i < counts.length(); i++) {
+			assertEquals(1, counts.get(i));
+		}
+	}
+
+	@Test
+	public void exceptionPropagated() {
+		try {
+			BoofConcurrency.loopFor(0, 20, new IntTask() {
+				@Override
+				public void process(int index) {
+					if( index == 3 )
+						throw new IllegalArgumentException("Egads");
+				}
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException e ) {
+			assertEquals("Egads", e.getMessage());
+		}
+	}
+}
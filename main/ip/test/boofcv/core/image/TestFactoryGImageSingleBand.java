@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.image.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFactoryGImageSingleBand {
+
+	Random rand = new Random(234);
+
+	Class types[] = new Class[]{ImageUInt8.class,ImageSInt8.class,ImageUInt16.class,ImageSInt16.class,
+			ImageSInt32.class,ImageSInt64.class,ImageFloat32.class,ImageFloat64.class};
+
+	int width = 20;
+	int height = 25;
+
+	/**
+	 * The primitive accessors should produce the same results as the Number based accessors
+	 */
+	@Test
+	public void primitiveAccess() {
+		for( Class type : types ) {
+			ImageSingleBand image = GeneralizedImageOps.createSingleBand(type, width, height);
+			GImageMiscOps.fillUniform(image, rand, 0, 100);
+
+			checkPrimitiveAccess(FactoryGImageSingleBand.wrap(image));
+		}
+	}
+
+	@Test
+	public void primitiveAccess_subimage() {
+		for( Class type : types ) {
+			ImageSingleBand image = GeneralizedImageOps.createSingleBand(type, width+4, height+5);
+			image = image.subimage(2,3,width+2,height+3,null);
+			GImageMiscOps.fillUniform(image, rand, 0, 100);
+
+			checkPrimitiveAccess(FactoryGImageSingleBand.wrap(image));
+		}
+	}
+
+	@Test
+	public void primitiveAccess_border() {
+		for( Class type : types ) {
+			// there is no border wrapper for 64-bit integer images
+			if( type == ImageSInt64.class )
+				continue;
+
+			ImageSingleBand image = GeneralizedImageOps.createSingleBand(type, width, height);
+			GImageMiscOps.fillUniform(image, rand, 0, 100);
+
+			GImageSingleBand border = FactoryGImageSingleBand.wrap(
+					FactoryImageBorder.single(image, BorderType.EXTENDED));
+
+			checkPrimitiveAccess(border);
+
+			// outside the image the value is determined by the border
+			assertEquals(border.get(0, 0).doubleValue(), border.getD(-2, -3), 1e-8);
+			assertEquals(border.get(0, 0).floatValue(), border.getF(-2, -3), 1e-4f);
+			assertEquals(border.get(0, 0).intValue(), border.getI(-2, -3));
+		}
+	}
+
+	private void checkPrimitiveAccess( GImageSingleBand img ) {
+		for( int y = 0; y < img.getHeight(); y++ ) {
+			for( int x = 0; x < img.getWidth(); x++ ) {
+				Number expected = img.get(x,y);
+				assertEquals(expected.floatValue(), img.getF(x, y), 1e-4f);
+				assertEquals(expected.doubleValue(), img.getD(x, y), 1e-8);
+				assertEquals(expected.intValue(), img.getI(x, y));
+			}
+		}
+
+		img.setF(3, 4, 12);
+		assertEquals(12, img.get(3, 4).intValue());
+		img.setD(5, 6, 23);
+		assertEquals(23, img.get(5, 6).intValue());
+		img.setI(7, 8, 34);
+		assertEquals(34, img.get(7, 8).intValue());
+
+		if( img.isFloatingPoint() ) {
+			img.setF(3, 4, 12.5f);
+			assertEquals(12.5f, img.getF(3, 4), 1e-4f);
+			img.setD(5, 6, 23.5);
+			assertEquals(23.5, img.getD(5, 6), 1e-4);
+			assertEquals(23, img.getI(5, 6));
+		}
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.core.image.border;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -44,4 +45,21 @@ public class TestBorderIndex1D_Wrap {
 		assertEquals(0,alg.getIndex(length));
 		assertEquals(1,alg.getIndex(length+1));
 	}
+
+	@Test
+	public void copy() {
+		BorderIndex1D_Wrap alg = new BorderIndex1D_Wrap();
+		alg.setLength(length);
+
+		BorderIndex1D_Wrap found = alg.copy();
+		assertTrue(found != alg);
+		assertEquals(length,found.getLength());
+		for( int i = -3; i < length+3; i++ ) {
+			assertEquals(alg.getIndex(i),found.getIndex(i));
+		}
+
+		// changing the copy shouldn't modify the original
+		found.setLength(length+5);
+		assertEquals(length,alg.getLength());
+	}
 }